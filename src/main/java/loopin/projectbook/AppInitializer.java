@@ -0,0 +1,129 @@
+package loopin.projectbook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import loopin.projectbook.commons.core.Config;
+import loopin.projectbook.commons.core.LogsCenter;
+import loopin.projectbook.commons.exceptions.DataLoadingException;
+import loopin.projectbook.commons.util.ConfigUtil;
+import loopin.projectbook.commons.util.StringUtil;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.ProjectBook;
+import loopin.projectbook.model.ReadOnlyProjectBook;
+import loopin.projectbook.model.ReadOnlyUserPrefs;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.util.SampleDataUtil;
+import loopin.projectbook.storage.Storage;
+import loopin.projectbook.storage.UserPrefsStorage;
+
+/**
+ * Loads the config, user prefs and initial model shared by the GUI and headless entry points.
+ * Does not touch any JavaFX toolkit classes.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {} // prevents instantiation
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s project book and {@code userPrefs}. <br>
+     * The data from the sample project book will be used instead if {@code storage}'s project book is not found,
+     * or an empty project book will be used instead if errors occur when reading {@code storage}'s project book.
+     */
+    public static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getProjectBookFilePath());
+
+        Optional<ReadOnlyProjectBook> projectBookOptional;
+        ReadOnlyProjectBook initialData;
+        try {
+            projectBookOptional = storage.readProjectBook();
+            if (!projectBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getProjectBookFilePath()
+                        + " populated with a sample ProjectBook.");
+            }
+            initialData = projectBookOptional.orElseGet(SampleDataUtil::getSampleProjectBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getProjectBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty ProjectBook.");
+            initialData = new ProjectBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -0,0 +1,226 @@
+package loopin.projectbook;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Logger;
+
+import loopin.projectbook.commons.core.Config;
+import loopin.projectbook.commons.core.LogsCenter;
+import loopin.projectbook.commons.util.StringUtil;
+import loopin.projectbook.logic.Logic;
+import loopin.projectbook.logic.LogicManager;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.server.ApiServer;
+import loopin.projectbook.storage.JsonProjectBookStorage;
+import loopin.projectbook.storage.JsonUserPrefsStorage;
+import loopin.projectbook.storage.Storage;
+import loopin.projectbook.storage.StorageManager;
+import loopin.projectbook.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a GUI, reading commands from standard input or a script file.
+ *
+ * Usage: {@code java -jar loopin.jar --headless [--config=CONFIG_FILE] [--port=PORT | SCRIPT_FILE]}
+ *
+ * Each command's feedback is printed to standard output. Execution stops at the first command that fails
+ * to parse or execute, and the process exits with a non-zero status.
+ * If a port is given, the {@link ApiServer} is started on the loopback address instead and serves requests
+ * until the process is terminated.
+ */
+public class HeadlessApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILURE = 1;
+    public static final int EXIT_IO_FAILURE = 2;
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %d: %s";
+    public static final String MESSAGE_READ_FAILED = "Could not read commands: %s";
+    public static final String MESSAGE_SERVER_FAILED = "Could not start the API server on port %s: %s";
+
+    private static final String PORT_PARAMETER = "port";
+    private static final String COMMENT_MARKER = "#";
+    private static final String STDIN_MARKER = "-";
+    private static final int SERVER_STOP_DELAY_SECONDS = 1;
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic},
+     * printing feedback to {@code out} and errors to {@code err}.
+     */
+    public HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Returns true if {@code args} request the headless mode.
+     */
+    public static boolean isHeadless(String[] args) {
+        for (String arg : args) {
+            if (HEADLESS_FLAG.equals(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static void main(String[] args) {
+        System.exit(launch(args));
+    }
+
+    /**
+     * Initialises the components from {@code args}, executes every command from the script (or standard input)
+     * and returns the exit status.
+     */
+    public static int launch(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        String scriptFile = STDIN_MARKER;
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            } else {
+                scriptFile = arg;
+            }
+        }
+
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(
+                new JsonProjectBookStorage(userPrefs.getProjectBookFilePath()), userPrefsStorage);
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        Logic logic = new LogicManager(model, storage);
+
+        String port = namedParameters.get(PORT_PARAMETER);
+        if (port != null) {
+            return serve(logic, port, () -> savePrefs(storage, model));
+        }
+
+        HeadlessApp app = new HeadlessApp(logic, System.out, System.err);
+        int status;
+        try (BufferedReader reader = openScript(scriptFile)) {
+            status = app.run(reader);
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_READ_FAILED, e.getMessage()));
+            status = EXIT_IO_FAILURE;
+        }
+
+        savePrefs(storage, model);
+        return status;
+    }
+
+    /**
+     * Serves the API on {@code port} until the process is terminated, then waits for the commands already submitted
+     * to be saved and runs {@code onShutdown}.
+     * Returns once the server has been stopped, or immediately if it could not be started.
+     */
+    private static int serve(Logic logic, String port, Runnable onShutdown) {
+        // Small JSON responses otherwise sit in Nagle's buffer until the client's delayed ACK (~40ms). This holds
+        // for every HttpServer of the JVM, so it is only set here, where the process is the API server.
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        ApiServer server;
+        try {
+            server = new ApiServer(logic, new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    Integer.parseInt(port)), ApiServer.DEFAULT_THREADS, ApiServer.DEFAULT_QUEUE_CAPACITY);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println(String.format(MESSAGE_SERVER_FAILED, port, e.getMessage()));
+            return EXIT_IO_FAILURE;
+        }
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(SERVER_STOP_DELAY_SECONDS);
+            logic.shutdown();
+            onShutdown.run();
+            stopped.countDown();
+        }));
+        server.start();
+        try {
+            stopped.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return EXIT_SUCCESS;
+    }
+
+    private static void savePrefs(Storage storage, Model model) {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static BufferedReader openScript(String scriptFile) throws IOException {
+        if (scriptFile.equals(STDIN_MARKER)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        Path scriptPath = Paths.get(scriptFile);
+        logger.info("Reading commands from " + scriptPath);
+        return Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Executes each command read from {@code commands} in order, skipping blank lines and lines starting with
+     * {@code #}, until the input ends or an exit command is executed.
+     *
+     * @return {@link #EXIT_SUCCESS}, or {@link #EXIT_COMMAND_FAILURE} if a command could not be parsed or executed.
+     * @throws IOException if the commands could not be read.
+     */
+    public int run(BufferedReader commands) throws IOException {
+        int lineNumber = 0;
+        String line;
+        while ((line = commands.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            try {
+                CommandResult result = logic.execute(commandText);
+                out.println(result.getFeedbackToUser());
+                if (result.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                return EXIT_COMMAND_FAILURE;
+            }
+        }
+        return EXIT_SUCCESS;
+    }
+}
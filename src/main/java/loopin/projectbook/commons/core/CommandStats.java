@@ -0,0 +1,174 @@
+package loopin.projectbook.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * How long the commands run have taken, kept for each kind of command as a {@link LatencyHistogram} of each
+ * {@link Phase} of running it.
+ * <p>
+ * Commands are told apart by their class, so that finding the timings of a command already seen is a single hash
+ * lookup, and are shown by the command word they were first seen under. Input which could not be parsed is kept
+ * under {@link #INVALID_COMMAND}.
+ */
+public class CommandStats {
+
+    /** The name the timings of input which could not be parsed into a command are kept under. */
+    public static final String INVALID_COMMAND = "(invalid)";
+
+    /** How often a summary is due, if none is given. */
+    public static final Duration DEFAULT_SUMMARY_INTERVAL = Duration.ofMinutes(10);
+
+    public static final String MESSAGE_NONE_TIMED = "No commands have been timed yet.";
+    public static final String MESSAGE_HEADER = "Command latencies in ms, as p50 / p95 / p99 / max:";
+
+    private static final double[] PERCENTILES = {50, 95, 99};
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * A stage of running a command, timed separately.
+     */
+    public enum Phase {
+        /** Turning the text typed into a command. */
+        PARSE,
+        /** Running the command on the model, while the model is locked. */
+        EXECUTE,
+        /** Saving the project book after the command, once the model is unlocked. */
+        SAVE
+    }
+
+    private final Map<Class<?>, Timings> timingsByType = new ConcurrentHashMap<>();
+    private final Timings invalidTimings = new Timings(INVALID_COMMAND);
+    private final long summaryIntervalNanos;
+    private final AtomicLong nextSummaryNanos;
+
+    /**
+     * Creates stats with a summary due every {@link #DEFAULT_SUMMARY_INTERVAL}.
+     */
+    public CommandStats() {
+        this(DEFAULT_SUMMARY_INTERVAL);
+    }
+
+    /**
+     * Creates stats with a summary due every {@code summaryInterval}, counted from now.
+     */
+    public CommandStats(Duration summaryInterval) {
+        requireNonNull(summaryInterval);
+        summaryIntervalNanos = summaryInterval.toNanos();
+        nextSummaryNanos = new AtomicLong(System.nanoTime() + summaryIntervalNanos);
+    }
+
+    /**
+     * Returns the timings of the commands of {@code commandType}, or null if none have been timed.
+     */
+    public Timings getTimings(Class<?> commandType) {
+        return timingsByType.get(commandType);
+    }
+
+    /**
+     * Returns the timings of the commands of {@code commandType}, starting them under {@code commandWord} if none
+     * have been timed.
+     */
+    public Timings addTimings(Class<?> commandType, String commandWord) {
+        requireAllNonNull(commandType, commandWord);
+        return timingsByType.computeIfAbsent(commandType, unused -> new Timings(commandWord));
+    }
+
+    /**
+     * Returns the timings of input which could not be parsed.
+     */
+    public Timings getInvalidTimings() {
+        return invalidTimings;
+    }
+
+    /**
+     * Returns the latencies of each command timed so far, one command to a line in order of their command words,
+     * with the number of times it was run and the percentiles and maximum of each phase it reached.
+     */
+    public String getSummary() {
+        List<Timings> timed = new ArrayList<>(timingsByType.values());
+        timed.add(invalidTimings);
+        timed.removeIf(timings -> timings.get(Phase.PARSE).getCount() == 0);
+        if (timed.isEmpty()) {
+            return MESSAGE_NONE_TIMED;
+        }
+        timed.sort(Comparator.comparing(Timings::getCommandWord));
+
+        StringBuilder summary = new StringBuilder(MESSAGE_HEADER);
+        for (Timings timings : timed) {
+            summary.append('\n').append(timings.getCommandWord())
+                    .append(" (").append(timings.get(Phase.PARSE).getCount()).append(" runs)");
+            String separator = ": ";
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = timings.get(phase);
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                summary.append(separator).append(phase.name().toLowerCase()).append(' ');
+                for (double percentile : PERCENTILES) {
+                    appendMillis(summary, histogram.getValueAtPercentile(percentile)).append(" / ");
+                }
+                appendMillis(summary, histogram.getMax());
+                separator = ", ";
+            }
+        }
+        return summary.toString();
+    }
+
+    private static StringBuilder appendMillis(StringBuilder builder, long nanos) {
+        return builder.append(String.format("%.2f", nanos / NANOS_PER_MILLI));
+    }
+
+    /**
+     * Returns the summary if one is due, after which the next is due a summary interval from now. Only one of the
+     * threads asking at the same time is given it.
+     */
+    public Optional<String> takeSummaryIfDue() {
+        long now = System.nanoTime();
+        long due = nextSummaryNanos.get();
+        if (now - due < 0 || !nextSummaryNanos.compareAndSet(due, now + summaryIntervalNanos)) {
+            return Optional.empty();
+        }
+        return Optional.of(getSummary());
+    }
+
+    /**
+     * The timings of one kind of command, with a histogram for each phase.
+     */
+    public static class Timings {
+        private final String commandWord;
+        private final LatencyHistogram[] histograms = new LatencyHistogram[Phase.values().length];
+
+        Timings(String commandWord) {
+            this.commandWord = commandWord;
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new LatencyHistogram();
+            }
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        /**
+         * Counts {@code nanos} nanoseconds spent in {@code phase}. Allocates nothing.
+         */
+        public void record(Phase phase, long nanos) {
+            histograms[phase.ordinal()].record(nanos);
+        }
+
+        public LatencyHistogram get(Phase phase) {
+            return histograms[phase.ordinal()];
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package loopin.projectbook.commons.core;
+
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts durations, in nanoseconds, in a fixed set of buckets, to tell their percentiles without keeping each one.
+ * <p>
+ * Buckets are log-linear, as in an HDR histogram: each power of two is split into 16 equal
+ * buckets, so a duration is told to within about 6% of itself however long it is. Durations beyond about 18 minutes
+ * share the last bucket, although the maximum is kept exactly.
+ * <p>
+ * Recording takes a few atomic updates and allocates nothing, so it can be done on every command from any thread.
+ * Reading while durations are being recorded gives figures that may miss the latest of them.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /** Durations of 2^{@code MAX_EXPONENT} nanoseconds or more share the last bucket, which follows the others. */
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Counts a duration of {@code nanos} nanoseconds, or of none if it is negative.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        counts.incrementAndGet(indexOf(duration));
+        totalCount.incrementAndGet();
+        long currentMax = max.get();
+        while (duration > currentMax && !max.compareAndSet(currentMax, duration)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Returns the number of durations counted.
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns the longest duration counted, in nanoseconds, or 0 if none were.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns a duration, in nanoseconds, which at least {@code percentile} percent of the durations counted are no
+     * longer than, or 0 if none were counted. It is the end of the bucket that percentile falls in, but never more
+     * than the maximum.
+     */
+    public long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "A percentile must be from 0 to 100.");
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        // durations counted while this was reading
+        return getMax();
+    }
+
+    /**
+     * Returns the bucket counting {@code duration}, which is not negative.
+     */
+    static int indexOf(long duration) {
+        if (duration < SUB_BUCKET_COUNT) {
+            return (int) duration;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(duration);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (duration >>> (shift - 1)) - SUB_BUCKET_COUNT;
+        return shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the longest duration counted in bucket {@code index}.
+     */
+    static long upperBoundOf(int index) {
+        if (index == BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        return lowerBoundOf(index + 1) - 1;
+    }
+
+    private static long lowerBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        return (long) (SUB_BUCKET_COUNT + subBucket) << (shift - 1);
+    }
+}
@@ -0,0 +1,189 @@
+package loopin.projectbook.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for reading and writing comma-separated values (RFC 4180). A record takes one line, unless a
+ * quoted value in it contains line breaks.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted value is not closed.";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "A quoted value must be followed by a comma.";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char LINE_BREAK = '\n';
+
+    /**
+     * Splits the record {@code line} into its values. A value may be quoted to contain commas and line breaks,
+     * and a quote inside a quoted value is written as two quotes.
+     *
+     * @throws IllegalArgumentException if a quoted value is not closed, or is followed by anything but a comma.
+     */
+    public static List<String> splitRecord(String line) {
+        requireNonNull(line);
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuoted(line, i + 1, value);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalArgumentException(MESSAGE_TEXT_AFTER_QUOTE);
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = end == -1 ? line.length() : end;
+                value.append(line, i, end);
+                i = end;
+            }
+            values.add(value.toString());
+            value.setLength(0);
+            if (i >= line.length()) {
+                return values;
+            }
+            i++; // skips the separator
+        }
+    }
+
+    /**
+     * Appends {@code values} to {@code out} as one record, followed by a line break. A value is quoted only if it
+     * contains a comma, a quote or a line break; a missing value is written as an empty one.
+     */
+    public static void appendRecord(Appendable out, String... values) throws IOException {
+        requireNonNull(out);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(SEPARATOR);
+            }
+            appendValue(out, values[i] == null ? "" : values[i]);
+        }
+        out.append(LINE_BREAK);
+    }
+
+    private static void appendValue(Appendable out, String value) throws IOException {
+        if (!needsQuotes(value)) {
+            out.append(value);
+            return;
+        }
+        out.append(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                out.append(QUOTE);
+            }
+            out.append(c);
+        }
+        out.append(QUOTE);
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if a quoted value is still open at the end of {@code line}.
+     *
+     * @param isInQuotes whether {@code line} starts inside a quoted value opened on an earlier line.
+     */
+    private static boolean endsInQuotes(String line, boolean isInQuotes) {
+        boolean isQuoted = isInQuotes;
+        boolean isValueStart = !isInQuotes;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    i++;
+                } else if (c == QUOTE) {
+                    isQuoted = false;
+                }
+            } else {
+                // as in splitRecord, a quote opens a quoted value only at the start of the value
+                isQuoted = c == QUOTE && isValueStart;
+                isValueStart = c == SEPARATOR;
+            }
+        }
+        return isQuoted;
+    }
+
+    /**
+     * Appends the quoted value starting after the opening quote at {@code start - 1} to {@code value}.
+     *
+     * @return the index just after the closing quote.
+     */
+    private static int readQuoted(String line, int start, StringBuilder value) {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != QUOTE) {
+                value.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                value.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+
+    /**
+     * Reads the records of a CSV file one at a time, so that the file need not be held in memory at once.
+     */
+    public static class RecordReader {
+        private final BufferedReader reader;
+        private int linesRead;
+        private int recordLineNumber;
+
+        public RecordReader(BufferedReader reader) {
+            requireNonNull(reader);
+            this.reader = reader;
+        }
+
+        /**
+         * Returns the next record, to be split by {@link #splitRecord(String)}, or null at the end of the input.
+         * A record continues onto the following lines while a quoted value in it is open; its line breaks are
+         * kept as {@code '\n'}. A quoted value left open at the end of the input ends the record there.
+         */
+        public String readRecord() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            linesRead++;
+            recordLineNumber = linesRead;
+            if (!endsInQuotes(line, false)) {
+                return line;
+            }
+
+            StringBuilder record = new StringBuilder(line);
+            boolean isInQuotes = true;
+            while (isInQuotes && (line = reader.readLine()) != null) {
+                linesRead++;
+                record.append(LINE_BREAK).append(line);
+                isInQuotes = endsInQuotes(line, true);
+            }
+            return record.toString();
+        }
+
+        /**
+         * Returns the one-based number of the line on which the record last read starts.
+         */
+        public int getLineNumber() {
+            return recordLineNumber;
+        }
+    }
+}
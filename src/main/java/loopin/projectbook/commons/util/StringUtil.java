@@ -12,6 +12,9 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    /** The Soundex digit of each letter from A to Z; 0 for letters that are not coded. */
+    private static final String SOUNDEX_DIGITS = "01230120022455012623010202";
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -65,4 +68,63 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the least number of characters
+     * to insert, delete or substitute to turn one into the other.
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * Returns the American Soundex code of {@code word}: its first letter followed by three digits standing for
+     * its consonants, so that words that sound alike, e.g. "Robert" and "Rupert", have the same code.
+     * Characters other than ASCII letters are ignored. Returns an empty string if there are no letters.
+     */
+    public static String soundex(String word) {
+        requireNonNull(word);
+        StringBuilder code = new StringBuilder(4);
+        char previousDigit = 0;
+        for (int i = 0; i < word.length() && code.length() < 4; i++) {
+            char letter = Character.toUpperCase(word.charAt(i));
+            if (letter < 'A' || letter > 'Z') {
+                continue;
+            }
+            char digit = SOUNDEX_DIGITS.charAt(letter - 'A');
+            if (code.length() == 0) {
+                code.append(letter);
+            } else if (digit != '0' && digit != previousDigit) {
+                code.append(digit);
+            }
+            // H and W do not separate consonants with the same code, but vowels do
+            if (letter != 'H' && letter != 'W') {
+                previousDigit = digit;
+            }
+        }
+        if (code.length() == 0) {
+            return "";
+        }
+        while (code.length() < 4) {
+            code.append('0');
+        }
+        return code.toString();
+    }
 }
@@ -0,0 +1,223 @@
+package loopin.projectbook.logic;
+
+import static loopin.projectbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+import loopin.projectbook.commons.core.CommandStats.Phase;
+import loopin.projectbook.commons.core.CommandStats.Timings;
+import loopin.projectbook.commons.core.LogsCenter;
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ProjectBookSnapshot;
+
+/**
+ * Executes commands from any number of threads on a single writer thread, in the order they were submitted.
+ * <p>
+ * Submitted commands wait in a bounded {@link RingBuffer}; producers block while it is full. The writer takes
+ * everything that is waiting as one batch, executes the batch under a single acquisition of the model's write
+ * lock, persists the resulting snapshot once under the read lock, runs the post-commit actions of the results, and
+ * only then completes the futures of the batch.
+ * <p>
+ * A command submitted with its {@link Timings} has the time taken to execute it, and to persist the batch it was
+ * in, recorded there.
+ */
+public class CommandSequencer implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int MAX_BATCH_SIZE = 256;
+
+    public static final String MESSAGE_SHUT_DOWN = "Commands are no longer accepted as the application is stopping.";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandSequencer.class);
+
+    private final Model model;
+    private final Persister persister;
+    private final RingBuffer<Entry> buffer;
+    private final Thread writer;
+
+    /**
+     * Creates a sequencer executing commands against {@code model} and persisting through {@code persister},
+     * with room for {@code capacity} waiting commands. The writer thread is started immediately.
+     */
+    public CommandSequencer(Model model, Persister persister, int capacity) {
+        requireAllNonNull(model, persister);
+        this.model = model;
+        this.persister = persister;
+        this.buffer = new RingBuffer<>(capacity);
+        writer = new Thread(this::runWriter, "command-sequencer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues {@code command} for execution, waiting for space if too many commands are already queued.
+     *
+     * @return a future completed with the command's result once its batch has been persisted, or completed
+     *     exceptionally with the {@link CommandException} thrown while executing or persisting it.
+     */
+    public CompletableFuture<CommandResult> submit(Command command) {
+        return submit(command, null);
+    }
+
+    /**
+     * Queues {@code command} for execution as {@link #submit(Command)} does, recording how long it took to execute
+     * and persist in {@code timings}, if given.
+     */
+    public CompletableFuture<CommandResult> submit(Command command, Timings timings) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        try {
+            buffer.put(new Entry(command, timings, result));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(e);
+        } catch (IllegalStateException e) {
+            result.completeExceptionally(new CommandException(MESSAGE_SHUT_DOWN));
+        }
+        return result;
+    }
+
+    /**
+     * Stops accepting commands and waits for the queued ones to finish.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        buffer.close();
+        writer.join();
+    }
+
+    private void runWriter() {
+        List<Entry> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        CommandResult[] results = new CommandResult[MAX_BATCH_SIZE];
+        Exception[] failures = new Exception[MAX_BATCH_SIZE];
+        try {
+            while (buffer.drainTo(batch, MAX_BATCH_SIZE)) {
+                executeBatch(batch, results, failures);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            logger.warning("Command sequencer interrupted, " + batch.size() + " command(s) dropped");
+            batch.forEach(entry -> entry.result.completeExceptionally(new CommandException(MESSAGE_SHUT_DOWN)));
+        }
+    }
+
+    /**
+     * Executes and persists {@code batch}, then completes its futures. Whatever goes wrong in taking the snapshot or
+     * persisting it fails the futures of the batch rather than the writer, so that later commands are still run.
+     */
+    private void executeBatch(List<Entry> batch, CommandResult[] results, Exception[] failures) {
+        ProjectBookSnapshot snapshot = null;
+        Exception persistenceFailure = null;
+        ReentrantReadWriteLock lock = model.getLock();
+        lock.writeLock().lock();
+        try {
+            try {
+                for (int i = 0; i < batch.size(); i++) {
+                    results[i] = execute(batch.get(i));
+                }
+                snapshot = model.snapshot();
+            } catch (RuntimeException e) {
+                persistenceFailure = e;
+            }
+            // downgraded, so that the book stays at the snapshot's version while it is persisted, as the persons
+            // and projects in the snapshot are shared with the book, without holding up readers
+            lock.readLock().lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long persistStart = System.nanoTime();
+            if (persistenceFailure == null) {
+                try {
+                    persister.persist(snapshot);
+                } catch (CommandException | RuntimeException e) {
+                    persistenceFailure = e;
+                }
+            }
+            long persistNanos = System.nanoTime() - persistStart;
+
+            for (int i = 0; i < batch.size(); i++) {
+                if (results[i] == null) {
+                    continue;
+                }
+                // every command of the batch waited for the whole batch to be persisted
+                batch.get(i).record(Phase.SAVE, persistNanos);
+                if (persistenceFailure != null) {
+                    failures[i] = persistenceFailure;
+                    continue;
+                }
+                try {
+                    results[i] = results[i].runPostCommitAction();
+                } catch (CommandException | RuntimeException e) {
+                    failures[i] = e;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // completed once unlocked, so that whatever is run on completion may lock the model
+        for (int i = 0; i < batch.size(); i++) {
+            if (failures[i] != null) {
+                batch.get(i).result.completeExceptionally(failures[i]);
+            } else if (results[i] != null) {
+                batch.get(i).result.complete(results[i]);
+            }
+            results[i] = null;
+            failures[i] = null;
+        }
+    }
+
+    /**
+     * Executes the command of {@code entry} atomically, failing its future straight away if the command fails.
+     *
+     * @return the command's result, or null if it failed.
+     */
+    private CommandResult execute(Entry entry) {
+        long executeStart = System.nanoTime();
+        try {
+            return entry.command.executeAtomically(model);
+        } catch (CommandException | RuntimeException e) {
+            entry.result.completeExceptionally(e);
+            return null;
+        } finally {
+            entry.record(Phase.EXECUTE, System.nanoTime() - executeStart);
+        }
+    }
+
+    /**
+     * Persists the state of the model after a batch of commands.
+     */
+    @FunctionalInterface
+    public interface Persister {
+        void persist(ProjectBookSnapshot snapshot) throws CommandException;
+    }
+
+    /**
+     * A queued command, the timings of its kind of command if it is timed, and the future of its result.
+     */
+    private static class Entry {
+        private final Command command;
+        private final Timings timings;
+        private final CompletableFuture<CommandResult> result;
+
+        Entry(Command command, Timings timings, CompletableFuture<CommandResult> result) {
+            this.command = command;
+            this.timings = timings;
+            this.result = result;
+        }
+
+        void record(Phase phase, long nanos) {
+            if (timings != null) {
+                timings.record(phase, nanos);
+            }
+        }
+    }
+}
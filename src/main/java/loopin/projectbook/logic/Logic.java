@@ -1,14 +1,21 @@
 package loopin.projectbook.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import javafx.collections.ObservableList;
+import loopin.projectbook.commons.core.CommandStats;
 import loopin.projectbook.commons.core.GuiSettings;
 import loopin.projectbook.logic.commands.CommandResult;
 import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.logic.completion.Suggestion;
 import loopin.projectbook.logic.parser.exceptions.ParseException;
 import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ProjectBookSnapshot;
 import loopin.projectbook.model.ReadOnlyProjectBook;
+import loopin.projectbook.model.event.EventBus;
 import loopin.projectbook.model.person.Person;
 import loopin.projectbook.model.project.Project;
 
@@ -25,6 +32,38 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Parses all the commands first, then executes them in order as a single change and saves once at the end.
+     * Blank commands and commands starting with {@code #} are skipped.
+     * If any command fails, the changes made by the commands before it are rolled back.
+     * @param commandTexts The commands as entered by the user.
+     * @return the combined result, with the status of each command.
+     * @throws CommandException If a command fails, or the result cannot be saved.
+     * @throws ParseException If any of the commands cannot be parsed, in which case none are executed.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
+    /**
+     * Parses the command on the calling thread and queues it for execution on a single writer thread,
+     * in the order in which commands are submitted.
+     * @param commandText The command as entered by the user.
+     * @return a future completed with the result once the command has been executed and saved, or completed
+     *     exceptionally with the {@link ParseException} or {@link CommandException} that occurred.
+     */
+    CompletableFuture<CommandResult> submit(String commandText);
+
+    /**
+     * Stops accepting submitted commands, and waits for those already submitted to be executed and saved.
+     * Commands submitted afterwards complete exceptionally with a {@link CommandException}.
+     */
+    void shutdown();
+
+    /**
+     * Returns completions of {@code commandText}, as typed up to the caret, in the order they should be offered.
+     * Can be called from any thread; it waits while a command is being executed.
+     */
+    List<Suggestion> suggest(String commandText);
+
     /**
      * Returns the ProjectBook.
      *
@@ -32,6 +71,34 @@ public interface Logic {
      */
     ReadOnlyProjectBook getProjectBook();
 
+    /**
+     * Returns the lock guarding the project book data.
+     * Background readers must hold its read lock while reading the project book; {@link #execute(String)}
+     * takes the write lock itself.
+     *
+     * @see Model#getLock()
+     */
+    ReentrantReadWriteLock getLock();
+
+    /**
+     * Returns how long each command run through this logic has taken to parse, execute and save.
+     */
+    CommandStats getCommandStats();
+
+    /**
+     * Returns a frozen view of the project book whose lists can be read without holding the lock.
+     *
+     * @see Model#snapshot()
+     */
+    ProjectBookSnapshot snapshot();
+
+    /**
+     * Returns the bus on which changes to the project book are published.
+     *
+     * @see Model#getEventBus()
+     */
+    EventBus getEventBus();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
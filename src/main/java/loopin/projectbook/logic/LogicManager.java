@@ -3,18 +3,36 @@ package loopin.projectbook.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import loopin.projectbook.commons.core.CommandStats;
+import loopin.projectbook.commons.core.CommandStats.Phase;
+import loopin.projectbook.commons.core.CommandStats.Timings;
 import loopin.projectbook.commons.core.GuiSettings;
 import loopin.projectbook.commons.core.LogsCenter;
 import loopin.projectbook.logic.commands.Command;
 import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.logic.commands.RunCommand;
 import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.logic.completion.CompletionEngine;
+import loopin.projectbook.logic.completion.Suggestion;
+import loopin.projectbook.logic.parser.CommandRegistry;
 import loopin.projectbook.logic.parser.ProjectBookParser;
+import loopin.projectbook.logic.parser.RunCommandParser;
 import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.logic.parser.person.QueryCommandParser;
 import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ProjectBookSnapshot;
 import loopin.projectbook.model.ReadOnlyProjectBook;
+import loopin.projectbook.model.event.DomainEvent;
+import loopin.projectbook.model.event.EventBus;
 import loopin.projectbook.model.person.Person;
 import loopin.projectbook.model.project.Project;
 import loopin.projectbook.storage.Storage;
@@ -28,38 +46,267 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String BATCH_SOURCE = "the batch";
+
+    /** The most completions suggested for a command being typed. */
+    public static final int SUGGESTION_LIMIT = 8;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final CommandRegistry registry;
+    private final CommandStats commandStats;
     private final ProjectBookParser projectBookParser;
+    private final Object saveLock = new Object();
+    private long lastSavedVersion = -1;
+    private CommandSequencer sequencer;
+    private boolean isShutDown;
+    private CompletionEngine completionEngine;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandStats());
+    }
+
+    private LogicManager(Model model, Storage storage, CommandStats commandStats) {
+        this(model, storage, CommandRegistry.createDefault(commandStats), commandStats);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that understands the commands in {@code registry}, and times them in
+     * {@code commandStats}, which the {@code stats} command of {@code registry} should show.
+     */
+    public LogicManager(Model model, Storage storage, CommandRegistry registry, CommandStats commandStats) {
         this.model = model;
         this.storage = storage;
-        projectBookParser = new ProjectBookParser();
+        this.registry = registry;
+        this.commandStats = commandStats;
+        projectBookParser = new ProjectBookParser(registry);
+        model.setActivityArchive(storage.getActivityArchive());
+        // run once each change is kept, while the model is still locked, so the records match the model
+        model.getEventBus().subscribe(DomainEvent.class, event ->
+                storage.captureChange(event, model.getProjectBook().getVersion()), Runnable::run);
+        restoreSavedViews();
+    }
+
+    /**
+     * Saves in the model the views whose queries were kept in its user prefs, as the model cannot parse them.
+     * A view whose query can no longer be parsed is skipped, but kept in the user prefs.
+     */
+    private void restoreSavedViews() {
+        QueryCommandParser parser = new QueryCommandParser();
+        ReentrantReadWriteLock.WriteLock writeLock = model.getLock().writeLock();
+        writeLock.lock();
+        try {
+            Map<String, String> savedViews = new LinkedHashMap<>(model.getUserPrefs().getSavedViews());
+            for (Map.Entry<String, String> savedView : savedViews.entrySet()) {
+                try {
+                    model.saveView(savedView.getKey(), parser.parseQuery(savedView.getValue()));
+                } catch (ParseException | IllegalArgumentException e) {
+                    logger.warning("Skipping saved view " + savedView.getKey() + ": " + e.getMessage());
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        long parseStart = System.nanoTime();
+        Command command;
+        try {
+            command = projectBookParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            commandStats.getInvalidTimings().record(Phase.PARSE, System.nanoTime() - parseStart);
+            throw e;
+        }
+        Timings timings = getTimings(command, commandText);
+        timings.record(Phase.PARSE, System.nanoTime() - parseStart);
+        return execute(command, timings);
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        logger.info("----------------[BATCH OF " + commandTexts.size() + " COMMANDS]");
+
+        long parseStart = System.nanoTime();
+        Command command = new RunCommandParser(projectBookParser).parseLines(BATCH_SOURCE, commandTexts);
+        Timings timings = getTimings(command, RunCommand.COMMAND_WORD);
+        timings.record(Phase.PARSE, System.nanoTime() - parseStart);
+        return execute(command, timings);
+    }
+
+    /**
+     * Executes {@code command} atomically under the model's write lock, then saves the resulting data and runs the
+     * command's post-commit action under the read lock, recording how long each took in {@code timings}.
+     */
+    private CommandResult execute(Command command, Timings timings) throws CommandException {
         CommandResult commandResult;
-        Command command = projectBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        ProjectBookSnapshot snapshot;
+        ReentrantReadWriteLock lock = model.getLock();
+        lock.writeLock().lock();
+        // timed from when the lock is held, so that waiting for other commands is not counted
+        long executeStart = System.nanoTime();
+        try {
+            commandResult = command.executeAtomically(model);
+            snapshot = model.snapshot();
+            // Downgraded, so that readers need not wait for the disk, while the persons and projects the snapshot
+            // shares with the book stay as they were when it was taken.
+            lock.readLock().lock();
+        } finally {
+            timings.record(Phase.EXECUTE, System.nanoTime() - executeStart);
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long saveStart = System.nanoTime();
+            try {
+                save(snapshot);
+            } finally {
+                timings.record(Phase.SAVE, System.nanoTime() - saveStart);
+                logSummaryIfDue();
+            }
+            return commandResult.runPostCommitAction();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the timings of the commands of the same kind as {@code command}, which was parsed from
+     * {@code commandText}. They are named by its command word, and subcommand if it has one, the first time.
+     */
+    private Timings getTimings(Command command, String commandText) {
+        Timings timings = commandStats.getTimings(command.getClass());
+        if (timings != null) {
+            return timings;
+        }
+        String[] words = commandText.trim().split("\\s+", 3);
+        String commandWord = words.length > 1 && !registry.getSubcommandWords(words[0]).isEmpty()
+                ? words[0] + " " + words[1]
+                : words[0];
+        return commandStats.addTimings(command.getClass(), commandWord);
+    }
+
+    /**
+     * Logs the latencies of the commands run so far, if fine logging is on and a summary is due.
+     */
+    private void logSummaryIfDue() {
+        if (logger.isLoggable(Level.FINE)) {
+            commandStats.takeSummaryIfDue().ifPresent(logger::fine);
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        logger.info("----------------[QUEUED COMMAND][" + commandText + "]");
+
+        long parseStart = System.nanoTime();
+        Command command;
+        try {
+            command = projectBookParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            commandStats.getInvalidTimings().record(Phase.PARSE, System.nanoTime() - parseStart);
+            return CompletableFuture.failedFuture(e);
+        }
+        Timings timings = getTimings(command, commandText);
+        timings.record(Phase.PARSE, System.nanoTime() - parseStart);
+
+        CommandSequencer started = getSequencer();
+        if (started == null) {
+            return CompletableFuture.failedFuture(new CommandException(CommandSequencer.MESSAGE_SHUT_DOWN));
+        }
+        return started.submit(command, timings);
+    }
+
+    /**
+     * Returns the sequencer for submitted commands, starting it on first use, or null if none was started before
+     * this was shut down.
+     */
+    private synchronized CommandSequencer getSequencer() {
+        if (sequencer == null && !isShutDown) {
+            sequencer = new CommandSequencer(model, this::saveBatch, CommandSequencer.DEFAULT_CAPACITY);
+        }
+        return sequencer;
+    }
+
+    @Override
+    public void shutdown() {
+        CommandSequencer started;
+        synchronized (this) {
+            isShutDown = true;
+            started = sequencer;
+        }
+        if (started == null) {
+            return;
+        }
+        // joined outside the lock, so that suggestions can still be made while the queue drains
+        try {
+            started.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for submitted commands to finish");
+        }
+    }
+
+    @Override
+    public List<Suggestion> suggest(String commandText) {
+        // created before taking the read lock, as the engine takes the write lock to start following the model
+        CompletionEngine engine = getCompletionEngine();
+        ReentrantReadWriteLock lock = model.getLock();
+        lock.readLock().lock();
+        try {
+            return engine.suggest(commandText, SUGGESTION_LIMIT);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the completion engine, creating it on first use so that the model is only indexed for completion
+     * if suggestions are asked for.
+     */
+    private synchronized CompletionEngine getCompletionEngine() {
+        if (completionEngine == null) {
+            completionEngine = new CompletionEngine(model, registry);
+        }
+        return completionEngine;
+    }
 
+    /**
+     * Saves {@code snapshot}, taken after a batch of submitted commands, then logs their latencies if due.
+     */
+    private void saveBatch(ProjectBookSnapshot snapshot) throws CommandException {
         try {
-            storage.saveProjectBook(model.getProjectBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            save(snapshot);
+        } finally {
+            logSummaryIfDue();
         }
+    }
 
-        return commandResult;
+    /**
+     * Saves {@code snapshot} unless a snapshot at the same or a later version has already been saved.
+     */
+    private void save(ProjectBookSnapshot snapshot) throws CommandException {
+        synchronized (saveLock) {
+            if (snapshot.getVersion() <= lastSavedVersion) {
+                return;
+            }
+            try {
+                storage.saveProjectBook(snapshot);
+            } catch (AccessDeniedException e) {
+                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            }
+            lastSavedVersion = snapshot.getVersion();
+        }
     }
 
     @Override
@@ -67,6 +314,26 @@ public class LogicManager implements Logic {
         return model.getProjectBook();
     }
 
+    @Override
+    public ReentrantReadWriteLock getLock() {
+        return model.getLock();
+    }
+
+    @Override
+    public CommandStats getCommandStats() {
+        return commandStats;
+    }
+
+    @Override
+    public ProjectBookSnapshot snapshot() {
+        return model.snapshot();
+    }
+
+    @Override
+    public EventBus getEventBus() {
+        return model.getEventBus();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
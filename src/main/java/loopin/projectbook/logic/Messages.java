@@ -23,6 +23,7 @@ public class Messages {
     public static final String MESSAGE_PROJECTS_LISTED_OVERVIEW = "%1$d project(s) listed!";
     public static final String MESSAGE_NO_PERSON = "Person '%s' does not exist.";
     public static final String MESSAGE_NO_PROJECT = "Project '%s' does not exist.";
+    public static final String MESSAGE_NO_VIEW = "View '%s' does not exist.";
     public static final String MESSAGE_AMBIGUOUS_NAME = "Multiple people share the name %s.\n"
             + "Please use index-based commands instead.";
 
@@ -0,0 +1,108 @@
+package loopin.projectbook.logic;
+
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded, fixed-size circular buffer for many producers and a single consumer.
+ * Producers block while the buffer is full; the consumer drains everything available in one go.
+ */
+class RingBuffer<E> {
+
+    private final Object[] slots;
+    private final int mask;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /** Sequence number of the next slot to read. */
+    private long head;
+    /** Sequence number of the next slot to write. */
+    private long tail;
+    private boolean isClosed;
+
+    /**
+     * Creates a buffer holding up to {@code capacity} elements, rounded up to the next power of two.
+     */
+    RingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        slots = new Object[size];
+        mask = size - 1;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Appends {@code element}, waiting for space if the buffer is full.
+     *
+     * @throws IllegalStateException if the buffer has been closed.
+     */
+    void put(E element) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (tail - head == slots.length && !isClosed) {
+                notFull.await();
+            }
+            if (isClosed) {
+                throw new IllegalStateException("Buffer is closed");
+            }
+            slots[(int) (tail & mask)] = element;
+            tail++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves up to {@code maxElements} elements into {@code batch}, in the order they were put,
+     * waiting until at least one is available.
+     *
+     * @return false if the buffer is closed and fully drained, true otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    boolean drainTo(List<E> batch, int maxElements) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (head == tail && !isClosed) {
+                notEmpty.await();
+            }
+            if (head == tail) {
+                return false;
+            }
+            long end = Math.min(tail, head + maxElements);
+            for (; head < end; head++) {
+                int index = (int) (head & mask);
+                batch.add((E) slots[index]);
+                slots[index] = null;
+            }
+            notFull.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rejects further {@link #put}s; elements already in the buffer can still be drained.
+     */
+    void close() {
+        lock.lock();
+        try {
+            isClosed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
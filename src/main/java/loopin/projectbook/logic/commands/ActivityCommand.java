@@ -0,0 +1,129 @@
+package loopin.projectbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+import static loopin.projectbook.logic.Messages.MESSAGE_NO_PROJECT;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_NAME;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_PAGE;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_PROJECT;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.person.Name;
+import loopin.projectbook.model.project.ActivityEvent;
+import loopin.projectbook.model.project.ActivityFeed;
+import loopin.projectbook.model.project.LastUpdate;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+
+/**
+ * Shows the latest activity across all projects, or one project, optionally only about one person.
+ */
+public class ActivityCommand extends Command {
+
+    public static final String COMMAND_WORD = "activity";
+
+    /** The number of events shown if no count is given. */
+    public static final int DEFAULT_COUNT = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the latest COUNT updates across all projects, latest first (" + DEFAULT_COUNT
+            + " if no count is given).\n"
+            + "Parameters: [COUNT] [" + PREFIX_NAME + "PERSON_NAME] [" + PREFIX_PROJECT + "PROJECT_NAME] ["
+            + PREFIX_PAGE + "PAGE]\n"
+            + "Example: " + COMMAND_WORD + " 20 " + PREFIX_NAME + "Alex Yeoh " + PREFIX_PAGE + "2";
+
+    public static final String MESSAGE_SUCCESS = "Latest activity, page %1$d:";
+    public static final String MESSAGE_NO_ACTIVITY = "No activity found.";
+    public static final String MESSAGE_ARCHIVE_UNREADABLE = "Could not read the archived activity: %1$s";
+
+    private final int count;
+    private final int page;
+    private final Optional<Name> person;
+    private final Optional<ProjectName> projectName;
+
+    /**
+     * Creates an ActivityCommand showing page {@code page}, counted from 1, of {@code count} events, only of the
+     * project named {@code projectName} and about {@code person} if they are present.
+     */
+    public ActivityCommand(int count, int page, Optional<Name> person, Optional<ProjectName> projectName) {
+        requireNonNull(person);
+        requireNonNull(projectName);
+        checkArgument(count > 0 && page > 0, MESSAGE_USAGE);
+        this.count = count;
+        this.page = page;
+        this.person = person;
+        this.projectName = projectName;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Project project = null;
+        if (projectName.isPresent()) {
+            project = model.findProjectByName(projectName.get().toString())
+                    .orElseThrow(() -> new CommandException(String.format(MESSAGE_NO_PROJECT, projectName.get())));
+        }
+        Predicate<ActivityEvent> filter = person
+                .<Predicate<ActivityEvent>>map(name -> event -> event.getPerson() != null
+                        && event.getPerson().fullName.equalsIgnoreCase(name.fullName))
+                .orElse(event -> true);
+
+        long offset = (long) (page - 1) * count;
+        if (offset + count > Integer.MAX_VALUE) {
+            // far beyond any activity the book could hold
+            return new CommandResult(MESSAGE_NO_ACTIVITY);
+        }
+        List<ActivityFeed.Entry> entries;
+        try {
+            entries = model.getRecentActivity(project, filter, (int) offset, count);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
+        if (entries.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_ACTIVITY);
+        }
+
+        StringBuilder output = new StringBuilder(String.format(MESSAGE_SUCCESS, page));
+        for (ActivityFeed.Entry entry : entries) {
+            LastUpdate update = entry.getEvent().toLastUpdate();
+            output.append("\n[").append(update.getFormattedTimestamp()).append("] ")
+                    .append(entry.getProject().getName()).append(": ").append(update.getUpdateMessage());
+        }
+        return new CommandResult(output.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ActivityCommand)) {
+            return false;
+        }
+
+        ActivityCommand otherCommand = (ActivityCommand) other;
+        return count == otherCommand.count
+                && page == otherCommand.page
+                && person.equals(otherCommand.person)
+                && projectName.equals(otherCommand.projectName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("page", page)
+                .add("person", person)
+                .add("projectName", projectName)
+                .toString();
+    }
+}
@@ -17,4 +17,23 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command in a transaction on {@code model}, so that either all or none of its changes are kept.
+     * The caller must hold the model's write lock.
+     *
+     * @throws CommandException If an error occurs during command execution, after its changes are rolled back.
+     */
+    public final CommandResult executeAtomically(Model model) throws CommandException {
+        model.beginTransaction();
+        CommandResult result;
+        try {
+            result = execute(model);
+        } catch (CommandException | RuntimeException | Error e) {
+            model.rollbackTransaction();
+            throw e;
+        }
+        model.commitTransaction();
+        return result;
+    }
+
 }
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Objects;
 
 import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.commands.exceptions.CommandException;
 
 /**
  * Represents the result of a command execution.
@@ -25,6 +26,9 @@ public class CommandResult {
     /** Project list should be shown to the user. */
     private final boolean showProjectList;
 
+    /** Work left to do once the model is only locked for reading, or null if there is none. */
+    private final PostCommitAction postCommitAction;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -38,6 +42,20 @@ public class CommandResult {
         this.exit = exit;
         this.showPersonList = showPersonList;
         this.showProjectList = showProjectList;
+        this.postCommitAction = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, whose command is only done once
+     * {@code postCommitAction} has been run.
+     */
+    public CommandResult(String feedbackToUser, PostCommitAction postCommitAction) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.showPersonList = false;
+        this.showProjectList = false;
+        this.postCommitAction = requireNonNull(postCommitAction);
     }
 
     /**
@@ -76,6 +94,19 @@ public class CommandResult {
         return showProjectList;
     }
 
+    public boolean hasPostCommitAction() {
+        return postCommitAction != null;
+    }
+
+    /**
+     * Runs the post-commit action of this result, if it has one, returning the result it finishes with, or else
+     * returns this result. Must be called once the changes of the command are kept, holding only the model's read
+     * lock, and only once.
+     */
+    public CommandResult runPostCommitAction() throws CommandException {
+        return postCommitAction == null ? this : postCommitAction.run();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -92,12 +123,13 @@ public class CommandResult {
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit
                 && showPersonList == otherCommandResult.showPersonList
-                && showProjectList == otherCommandResult.showProjectList;
+                && showProjectList == otherCommandResult.showProjectList
+                && Objects.equals(postCommitAction, otherCommandResult.postCommitAction);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, showPersonList, showProjectList);
+        return Objects.hash(feedbackToUser, showHelp, exit, showPersonList, showProjectList, postCommitAction);
     }
 
     @Override
@@ -111,4 +143,15 @@ public class CommandResult {
                 .toString();
     }
 
+    /**
+     * Work a command does once its changes are kept and the model is only locked for reading, such as writing a
+     * file from a snapshot, so that readers do not wait for it while the book stays as it was.
+     */
+    @FunctionalInterface
+    public interface PostCommitAction {
+        /**
+         * Does the work, returning the result the command finishes with.
+         */
+        CommandResult run() throws CommandException;
+    }
 }
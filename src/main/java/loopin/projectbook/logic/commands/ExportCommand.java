@@ -0,0 +1,137 @@
+package loopin.projectbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_PROJECT;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ProjectBookSnapshot;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.storage.ProjectBookExporter;
+import loopin.projectbook.storage.ProjectBookExporter.Data;
+import loopin.projectbook.storage.ProjectBookExporter.Format;
+
+/**
+ * Exports persons, projects or memberships to a CSV, vCard or JSON Lines file.
+ * All records, or only those shown or those of one project, are streamed from a snapshot of the project book once
+ * the model is only locked for reading, so that readers do not wait for the file to be written. Commands still wait,
+ * so that the memberships written are those of the snapshot.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String SHOWN_KEYWORD = "shown";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes persons, projects or memberships to a file. The format is chosen by the file extension: "
+            + ".csv, .vcf (persons only) or .jsonl.\n"
+            + "Add '" + SHOWN_KEYWORD + "' to export only the persons or projects currently listed, or a project "
+            + "to export only its members, itself or its memberships.\n"
+            + "Parameters: [" + SHOWN_KEYWORD + "] persons|projects|memberships FILE [" + PREFIX_PROJECT
+            + "PROJECT_NAME]\n"
+            + "Example: " + COMMAND_WORD + " persons volunteers.csv " + PREFIX_PROJECT + "Artshow";
+
+    public static final String MESSAGE_EXPORTING = "Exporting %1$s to %2$s";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s to %3$s";
+    public static final String MESSAGE_PROJECT_NOT_FOUND = "Project \"%s\" not found.";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    private final Data data;
+    private final Format format;
+    private final Path file;
+    private final boolean isShownOnly;
+    private final Optional<ProjectName> projectName;
+
+    /**
+     * Creates an ExportCommand writing the records of kind {@code data} to {@code file} in {@code format}.
+     *
+     * @param isShownOnly whether to export only the persons or projects currently listed.
+     * @param projectName the project to restrict the export to, if any. Cannot be given with {@code isShownOnly}.
+     */
+    public ExportCommand(Data data, Format format, Path file, boolean isShownOnly,
+            Optional<ProjectName> projectName) {
+        requireNonNull(data);
+        requireNonNull(format);
+        requireNonNull(file);
+        requireNonNull(projectName);
+        assert format.supports(data);
+        assert !(isShownOnly && projectName.isPresent());
+        this.data = data;
+        this.format = format;
+        this.file = file;
+        this.isShownOnly = isShownOnly;
+        this.projectName = projectName;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        // the records are taken while the model is locked for writing, and written once it is only locked for reading
+        List<? extends Person> persons;
+        List<? extends Project> projects;
+        if (isShownOnly) {
+            persons = List.copyOf(model.getFilteredPersonList());
+            projects = List.copyOf(model.getFilteredProjectList());
+        } else if (projectName.isPresent()) {
+            Project project = model.findProjectByName(projectName.get().toString())
+                    .orElseThrow(() -> new CommandException(
+                            String.format(MESSAGE_PROJECT_NOT_FOUND, projectName.get())));
+            persons = project.getAllPeople();
+            projects = List.of(project);
+        } else {
+            ProjectBookSnapshot snapshot = model.snapshot();
+            persons = snapshot.getPersonList();
+            projects = snapshot.getProjectList();
+        }
+        return new CommandResult(String.format(MESSAGE_EXPORTING, data, file), () -> export(persons, projects));
+    }
+
+    private CommandResult export(List<? extends Person> persons, List<? extends Project> projects)
+            throws CommandException {
+        long count;
+        try {
+            count = ProjectBookExporter.export(file, format, data, persons, projects);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, file, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count, data, file));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return data == otherExportCommand.data
+                && format == otherExportCommand.format
+                && file.equals(otherExportCommand.file)
+                && isShownOnly == otherExportCommand.isShownOnly
+                && projectName.equals(otherExportCommand.projectName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("data", data)
+                .add("format", format)
+                .add("file", file)
+                .add("isShownOnly", isShownOnly)
+                .add("projectName", projectName)
+                .toString();
+    }
+}
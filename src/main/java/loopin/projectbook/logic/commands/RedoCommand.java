@@ -0,0 +1,36 @@
+package loopin.projectbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static loopin.projectbook.model.Model.PREDICATE_SHOW_ALL_PROJECTS;
+
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.model.Model;
+
+/**
+ * Applies again the most recently undone change to the project book or its saved views.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Applies again the most recently undone change to the project book or its saved views. "
+            + "The lists keep their current sort order.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redid the last change. The lists keep their current sort order.";
+    public static final String MESSAGE_FAILURE = "There is no undone change to redo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedoProjectBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        model.redoProjectBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,163 @@
+package loopin.projectbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.model.Model;
+
+/**
+ * Runs the commands of a script, in order, as a single change to the project book.
+ * If any command fails, the changes made by the commands before it are rolled back.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a text file, one per line, and saves once at the end.\n"
+            + "Blank lines and lines starting with # are skipped. "
+            + "If any command fails, none of the changes are kept.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " volunteers.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s";
+    public static final String MESSAGE_LINE_STATUS = "Line %1$d: %2$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d failed: %2$s\n"
+            + "No changes were made; the %3$d command(s) before it in %4$s were rolled back.";
+
+    private final String source;
+    private final List<ScriptLine> lines;
+
+    /**
+     * Creates a RunCommand running {@code lines}, which were read from {@code source}.
+     */
+    public RunCommand(String source, List<ScriptLine> lines) {
+        requireNonNull(source);
+        requireNonNull(lines);
+        this.source = source;
+        this.lines = List.copyOf(lines);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        model.beginTransaction();
+
+        List<CommandResult> results = new ArrayList<>(lines.size());
+        boolean hasPostCommitAction = false;
+        for (int i = 0; i < lines.size(); i++) {
+            ScriptLine line = lines.get(i);
+            CommandResult result;
+            try {
+                result = line.command.execute(model);
+            } catch (CommandException | RuntimeException e) {
+                model.rollbackTransaction();
+                throw new CommandException(
+                        String.format(MESSAGE_LINE_FAILED, line.lineNumber, e.getMessage(), i, source), e);
+            }
+            results.add(result);
+            hasPostCommitAction |= result.hasPostCommitAction();
+        }
+        model.commitTransaction();
+
+        if (!hasPostCommitAction) {
+            return new CommandResult(reportOf(results));
+        }
+        // the changes of the script are kept by now, and stay kept if an action fails, skipping those after it
+        return new CommandResult(reportOf(results), () -> {
+            List<CommandResult> finished = new ArrayList<>(results.size());
+            for (CommandResult result : results) {
+                finished.add(result.runPostCommitAction());
+            }
+            return new CommandResult(reportOf(finished));
+        });
+    }
+
+    private String reportOf(List<CommandResult> results) {
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SUCCESS, lines.size(), source));
+        for (int i = 0; i < results.size(); i++) {
+            report.append('\n').append(String.format(MESSAGE_LINE_STATUS, lines.get(i).lineNumber,
+                    firstLineOf(results.get(i).getFeedbackToUser())));
+        }
+        return report.toString();
+    }
+
+    private static String firstLineOf(String text) {
+        int end = text.indexOf('\n');
+        return end == -1 ? text : text.substring(0, end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return source.equals(otherRunCommand.source)
+                && lines.equals(otherRunCommand.lines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("source", source)
+                .add("lines", lines)
+                .toString();
+    }
+
+    /**
+     * A parsed command together with the line of the script it came from.
+     */
+    public static class ScriptLine {
+        private final int lineNumber;
+        private final Command command;
+
+        /**
+         * Creates a ScriptLine for {@code command}, parsed from line {@code lineNumber} (one-based).
+         */
+        public ScriptLine(int lineNumber, Command command) {
+            requireNonNull(command);
+            this.lineNumber = lineNumber;
+            this.command = command;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ScriptLine)) {
+                return false;
+            }
+
+            ScriptLine otherLine = (ScriptLine) other;
+            return lineNumber == otherLine.lineNumber
+                    && command.equals(otherLine.command);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * lineNumber + command.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("lineNumber", lineNumber)
+                    .add("command", command)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package loopin.projectbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import loopin.projectbook.commons.core.CommandStats;
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.model.Model;
+
+/**
+ * Shows how long each command has taken to parse, execute and save since the app started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long each command has taken to parse, execute and save since the app started, "
+            + "as the 50th, 95th and 99th percentiles and the longest, in milliseconds.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final CommandStats commandStats;
+
+    /**
+     * Creates a StatsCommand showing the timings kept in {@code commandStats}, which belong to the logic
+     * running the commands rather than to the model.
+     */
+    public StatsCommand(CommandStats commandStats) {
+        requireNonNull(commandStats);
+        this.commandStats = commandStats;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(commandStats.getSummary());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandStats == otherStatsCommand.commandStats;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandStats", commandStats)
+                .toString();
+    }
+}
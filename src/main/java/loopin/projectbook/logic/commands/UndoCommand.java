@@ -0,0 +1,37 @@
+package loopin.projectbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static loopin.projectbook.model.Model.PREDICATE_SHOW_ALL_PROJECTS;
+
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.model.Model;
+
+/**
+ * Reverts the most recent change to the project book or its saved views that has not been undone.
+ * Sorting only changes what is shown, and is not undone.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Reverts the most recent change to the project book or its saved views that has not been undone. "
+            + "The lists keep their current sort order.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undid the last change. The lists keep their current sort order.";
+    public static final String MESSAGE_FAILURE = "There is no change to undo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndoProjectBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        model.undoProjectBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,67 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.Messages;
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.model.Model;
+
+/**
+ * Deletes a saved view. The persons in it are not affected.
+ */
+public class DeleteViewCommand extends Command {
+
+    public static final String COMMAND_WORD = SaveViewCommand.COMMAND_WORD;
+    public static final String SUBCOMMAND = "delete";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SUBCOMMAND + ": Deletes the saved view with "
+            + "the given name. The persons in it are not deleted.\n"
+            + "Parameters: NAME\n"
+            + "Example: " + COMMAND_WORD + " " + SUBCOMMAND + " pending-volunteers";
+
+    public static final String MESSAGE_SUCCESS = "Deleted view %1$s";
+
+    private final String name;
+
+    /**
+     * Creates a DeleteViewCommand deleting the view named {@code name}.
+     */
+    public DeleteViewCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.deleteView(name)) {
+            throw new CommandException(String.format(Messages.MESSAGE_NO_VIEW, name));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeleteViewCommand)) {
+            return false;
+        }
+
+        DeleteViewCommand otherDeleteViewCommand = (DeleteViewCommand) other;
+        return name.equals(otherDeleteViewCommand.name);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .toString();
+    }
+}
@@ -0,0 +1,83 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_FUZZY;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.person.Person;
+
+/**
+ * Finds and lists the persons whose names are closest to the query, tolerating typos and names that sound alike.
+ */
+public class FuzzyFindCommand extends Command {
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    public static final String MESSAGE_USAGE = FindCommand.COMMAND_WORD + " " + PREFIX_FUZZY
+            + ": Finds the persons whose names are closest to the keywords, even if misspelt, "
+            + "and ranks the " + DEFAULT_LIMIT + " closest, best first.\n"
+            + "Parameters: " + PREFIX_FUZZY + "KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + FindCommand.COMMAND_WORD + " " + PREFIX_FUZZY + "alx yoe";
+
+    public static final String MESSAGE_SUCCESS = "%1$d persons listed, closest first:";
+    public static final String MESSAGE_MATCH = "%1$d. %2$s";
+
+    private final String query;
+    private final int limit;
+
+    /**
+     * Creates a FuzzyFindCommand listing at most {@code limit} persons closest to {@code query}.
+     */
+    public FuzzyFindCommand(String query, int limit) {
+        requireNonNull(query);
+        this.query = query;
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> matches = model.searchPersonsByName(query, limit);
+        Set<Person> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        matched.addAll(matches);
+        model.updateFilteredPersonList(matched::contains);
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, matches.size()));
+        for (int i = 0; i < matches.size(); i++) {
+            feedback.append('\n').append(String.format(MESSAGE_MATCH, i + 1, matches.get(i).getName()));
+        }
+        return new CommandResult(feedback.toString(), false, false, true, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyFindCommand)) {
+            return false;
+        }
+
+        FuzzyFindCommand otherFuzzyFindCommand = (FuzzyFindCommand) other;
+        return query.equals(otherFuzzyFindCommand.query)
+                && limit == otherFuzzyFindCommand.limit;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("limit", limit)
+                .toString();
+    }
+}
@@ -0,0 +1,152 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.person.PersonIdentityIndex;
+
+/**
+ * Adds the persons read from a CSV file to the project book in one change, skipping rows that are invalid or
+ * that describe a person who already exists.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the persons listed in a CSV file to the project book.\n"
+            + "The first line names the columns: name and email are required; phone, telegram, role "
+            + "(volunteer, teammember or orgmember), committee and organisation are optional.\n"
+            + "Rows that are invalid or duplicate an existing person are skipped and reported.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " volunteers.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d person(s) from %2$s";
+    public static final String MESSAGE_SKIPPED = "Skipped %1$d row(s):";
+    public static final String MESSAGE_ROW_ERROR = "Line %1$d: %2$s";
+
+    private final String source;
+    private final List<Row> rows;
+    private final Map<Integer, String> invalidRows;
+
+    /**
+     * Creates an ImportCommand adding the persons of {@code rows}, which were read from {@code source}.
+     *
+     * @param invalidRows why each row of {@code source} that could not be read was rejected, by line number.
+     */
+    public ImportCommand(String source, List<Row> rows, Map<Integer, String> invalidRows) {
+        requireNonNull(source);
+        requireNonNull(rows);
+        requireNonNull(invalidRows);
+        this.source = source;
+        this.rows = List.copyOf(rows);
+        this.invalidRows = new TreeMap<>(invalidRows);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<Integer, String> rejectedRows = new TreeMap<>(invalidRows);
+        PersonIdentityIndex existing = new PersonIdentityIndex(model.getProjectBook().getPersonList());
+        List<Person> toAdd = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (existing.containsSamePerson(row.person)) {
+                rejectedRows.put(row.lineNumber, AddCommand.MESSAGE_DUPLICATE_PERSON);
+                continue;
+            }
+            existing.add(row.person);
+            toAdd.add(row.person);
+        }
+
+        model.addPersons(toAdd);
+
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SUCCESS, toAdd.size(), source));
+        if (!rejectedRows.isEmpty()) {
+            report.append('\n').append(String.format(MESSAGE_SKIPPED, rejectedRows.size()));
+            rejectedRows.forEach((lineNumber, reason) ->
+                    report.append('\n').append(String.format(MESSAGE_ROW_ERROR, lineNumber, reason)));
+        }
+        return new CommandResult(report.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return source.equals(otherImportCommand.source)
+                && rows.equals(otherImportCommand.rows)
+                && invalidRows.equals(otherImportCommand.invalidRows);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("source", source)
+                .add("rows", rows)
+                .add("invalidRows", invalidRows)
+                .toString();
+    }
+
+    /**
+     * A person read from a row of the file, together with the line of that row.
+     */
+    public static class Row {
+        private final int lineNumber;
+        private final Person person;
+
+        /**
+         * Creates a Row for {@code person}, read from line {@code lineNumber} (one-based).
+         */
+        public Row(int lineNumber, Person person) {
+            requireNonNull(person);
+            this.lineNumber = lineNumber;
+            this.person = person;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Row)) {
+                return false;
+            }
+
+            Row otherRow = (Row) other;
+            return lineNumber == otherRow.lineNumber
+                    && person.equals(otherRow.person);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * lineNumber + person.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("lineNumber", lineNumber)
+                    .add("person", person)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.view.SavedView;
+
+/**
+ * Lists the saved views, with their queries and the number of persons in each.
+ */
+public class ListViewsCommand extends Command {
+
+    public static final String COMMAND_WORD = SaveViewCommand.COMMAND_WORD;
+    public static final String SUBCOMMAND = "list";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SUBCOMMAND + ": Lists the saved views.\n"
+            + "Example: " + COMMAND_WORD + " " + SUBCOMMAND;
+
+    public static final String MESSAGE_NO_VIEWS = "There are no saved views.";
+    public static final String MESSAGE_SUCCESS = "%1$d saved view(s):";
+    public static final String MESSAGE_VIEW = "%1$s (%2$d persons): %3$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<SavedView> views = model.getSavedViews();
+        if (views.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_VIEWS);
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, views.size()));
+        for (SavedView view : views) {
+            feedback.append('\n').append(String.format(MESSAGE_VIEW, view.getName(), view.getPersons().size(),
+                    view.getQuery().toQueryString()));
+        }
+        return new CommandResult(feedback.toString());
+    }
+}
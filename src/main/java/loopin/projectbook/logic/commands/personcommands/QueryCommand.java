@@ -0,0 +1,92 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.Messages;
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.query.Query;
+import loopin.projectbook.model.query.QueryPlan;
+import loopin.projectbook.model.query.QueryPlanner;
+
+/**
+ * Lists the persons matching a query combining conditions on their fields with AND, OR and NOT.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+    public static final String EXPLAIN_KEYWORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons matching the query. "
+            + "Conditions are combined with AND (or just a space), OR and NOT, and grouped with parentheses. "
+            + "Values with spaces are quoted. Starting with '" + EXPLAIN_KEYWORD + "' also shows how the query "
+            + "was answered and how long it took.\n"
+            + "Conditions: name:TEXT, name=FULL_NAME, role:v|t|o, committee:COMMITTEE, org:ORGANISATION, "
+            + "project:PROJECT_NAME, remark:TEXT, status:pending|completed, has:phone|telegram|remark|project\n"
+            + "Parameters: [" + EXPLAIN_KEYWORD + "] CONDITION [[AND|OR] [NOT] CONDITION]...\n"
+            + "Example: " + COMMAND_WORD + " project:Artshow AND (role:v OR committee:logistics) "
+            + "AND NOT has:telegram";
+
+    public static final String MESSAGE_LIST_FILTERED = "Listed in %1$.3f ms by checking each of %2$d persons "
+            + "against the matches";
+
+    private final Query query;
+    private final boolean isExplained;
+
+    /**
+     * Creates a QueryCommand listing the persons matching {@code query}, and explaining how they were found if
+     * {@code isExplained}.
+     */
+    public QueryCommand(Query query, boolean isExplained) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplained = isExplained;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan plan = new QueryPlanner(model).plan(query);
+        Set<Person> matched = plan.execute();
+        // the filtered list tests every person, so an indexed plan still ends in one pass over the book
+        long start = System.nanoTime();
+        model.updateFilteredPersonList(matched::contains);
+        long listNanos = System.nanoTime() - start;
+
+        String feedback = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matched.size());
+        if (isExplained) {
+            feedback += "\n" + plan.explain() + "\n" + String.format(MESSAGE_LIST_FILTERED, listNanos / 1e6,
+                    model.getProjectBook().getPersonList().size());
+        }
+        return new CommandResult(feedback, false, false, true, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query)
+                && isExplained == otherQueryCommand.isExplained;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("isExplained", isExplained)
+                .toString();
+    }
+}
@@ -0,0 +1,75 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.Messages;
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.query.Query;
+
+/**
+ * Saves the persons matching a query as a named view, which is kept up to date as persons change, and shows it.
+ */
+public class SaveViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "view";
+    public static final String SUBCOMMAND = "save";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SUBCOMMAND + ": Saves the persons matching "
+            + "the query as a view, kept up to date as persons change, and shows them. "
+            + "The query is written as for the " + QueryCommand.COMMAND_WORD + " command, and replaces the query "
+            + "of any view with the same name.\n"
+            + "Parameters: NAME QUERY\n"
+            + "Example: " + COMMAND_WORD + " " + SUBCOMMAND + " pending-volunteers role:v status:pending";
+
+    public static final String MESSAGE_SUCCESS = "Saved view %1$s: %2$s";
+
+    private final String name;
+    private final Query query;
+
+    /**
+     * Creates a SaveViewCommand saving the persons matching {@code query} as the view named {@code name}.
+     */
+    public SaveViewCommand(String name, Query query) {
+        requireNonNull(name);
+        requireNonNull(query);
+        this.name = name;
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.saveView(name, query);
+        model.showView(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name, query.toQueryString()) + "\n"
+                + String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
+                false, false, true, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SaveViewCommand)) {
+            return false;
+        }
+
+        SaveViewCommand otherSaveViewCommand = (SaveViewCommand) other;
+        return name.equals(otherSaveViewCommand.name)
+                && query.equals(otherSaveViewCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("query", query)
+                .toString();
+    }
+}
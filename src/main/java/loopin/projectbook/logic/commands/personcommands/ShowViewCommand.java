@@ -0,0 +1,69 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.Messages;
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.model.Model;
+
+/**
+ * Lists the persons in a saved view, without running its query again.
+ */
+public class ShowViewCommand extends Command {
+
+    public static final String COMMAND_WORD = SaveViewCommand.COMMAND_WORD;
+    public static final String SUBCOMMAND = "show";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SUBCOMMAND + ": Lists the persons in the "
+            + "saved view with the given name.\n"
+            + "Parameters: NAME\n"
+            + "Example: " + COMMAND_WORD + " " + SUBCOMMAND + " pending-volunteers";
+
+    public static final String MESSAGE_SUCCESS = "Showing view %1$s";
+
+    private final String name;
+
+    /**
+     * Creates a ShowViewCommand listing the persons in the view named {@code name}.
+     */
+    public ShowViewCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.showView(name)) {
+            throw new CommandException(String.format(Messages.MESSAGE_NO_VIEW, name));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name) + "\n"
+                + String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
+                false, false, true, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ShowViewCommand)) {
+            return false;
+        }
+
+        ShowViewCommand otherShowViewCommand = (ShowViewCommand) other;
+        return name.equals(otherShowViewCommand.name);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .toString();
+    }
+}
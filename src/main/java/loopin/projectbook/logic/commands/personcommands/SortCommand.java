@@ -0,0 +1,64 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.person.PersonSortKey;
+
+/**
+ * Sorts the displayed person list, which stays sorted as persons are added, edited or assigned to projects.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the listed persons by name, role, "
+            + "number of projects (most first) or number of pending remarks (most first), "
+            + "or back into the order they were added.\n"
+            + "Parameters: name|role|projects|pending|added\n"
+            + "Example: " + COMMAND_WORD + " pending";
+
+    public static final String MESSAGE_SUCCESS = "Sorted persons by %1$s";
+
+    private final PersonSortKey key;
+
+    /**
+     * Creates a SortCommand sorting the person list by {@code key}.
+     */
+    public SortCommand(PersonSortKey key) {
+        requireNonNull(key);
+        this.key = key;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortPersonList(key);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, key.getKeyword()), false, false, true, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return key.equals(otherSortCommand.key);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("key", key)
+                .toString();
+    }
+}
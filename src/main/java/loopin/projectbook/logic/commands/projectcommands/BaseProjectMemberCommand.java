@@ -7,7 +7,6 @@ import static loopin.projectbook.logic.Messages.MESSAGE_NO_PERSON;
 import static loopin.projectbook.logic.Messages.MESSAGE_NO_PROJECT;
 
 import java.util.List;
-import java.util.Locale;
 
 import loopin.projectbook.commons.core.index.Index;
 import loopin.projectbook.logic.commands.Command;
@@ -51,6 +50,7 @@ abstract class BaseProjectMemberCommand extends Command {
 
     /**
      * Returns the unique person whose name exactly matches {@code name} under trim + lowercasing comparison.
+     * Looked up in the model's name index, so resolving a name does not depend on the number of persons.
      *
      * @param model backing model; must not be {@code null}
      * @param name person name to match (case-insensitive, exact)
@@ -58,12 +58,7 @@ abstract class BaseProjectMemberCommand extends Command {
      * @throws CommandException if none or more than one person matches
      */
     private Person resolveByExactName(Model model, String name) throws CommandException {
-        String needle = name.trim().toLowerCase(Locale.ROOT);
-        List<Person> pool = model.getProjectBook().getPersonList();
-        List<Person> matches = pool.stream()
-                .filter(p -> p.getName() != null
-                        && p.getName().toString().trim().toLowerCase(Locale.ROOT).equals(needle))
-                .toList();
+        List<Person> matches = model.findPersonsByName(name);
 
         if (matches.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_NO_PERSON, name));
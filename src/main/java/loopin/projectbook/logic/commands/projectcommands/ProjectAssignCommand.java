@@ -77,10 +77,7 @@ public final class ProjectAssignCommand extends BaseProjectMemberCommand {
             throw new CommandException(String.format(MESSAGE_ALREADY, target.getName()));
         }
 
-        project.assignPerson(target);
-        target.addProject(project);
-        model.setProject(project);
-        model.setPersonInPlace(target);
+        model.assignMember(project, target);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, target.getName(), projectName));
     }
@@ -0,0 +1,82 @@
+package loopin.projectbook.logic.commands.projectcommands;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.Messages;
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.project.Project;
+
+/**
+ * Lists the projects created between two dates, found by a range scan of the creation time index.
+ */
+public class ProjectCreatedCommand extends Command {
+
+    public static final String COMMAND_WORD = "project";
+    public static final String SUBCOMMAND = "created";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SUBCOMMAND
+            + ": Lists the projects created from the first date to the second, both included.\n"
+            + "Parameters: from/YYYY-MM-DD to/YYYY-MM-DD\n"
+            + "Example: " + COMMAND_WORD + " " + SUBCOMMAND + " from/2025-01-01 to/2025-03-31";
+
+    public static final String MESSAGE_INVALID_RANGE = "The from/ date should not be after the to/ date.";
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a ProjectCreatedCommand listing the projects created from {@code from} to {@code to}, inclusive.
+     */
+    public ProjectCreatedCommand(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        checkArgument(!from.isAfter(to), MESSAGE_INVALID_RANGE);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Project> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        matched.addAll(model.findProjectsCreatedBetween(from.atStartOfDay(), to.plusDays(1).atStartOfDay()));
+        // still one pass over every project, but each is only looked up by identity; the list stays filtered
+        // as projects are edited or deleted, which a copy of the matched projects would not
+        model.updateFilteredProjectList(matched::contains);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PROJECTS_LISTED_OVERVIEW, model.getFilteredProjectList().size()),
+                false, false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ProjectCreatedCommand)) {
+            return false;
+        }
+
+        ProjectCreatedCommand otherCommand = (ProjectCreatedCommand) other;
+        return from.equals(otherCommand.from) && to.equals(otherCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
@@ -0,0 +1,109 @@
+package loopin.projectbook.logic.commands.projectcommands;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+import static loopin.projectbook.logic.Messages.MESSAGE_NO_PROJECT;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_PAGE;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_PROJECT;
+
+import java.io.IOException;
+import java.util.List;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.project.ActivityEvent;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+
+/**
+ * Shows a page of the activity of a project, latest first. Older pages are read from the archive one page at a
+ * time.
+ */
+public class ProjectHistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "project";
+    public static final String SUBCOMMAND = "history";
+
+    /** The number of events shown on a page. */
+    public static final int PAGE_SIZE = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SUBCOMMAND
+            + ": Shows the activity of a project, latest first, " + PAGE_SIZE + " events a page.\n"
+            + "Parameters: " + PREFIX_PROJECT + "PROJECT_NAME [" + PREFIX_PAGE + "PAGE]\n"
+            + "Example: " + COMMAND_WORD + " " + SUBCOMMAND + " " + PREFIX_PROJECT + "Beach Cleanup "
+            + PREFIX_PAGE + "2";
+
+    public static final String MESSAGE_SUCCESS = "Activity of %1$s, page %2$d of %3$d:";
+    public static final String MESSAGE_NO_ACTIVITY = "Project '%1$s' has no activity yet.";
+    public static final String MESSAGE_PAGE_OUT_OF_RANGE = "Project '%1$s' only has %2$d page(s) of activity.";
+    public static final String MESSAGE_ARCHIVE_UNREADABLE = "Could not read the archived activity: %1$s";
+
+    private final ProjectName projectName;
+    private final int page;
+
+    /**
+     * Creates a ProjectHistoryCommand showing page {@code page}, counted from 1, of the activity of the project
+     * named {@code projectName}.
+     */
+    public ProjectHistoryCommand(ProjectName projectName, int page) {
+        requireNonNull(projectName);
+        checkArgument(page > 0, MESSAGE_USAGE);
+        this.projectName = projectName;
+        this.page = page;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Project project = model.findProjectByName(projectName.toString())
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_NO_PROJECT, projectName)));
+
+        long eventCount = project.getHistory().getEventCount();
+        if (eventCount == 0) {
+            return new CommandResult(String.format(MESSAGE_NO_ACTIVITY, project.getName()));
+        }
+        long pageCount = (eventCount + PAGE_SIZE - 1) / PAGE_SIZE;
+        if (page > pageCount) {
+            throw new CommandException(String.format(MESSAGE_PAGE_OUT_OF_RANGE, project.getName(), pageCount));
+        }
+
+        List<ActivityEvent> events;
+        try {
+            events = model.getProjectHistory(project, (page - 1) * PAGE_SIZE, PAGE_SIZE);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
+
+        StringBuilder output = new StringBuilder(String.format(MESSAGE_SUCCESS, project.getName(), page, pageCount));
+        for (ActivityEvent event : events) {
+            output.append('\n').append(event.toLastUpdate());
+        }
+        return new CommandResult(output.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ProjectHistoryCommand)) {
+            return false;
+        }
+
+        ProjectHistoryCommand otherCommand = (ProjectHistoryCommand) other;
+        return projectName.equals(otherCommand.projectName) && page == otherCommand.page;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("projectName", projectName)
+                .add("page", page)
+                .toString();
+    }
+}
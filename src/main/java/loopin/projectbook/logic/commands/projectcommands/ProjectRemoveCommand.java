@@ -72,15 +72,12 @@ public final class ProjectRemoveCommand extends BaseProjectMemberCommand {
         Project project = resolveProjectByName(model, projectName);
 
         Person target = resolveTargetPerson(model, name, index);
-        target.removeProject(project);
 
         if (!project.hasMember(target)) {
             throw new CommandException(String.format(MESSAGE_NOT_IN, target.getName()));
         }
 
-        project.removePerson(target);
-        model.setProject(project);
-        model.setPersonInPlace(target);
+        model.removeMember(project, target);
         return new CommandResult(String.format(MESSAGE_SUCCESS, target.getName(), projectName));
     }
 }
@@ -0,0 +1,64 @@
+package loopin.projectbook.logic.commands.projectcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.project.ProjectSortKey;
+
+/**
+ * Sorts the displayed project list, which stays sorted as projects change.
+ */
+public class ProjectSortCommand extends Command {
+
+    public static final String COMMAND_WORD = "project";
+    public static final String SUBCOMMAND = "sort";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SUBCOMMAND + ": Sorts the listed projects by "
+            + "name, creation time (oldest first), last update (most recent first) or number of members "
+            + "(most first), or back into the order they were added.\n"
+            + "Parameters: name|created|updated|members|added\n"
+            + "Example: " + COMMAND_WORD + " " + SUBCOMMAND + " updated";
+
+    public static final String MESSAGE_SUCCESS = "Sorted projects by %1$s";
+
+    private final ProjectSortKey key;
+
+    /**
+     * Creates a ProjectSortCommand sorting the project list by {@code key}.
+     */
+    public ProjectSortCommand(ProjectSortKey key) {
+        requireNonNull(key);
+        this.key = key;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortProjectList(key);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, key.getKeyword()), false, false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ProjectSortCommand)) {
+            return false;
+        }
+
+        ProjectSortCommand otherProjectSortCommand = (ProjectSortCommand) other;
+        return key.equals(otherProjectSortCommand.key);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("key", key)
+                .toString();
+    }
+}
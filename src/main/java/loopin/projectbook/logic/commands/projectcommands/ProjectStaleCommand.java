@@ -0,0 +1,77 @@
+package loopin.projectbook.logic.commands.projectcommands;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.project.Project;
+
+/**
+ * Lists the projects with no update in the last given number of days, found by a range scan of the last
+ * activity time index.
+ */
+public class ProjectStaleCommand extends Command {
+
+    public static final String COMMAND_WORD = "project";
+    public static final String SUBCOMMAND = "stale";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SUBCOMMAND
+            + ": Lists the projects with no update in the last DAYS days. "
+            + "A project never updated counts as updated when it was created.\n"
+            + "Parameters: DAYS (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " " + SUBCOMMAND + " 14";
+
+    public static final String MESSAGE_SUCCESS = "%1$d project(s) with no update in the last %2$d day(s) listed!";
+
+    private final int days;
+
+    /**
+     * Creates a ProjectStaleCommand listing the projects with no update in the last {@code days} days.
+     */
+    public ProjectStaleCommand(int days) {
+        checkArgument(days > 0, MESSAGE_USAGE);
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Project> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        matched.addAll(model.findProjectsInactiveSince(LocalDateTime.now().minusDays(days)));
+        // still one pass over every project, but each is only looked up by identity; the list stays filtered
+        // as projects are edited or deleted, which a copy of the matched projects would not
+        model.updateFilteredProjectList(matched::contains);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredProjectList().size(), days),
+                false, false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ProjectStaleCommand)) {
+            return false;
+        }
+
+        ProjectStaleCommand otherCommand = (ProjectStaleCommand) other;
+        return days == otherCommand.days;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("days", days)
+                .toString();
+    }
+}
@@ -0,0 +1,197 @@
+package loopin.projectbook.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_NAME;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_PROJECT;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import loopin.projectbook.logic.parser.CliSyntax;
+import loopin.projectbook.logic.parser.CommandRegistry;
+import loopin.projectbook.logic.parser.Prefix;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.util.ElementListener;
+
+/**
+ * Suggests completions of the command being typed: command words, the subcommands of a group such as
+ * {@code project}, {@link CliSyntax} prefixes, and the names of persons after {@code n/} and of projects after
+ * {@code project/}.
+ * <p>
+ * Each kind of word is kept in a {@link CompletionTrie}. The tries of names follow the model as an
+ * {@link ElementListener}, so each change to the model costs one trie update instead of a rebuild, and a
+ * suggestion costs the length of the command text plus the number of suggestions, however large the book is.
+ * The name tries are updated on the thread changing the model, while it holds the model's write lock, so
+ * {@link #suggest(String, int)} must be called while holding the model's read lock.
+ */
+public class CompletionEngine {
+
+    public static final String MESSAGE_INVALID_LIMIT = "The number of suggestions must be positive.";
+
+    private final CompletionTrie commandWords = new CompletionTrie();
+    private final Map<String, CompletionTrie> subcommandWords = new HashMap<>();
+    private final CompletionTrie prefixes = new CompletionTrie();
+    private final CompletionTrie personNames = new CompletionTrie();
+    private final CompletionTrie projectNames = new CompletionTrie();
+    private final Map<Prefix, CompletionTrie> valuesByPrefix = Map.of(
+            PREFIX_NAME, personNames,
+            PREFIX_PROJECT, projectNames);
+
+    /**
+     * Creates an engine suggesting the commands registered so far in {@code registry}, and the names of the
+     * persons and projects in {@code model} as it changes.
+     */
+    public CompletionEngine(Model model, CommandRegistry registry) {
+        requireNonNull(model);
+        requireNonNull(registry);
+        for (String commandWord : registry.getCommandWords()) {
+            commandWords.add(commandWord);
+            CompletionTrie subcommands = new CompletionTrie();
+            registry.getSubcommandWords(commandWord).forEach(subcommands::add);
+            if (subcommands.size() > 0) {
+                subcommandWords.put(commandWord, subcommands);
+            }
+        }
+        CliSyntax.ALL_PREFIXES.forEach(prefix -> prefixes.add(prefix.getPrefix()));
+
+        model.addPersonListener(new ElementListener<Person>() {
+            @Override
+            public void elementAdded(Person person) {
+                personNames.add(person.getName().fullName);
+            }
+
+            @Override
+            public void elementRemoved(Person person) {
+                personNames.remove(person.getName().fullName);
+            }
+        });
+        model.addProjectListener(new ElementListener<Project>() {
+            @Override
+            public void elementAdded(Project project) {
+                projectNames.add(project.getName().toString());
+            }
+
+            @Override
+            public void elementRemoved(Project project) {
+                projectNames.remove(project.getName().toString());
+            }
+        });
+    }
+
+    /**
+     * Returns at most {@code limit} completions of {@code commandText}, as typed up to the caret.
+     * <p>
+     * The first word completes to a command word, and the second to a subcommand if the first is a group.
+     * After that, the value following the last prefix completes to a name if the prefix takes one, and a word
+     * being started completes to a prefix.
+     */
+    public List<Suggestion> suggest(String commandText, int limit) {
+        requireNonNull(commandText);
+        checkArgument(limit > 0, MESSAGE_INVALID_LIMIT);
+
+        int commandStart = skipWhitespace(commandText, 0);
+        int commandEnd = skipWord(commandText, commandStart);
+        if (commandEnd == commandText.length()) {
+            return completeWord(commandWords, commandText, commandStart, limit);
+        }
+
+        int argumentsStart = commandEnd;
+        CompletionTrie subcommands = subcommandWords.get(commandText.substring(commandStart, commandEnd));
+        if (subcommands != null) {
+            int subcommandStart = skipWhitespace(commandText, commandEnd);
+            int subcommandEnd = skipWord(commandText, subcommandStart);
+            if (subcommandEnd == commandText.length()) {
+                return completeWord(subcommands, commandText, subcommandStart, limit);
+            }
+            argumentsStart = subcommandEnd;
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        int prefixStart = lastPrefixStart(commandText, argumentsStart);
+        Prefix prefix = prefixStart < 0 ? null : prefixAt(commandText, prefixStart);
+        CompletionTrie values = prefix == null ? null : valuesByPrefix.get(prefix);
+        if (values != null) {
+            int valueStart = prefixStart + prefix.getPrefix().length();
+            String value = commandText.substring(valueStart);
+            for (String completion : values.complete(value, limit)) {
+                if (!completion.equals(value.stripTrailing())) {
+                    suggestions.add(new Suggestion(valueStart, completion + " "));
+                }
+            }
+        }
+
+        int wordStart = commandText.length();
+        while (wordStart > argumentsStart && !Character.isWhitespace(commandText.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        String word = commandText.substring(wordStart);
+        if (wordStart > argumentsStart && !word.isEmpty() && word.indexOf('/') < 0) {
+            for (String completion : prefixes.complete(word, limit)) {
+                suggestions.add(new Suggestion(wordStart, completion));
+            }
+        }
+        return suggestions.size() > limit ? suggestions.subList(0, limit) : suggestions;
+    }
+
+    /**
+     * Returns the completions from {@code words} of the word running from {@code wordStart} to the end of
+     * {@code commandText}, each followed by a space.
+     */
+    private static List<Suggestion> completeWord(CompletionTrie words, String commandText, int wordStart,
+            int limit) {
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (String completion : words.complete(commandText.substring(wordStart), limit)) {
+            suggestions.add(new Suggestion(wordStart, completion + " "));
+        }
+        return suggestions;
+    }
+
+    /**
+     * Returns the index of the last prefix in {@code commandText} that starts a word after
+     * {@code argumentsStart}, or -1 if there is none.
+     */
+    private static int lastPrefixStart(String commandText, int argumentsStart) {
+        for (int i = commandText.length() - 1; i > argumentsStart; i--) {
+            if (Character.isWhitespace(commandText.charAt(i - 1)) && prefixAt(commandText, i) != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the longest prefix of {@link CliSyntax} at index {@code index} of {@code commandText}, or null if
+     * there is none.
+     */
+    private static Prefix prefixAt(String commandText, int index) {
+        Prefix longest = null;
+        for (Prefix prefix : CliSyntax.ALL_PREFIXES) {
+            if (commandText.startsWith(prefix.getPrefix(), index)
+                    && (longest == null || prefix.getPrefix().length() > longest.getPrefix().length())) {
+                longest = prefix;
+            }
+        }
+        return longest;
+    }
+
+    private static int skipWhitespace(String text, int from) {
+        int index = from;
+        while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int skipWord(String text, int from) {
+        int index = from;
+        while (index < text.length() && !Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,251 @@
+package loopin.projectbook.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A compact (path-compressed) trie over words, finding the words that start with a given prefix, ignoring case.
+ * <p>
+ * Each edge is labelled with a run of characters rather than a single one, so that every node either ends a word
+ * or branches, and the words are kept in order. Completing a prefix then costs its length plus the number of
+ * completions asked for, however many words there are. A word may be added several times, e.g. for two persons
+ * with the same name, and stays in the trie until it is removed as many times.
+ * <p>
+ * Not thread-safe; callers sharing a trie between threads must guard it themselves.
+ */
+public class CompletionTrie {
+
+    public static final String MESSAGE_INVALID_LIMIT = "The number of completions must be positive.";
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * Adds {@code word} to the trie.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        String key = fold(word);
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            int index = node.indexOf(key.charAt(matched));
+            if (index < 0) {
+                Node leaf = new Node(key.substring(matched));
+                node.insertChild(-index - 1, leaf);
+                node = leaf;
+                break;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, matched);
+            if (common < child.label.length()) {
+                child = node.splitChild(index, common);
+            }
+            node = child;
+            matched += common;
+        }
+        if (node.words == null) {
+            node.words = new TreeMap<>();
+        }
+        node.words.merge(word, 1, Integer::sum);
+        size++;
+    }
+
+    /**
+     * Removes one occurrence of {@code word} from the trie. Does nothing if it is not in the trie.
+     *
+     * @return true if the word was removed.
+     */
+    public boolean remove(String word) {
+        requireNonNull(word);
+        String key = fold(word);
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            int index = node.indexOf(key.charAt(matched));
+            if (index < 0 || !key.startsWith(node.children[index].label, matched)) {
+                return false;
+            }
+            path.push(node);
+            node = node.children[index];
+            matched += node.label.length();
+        }
+        Integer count = node.words == null ? null : node.words.get(word);
+        if (count == null) {
+            return false;
+        }
+        if (count > 1) {
+            node.words.put(word, count - 1);
+        } else if (node.words.size() > 1) {
+            node.words.remove(word);
+        } else {
+            node.words = null;
+        }
+        size--;
+
+        // keep the trie compact: drop nodes that no longer end a word, and merge those that no longer branch
+        while (node != root && node.words == null && node.keys.length == 0) {
+            Node parent = path.pop();
+            parent.removeChild(parent.indexOf(node.label.charAt(0)));
+            node = parent;
+        }
+        if (node != root && node.words == null && node.keys.length == 1) {
+            Node parent = path.peek();
+            parent.children[parent.indexOf(node.label.charAt(0))] = node.mergeWithOnlyChild();
+        }
+        return true;
+    }
+
+    /**
+     * Returns at most {@code limit} words starting with {@code prefix}, ignoring case, in alphabetical order.
+     * A word added several times is returned once.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit > 0, MESSAGE_INVALID_LIMIT);
+        String key = fold(prefix);
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            int index = node.indexOf(key.charAt(matched));
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, matched);
+            if (common < child.label.length() && matched + common < key.length()) {
+                return List.of();
+            }
+            node = child;
+            matched += common;
+        }
+
+        List<String> completions = new ArrayList<>(Math.min(limit, size));
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(node);
+        while (!pending.isEmpty() && completions.size() < limit) {
+            Node next = pending.pop();
+            if (next.words != null) {
+                for (String word : next.words.keySet()) {
+                    if (completions.size() == limit) {
+                        break;
+                    }
+                    completions.add(word);
+                }
+            }
+            for (int i = next.children.length - 1; i >= 0; i--) {
+                pending.push(next.children[i]);
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the number of words in the trie, counting each time a word was added.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code text} in the form it is compared in.
+     */
+    private static String fold(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the length of the longest common prefix of {@code label} and {@code key} from index {@code from}.
+     */
+    private static int commonPrefixLength(String label, String key, int from) {
+        int max = Math.min(label.length(), key.length() - from);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(from + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static class Node {
+        private String label;
+        /** First characters of the children's labels, sorted, so that children are found by binary search. */
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        /**
+         * The words ending at this node, which differ only in case, with the number of times each was added;
+         * null if no word ends here.
+         */
+        private Map<String, Integer> words;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the index of the child whose label starts with {@code key}, or {@code -(insertion point) - 1}.
+         */
+        int indexOf(char key) {
+            return Arrays.binarySearch(keys, key);
+        }
+
+        void insertChild(int index, Node child) {
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newKeys[index] = child.label.charAt(0);
+            newChildren[index] = child;
+            System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        void removeChild(int index) {
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        /**
+         * Splits the edge to child number {@code index} after its first {@code length} characters, and returns the
+         * node inserted at the split.
+         */
+        Node splitChild(int index, int length) {
+            Node child = children[index];
+            Node split = new Node(child.label.substring(0, length));
+            child.label = child.label.substring(length);
+            split.keys = new char[] {child.label.charAt(0)};
+            split.children = new Node[] {child};
+            children[index] = split;
+            return split;
+        }
+
+        /**
+         * Returns this node's only child, with this node's label prepended, to replace this node.
+         */
+        Node mergeWithOnlyChild() {
+            Node child = children[0];
+            child.label = label + child.label;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package loopin.projectbook.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+
+/**
+ * A completion of the command being typed: the text to put in place of everything from index {@code start} on.
+ */
+public class Suggestion {
+
+    public static final String MESSAGE_INVALID_START = "The start of a suggestion cannot be negative.";
+
+    private final int start;
+    private final String text;
+
+    /**
+     * Creates a suggestion replacing the command text from index {@code start} on with {@code text}.
+     */
+    public Suggestion(int start, String text) {
+        requireNonNull(text);
+        checkArgument(start >= 0, MESSAGE_INVALID_START);
+        this.start = start;
+        this.text = text;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns {@code commandText} completed with this suggestion.
+     *
+     * @throws IndexOutOfBoundsException if {@code commandText} is shorter than the start of this suggestion.
+     */
+    public String applyTo(String commandText) {
+        return commandText.substring(0, start) + text;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Suggestion)) {
+            return false;
+        }
+
+        Suggestion otherSuggestion = (Suggestion) other;
+        return start == otherSuggestion.start
+                && text.equals(otherSuggestion.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, text);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("text", text)
+                .toString();
+    }
+}
@@ -0,0 +1,44 @@
+package loopin.projectbook.logic.parser;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_NAME;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_PAGE;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_PROJECT;
+
+import java.util.Optional;
+
+import loopin.projectbook.commons.util.StringUtil;
+import loopin.projectbook.logic.commands.ActivityCommand;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.model.person.Name;
+import loopin.projectbook.model.project.ProjectName;
+
+/**
+ * Parses input arguments and creates a new ActivityCommand object.
+ */
+public class ActivityCommandParser implements Parser<ActivityCommand> {
+
+    @Override
+    public ActivityCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PROJECT, PREFIX_PAGE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PROJECT, PREFIX_PAGE);
+
+        String count = argMultimap.getPreamble().trim();
+        Optional<String> page = argMultimap.getValue(PREFIX_PAGE).map(String::trim);
+        if ((!count.isEmpty() && !StringUtil.isNonZeroUnsignedInteger(count))
+                || (page.isPresent() && !StringUtil.isNonZeroUnsignedInteger(page.get()))) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ActivityCommand.MESSAGE_USAGE));
+        }
+
+        Optional<Name> person = Optional.empty();
+        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
+            person = Optional.of(ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get()));
+        }
+        Optional<ProjectName> projectName = Optional.empty();
+        if (argMultimap.getValue(PREFIX_PROJECT).isPresent()) {
+            projectName = Optional.of(ParserUtil.parseProjectName(argMultimap.getValue(PREFIX_PROJECT).get()));
+        }
+        return new ActivityCommand(count.isEmpty() ? ActivityCommand.DEFAULT_COUNT : Integer.parseInt(count),
+                page.map(Integer::parseInt).orElse(1), person, projectName);
+    }
+}
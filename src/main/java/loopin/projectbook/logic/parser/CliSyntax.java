@@ -1,5 +1,7 @@
 package loopin.projectbook.logic.parser;
 
+import java.util.List;
+
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple commands
  */
@@ -15,5 +17,14 @@ public class CliSyntax {
     public static final Prefix PREFIX_PROJECT = new Prefix("project/");
     public static final Prefix PREFIX_ORGANISATION = new Prefix("o/");
     public static final Prefix PREFIX_REMARK = new Prefix("r/");
+    public static final Prefix PREFIX_FUZZY = new Prefix("fuzzy/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_PAGE = new Prefix("page/");
+
+    /** Every prefix above, e.g. for suggesting them as the user types. */
+    public static final List<Prefix> ALL_PREFIXES = List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TELEGRAM,
+            PREFIX_COMMITEE, PREFIX_DESCRIPTION, PREFIX_PROJECT, PREFIX_ORGANISATION, PREFIX_REMARK, PREFIX_FUZZY,
+            PREFIX_FROM, PREFIX_TO, PREFIX_PAGE);
 
 }
@@ -0,0 +1,284 @@
+package loopin.projectbook.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import loopin.projectbook.commons.core.CommandStats;
+import loopin.projectbook.logic.commands.ActivityCommand;
+import loopin.projectbook.logic.commands.ClearCommand;
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.ExitCommand;
+import loopin.projectbook.logic.commands.ExportCommand;
+import loopin.projectbook.logic.commands.HelpCommand;
+import loopin.projectbook.logic.commands.ListCommand;
+import loopin.projectbook.logic.commands.RedoCommand;
+import loopin.projectbook.logic.commands.RunCommand;
+import loopin.projectbook.logic.commands.StatsCommand;
+import loopin.projectbook.logic.commands.UndoCommand;
+import loopin.projectbook.logic.commands.personcommands.AddOrgMemberCommand;
+import loopin.projectbook.logic.commands.personcommands.AddTeamMemberCommand;
+import loopin.projectbook.logic.commands.personcommands.AddVolunteerCommand;
+import loopin.projectbook.logic.commands.personcommands.DeleteCommand;
+import loopin.projectbook.logic.commands.personcommands.DeleteViewCommand;
+import loopin.projectbook.logic.commands.personcommands.EditCommand;
+import loopin.projectbook.logic.commands.personcommands.FindCommand;
+import loopin.projectbook.logic.commands.personcommands.FindRoleCommand;
+import loopin.projectbook.logic.commands.personcommands.ImportCommand;
+import loopin.projectbook.logic.commands.personcommands.ListViewsCommand;
+import loopin.projectbook.logic.commands.personcommands.QueryCommand;
+import loopin.projectbook.logic.commands.personcommands.RemarkCommand;
+import loopin.projectbook.logic.commands.personcommands.ResolveRemarkCommand;
+import loopin.projectbook.logic.commands.personcommands.SaveViewCommand;
+import loopin.projectbook.logic.commands.personcommands.ShowViewCommand;
+import loopin.projectbook.logic.commands.personcommands.SortCommand;
+import loopin.projectbook.logic.commands.projectcommands.AddProjectCommand;
+import loopin.projectbook.logic.commands.projectcommands.ProjectAssignCommand;
+import loopin.projectbook.logic.commands.projectcommands.ProjectCreatedCommand;
+import loopin.projectbook.logic.commands.projectcommands.ProjectDeleteCommand;
+import loopin.projectbook.logic.commands.projectcommands.ProjectFindCommand;
+import loopin.projectbook.logic.commands.projectcommands.ProjectHistoryCommand;
+import loopin.projectbook.logic.commands.projectcommands.ProjectListCommand;
+import loopin.projectbook.logic.commands.projectcommands.ProjectRemoveCommand;
+import loopin.projectbook.logic.commands.projectcommands.ProjectSortCommand;
+import loopin.projectbook.logic.commands.projectcommands.ProjectStaleCommand;
+import loopin.projectbook.logic.commands.projectcommands.ViewProjectCommand;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.logic.parser.person.AddOrgMemberCommandParser;
+import loopin.projectbook.logic.parser.person.AddTeamMemberCommandParser;
+import loopin.projectbook.logic.parser.person.AddVolunteerCommandParser;
+import loopin.projectbook.logic.parser.person.DeleteCommandParser;
+import loopin.projectbook.logic.parser.person.EditCommandParser;
+import loopin.projectbook.logic.parser.person.FindCommandParser;
+import loopin.projectbook.logic.parser.person.FindRoleCommandParser;
+import loopin.projectbook.logic.parser.person.ImportCommandParser;
+import loopin.projectbook.logic.parser.person.QueryCommandParser;
+import loopin.projectbook.logic.parser.person.RemarkCommandParser;
+import loopin.projectbook.logic.parser.person.ResolveRemarkCommandParser;
+import loopin.projectbook.logic.parser.person.SaveViewCommandParser;
+import loopin.projectbook.logic.parser.person.SortCommandParser;
+import loopin.projectbook.logic.parser.project.ProjectAddCommandParser;
+import loopin.projectbook.logic.parser.project.ProjectAssignCommandParser;
+import loopin.projectbook.logic.parser.project.ProjectCreatedCommandParser;
+import loopin.projectbook.logic.parser.project.ProjectDeleteCommandParser;
+import loopin.projectbook.logic.parser.project.ProjectFindCommandParser;
+import loopin.projectbook.logic.parser.project.ProjectHistoryCommandParser;
+import loopin.projectbook.logic.parser.project.ProjectRemoveCommandParser;
+import loopin.projectbook.logic.parser.project.ProjectSortCommandParser;
+import loopin.projectbook.logic.parser.project.ProjectStaleCommandParser;
+import loopin.projectbook.logic.parser.project.ProjectViewCommandParser;
+
+/**
+ * Maps command words to the parsers of their commands.
+ * <p>
+ * Parsers are stateless and registered once, so parsing a command costs a single hash lookup per command word.
+ * A command word can also stand for a group of subcommands (e.g. {@code project add}, {@code project list}),
+ * each with a parser of its own. New commands and subcommands can be registered at any time, e.g. by plugins.
+ */
+public class CommandRegistry {
+
+    public static final String PROJECT_COMMAND_WORD = AddProjectCommand.COMMAND_WORD;
+    public static final String VIEW_COMMAND_WORD = SaveViewCommand.COMMAND_WORD;
+
+    public static final String MESSAGE_DUPLICATE_COMMAND = "A command is already registered for '%s'";
+    public static final String MESSAGE_NOT_A_GROUP = "'%s' is not a group of subcommands";
+
+    public static final String MESSAGE_MISSING_PROJECT_SUBCOMMAND = "Unknown project subcommand. Try:\n"
+            + ProjectAssignCommand.MESSAGE_USAGE + "\n"
+            + ProjectRemoveCommand.MESSAGE_USAGE;
+    public static final String MESSAGE_UNKNOWN_PROJECT_SUBCOMMAND = "Unknown project subcommand. Try:\n"
+            + ProjectFindCommand.MESSAGE_USAGE + "\n"
+            + ProjectListCommand.MESSAGE_USAGE + "\n"
+            + ProjectSortCommand.MESSAGE_USAGE + "\n"
+            + ProjectCreatedCommand.MESSAGE_USAGE + "\n"
+            + ProjectStaleCommand.MESSAGE_USAGE + "\n"
+            + ProjectHistoryCommand.MESSAGE_USAGE + "\n"
+            + ProjectAssignCommand.MESSAGE_USAGE + "\n"
+            + ProjectRemoveCommand.MESSAGE_USAGE + "\n"
+            + ViewProjectCommand.MESSAGE_USAGE;
+    public static final String MESSAGE_UNKNOWN_VIEW_SUBCOMMAND = "Unknown view subcommand. Try:\n"
+            + SaveViewCommand.MESSAGE_USAGE + "\n"
+            + ShowViewCommand.MESSAGE_USAGE + "\n"
+            + DeleteViewCommand.MESSAGE_USAGE + "\n"
+            + ListViewsCommand.MESSAGE_USAGE;
+
+    private final Map<String, Parser<? extends Command>> parsers = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a new registry with all the built-in commands of the app, whose {@code stats} command shows
+     * timings that nothing records.
+     */
+    public static CommandRegistry createDefault() {
+        return createDefault(new CommandStats());
+    }
+
+    /**
+     * Returns a new registry with all the built-in commands of the app, whose {@code stats} command shows the
+     * timings kept in {@code commandStats}.
+     */
+    public static CommandRegistry createDefault(CommandStats commandStats) {
+        requireNonNull(commandStats);
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registry.register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registry.register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registry.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        registry.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registry.register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        registry.register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        registry.register(RemarkCommand.COMMAND_WORD, new RemarkCommandParser());
+        registry.register(ResolveRemarkCommand.COMMAND_WORD, new ResolveRemarkCommandParser());
+        registry.register(AddTeamMemberCommand.COMMAND_WORD, new AddTeamMemberCommandParser());
+        registry.register(AddOrgMemberCommand.COMMAND_WORD, new AddOrgMemberCommandParser());
+        registry.register(AddVolunteerCommand.COMMAND_WORD, new AddVolunteerCommandParser());
+        registry.register(FindRoleCommand.COMMAND_WORD, new FindRoleCommandParser());
+        registry.register(QueryCommand.COMMAND_WORD, new QueryCommandParser());
+        registry.register(SortCommand.COMMAND_WORD, new SortCommandParser());
+        registry.register(ActivityCommand.COMMAND_WORD, new ActivityCommandParser());
+        registry.register(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        registry.register(ExportCommand.COMMAND_WORD, new ExportCommandParser());
+        registry.register(RunCommand.COMMAND_WORD, new RunCommandParser(new ProjectBookParser(registry)));
+        registry.register(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand(commandStats));
+
+        registry.registerGroup(PROJECT_COMMAND_WORD, MESSAGE_MISSING_PROJECT_SUBCOMMAND,
+                MESSAGE_UNKNOWN_PROJECT_SUBCOMMAND);
+        registry.register(PROJECT_COMMAND_WORD, AddProjectCommand.SUBCOMMAND, new ProjectAddCommandParser());
+        registry.register(PROJECT_COMMAND_WORD, ProjectAssignCommand.SUBCOMMAND, new ProjectAssignCommandParser());
+        registry.register(PROJECT_COMMAND_WORD, ProjectRemoveCommand.SUBCOMMAND, new ProjectRemoveCommandParser());
+        registry.register(PROJECT_COMMAND_WORD, ProjectDeleteCommand.SUBCOMMAND, new ProjectDeleteCommandParser());
+        registry.register(PROJECT_COMMAND_WORD, ViewProjectCommand.SUBCOMMAND, new ProjectViewCommandParser());
+        registry.register(PROJECT_COMMAND_WORD, ProjectListCommand.SUBCOMMAND, arguments -> new ProjectListCommand());
+        registry.register(PROJECT_COMMAND_WORD, ProjectFindCommand.SUBCOMMAND, new ProjectFindCommandParser());
+        registry.register(PROJECT_COMMAND_WORD, ProjectSortCommand.SUBCOMMAND, new ProjectSortCommandParser());
+        registry.register(PROJECT_COMMAND_WORD, ProjectCreatedCommand.SUBCOMMAND, new ProjectCreatedCommandParser());
+        registry.register(PROJECT_COMMAND_WORD, ProjectStaleCommand.SUBCOMMAND, new ProjectStaleCommandParser());
+        registry.register(PROJECT_COMMAND_WORD, ProjectHistoryCommand.SUBCOMMAND, new ProjectHistoryCommandParser());
+
+        registry.registerGroup(VIEW_COMMAND_WORD, MESSAGE_UNKNOWN_VIEW_SUBCOMMAND, MESSAGE_UNKNOWN_VIEW_SUBCOMMAND);
+        registry.register(VIEW_COMMAND_WORD, SaveViewCommand.SUBCOMMAND, new SaveViewCommandParser());
+        registry.register(VIEW_COMMAND_WORD, ShowViewCommand.SUBCOMMAND,
+                arguments -> new ShowViewCommand(ParserUtil.parseViewName(arguments)));
+        registry.register(VIEW_COMMAND_WORD, DeleteViewCommand.SUBCOMMAND,
+                arguments -> new DeleteViewCommand(ParserUtil.parseViewName(arguments)));
+        registry.register(VIEW_COMMAND_WORD, ListViewsCommand.SUBCOMMAND, arguments -> new ListViewsCommand());
+        return registry;
+    }
+
+    /**
+     * Registers {@code parser} for the commands starting with {@code commandWord}.
+     * The parser receives everything after the command word, and must be safe to use from several threads.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is already registered.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        if (parsers.putIfAbsent(commandWord, parser) != null) {
+            throw new IllegalArgumentException(String.format(MESSAGE_DUPLICATE_COMMAND, commandWord));
+        }
+    }
+
+    /**
+     * Registers {@code commandWord} as a group of subcommands, which can then be added with
+     * {@link #register(String, String, Parser)}.
+     *
+     * @param missingSubcommandMessage error message when no subcommand is given.
+     * @param unknownSubcommandMessage error message when the subcommand is not registered.
+     * @throws IllegalArgumentException if {@code commandWord} is already registered.
+     */
+    public void registerGroup(String commandWord, String missingSubcommandMessage, String unknownSubcommandMessage) {
+        register(commandWord, new SubcommandGroup(missingSubcommandMessage, unknownSubcommandMessage));
+    }
+
+    /**
+     * Registers {@code parser} for the {@code subcommand} of the group {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is not a group, or the subcommand is already
+     *     registered.
+     */
+    public void register(String commandWord, String subcommand, Parser<? extends Command> parser) {
+        Parser<? extends Command> group = parsers.get(commandWord);
+        if (!(group instanceof SubcommandGroup)) {
+            throw new IllegalArgumentException(String.format(MESSAGE_NOT_A_GROUP, commandWord));
+        }
+        ((SubcommandGroup) group).subcommands.register(subcommand, parser);
+    }
+
+    /**
+     * Returns true if a parser is registered for {@code commandWord}.
+     */
+    public boolean contains(String commandWord) {
+        return parsers.containsKey(commandWord);
+    }
+
+    /**
+     * Returns the command words registered so far.
+     */
+    public Set<String> getCommandWords() {
+        return Set.copyOf(parsers.keySet());
+    }
+
+    /**
+     * Returns the subcommands registered so far in the group {@code commandWord}, or an empty set if
+     * {@code commandWord} is not a group of subcommands.
+     */
+    public Set<String> getSubcommandWords(String commandWord) {
+        requireNonNull(commandWord);
+        Parser<? extends Command> group = parsers.get(commandWord);
+        if (!(group instanceof SubcommandGroup)) {
+            return Set.of();
+        }
+        return ((SubcommandGroup) group).subcommands.getCommandWords();
+    }
+
+    /**
+     * Parses {@code input}, whose first word selects the parser for the rest of it.
+     *
+     * @param missingCommandMessage error message if {@code input} is blank.
+     * @param unknownCommandMessage error message if the first word is not registered.
+     * @throws ParseException if there is no registered command word, or the parser rejects the rest of the input.
+     */
+    public Command parse(String input, String missingCommandMessage, String unknownCommandMessage)
+            throws ParseException {
+        int wordStart = 0;
+        while (wordStart < input.length() && Character.isWhitespace(input.charAt(wordStart))) {
+            wordStart++;
+        }
+        if (wordStart == input.length()) {
+            throw new ParseException(missingCommandMessage);
+        }
+        int wordEnd = wordStart + 1;
+        while (wordEnd < input.length() && !Character.isWhitespace(input.charAt(wordEnd))) {
+            wordEnd++;
+        }
+
+        Parser<? extends Command> parser = parsers.get(input.substring(wordStart, wordEnd));
+        if (parser == null) {
+            throw new ParseException(unknownCommandMessage);
+        }
+        return parser.parse(input.substring(wordEnd));
+    }
+
+    /**
+     * Parses the arguments of a command that is a group of subcommands, by dispatching on the first word.
+     */
+    private static class SubcommandGroup implements Parser<Command> {
+        private final CommandRegistry subcommands = new CommandRegistry();
+        private final String missingSubcommandMessage;
+        private final String unknownSubcommandMessage;
+
+        SubcommandGroup(String missingSubcommandMessage, String unknownSubcommandMessage) {
+            this.missingSubcommandMessage = missingSubcommandMessage;
+            this.unknownSubcommandMessage = unknownSubcommandMessage;
+        }
+
+        @Override
+        public Command parse(String arguments) throws ParseException {
+            return subcommands.parse(arguments, missingSubcommandMessage, unknownSubcommandMessage);
+        }
+    }
+}
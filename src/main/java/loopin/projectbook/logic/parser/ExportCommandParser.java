@@ -0,0 +1,80 @@
+package loopin.projectbook.logic.parser;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_PROJECT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import loopin.projectbook.logic.commands.ExportCommand;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.storage.ProjectBookExporter.Data;
+import loopin.projectbook.storage.ProjectBookExporter.Format;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object.
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_UNKNOWN_DATA = "Can only export persons, projects or memberships.";
+    public static final String MESSAGE_UNKNOWN_FORMAT = "The file should end with .csv, .vcf or .jsonl.";
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "A .vcf file can only hold persons.";
+    public static final String MESSAGE_CONFLICTING_FILTERS = "Cannot export both the shown records and a project.";
+    public static final String MESSAGE_INVALID_FILE = "Invalid file %1$s: %2$s";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PROJECT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PROJECT);
+
+        String preamble = argMultimap.getPreamble().trim();
+        boolean isShownOnly = preamble.startsWith(ExportCommand.SHOWN_KEYWORD + " ");
+        if (isShownOnly) {
+            preamble = preamble.substring(ExportCommand.SHOWN_KEYWORD.length()).trim();
+        }
+        // the file name is last, so that it may contain spaces
+        String[] words = preamble.split("\\s+", 2);
+        if (words.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        String fileName = words[1];
+
+        Data data = parseData(words[0]);
+        Format format = Format.fromFileName(fileName)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNKNOWN_FORMAT));
+        if (!format.supports(data)) {
+            throw new ParseException(MESSAGE_UNSUPPORTED_FORMAT);
+        }
+        Path file;
+        try {
+            file = Paths.get(fileName);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE, fileName, e.getMessage()), e);
+        }
+
+        Optional<ProjectName> projectName = Optional.empty();
+        if (argMultimap.getValue(PREFIX_PROJECT).isPresent()) {
+            if (isShownOnly) {
+                throw new ParseException(MESSAGE_CONFLICTING_FILTERS);
+            }
+            projectName = Optional.of(ParserUtil.parseProjectName(argMultimap.getValue(PREFIX_PROJECT).get()));
+        }
+        return new ExportCommand(data, format, file, isShownOnly, projectName);
+    }
+
+    private static Data parseData(String word) throws ParseException {
+        for (Data data : Data.values()) {
+            if (data.toString().equals(word.toLowerCase())) {
+                return data;
+            }
+        }
+        throw new ParseException(MESSAGE_UNKNOWN_DATA);
+    }
+}
@@ -2,6 +2,8 @@ package loopin.projectbook.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -18,6 +20,7 @@ import loopin.projectbook.model.person.orgmember.Organisation;
 import loopin.projectbook.model.person.teammember.Committee;
 import loopin.projectbook.model.project.Description;
 import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.model.view.SavedView;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -25,6 +28,7 @@ import loopin.projectbook.model.project.ProjectName;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DATE = "Dates should be written as YYYY-MM-DD, e.g. 2025-03-31";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -53,6 +57,21 @@ public class ParserUtil {
         }
         return new Name(trimmedName);
     }
+
+    /**
+     * Parses a {@code String viewName} into the name of a saved view.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code viewName} is invalid.
+     */
+    public static String parseViewName(String viewName) throws ParseException {
+        requireNonNull(viewName);
+        String trimmedViewName = viewName.trim();
+        if (!SavedView.isValidName(trimmedViewName)) {
+            throw new ParseException(SavedView.MESSAGE_CONSTRAINTS);
+        }
+        return trimmedViewName;
+    }
     /**
      * Parses a {@code String phone} into a {@code Phone}.
      * Leading and trailing whitespaces will be trimmed.
@@ -160,6 +179,21 @@ public class ParserUtil {
         return new Organisation(trimmedOrg);
     }
 
+    /**
+     * Parses a {@code String date}, written as YYYY-MM-DD, into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is not a valid date.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE, e);
+        }
+    }
+
     /**
      * Parses a {@code String description} into a {@code Description}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,81 @@
+package loopin.projectbook.logic.parser;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A character trie over a set of {@code Prefix}es, used to match all of them at once while scanning an
+ * arguments string.
+ * Immutable once built, so a trie can be shared between threads.
+ */
+class PrefixTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final PrefixTrie[] NO_CHILDREN = new PrefixTrie[0];
+
+    private char[] keys = NO_KEYS;
+    private PrefixTrie[] children = NO_CHILDREN;
+    /** The prefix spelled out by the path to this node, if it is one of the given prefixes. */
+    private Prefix terminal;
+
+    private PrefixTrie() {}
+
+    /**
+     * Builds a trie matching exactly the given {@code prefixes}. Empty prefixes are ignored.
+     */
+    static PrefixTrie of(List<Prefix> prefixes) {
+        PrefixTrie root = new PrefixTrie();
+        for (Prefix prefix : prefixes) {
+            String text = prefix.getPrefix();
+            if (text.isEmpty()) {
+                continue;
+            }
+            PrefixTrie node = root;
+            for (int i = 0; i < text.length(); i++) {
+                node = node.childOrCreate(text.charAt(i));
+            }
+            node.terminal = prefix;
+        }
+        return root;
+    }
+
+    /**
+     * Returns the longest prefix that {@code text} starts with at index {@code from}, or null if there is none.
+     */
+    Prefix longestMatch(String text, int from) {
+        Prefix match = null;
+        PrefixTrie node = this;
+        for (int i = from; i < text.length(); i++) {
+            node = node.child(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.terminal != null) {
+                match = node.terminal;
+            }
+        }
+        return match;
+    }
+
+    private PrefixTrie child(char key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == key) {
+                return children[i];
+            }
+        }
+        return null;
+    }
+
+    private PrefixTrie childOrCreate(char key) {
+        PrefixTrie existing = child(key);
+        if (existing != null) {
+            return existing;
+        }
+        PrefixTrie created = new PrefixTrie();
+        keys = Arrays.copyOf(keys, keys.length + 1);
+        children = Arrays.copyOf(children, children.length + 1);
+        keys[keys.length - 1] = key;
+        children[children.length - 1] = created;
+        return created;
+    }
+}
@@ -0,0 +1,102 @@
+package loopin.projectbook.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.RedoCommand;
+import loopin.projectbook.logic.commands.RunCommand;
+import loopin.projectbook.logic.commands.RunCommand.ScriptLine;
+import loopin.projectbook.logic.commands.UndoCommand;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object, parsing every command of the script up front.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_PARSE_FAILED = "Nothing was run, as some lines of %1$s could not be parsed:";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_NESTED_RUN = "A script cannot run other scripts.";
+    public static final String MESSAGE_HISTORY_IN_SCRIPT = "A script cannot undo or redo changes.";
+
+    private static final String COMMENT_MARKER = "#";
+
+    private final ProjectBookParser lineParser;
+
+    /**
+     * Creates a RunCommandParser that parses each line of a script with {@code lineParser}.
+     */
+    public RunCommandParser(ProjectBookParser lineParser) {
+        requireNonNull(lineParser);
+        this.lineParser = lineParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, the file cannot be read,
+     *     or any of its lines cannot be parsed.
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        try {
+            Path file = Paths.get(trimmedArgs);
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_READ_FAILED, trimmedArgs, e.getMessage()), e);
+        }
+        return parseLines(trimmedArgs, lines);
+    }
+
+    /**
+     * Parses each of {@code lines} into a command, skipping blank lines and lines starting with {@code #}.
+     *
+     * @param source name of where the lines come from, used in messages.
+     * @throws ParseException listing every line that could not be parsed.
+     */
+    public RunCommand parseLines(String source, List<String> lines) throws ParseException {
+        List<ScriptLine> scriptLines = new ArrayList<>(lines.size());
+        StringBuilder errors = new StringBuilder();
+        for (int i = 0; i < lines.size(); i++) {
+            String commandText = lines.get(i).trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            try {
+                Command command = lineParser.parseCommand(commandText);
+                if (command instanceof RunCommand) {
+                    throw new ParseException(MESSAGE_NESTED_RUN);
+                }
+                if (command instanceof UndoCommand || command instanceof RedoCommand) {
+                    throw new ParseException(MESSAGE_HISTORY_IN_SCRIPT);
+                }
+                scriptLines.add(new ScriptLine(lineNumber, command));
+            } catch (ParseException e) {
+                errors.append('\n').append(String.format(MESSAGE_LINE_ERROR, lineNumber, e.getMessage()));
+            }
+        }
+
+        if (errors.length() > 0) {
+            throw new ParseException(String.format(MESSAGE_PARSE_FAILED, source) + errors);
+        }
+        return new RunCommand(source, scriptLines);
+    }
+}
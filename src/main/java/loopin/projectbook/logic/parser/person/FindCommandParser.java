@@ -1,31 +1,44 @@
 package loopin.projectbook.logic.parser.person;
 
 import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_FUZZY;
 
 import java.util.Arrays;
 
+import loopin.projectbook.logic.commands.Command;
 import loopin.projectbook.logic.commands.personcommands.FindCommand;
+import loopin.projectbook.logic.commands.personcommands.FuzzyFindCommand;
 import loopin.projectbook.logic.parser.Parser;
 import loopin.projectbook.logic.parser.exceptions.ParseException;
 import loopin.projectbook.model.person.NameContainsKeywordsPredicate;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand object, or a FuzzyFindCommand for a fuzzy search
  */
-public class FindCommandParser implements Parser<FindCommand> {
+public class FindCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns a FindCommand object for execution.
+     * and returns a FindCommand object for execution, or a FuzzyFindCommand if the keywords start with
+     * {@code fuzzy/}.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (trimmedArgs.startsWith(PREFIX_FUZZY.getPrefix())) {
+            String query = trimmedArgs.substring(PREFIX_FUZZY.getPrefix().length()).trim();
+            if (query.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE));
+            }
+            return new FuzzyFindCommand(query, FuzzyFindCommand.DEFAULT_LIMIT);
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
@@ -0,0 +1,279 @@
+package loopin.projectbook.logic.parser.person;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import loopin.projectbook.commons.util.CsvUtil;
+import loopin.projectbook.commons.util.CsvUtil.RecordReader;
+import loopin.projectbook.logic.commands.personcommands.ImportCommand;
+import loopin.projectbook.logic.commands.personcommands.ImportCommand.Row;
+import loopin.projectbook.logic.parser.Parser;
+import loopin.projectbook.logic.parser.ParserUtil;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.model.person.Email;
+import loopin.projectbook.model.person.Name;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.person.Phone;
+import loopin.projectbook.model.person.Telegram;
+import loopin.projectbook.model.person.orgmember.OrgMember;
+import loopin.projectbook.model.person.teammember.TeamMember;
+import loopin.projectbook.model.person.volunteer.Volunteer;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object, reading and validating every row of the file.
+ * The file is read a chunk of rows at a time, so only the persons read from it are kept, and the rows of a chunk
+ * are parsed in parallel on the common fork-join pool once there are enough of them to benefit.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_TELEGRAM = "telegram";
+    public static final String COLUMN_ROLE = "role";
+    public static final String COLUMN_COMMITTEE = "committee";
+    public static final String COLUMN_ORGANISATION = "organisation";
+    public static final List<String> COLUMNS = List.of(COLUMN_NAME, COLUMN_EMAIL, COLUMN_PHONE, COLUMN_TELEGRAM,
+            COLUMN_ROLE, COLUMN_COMMITTEE, COLUMN_ORGANISATION);
+
+    public static final String ROLE_VOLUNTEER = "volunteer";
+    public static final String ROLE_TEAM_MEMBER = "teammember";
+    public static final String ROLE_ORG_MEMBER = "orgmember";
+
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_EMPTY_FILE = "%1$s has no header line.";
+    public static final String MESSAGE_INVALID_HEADER = "The header line of %1$s is invalid: %2$s";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "Unknown column '%1$s'. Columns can be: "
+            + String.join(", ", COLUMNS);
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Column '%1$s' appears more than once.";
+    public static final String MESSAGE_MISSING_COLUMN = "Column '%1$s' is required.";
+    public static final String MESSAGE_WRONG_VALUE_COUNT = "Expected %1$d value(s) but found %2$d.";
+    public static final String MESSAGE_MISSING_VALUE = "The %1$s is missing.";
+    public static final String MESSAGE_UNKNOWN_ROLE = "Role should be one of " + ROLE_VOLUNTEER + ", "
+            + ROLE_TEAM_MEMBER + " or " + ROLE_ORG_MEMBER + ".";
+
+    /** Chunks with fewer rows than this are parsed on the calling thread, where forking would cost more. */
+    static final int PARALLEL_THRESHOLD = 512;
+
+    /** The number of rows read from the file before they are parsed. */
+    static final int CHUNK_SIZE = 8192;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, the file cannot be read,
+     *     or its header line is invalid.
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(trimmedArgs), StandardCharsets.UTF_8)) {
+            return parse(trimmedArgs, reader);
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_READ_FAILED, trimmedArgs, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Parses the CSV {@code lines} as {@link #parse(String, BufferedReader)} does, each element being one line.
+     */
+    public ImportCommand parseLines(String source, List<String> lines) throws ParseException {
+        requireNonNull(lines);
+        try {
+            return parse(source, new BufferedReader(new StringReader(String.join("\n", lines))));
+        } catch (IOException e) {
+            throw new ParseException(String.format(MESSAGE_READ_FAILED, source, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Parses the CSV read from {@code reader}: a header line naming the columns, then one person per row. A row
+     * takes more than one line if a quoted value in it contains line breaks. Blank lines are skipped; rows that
+     * are invalid are reported, by the line they start on, by the returned command instead of failing.
+     *
+     * @param source name of where the rows come from, used in messages.
+     * @throws ParseException if there is no header line or it is invalid.
+     * @throws IOException if {@code reader} cannot be read.
+     */
+    public ImportCommand parse(String source, BufferedReader reader) throws ParseException, IOException {
+        requireNonNull(source);
+        requireNonNull(reader);
+        RecordReader records = new RecordReader(reader);
+        String header = records.readRecord();
+        while (header != null && header.isBlank()) {
+            header = records.readRecord();
+        }
+        if (header == null) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_FILE, source));
+        }
+
+        Map<String, Integer> columns;
+        try {
+            columns = parseHeader(header);
+        } catch (ParseException | IllegalArgumentException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_HEADER, source, e.getMessage()), e);
+        }
+
+        List<Row> rows = new ArrayList<>();
+        Map<Integer, String> invalidRows = new TreeMap<>();
+        List<String> chunk = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        for (String record = records.readRecord(); record != null; record = records.readRecord()) {
+            if (record.isBlank()) {
+                continue;
+            }
+            chunk.add(record);
+            lineNumbers.add(records.getLineNumber());
+            if (chunk.size() == CHUNK_SIZE) {
+                parseChunk(chunk, lineNumbers, columns, rows, invalidRows);
+                chunk.clear();
+                lineNumbers.clear();
+            }
+        }
+        parseChunk(chunk, lineNumbers, columns, rows, invalidRows);
+        return new ImportCommand(source, rows, invalidRows);
+    }
+
+    /**
+     * Parses the rows of {@code chunk}, which start on {@code lineNumbers}, adding the persons read to
+     * {@code rows} in file order and the reasons invalid rows were rejected to {@code invalidRows}.
+     */
+    private static void parseChunk(List<String> chunk, List<Integer> lineNumbers, Map<String, Integer> columns,
+            List<Row> rows, Map<Integer, String> invalidRows) {
+        IntStream indexes = IntStream.range(0, chunk.size());
+        if (chunk.size() > PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        // the parallel stream keeps the rows in file order
+        List<ParsedRow> parsedRows = indexes
+                .mapToObj(i -> parseRow(lineNumbers.get(i), chunk.get(i), columns))
+                .collect(Collectors.toList());
+
+        for (ParsedRow parsedRow : parsedRows) {
+            if (parsedRow.person != null) {
+                rows.add(new Row(parsedRow.lineNumber, parsedRow.person));
+            } else {
+                invalidRows.put(parsedRow.lineNumber, parsedRow.error);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of each column named in {@code header}.
+     */
+    private static Map<String, Integer> parseHeader(String header) throws ParseException {
+        List<String> names = CsvUtil.splitRecord(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase();
+            if (!COLUMNS.contains(name)) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_COLUMN, names.get(i).trim()));
+            }
+            if (columns.containsKey(name)) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, name));
+            }
+            columns.put(name, i);
+        }
+        for (String required : List.of(COLUMN_NAME, COLUMN_EMAIL)) {
+            if (!columns.containsKey(required)) {
+                throw new ParseException(String.format(MESSAGE_MISSING_COLUMN, required));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Parses one row into a person with the validators used by the add commands. Never throws, so that rows
+     * can be parsed independently of each other.
+     */
+    private static ParsedRow parseRow(int lineNumber, String record, Map<String, Integer> columns) {
+        try {
+            List<String> values = CsvUtil.splitRecord(record);
+            if (values.size() != columns.size()) {
+                throw new ParseException(String.format(MESSAGE_WRONG_VALUE_COUNT, columns.size(), values.size()));
+            }
+            return new ParsedRow(lineNumber, toPerson(values, columns), null);
+        } catch (ParseException | IllegalArgumentException e) {
+            return new ParsedRow(lineNumber, null, e.getMessage());
+        }
+    }
+
+    private static Person toPerson(List<String> values, Map<String, Integer> columns) throws ParseException {
+        Name name = ParserUtil.parseName(requireValue(values, columns, COLUMN_NAME));
+        Email email = ParserUtil.parseEmail(requireValue(values, columns, COLUMN_EMAIL));
+        Optional<Phone> phone = optionalValue(values, columns, COLUMN_PHONE).isPresent()
+                ? Optional.of(ParserUtil.parsePhone(optionalValue(values, columns, COLUMN_PHONE).get()))
+                : Optional.empty();
+        Optional<Telegram> telegram = optionalValue(values, columns, COLUMN_TELEGRAM).isPresent()
+                ? Optional.of(ParserUtil.parseTelegram(optionalValue(values, columns, COLUMN_TELEGRAM).get()))
+                : Optional.empty();
+
+        String role = optionalValue(values, columns, COLUMN_ROLE).orElse(ROLE_VOLUNTEER).toLowerCase();
+        switch (role) {
+        case ROLE_VOLUNTEER:
+            return new Volunteer(name, phone, email, telegram, new HashSet<>(), new ArrayList<>());
+        case ROLE_TEAM_MEMBER:
+            return new TeamMember(name, ParserUtil.parseCommittee(requireValue(values, columns, COLUMN_COMMITTEE)),
+                    phone, email, telegram, new HashSet<>(), new ArrayList<>());
+        case ROLE_ORG_MEMBER:
+            return new OrgMember(name,
+                    ParserUtil.parseOrganisation(requireValue(values, columns, COLUMN_ORGANISATION)),
+                    phone, email, telegram, new HashSet<>(), new ArrayList<>());
+        default:
+            throw new ParseException(MESSAGE_UNKNOWN_ROLE);
+        }
+    }
+
+    private static String requireValue(List<String> values, Map<String, Integer> columns, String column)
+            throws ParseException {
+        return optionalValue(values, columns, column)
+                .orElseThrow(() -> new ParseException(String.format(MESSAGE_MISSING_VALUE, column)));
+    }
+
+    /**
+     * Returns the trimmed value of {@code column}, or an empty Optional if the column is absent or blank.
+     */
+    private static Optional<String> optionalValue(List<String> values, Map<String, Integer> columns,
+            String column) {
+        Integer index = columns.get(column);
+        if (index == null || values.get(index).isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(values.get(index).trim());
+    }
+
+    /**
+     * The outcome of parsing one row: either a person or the reason the row was rejected.
+     */
+    private static class ParsedRow {
+        private final int lineNumber;
+        private final Person person;
+        private final String error;
+
+        ParsedRow(int lineNumber, Person person, String error) {
+            this.lineNumber = lineNumber;
+            this.person = person;
+            this.error = error;
+        }
+    }
+}
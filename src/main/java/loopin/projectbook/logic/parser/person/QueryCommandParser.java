@@ -0,0 +1,215 @@
+package loopin.projectbook.logic.parser.person;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import loopin.projectbook.logic.commands.personcommands.QueryCommand;
+import loopin.projectbook.logic.parser.Parser;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.model.query.Field;
+import loopin.projectbook.model.query.Query;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ * <p>
+ * The query is read by recursive descent, with NOT binding tighter than AND, and AND tighter than OR:
+ * <pre>
+ * query     = ["explain"] or
+ * or        = and {"OR" and}
+ * and       = unary {["AND"] unary}
+ * unary     = "NOT" unary | "(" or ")" | condition
+ * condition = FIELD VALUE, e.g. name:alex or name="Alex Yeoh"
+ * </pre>
+ * Keywords ignore case, and a value is quoted if it contains spaces or parentheses.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown condition '%1$s'. Conditions start with one of: "
+            + Arrays.stream(Field.values()).map(Field::getSyntax).collect(Collectors.joining(" "));
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted value in the query is missing its closing quote.";
+    public static final String MESSAGE_UNMATCHED_PARENTHESIS = "The parentheses in the query do not match.";
+
+    private static final String KEYWORD_AND = "AND";
+    private static final String KEYWORD_OR = "OR";
+    private static final String KEYWORD_NOT = "NOT";
+
+    @Override
+    public QueryCommand parse(String args) throws ParseException {
+        List<Token> tokens = tokenize(args);
+        boolean isExplained = !tokens.isEmpty() && tokens.get(0).is(QueryCommand.EXPLAIN_KEYWORD);
+        return new QueryCommand(parseQuery(tokens, isExplained ? 1 : 0), isExplained);
+    }
+
+    /**
+     * Returns the query written as {@code text}, which has no leading {@code explain}.
+     *
+     * @throws ParseException if {@code text} is not a valid query.
+     */
+    public Query parseQuery(String text) throws ParseException {
+        return parseQuery(tokenize(text), 0);
+    }
+
+    private static Query parseQuery(List<Token> tokens, int start) throws ParseException {
+        Reader reader = new Reader(tokens, start);
+        if (reader.isAtEnd()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+
+        Query query = reader.readOr();
+        if (!reader.isAtEnd()) {
+            // Only a closing parenthesis can stop a complete query before the end.
+            throw new ParseException(MESSAGE_UNMATCHED_PARENTHESIS);
+        }
+        return query;
+    }
+
+    /**
+     * Splits {@code args} into parentheses and words, removing the quotes around quoted parts of words.
+     */
+    private static List<Token> tokenize(String args) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        int index = 0;
+        while (index < args.length()) {
+            char c = args.charAt(index);
+            if (Character.isWhitespace(c)) {
+                index++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(new Token(String.valueOf(c), false, true));
+                index++;
+            } else {
+                StringBuilder word = new StringBuilder();
+                boolean isQuoted = false;
+                while (index < args.length()) {
+                    c = args.charAt(index);
+                    if (c == '"') {
+                        int closingQuote = args.indexOf('"', index + 1);
+                        if (closingQuote < 0) {
+                            throw new ParseException(MESSAGE_UNTERMINATED_QUOTE);
+                        }
+                        word.append(args, index + 1, closingQuote);
+                        isQuoted = true;
+                        index = closingQuote + 1;
+                    } else if (Character.isWhitespace(c) || c == '(' || c == ')') {
+                        break;
+                    } else {
+                        word.append(c);
+                        index++;
+                    }
+                }
+                tokens.add(new Token(word.toString(), isQuoted, false));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the condition written as {@code word}.
+     */
+    private static Query parseCondition(String word) throws ParseException {
+        int separator = -1;
+        for (int i = 0; i < word.length() && separator < 0; i++) {
+            if (word.charAt(i) == ':' || word.charAt(i) == '=') {
+                separator = i;
+            }
+        }
+        if (separator < 0) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, word));
+        }
+
+        Field field = Field.fromSyntax(word.substring(0, separator + 1))
+                .orElseThrow(() -> new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, word)));
+        String value = word.substring(separator + 1).trim();
+        if (!field.isValidValue(value)) {
+            throw new ParseException(field.getConstraints());
+        }
+        return new Query.Term(field, value);
+    }
+
+    /**
+     * A parenthesis, or a word which may be a keyword if no part of it was quoted.
+     */
+    private static class Token {
+        private final String text;
+        private final boolean isQuoted;
+        private final boolean isParenthesis;
+
+        Token(String text, boolean isQuoted, boolean isParenthesis) {
+            this.text = text;
+            this.isQuoted = isQuoted;
+            this.isParenthesis = isParenthesis;
+        }
+
+        boolean is(String keyword) {
+            return !isQuoted && !isParenthesis && text.equalsIgnoreCase(keyword);
+        }
+
+        boolean isParenthesis(char parenthesis) {
+            return isParenthesis && text.charAt(0) == parenthesis;
+        }
+    }
+
+    /**
+     * Reads a query from a list of tokens, one rule of the grammar per method.
+     */
+    private static class Reader {
+        private final List<Token> tokens;
+        private int position;
+
+        Reader(List<Token> tokens, int position) {
+            this.tokens = tokens;
+            this.position = position;
+        }
+
+        boolean isAtEnd() {
+            return position == tokens.size();
+        }
+
+        Query readOr() throws ParseException {
+            List<Query> operands = new ArrayList<>();
+            operands.add(readAnd());
+            while (!isAtEnd() && tokens.get(position).is(KEYWORD_OR)) {
+                position++;
+                operands.add(readAnd());
+            }
+            return operands.size() == 1 ? operands.get(0) : new Query.Or(operands);
+        }
+
+        Query readAnd() throws ParseException {
+            List<Query> operands = new ArrayList<>();
+            operands.add(readUnary());
+            while (!isAtEnd() && !tokens.get(position).is(KEYWORD_OR) && !tokens.get(position).isParenthesis(')')) {
+                if (tokens.get(position).is(KEYWORD_AND)) {
+                    position++;
+                }
+                operands.add(readUnary());
+            }
+            return operands.size() == 1 ? operands.get(0) : new Query.And(operands);
+        }
+
+        Query readUnary() throws ParseException {
+            if (isAtEnd()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+            }
+            Token token = tokens.get(position++);
+            if (token.is(KEYWORD_NOT)) {
+                return new Query.Not(readUnary());
+            }
+            if (token.isParenthesis('(')) {
+                Query query = readOr();
+                if (isAtEnd() || !tokens.get(position).isParenthesis(')')) {
+                    throw new ParseException(MESSAGE_UNMATCHED_PARENTHESIS);
+                }
+                position++;
+                return query;
+            }
+            if (token.isParenthesis || token.is(KEYWORD_AND) || token.is(KEYWORD_OR)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+            }
+            return parseCondition(token.text);
+        }
+    }
+}
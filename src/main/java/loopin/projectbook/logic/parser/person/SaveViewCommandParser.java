@@ -0,0 +1,26 @@
+package loopin.projectbook.logic.parser.person;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import loopin.projectbook.logic.commands.personcommands.SaveViewCommand;
+import loopin.projectbook.logic.parser.Parser;
+import loopin.projectbook.logic.parser.ParserUtil;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SaveViewCommand object.
+ */
+public class SaveViewCommandParser implements Parser<SaveViewCommand> {
+
+    private final QueryCommandParser queryParser = new QueryCommandParser();
+
+    @Override
+    public SaveViewCommand parse(String args) throws ParseException {
+        String[] nameAndQuery = args.trim().split("\\s+", 2);
+        if (nameAndQuery.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveViewCommand.MESSAGE_USAGE));
+        }
+        String name = ParserUtil.parseViewName(nameAndQuery[0]);
+        return new SaveViewCommand(name, queryParser.parseQuery(nameAndQuery[1]));
+    }
+}
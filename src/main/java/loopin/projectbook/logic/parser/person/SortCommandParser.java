@@ -0,0 +1,22 @@
+package loopin.projectbook.logic.parser.person;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import loopin.projectbook.logic.commands.personcommands.SortCommand;
+import loopin.projectbook.logic.parser.Parser;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.model.person.PersonSortKey;
+
+/**
+ * Parses input arguments and creates a new SortCommand object.
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    @Override
+    public SortCommand parse(String args) throws ParseException {
+        PersonSortKey key = PersonSortKey.fromKeyword(args.trim())
+                .orElseThrow(() -> new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE)));
+        return new SortCommand(key);
+    }
+}
@@ -0,0 +1,38 @@
+package loopin.projectbook.logic.parser.project;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_FROM;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+
+import loopin.projectbook.logic.commands.projectcommands.ProjectCreatedCommand;
+import loopin.projectbook.logic.parser.ArgumentMultimap;
+import loopin.projectbook.logic.parser.ArgumentTokenizer;
+import loopin.projectbook.logic.parser.Parser;
+import loopin.projectbook.logic.parser.ParserUtil;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ProjectCreatedCommand object.
+ */
+public class ProjectCreatedCommandParser implements Parser<ProjectCreatedCommand> {
+
+    @Override
+    public ProjectCreatedCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+        if (argMultimap.getValue(PREFIX_FROM).isEmpty() || argMultimap.getValue(PREFIX_TO).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ProjectCreatedCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+
+        LocalDate from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDate to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        if (from.isAfter(to)) {
+            throw new ParseException(ProjectCreatedCommand.MESSAGE_INVALID_RANGE);
+        }
+        return new ProjectCreatedCommand(from, to);
+    }
+}
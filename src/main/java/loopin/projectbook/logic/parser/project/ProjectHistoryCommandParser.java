@@ -0,0 +1,40 @@
+package loopin.projectbook.logic.parser.project;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_PAGE;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_PROJECT;
+
+import java.util.Optional;
+
+import loopin.projectbook.commons.util.StringUtil;
+import loopin.projectbook.logic.commands.projectcommands.ProjectHistoryCommand;
+import loopin.projectbook.logic.parser.ArgumentMultimap;
+import loopin.projectbook.logic.parser.ArgumentTokenizer;
+import loopin.projectbook.logic.parser.Parser;
+import loopin.projectbook.logic.parser.ParserUtil;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.model.project.ProjectName;
+
+/**
+ * Parses input arguments and creates a new ProjectHistoryCommand object.
+ */
+public class ProjectHistoryCommandParser implements Parser<ProjectHistoryCommand> {
+
+    @Override
+    public ProjectHistoryCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PROJECT, PREFIX_PAGE);
+        if (argMultimap.getValue(PREFIX_PROJECT).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ProjectHistoryCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PROJECT, PREFIX_PAGE);
+
+        ProjectName projectName = ParserUtil.parseProjectName(argMultimap.getValue(PREFIX_PROJECT).get());
+        Optional<String> page = argMultimap.getValue(PREFIX_PAGE).map(String::trim);
+        if (page.isPresent() && !StringUtil.isNonZeroUnsignedInteger(page.get())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ProjectHistoryCommand.MESSAGE_USAGE));
+        }
+        return new ProjectHistoryCommand(projectName, page.map(Integer::parseInt).orElse(1));
+    }
+}
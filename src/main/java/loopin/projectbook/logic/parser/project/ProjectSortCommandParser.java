@@ -0,0 +1,22 @@
+package loopin.projectbook.logic.parser.project;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import loopin.projectbook.logic.commands.projectcommands.ProjectSortCommand;
+import loopin.projectbook.logic.parser.Parser;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.model.project.ProjectSortKey;
+
+/**
+ * Parses input arguments and creates a new ProjectSortCommand object.
+ */
+public class ProjectSortCommandParser implements Parser<ProjectSortCommand> {
+
+    @Override
+    public ProjectSortCommand parse(String args) throws ParseException {
+        ProjectSortKey key = ProjectSortKey.fromKeyword(args.trim())
+                .orElseThrow(() -> new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProjectSortCommand.MESSAGE_USAGE)));
+        return new ProjectSortCommand(key);
+    }
+}
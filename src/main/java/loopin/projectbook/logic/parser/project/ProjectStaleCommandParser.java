@@ -0,0 +1,23 @@
+package loopin.projectbook.logic.parser.project;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import loopin.projectbook.commons.util.StringUtil;
+import loopin.projectbook.logic.commands.projectcommands.ProjectStaleCommand;
+import loopin.projectbook.logic.parser.Parser;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ProjectStaleCommand object.
+ */
+public class ProjectStaleCommandParser implements Parser<ProjectStaleCommand> {
+
+    @Override
+    public ProjectStaleCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProjectStaleCommand.MESSAGE_USAGE));
+        }
+        return new ProjectStaleCommand(Integer.parseInt(trimmedArgs));
+    }
+}
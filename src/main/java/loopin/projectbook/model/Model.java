@@ -1,12 +1,29 @@
 package loopin.projectbook.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import loopin.projectbook.commons.core.GuiSettings;
+import loopin.projectbook.model.event.ChangePublisher;
+import loopin.projectbook.model.event.ChangePublisher.OverflowPolicy;
+import loopin.projectbook.model.event.DomainEvent;
+import loopin.projectbook.model.event.EventBus;
 import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.person.PersonSortKey;
+import loopin.projectbook.model.project.ActivityArchive;
+import loopin.projectbook.model.project.ActivityEvent;
+import loopin.projectbook.model.project.ActivityFeed;
 import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectSortKey;
+import loopin.projectbook.model.query.Query;
+import loopin.projectbook.model.util.ElementListener;
+import loopin.projectbook.model.view.SavedView;
 
 /**
  * The API of the Model component.
@@ -58,11 +75,115 @@ public interface Model {
     /** Returns the ProjectBook */
     ReadOnlyProjectBook getProjectBook();
 
+    /**
+     * Returns the lock guarding the project book data.
+     * Readers on other threads must hold the read lock; any mutation of persons, projects or memberships
+     * must hold the write lock. A write lock holder may downgrade by acquiring the read lock before releasing it.
+     */
+    ReentrantReadWriteLock getLock();
+
+    /**
+     * Returns a frozen, versioned view of the project book in O(1).
+     * Its lists can be read from any thread without holding the lock while the book keeps changing, but the
+     * memberships and activity of their persons and projects are only those of its version while the read lock is
+     * held from when it was taken.
+     */
+    ProjectBookSnapshot snapshot();
+
+    /**
+     * Registers {@code listener} to be told of each person added to or removed from the project book, on the
+     * thread making the change and as soon as it is made, including while a transaction is rolled back.
+     * The listener is first told of the persons already in the project book.
+     */
+    void addPersonListener(ElementListener<? super Person> listener);
+
+    /**
+     * Registers {@code listener} to be told of each project added to or removed from the project book, in the
+     * same way as {@link #addPersonListener(ElementListener)}.
+     */
+    void addProjectListener(ElementListener<? super Project> listener);
+
+    /**
+     * Returns the bus on which the model publishes a {@link loopin.projectbook.model.event.DomainEvent} for each
+     * change made through it.
+     */
+    EventBus getEventBus();
+
+    /**
+     * Returns a new publisher of the kept changes of {@code type}, e.g. {@link DomainEvent.PersonEvent},
+     * {@link DomainEvent.ProjectEvent} or {@link DomainEvent.RemarkEvent}, which signals its subscribers on
+     * {@code executor} as they request changes. Each subscriber has a buffer of {@code bufferCapacity} changes,
+     * and {@code overflowPolicy} decides what happens once it is full; changing the model never waits on it.
+     */
+    <E extends DomainEvent> ChangePublisher<E> createChangePublisher(Class<E> type, int bufferCapacity,
+            OverflowPolicy overflowPolicy, Executor executor);
+
+    /**
+     * Starts a transaction: changes made to the project book from now on, including in-place changes to its
+     * persons and projects and changes to the saved views, are recorded so that they can be rolled back, and
+     * the lists returned by this model fire no change events until the transaction is committed or rolled back.
+     * Transactions may be nested; a nested transaction only rolls back its own changes.
+     * Must be called by the holder of the write lock, which must also end the transaction.
+     */
+    void beginTransaction();
+
+    /**
+     * Keeps the changes of the innermost transaction.
+     * If it is the outermost transaction, the lists fire one change event each for all of its changes.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void commitTransaction();
+
+    /**
+     * Undoes the changes of the innermost transaction, newest first, and ends it.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if there is a committed change to the project book that can be undone.
+     */
+    boolean canUndoProjectBook();
+
+    /**
+     * Returns true if there is an undone change to the project book that can be redone.
+     */
+    boolean canRedoProjectBook();
+
+    /**
+     * Reverts the changes of the most recent committed transaction that has not been undone.
+     * If called in a transaction, it must be the outermost one, and rolling it back restores the undone changes.
+     *
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    void undoProjectBook();
+
+    /**
+     * Applies again the changes of the most recently undone transaction.
+     * If called in a transaction, it must be the outermost one.
+     *
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    void redoProjectBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the project book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the persons whose name is {@code name}, ignoring case and surrounding whitespace, in O(1).
+     */
+    List<Person> findPersonsByName(String name);
+
+    /**
+     * Returns at most {@code limit} persons whose names are closest to {@code query}, best first.
+     * Tolerates typos and names that sound alike, e.g. "Jon Smyth" finds "John Smith".
+     */
+    List<Person> searchPersonsByName(String query, int limit);
+
     /**
      * Deletes the given person.
      * The person must exist in the project book.
@@ -75,6 +196,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of {@code persons} in one change.
+     * None of them may have the same identity as a person in the project book, or as each other.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the project book.
@@ -97,16 +224,89 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Saves a view named {@code name} of the persons matching {@code query}, replacing any view of that name.
+     * The persons in the view are kept up to date as the project book changes, and the query is kept in the
+     * user prefs. Rolling back or undoing the save restores the view it replaced, if any.
+     *
+     * @throws IllegalArgumentException if {@code name} is not a valid view name.
+     */
+    void saveView(String name, Query query);
+
+    /**
+     * Deletes the saved view named {@code name}, returning false if there is none.
+     */
+    boolean deleteView(String name);
+
+    /**
+     * Returns the saved views, in the order they were first saved.
+     */
+    List<SavedView> getSavedViews();
+
+    /**
+     * Shows the persons in the saved view named {@code name} as the filtered person list, without testing any
+     * other person, until the filter is next updated. Returns false if there is no such view.
+     */
+    boolean showView(String name);
+
+    /**
+     * Sorts the filtered person list by {@code key}, keeping it sorted as persons change until it is next sorted.
+     * Like filtering, sorting only changes what is shown, so it is neither rolled back nor undone.
+     */
+    void sortPersonList(PersonSortKey key);
+
     /**
      * Updates the filter of the filtered projects list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredProjectList(Predicate<Project> predicate);
 
+    /**
+     * Sorts the filtered project list by {@code key}, keeping it sorted as projects change until it is next sorted.
+     * Like filtering, sorting only changes what is shown, so it is neither rolled back nor undone.
+     */
+    void sortProjectList(ProjectSortKey key);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Project> getFilteredProjectList();
 
     java.util.Optional<Project> findProjectByName(String name);
+
+    /**
+     * Returns the projects created from {@code from}, inclusive, to {@code to}, exclusive, oldest first,
+     * found by a range scan of a time index.
+     */
+    List<Project> findProjectsCreatedBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the projects neither updated nor created since {@code cutoff}, the longest inactive first,
+     * found by a range scan of a time index.
+     */
+    List<Project> findProjectsInactiveSince(LocalDateTime cutoff);
+
+    /**
+     * Sets the archive that the activity pushed out of project histories is read back from.
+     */
+    void setActivityArchive(ActivityArchive activityArchive);
+
+    /**
+     * Returns up to {@code limit} events of {@code project}, latest first, after skipping the latest
+     * {@code offset}. Only the events asked for are read from the archive.
+     *
+     * @throws IOException if the archived events could not be read.
+     */
+    List<ActivityEvent> getProjectHistory(Project project, int offset, int limit) throws IOException;
+
+    /**
+     * Returns up to {@code limit} events passing {@code filter}, latest first, after skipping the latest
+     * {@code offset} passing it, from {@code project}, or from every project if it is null. The projects'
+     * histories are merged so that the cost follows the number of events asked for, not the number of projects.
+     *
+     * @throws IOException if the archived events could not be read.
+     */
+    List<ActivityFeed.Entry> getRecentActivity(Project project, Predicate<ActivityEvent> filter, int offset,
+            int limit) throws IOException;
+
     void setProject(Project project);
 
     boolean hasProject(Project project);
@@ -115,4 +315,16 @@ public interface Model {
     /** Deletes a project from the project book */
     void deleteProject(Project project);
 
+    /**
+     * Makes {@code person} a member of {@code project}. Both must be in the project book, and {@code person}
+     * must not already be a member.
+     */
+    void assignMember(Project project, Person person);
+
+    /**
+     * Stops {@code person} being a member of {@code project}. Both must be in the project book, and
+     * {@code person} must be a member.
+     */
+    void removeMember(Project project, Person person);
+
 }
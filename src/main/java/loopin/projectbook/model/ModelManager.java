@@ -3,16 +3,59 @@ package loopin.projectbook.model;
 import static java.util.Objects.requireNonNull;
 import static loopin.projectbook.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import loopin.projectbook.commons.core.GuiSettings;
 import loopin.projectbook.commons.core.LogsCenter;
+import loopin.projectbook.model.event.ChangePublisher;
+import loopin.projectbook.model.event.ChangePublisher.OverflowPolicy;
+import loopin.projectbook.model.event.DomainEvent;
+import loopin.projectbook.model.event.DomainEvent.MemberAssigned;
+import loopin.projectbook.model.event.DomainEvent.MemberRemoved;
+import loopin.projectbook.model.event.DomainEvent.PersonAdded;
+import loopin.projectbook.model.event.DomainEvent.PersonDeleted;
+import loopin.projectbook.model.event.DomainEvent.PersonEdited;
+import loopin.projectbook.model.event.DomainEvent.ProjectAdded;
+import loopin.projectbook.model.event.DomainEvent.ProjectBookRestored;
+import loopin.projectbook.model.event.DomainEvent.ProjectDeleted;
+import loopin.projectbook.model.event.DomainEvent.RemarkAdded;
+import loopin.projectbook.model.event.DomainEvent.RemarkResolved;
+import loopin.projectbook.model.event.EventBus;
 import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.person.PersonSortKey;
+import loopin.projectbook.model.person.Remark;
+import loopin.projectbook.model.project.ActivityArchive;
+import loopin.projectbook.model.project.ActivityEvent;
+import loopin.projectbook.model.project.ActivityFeed;
+import loopin.projectbook.model.project.ActivityHistory;
 import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectSortKey;
+import loopin.projectbook.model.query.Query;
+import loopin.projectbook.model.util.ChangeHistory;
+import loopin.projectbook.model.util.ChangeLog;
+import loopin.projectbook.model.util.ChangeLog.Change;
+import loopin.projectbook.model.util.ElementListener;
+import loopin.projectbook.model.util.SortKeyCache;
+import loopin.projectbook.model.util.SwitchingObservableList;
+import loopin.projectbook.model.view.SavedView;
+import loopin.projectbook.model.view.SavedViews;
 
 /**
  * Represents the in-memory model of the project book data.
@@ -23,7 +66,21 @@ public class ModelManager implements Model {
     private final ProjectBook projectBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
+    private final SwitchingObservableList<Person> displayedPersons;
+    private final SavedViews savedViews = new SavedViews();
+    private final SortKeyCache<Person> personSortKeys = new SortKeyCache<>();
     private final FilteredList<Project> filteredProjects;
+    private final SortedList<Project> sortedProjects;
+    private final SortKeyCache<Project> projectSortKeys = new SortKeyCache<>();
+    private final EventBus eventBus = new EventBus();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Deque<Integer> savepoints = new ArrayDeque<>();
+    private final ChangeHistory history;
+    private ChangeLog changeLog;
+    private boolean isHistoryAction;
+    private long historyVersion;
+    private ActivityArchive activityArchive;
 
     /**
      * Initializes a ModelManager with the given projectBook and userPrefs.
@@ -37,6 +94,19 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.projectBook.getPersonList());
         filteredProjects = new FilteredList<>(this.projectBook.getProjectList());
+        sortedPersons = new SortedList<>(filteredPersons);
+        sortedProjects = new SortedList<>(filteredProjects);
+        displayedPersons = new SwitchingObservableList<>(sortedPersons);
+        this.projectBook.addPersonListener(savedViews);
+        this.projectBook.addPersonListener(personSortKeys);
+        this.projectBook.addProjectListener(projectSortKeys);
+        eventBus.subscribe(PersonEdited.class, this::updateProjectsOfEditedPerson);
+        eventBus.subscribe(RemarkAdded.class, event ->
+                recordActivity(event.getPerson(), ActivityEvent.Type.REMARK_ADDED, event.getRemark()));
+        eventBus.subscribe(RemarkResolved.class, event ->
+                recordActivity(event.getPerson(), ActivityEvent.Type.REMARK_RESOLVED, event.getRemark()));
+        history = new ChangeHistory(this.userPrefs.getUndoHistoryDepth(), this.userPrefs.getUndoHistoryBudget());
+        historyVersion = this.projectBook.getVersion();
     }
 
     public ModelManager() {
@@ -49,6 +119,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setLimits(this.userPrefs.getUndoHistoryDepth(), this.userPrefs.getUndoHistoryBudget());
     }
 
     @Override
@@ -83,6 +154,7 @@ public class ModelManager implements Model {
     @Override
     public void setProjectBook(ReadOnlyProjectBook projectBook) {
         this.projectBook.resetData(projectBook);
+        eventBus.publish(new ProjectBookRestored());
     }
 
     @Override
@@ -90,33 +162,318 @@ public class ModelManager implements Model {
         return projectBook;
     }
 
+    @Override
+    public ReentrantReadWriteLock getLock() {
+        return lock;
+    }
+
+    @Override
+    public ProjectBookSnapshot snapshot() {
+        lock.readLock().lock();
+        try {
+            return projectBook.snapshot();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void addPersonListener(ElementListener<? super Person> listener) {
+        requireNonNull(listener);
+        lock.writeLock().lock();
+        try {
+            projectBook.addPersonListener(listener);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void addProjectListener(ElementListener<? super Project> listener) {
+        requireNonNull(listener);
+        lock.writeLock().lock();
+        try {
+            projectBook.addProjectListener(listener);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    @Override
+    public <E extends DomainEvent> ChangePublisher<E> createChangePublisher(Class<E> type, int bufferCapacity,
+            OverflowPolicy overflowPolicy, Executor executor) {
+        return new ChangePublisher<>(eventBus, type, bufferCapacity, overflowPolicy, executor);
+    }
+
+    @Override
+    public void beginTransaction() {
+        if (changeLog == null) {
+            changeLog = ChangeLog.open();
+            projectBook.beginBatch();
+            savedViews.beginDeferral();
+        }
+        savepoints.push(changeLog.size());
+        eventBus.hold();
+    }
+
+    @Override
+    public void commitTransaction() {
+        requireTransaction();
+        savepoints.pop();
+        endTransactionIfOutermost();
+        eventBus.release();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        requireTransaction();
+        changeLog.rollbackTo(savepoints.pop());
+        projectBook.markChanged();
+        endTransactionIfOutermost();
+        eventBus.discard();
+    }
+
+    private void requireTransaction() {
+        if (changeLog == null) {
+            throw new IllegalStateException("No transaction is in progress.");
+        }
+    }
+
+    private void endTransactionIfOutermost() {
+        if (!savepoints.isEmpty()) {
+            return;
+        }
+        // changes rolled back have already been forgotten, and undo/redo only move through the history
+        List<Change> changes = changeLog.close();
+        if (!isHistoryAction) {
+            history.push(changes);
+        }
+        changeLog = null;
+        isHistoryAction = false;
+        historyVersion = projectBook.getVersion();
+        projectBook.endBatch();
+        savedViews.endDeferral();
+    }
+
+    @Override
+    public boolean canUndoProjectBook() {
+        return isHistoryInSync() && history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoProjectBook() {
+        return isHistoryInSync() && history.canRedo();
+    }
+
+    @Override
+    public void undoProjectBook() {
+        requireHistoryAction();
+        savedViews.beginDeferral();
+        // the projects put back are filed by activity once their own activity has been put back too
+        projectBook.beginBatch();
+        history.undo();
+        projectBook.endBatch();
+        endHistoryAction();
+    }
+
+    @Override
+    public void redoProjectBook() {
+        requireHistoryAction();
+        savedViews.beginDeferral();
+        // the projects put back are filed by activity once their own activity has been put back too
+        projectBook.beginBatch();
+        history.redo();
+        projectBook.endBatch();
+        endHistoryAction();
+    }
+
+    /**
+     * Returns false, after forgetting the history, if the book has changed outside a transaction since the
+     * history was last updated, as its changes can then no longer be replayed.
+     */
+    private boolean isHistoryInSync() {
+        if (projectBook.getVersion() == historyVersion) {
+            return true;
+        }
+        history.clear();
+        historyVersion = projectBook.getVersion();
+        return false;
+    }
+
+    private void requireHistoryAction() {
+        if (savepoints.size() > 1) {
+            throw new IllegalStateException("Changes cannot be undone or redone in a nested transaction.");
+        }
+        isHistoryInSync();
+    }
+
+    private void endHistoryAction() {
+        projectBook.markChanged();
+        if (changeLog == null) {
+            historyVersion = projectBook.getVersion();
+        } else {
+            isHistoryAction = true;
+        }
+        savedViews.endDeferral();
+        eventBus.publish(new ProjectBookRestored());
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return projectBook.hasPerson(person);
     }
 
+    @Override
+    public List<Person> findPersonsByName(String name) {
+        requireNonNull(name);
+        return projectBook.findPersonsByName(name);
+    }
+
+    @Override
+    public List<Person> searchPersonsByName(String query, int limit) {
+        requireNonNull(query);
+        return projectBook.searchPersonsByName(query, limit);
+    }
+
+    @Override
+    public List<Project> findProjectsCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return projectBook.findProjectsCreatedBetween(from, to);
+    }
+
+    @Override
+    public List<Project> findProjectsInactiveSince(LocalDateTime cutoff) {
+        requireNonNull(cutoff);
+        return projectBook.findProjectsInactiveSince(cutoff);
+    }
+
+    @Override
+    public void setActivityArchive(ActivityArchive activityArchive) {
+        this.activityArchive = activityArchive;
+    }
+
+    @Override
+    public List<ActivityEvent> getProjectHistory(Project project, int offset, int limit) throws IOException {
+        requireNonNull(project);
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("Offset must not be negative, and limit must be positive.");
+        }
+        ActivityHistory activity = project.getHistory();
+        long toSequence = activity.getEventCount() - offset;
+        long fromSequence = Math.max(0, toSequence - limit);
+        if (toSequence <= 0) {
+            return List.of();
+        }
+
+        List<ActivityEvent> page = new ArrayList<>(activity.getHeld(fromSequence, toSequence));
+        long oldestHeld = page.isEmpty() ? toSequence : page.get(page.size() - 1).getSequence();
+        if (fromSequence < oldestHeld && activityArchive != null) {
+            page.addAll(activityArchive.read(project, fromSequence, oldestHeld));
+        }
+        return page;
+    }
+
+    @Override
+    public List<ActivityFeed.Entry> getRecentActivity(Project project, Predicate<ActivityEvent> filter, int offset,
+            int limit) throws IOException {
+        requireNonNull(filter);
+        Iterator<Project> projects = project == null
+                ? projectBook.iterateProjectsLatestActiveFirst()
+                : List.of(project).iterator();
+        return ActivityFeed.merge(projects, this::getProjectHistory, filter, offset, limit);
+    }
+
     @Override
     public void deletePerson(Person target) {
         projectBook.removePerson(target);
+        eventBus.publish(new PersonDeleted(target));
     }
 
     @Override
     public void addPerson(Person person) {
         projectBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        eventBus.publish(new PersonAdded(person));
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        projectBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        persons.forEach(person -> eventBus.publish(new PersonAdded(person)));
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        projectBook.setPerson(target, editedPerson);
+        // the replacement is told of as a removal and an addition, which the views must see together
+        savedViews.beginDeferral();
+        try {
+            projectBook.setPerson(target, editedPerson);
+            eventBus.publish(new PersonEdited(target, editedPerson));
+            publishRemarkChanges(target, editedPerson);
+        } finally {
+            savedViews.endDeferral();
+        }
+    }
+
+    /**
+     * Publishes an event for each remark added to or resolved in {@code target} to give {@code editedPerson}.
+     * Remarks are matched by their content, so a remark marked completed is told of as resolved.
+     */
+    private void publishRemarkChanges(Person target, Person editedPerson) {
+        Map<Remark, Remark> remarksBefore = new HashMap<>();
+        target.getRemarks().forEach(remark -> remarksBefore.put(remark, remark));
+        for (Remark remark : editedPerson.getRemarks()) {
+            Remark before = remarksBefore.remove(remark);
+            if (before == null) {
+                eventBus.publish(new RemarkAdded(editedPerson, remark));
+            } else if (before.status == Remark.Status.PENDING && remark.status == Remark.Status.COMPLETED) {
+                eventBus.publish(new RemarkResolved(editedPerson, before));
+            }
+        }
+        for (Remark removed : remarksBefore.values()) {
+            eventBus.publish(new RemarkResolved(editedPerson, removed));
+        }
+    }
+
+    /**
+     * Points the projects of the person edited by {@code event} to its edited copy, and tells of them as changed.
+     */
+    private void updateProjectsOfEditedPerson(PersonEdited event) {
+        for (Project project : event.getBefore().getProjects()) {
+            project.updatePersonReference(event.getBefore(), event.getAfter());
+            projectBook.setProject(project);
+        }
+    }
+
+    /**
+     * Records in each project of {@code person} that {@code remark} was added or resolved, and tells of the
+     * projects as changed, e.g. for the time indexes.
+     */
+    private void recordActivity(Person person, ActivityEvent.Type type, Remark remark) {
+        for (Project project : person.getProjects()) {
+            project.recordActivity(type, person.getName(), remark.content);
+            projectBook.setProject(project);
+        }
     }
 
     @Override
     public void setPersonInPlace(Person person) {
         requireNonNull(person);
-        projectBook.setPersonInPlace(person);
+        savedViews.beginDeferral();
+        try {
+            projectBook.setPersonInPlace(person);
+        } finally {
+            savedViews.endDeferral();
+        }
     }
 
 
@@ -126,13 +483,14 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Project> getFilteredProjectList() {
-        return filteredProjects;
+        return sortedProjects;
     }
 
     @Override
     public void addProject(Project project) {
         requireNonNull(project);
         projectBook.addProject(project);
+        eventBus.publish(new ProjectAdded(project));
     }
 
     @Override
@@ -151,6 +509,27 @@ public class ModelManager implements Model {
     public void deleteProject(Project project) {
         requireNonNull(project);
         projectBook.removeProject(project);
+        eventBus.publish(new ProjectDeleted(project));
+    }
+
+    @Override
+    public void assignMember(Project project, Person person) {
+        requireAllNonNull(project, person);
+        project.assignPerson(person);
+        person.addProject(project);
+        projectBook.setProject(project);
+        setPersonInPlace(person);
+        eventBus.publish(new MemberAssigned(project, person));
+    }
+
+    @Override
+    public void removeMember(Project project, Person person) {
+        requireAllNonNull(project, person);
+        project.removePerson(person);
+        person.removeProject(project);
+        projectBook.setProject(project);
+        setPersonInPlace(person);
+        eventBus.publish(new MemberRemoved(project, person));
     }
 
     @Override
@@ -166,13 +545,58 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return displayedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        displayedPersons.setSource(sortedPersons);
+    }
+
+    //=========== Saved Views ================================================================================
+
+    @Override
+    public void saveView(String name, Query query) {
+        requireAllNonNull(name, query);
+        Optional<Query> replaced = savedViews.get(name).map(SavedView::getQuery);
+        savedViews.save(name, query, projectBook.getPersonList());
+        userPrefs.putSavedView(name, query.toQueryString());
+        // undone and redone against the book as it was then, so the view is saved again rather than kept
+        ChangeLog.record(() -> replaced.ifPresentOrElse(previous -> saveView(name, previous), () -> deleteView(name)),
+                () -> saveView(name, query));
+    }
+
+    @Override
+    public boolean deleteView(String name) {
+        requireNonNull(name);
+        Optional<SavedView> view = savedViews.get(name);
+        if (view.isEmpty()) {
+            return false;
+        }
+        savedViews.delete(name);
+        userPrefs.removeSavedView(name);
+        if (displayedPersons.getSource() == view.get().getPersons()) {
+            // a deleted view is no longer kept up to date
+            displayedPersons.setSource(sortedPersons);
+        }
+        Query query = view.get().getQuery();
+        ChangeLog.record(() -> saveView(name, query), () -> deleteView(name));
+        return true;
+    }
+
+    @Override
+    public List<SavedView> getSavedViews() {
+        return savedViews.asList();
+    }
+
+    @Override
+    public boolean showView(String name) {
+        requireNonNull(name);
+        Optional<SavedView> view = savedViews.get(name);
+        view.ifPresent(shown -> displayedPersons.setSource(shown.getPersons()));
+        return view.isPresent();
     }
 
     @Override
@@ -181,6 +605,32 @@ public class ModelManager implements Model {
         filteredProjects.setPredicate(predicate);
     }
 
+    //=========== Sorting ====================================================================================
+
+    @Override
+    public void sortPersonList(PersonSortKey key) {
+        requireNonNull(key);
+        // the sorted list only compares keys cached per person, and moves a changed person on its own
+        if (key.getKeyFunction().isPresent()) {
+            sortedPersons.setComparator(personSortKeys.comparing(key.getKeyFunction().get(), key.isDescending()));
+        } else {
+            sortedPersons.setComparator(null);
+            personSortKeys.clear();
+        }
+        displayedPersons.setSource(sortedPersons);
+    }
+
+    @Override
+    public void sortProjectList(ProjectSortKey key) {
+        requireNonNull(key);
+        if (key.getKeyFunction().isPresent()) {
+            sortedProjects.setComparator(projectSortKeys.comparing(key.getKeyFunction().get(), key.isDescending()));
+        } else {
+            sortedProjects.setComparator(null);
+            projectSortKeys.clear();
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -195,7 +645,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return projectBook.equals(otherModelManager.projectBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && displayedPersons.equals(otherModelManager.displayedPersons);
     }
 
 }
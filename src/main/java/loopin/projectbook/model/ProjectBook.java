@@ -3,6 +3,8 @@ package loopin.projectbook.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 
 import javafx.collections.ObservableList;
@@ -11,6 +13,7 @@ import loopin.projectbook.model.person.Person;
 import loopin.projectbook.model.person.UniquePersonList;
 import loopin.projectbook.model.project.Project;
 import loopin.projectbook.model.project.UniqueProjectList;
+import loopin.projectbook.model.util.ElementListener;
 
 /**
  * Wraps all data at the project-book level
@@ -20,6 +23,7 @@ public class ProjectBook implements ReadOnlyProjectBook {
 
     private final UniquePersonList persons;
     private final UniqueProjectList projects;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -51,6 +55,7 @@ public class ProjectBook implements ReadOnlyProjectBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -59,6 +64,7 @@ public class ProjectBook implements ReadOnlyProjectBook {
      */
     public void setProjects(List<Project> projects) {
         this.projects.setProjects(projects);
+        version++;
     }
 
     /**
@@ -81,28 +87,90 @@ public class ProjectBook implements ReadOnlyProjectBook {
         return persons.contains(person);
     }
 
+    /**
+     * Adds a listener told of each person added to or removed from the project book, as soon as it is.
+     * The listener is first told of the persons already in the project book.
+     */
+    public void addPersonListener(ElementListener<? super Person> listener) {
+        persons.addElementListener(listener);
+    }
+
+    /**
+     * Adds a listener told of each project added to or removed from the project book, as soon as it is.
+     * The listener is first told of the projects already in the project book.
+     */
+    public void addProjectListener(ElementListener<? super Project> listener) {
+        projects.addElementListener(listener);
+    }
+
+    /**
+     * Returns the persons whose name is {@code name}, ignoring case and surrounding whitespace.
+     */
+    public List<Person> findPersonsByName(String name) {
+        requireNonNull(name);
+        return persons.findByName(name);
+    }
+
+    /**
+     * Returns at most {@code limit} persons whose names are closest to {@code query}, best first.
+     * Tolerates typos and names that sound alike.
+     */
+    public List<Person> searchPersonsByName(String query, int limit) {
+        requireNonNull(query);
+        return persons.searchByName(query, limit);
+    }
+
+    /**
+     * Returns the projects created from {@code from}, inclusive, to {@code to}, exclusive, oldest first.
+     */
+    public List<Project> findProjectsCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return projects.findCreatedBetween(from, to);
+    }
+
+    /**
+     * Returns the projects neither updated nor created since {@code cutoff}, the longest inactive first.
+     */
+    public List<Project> findProjectsInactiveSince(LocalDateTime cutoff) {
+        return projects.findInactiveSince(cutoff);
+    }
+
+    /**
+     * Returns the projects latest active first, found lazily. The book must not change while the iterator is used.
+     */
+    public Iterator<Project> iterateProjectsLatestActiveFirst() {
+        return projects.iterateLatestActiveFirst();
+    }
+
     /**
      * Adds a person to the project book.
      * The person must not already exist in the project book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
+    }
+
+    /**
+     * Adds all of {@code persons} to the project book in one change.
+     * None of them may have the same identity as an existing person, or as each other.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        version++;
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the project book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the project book.
+     * The projects of {@code target} still refer to it until they are updated, which the model does when it
+     * publishes the edit.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
-
-        // Automatically update all projects
-        for (Project project : target.getProjects()) {
-            project.updatePersonReference(target, editedPerson);
-        }
+        version++;
     }
 
     /**
@@ -118,6 +186,7 @@ public class ProjectBook implements ReadOnlyProjectBook {
     public void setPersonInPlace(Person person) {
         requireNonNull(person);
         persons.setPersonInPlace(person);
+        version++;
 
         // Automatically update all projects where this person is referenced
         for (Project project : person.getProjects()) {
@@ -131,6 +200,7 @@ public class ProjectBook implements ReadOnlyProjectBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
     }
 
     /**
@@ -146,6 +216,7 @@ public class ProjectBook implements ReadOnlyProjectBook {
      */
     public void addProject(Project p) {
         projects.add(p);
+        version++;
     }
 
     /**
@@ -155,6 +226,7 @@ public class ProjectBook implements ReadOnlyProjectBook {
     public void setProject(Project project) {
         requireNonNull(project);
         projects.setProject(project);
+        version++;
     }
 
     /**
@@ -162,6 +234,7 @@ public class ProjectBook implements ReadOnlyProjectBook {
      */
     public void removeProject(Project project) {
         projects.remove(project);
+        version++;
     }
 
     public java.util.Optional<Project> findProjectByName(String name) {
@@ -172,6 +245,49 @@ public class ProjectBook implements ReadOnlyProjectBook {
         return projects.asUnmodifiableObservableList();
     }
 
+    //// transactions
+
+    /**
+     * Holds back change events of the person and project lists until the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+        projects.beginBatch();
+    }
+
+    /**
+     * Ends a batch, firing one change event per list for everything changed in the outermost batch.
+     */
+    public void endBatch() {
+        persons.endBatch();
+        projects.endBatch();
+    }
+
+    /**
+     * Records that this book was changed other than through its own methods, e.g. by rolling back changes.
+     */
+    void markChanged() {
+        version++;
+    }
+
+    //// snapshots
+
+    /**
+     * Returns the version of this book, which increases with every change made through this class.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a frozen view of the current persons and projects in O(1).
+     * Must not be called concurrently with modifications to this book.
+     */
+    public ProjectBookSnapshot snapshot() {
+        return new ProjectBookSnapshot(version, persons.snapshot(), projects.snapshot());
+    }
+
     //// util methods
 
     @Override
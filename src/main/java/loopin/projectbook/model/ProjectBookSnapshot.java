@@ -0,0 +1,60 @@
+package loopin.projectbook.model;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Project;
+
+/**
+ * A frozen, versioned view of a {@link ProjectBook} at a point in time.
+ * <p>
+ * The person and project lists never change after the snapshot is taken, so they can be traversed by any thread
+ * without holding the model's lock while commands keep running. The {@code Person} and {@code Project} objects are
+ * shared with the live book, though, and their memberships and activity keep changing with it. They are only those
+ * of the snapshot's version while the model's read lock is held from when the snapshot was taken, e.g. by a writer
+ * downgrading its lock, as is done to save a snapshot or write it out in any other way.
+ */
+public class ProjectBookSnapshot implements ReadOnlyProjectBook {
+
+    private final long version;
+    private final ObservableList<Person> persons;
+    private final ObservableList<Project> projects;
+
+    /**
+     * Creates a snapshot at {@code version} over lists that will not be modified again.
+     */
+    ProjectBookSnapshot(long version, List<Person> persons, List<Project> projects) {
+        this.version = version;
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.projects = FXCollections.unmodifiableObservableList(FXCollections.observableList(projects));
+    }
+
+    /**
+     * Returns the version of the book this snapshot was taken at. Versions increase with every change to the book.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Project> getProjectList() {
+        return projects;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons)
+                .toString();
+    }
+}
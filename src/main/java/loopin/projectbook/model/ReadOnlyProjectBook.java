@@ -20,4 +20,9 @@ public interface ReadOnlyProjectBook {
      * This list will not contain any duplicate projects.
      */
     ObservableList<Project> getProjectList();
+
+    /**
+     * Returns the version of this book, which increases with every change to it.
+     */
+    long getVersion();
 }
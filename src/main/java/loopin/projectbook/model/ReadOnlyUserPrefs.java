@@ -1,6 +1,7 @@
 package loopin.projectbook.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import loopin.projectbook.commons.core.GuiSettings;
 
@@ -13,4 +14,13 @@ public interface ReadOnlyUserPrefs {
 
     Path getProjectBookFilePath();
 
+    /** Returns how many committed changes can be undone at most. */
+    int getUndoHistoryDepth();
+
+    /** Returns roughly how many recorded element changes the undo history may hold at most. */
+    int getUndoHistoryBudget();
+
+    /** Returns the queries of the saved views, by view name, in the order the views were first saved. */
+    Map<String, String> getSavedViews();
+
 }
@@ -1,9 +1,13 @@
 package loopin.projectbook.model;
 
 import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import loopin.projectbook.commons.core.GuiSettings;
@@ -13,8 +17,15 @@ import loopin.projectbook.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 50;
+    public static final int DEFAULT_UNDO_HISTORY_BUDGET = 100_000;
+    public static final String MESSAGE_CONSTRAINTS_UNDO_HISTORY = "Undo history limits must not be negative.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path projectBookFilePath = Paths.get("data" , "projectbook.json");
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
+    private int undoHistoryBudget = DEFAULT_UNDO_HISTORY_BUDGET;
+    private final Map<String, String> savedViews = new LinkedHashMap<>();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +47,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setProjectBookFilePath(newUserPrefs.getProjectBookFilePath());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setUndoHistoryBudget(newUserPrefs.getUndoHistoryBudget());
+        setSavedViews(newUserPrefs.getSavedViews());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +70,55 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.projectBookFilePath = projectBookFilePath;
     }
 
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, MESSAGE_CONSTRAINTS_UNDO_HISTORY);
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public int getUndoHistoryBudget() {
+        return undoHistoryBudget;
+    }
+
+    public void setUndoHistoryBudget(int undoHistoryBudget) {
+        checkArgument(undoHistoryBudget >= 0, MESSAGE_CONSTRAINTS_UNDO_HISTORY);
+        this.undoHistoryBudget = undoHistoryBudget;
+    }
+
+    public Map<String, String> getSavedViews() {
+        return Collections.unmodifiableMap(savedViews);
+    }
+
+    /**
+     * Replaces the saved views with {@code savedViews}, a map from view names to their queries.
+     */
+    public void setSavedViews(Map<String, String> savedViews) {
+        requireNonNull(savedViews);
+        Map<String, String> replacement = new LinkedHashMap<>(savedViews);
+        this.savedViews.clear();
+        this.savedViews.putAll(replacement);
+    }
+
+    /**
+     * Saves {@code query} as the query of the view named {@code name}, replacing any query of that name.
+     */
+    public void putSavedView(String name, String query) {
+        requireNonNull(name);
+        requireNonNull(query);
+        savedViews.put(name, query);
+    }
+
+    /**
+     * Removes the view named {@code name}, if there is one.
+     */
+    public void removeSavedView(String name) {
+        requireNonNull(name);
+        savedViews.remove(name);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +132,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && projectBookFilePath.equals(otherUserPrefs.projectBookFilePath);
+                && projectBookFilePath.equals(otherUserPrefs.projectBookFilePath)
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth
+                && undoHistoryBudget == otherUserPrefs.undoHistoryBudget
+                && savedViews.equals(otherUserPrefs.savedViews);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, projectBookFilePath);
+        return Objects.hash(guiSettings, projectBookFilePath, undoHistoryDepth, undoHistoryBudget, savedViews);
     }
 
     @Override
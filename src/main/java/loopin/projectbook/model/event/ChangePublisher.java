@@ -0,0 +1,266 @@
+package loopin.projectbook.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+import static loopin.projectbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import loopin.projectbook.commons.core.LogsCenter;
+
+/**
+ * A {@link Flow.Publisher} of the kept changes of one type, e.g. {@link DomainEvent.PersonEvent}, for code which
+ * watches the model from its own threads rather than from the UI.
+ * <p>
+ * Changes are taken from the model's {@link EventBus} once they have been kept, so a subscriber never sees a change
+ * which was rolled back. Each subscriber has its own buffer of a fixed capacity, which the thread changing the model
+ * only ever adds to, and is given changes on the executor as it requests them. Once a subscriber has fallen so far
+ * behind that its buffer is full, the {@link OverflowPolicy} decides what happens to the next change; the thread
+ * changing the model is never made to wait.
+ * <p>
+ * Subscribing, requesting and cancelling may be done from any thread. Each subscriber is signalled by one task
+ * on the executor at a time, in order.
+ */
+public class ChangePublisher<E extends DomainEvent> implements Flow.Publisher<E> {
+
+    /**
+     * What happens to a change published to a subscriber whose buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** The oldest change in the buffer is dropped to make room, so the subscriber sees the latest changes. */
+        DROP_OLDEST,
+        /** The new change is dropped, so the subscriber sees the changes it fell behind on. */
+        DROP_LATEST,
+        /** The subscription is ended with an error, for a subscriber which must not miss any change. */
+        FAIL
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(ChangePublisher.class);
+
+    private final Class<E> type;
+    private final int bufferCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor executor;
+    private final List<BufferedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final EventBus.Subscription busSubscription;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a publisher of the changes of {@code type} kept on {@code eventBus}, giving each subscriber a buffer
+     * of {@code bufferCapacity} changes and signalling it on {@code executor}.
+     */
+    public ChangePublisher(EventBus eventBus, Class<E> type, int bufferCapacity, OverflowPolicy overflowPolicy,
+            Executor executor) {
+        requireAllNonNull(eventBus, type, overflowPolicy, executor);
+        checkArgument(bufferCapacity > 0, "A subscriber's buffer must hold at least one change.");
+        this.type = type;
+        this.bufferCapacity = bufferCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.executor = executor;
+        // run on the thread changing the model, which only adds the change to each buffer
+        this.busSubscription = eventBus.subscribe(type, this::offer, Runnable::run);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super E> subscriber) {
+        requireNonNull(subscriber);
+        BufferedSubscription subscription = new BufferedSubscription(subscriber);
+        if (isClosed) {
+            subscription.complete();
+        } else {
+            subscriptions.add(subscription);
+        }
+        subscription.signal();
+    }
+
+    private void offer(E change) {
+        for (BufferedSubscription subscription : subscriptions) {
+            subscription.offer(change);
+        }
+    }
+
+    /**
+     * Stops publishing changes. Each subscriber is given the changes already in its buffer, then completed.
+     */
+    public void close() {
+        isClosed = true;
+        busSubscription.cancel();
+        for (BufferedSubscription subscription : subscriptions) {
+            subscriptions.remove(subscription);
+            subscription.complete();
+            subscription.signal();
+        }
+    }
+
+    public Class<E> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the number of subscribers whose subscriptions have not ended.
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Returns the number of changes dropped so far, across all subscribers, because their buffers were full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * The subscription of one subscriber, holding the changes published to it until it requests them.
+     */
+    private class BufferedSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super E> subscriber;
+        private final ArrayDeque<E> buffer = new ArrayDeque<>();
+        /** The number of signal tasks asked for; only the task which takes it from 0 is handed to the executor. */
+        private final AtomicInteger pendingSignals = new AtomicInteger();
+        private long demand;
+        private boolean isCompleted;
+        private Throwable failure;
+        private volatile boolean isCancelled;
+        /** Only read and written by the signal task. */
+        private boolean isStarted;
+
+        BufferedSubscription(Flow.Subscriber<? super E> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void offer(E change) {
+            synchronized (this) {
+                if (isCancelled || isCompleted || failure != null) {
+                    return;
+                }
+                if (buffer.size() == bufferCapacity) {
+                    switch (overflowPolicy) {
+                    case DROP_OLDEST:
+                        buffer.poll();
+                        droppedCount.incrementAndGet();
+                        break;
+                    case DROP_LATEST:
+                        droppedCount.incrementAndGet();
+                        return;
+                    case FAIL:
+                        buffer.clear();
+                        failure = new IllegalStateException(
+                                "Subscriber fell more than " + bufferCapacity + " changes behind.");
+                        break;
+                    default:
+                        throw new AssertionError(overflowPolicy);
+                    }
+                }
+                if (failure == null) {
+                    buffer.add(change);
+                }
+            }
+            signal();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    buffer.clear();
+                    failure = new IllegalArgumentException("A subscriber must request a positive number of changes.");
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            isCancelled = true;
+            subscriptions.remove(this);
+            synchronized (this) {
+                buffer.clear();
+            }
+        }
+
+        synchronized void complete() {
+            isCompleted = true;
+        }
+
+        /**
+         * Has the subscriber signalled on the executor, unless a signal task is already running, in which case
+         * that task goes round again.
+         */
+        void signal() {
+            if (pendingSignals.getAndIncrement() == 0) {
+                executor.execute(this::runSignals);
+            }
+        }
+
+        private void runSignals() {
+            int pending = pendingSignals.get();
+            do {
+                if (!isStarted) {
+                    isStarted = true;
+                    start();
+                }
+                emit();
+                pending = pendingSignals.addAndGet(-pending);
+            } while (pending != 0);
+        }
+
+        private void start() {
+            try {
+                subscriber.onSubscribe(this);
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Subscriber failed to start, cancelling it", e);
+                cancel();
+            }
+        }
+
+        /**
+         * Gives the subscriber as many buffered changes as it has requested, then its error or completion if due.
+         */
+        private void emit() {
+            while (!isCancelled) {
+                E change;
+                Throwable error = null;
+                synchronized (this) {
+                    if (failure != null) {
+                        error = failure;
+                        change = null;
+                    } else if (demand > 0 && !buffer.isEmpty()) {
+                        change = buffer.poll();
+                        demand--;
+                    } else if (isCompleted && buffer.isEmpty()) {
+                        change = null;
+                    } else {
+                        return;
+                    }
+                }
+                if (change == null) {
+                    cancel();
+                    if (error != null) {
+                        subscriber.onError(error);
+                    } else {
+                        subscriber.onComplete();
+                    }
+                    return;
+                }
+                try {
+                    subscriber.onNext(change);
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "Subscriber failed to handle " + change + ", cancelling it", e);
+                    cancel();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package loopin.projectbook.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.person.Remark;
+import loopin.projectbook.model.project.Project;
+
+/**
+ * A change to the project book, published by the model on its {@link EventBus} once the change has been made.
+ * Events are immutable, and name the persons and projects changed as they are just after the change.
+ * Subscribers can listen to one kind of event, or to all of them by subscribing to {@code DomainEvent} itself.
+ */
+public abstract class DomainEvent {
+
+    private DomainEvent() {}
+
+    /**
+     * A change to the persons of the project book.
+     */
+    public abstract static class PersonEvent extends DomainEvent {
+        private PersonEvent() {}
+
+        /**
+         * Returns the person changed, as it is after the change.
+         */
+        public abstract Person getPerson();
+    }
+
+    /**
+     * A change to the projects of the project book, or to their members.
+     */
+    public abstract static class ProjectEvent extends DomainEvent {
+        private ProjectEvent() {}
+
+        /**
+         * Returns the project changed.
+         */
+        public abstract Project getProject();
+    }
+
+    /**
+     * A change to the remarks of a person.
+     */
+    public abstract static class RemarkEvent extends DomainEvent {
+        private RemarkEvent() {}
+
+        /**
+         * Returns the person whose remark changed, as it is after the change.
+         */
+        public abstract Person getPerson();
+
+        /**
+         * Returns the remark changed.
+         */
+        public abstract Remark getRemark();
+    }
+
+    /**
+     * A person was added to the project book.
+     */
+    public static final class PersonAdded extends PersonEvent {
+        private final Person person;
+
+        /**
+         * Creates an event telling that {@code person} was added.
+         */
+        public PersonAdded(Person person) {
+            requireNonNull(person);
+            this.person = person;
+        }
+
+        @Override
+        public Person getPerson() {
+            return person;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("person", person.getName()).toString();
+        }
+    }
+
+    /**
+     * A person was deleted from the project book.
+     */
+    public static final class PersonDeleted extends PersonEvent {
+        private final Person person;
+
+        /**
+         * Creates an event telling that {@code person} was deleted.
+         */
+        public PersonDeleted(Person person) {
+            requireNonNull(person);
+            this.person = person;
+        }
+
+        @Override
+        public Person getPerson() {
+            return person;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("person", person.getName()).toString();
+        }
+    }
+
+    /**
+     * A person was replaced by an edited copy, e.g. with new details or a new remark.
+     */
+    public static final class PersonEdited extends PersonEvent {
+        private final Person before;
+        private final Person after;
+
+        /**
+         * Creates an event telling that {@code before} was replaced by {@code after}.
+         */
+        public PersonEdited(Person before, Person after) {
+            requireAllNonNull(before, after);
+            this.before = before;
+            this.after = after;
+        }
+
+        public Person getBefore() {
+            return before;
+        }
+
+        public Person getAfter() {
+            return after;
+        }
+
+        @Override
+        public Person getPerson() {
+            return after;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("person", after.getName()).toString();
+        }
+    }
+
+    /**
+     * A remark was added to a person. Published after the {@link PersonEdited} event of the edit adding it.
+     */
+    public static final class RemarkAdded extends RemarkEvent {
+        private final Person person;
+        private final Remark remark;
+
+        /**
+         * Creates an event telling that {@code remark} was added to {@code person}.
+         */
+        public RemarkAdded(Person person, Remark remark) {
+            requireAllNonNull(person, remark);
+            this.person = person;
+            this.remark = remark;
+        }
+
+        @Override
+        public Person getPerson() {
+            return person;
+        }
+
+        @Override
+        public Remark getRemark() {
+            return remark;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("person", person.getName()).add("remark", remark).toString();
+        }
+    }
+
+    /**
+     * A remark of a person was resolved, whether it was marked completed or removed. Published after the
+     * {@link PersonEdited} event of the edit resolving it.
+     */
+    public static final class RemarkResolved extends RemarkEvent {
+        private final Person person;
+        private final Remark remark;
+
+        /**
+         * Creates an event telling that {@code remark}, as it was before, of {@code person} was resolved.
+         */
+        public RemarkResolved(Person person, Remark remark) {
+            requireAllNonNull(person, remark);
+            this.person = person;
+            this.remark = remark;
+        }
+
+        @Override
+        public Person getPerson() {
+            return person;
+        }
+
+        @Override
+        public Remark getRemark() {
+            return remark;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("person", person.getName()).add("remark", remark).toString();
+        }
+    }
+
+    /**
+     * A project was added to the project book.
+     */
+    public static final class ProjectAdded extends ProjectEvent {
+        private final Project project;
+
+        /**
+         * Creates an event telling that {@code project} was added.
+         */
+        public ProjectAdded(Project project) {
+            requireNonNull(project);
+            this.project = project;
+        }
+
+        @Override
+        public Project getProject() {
+            return project;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("project", project.getName()).toString();
+        }
+    }
+
+    /**
+     * A project was deleted from the project book.
+     */
+    public static final class ProjectDeleted extends ProjectEvent {
+        private final Project project;
+
+        /**
+         * Creates an event telling that {@code project} was deleted.
+         */
+        public ProjectDeleted(Project project) {
+            requireNonNull(project);
+            this.project = project;
+        }
+
+        @Override
+        public Project getProject() {
+            return project;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("project", project.getName()).toString();
+        }
+    }
+
+    /**
+     * A person was made a member of a project.
+     */
+    public static final class MemberAssigned extends ProjectEvent {
+        private final Project project;
+        private final Person person;
+
+        /**
+         * Creates an event telling that {@code person} was made a member of {@code project}.
+         */
+        public MemberAssigned(Project project, Person person) {
+            requireAllNonNull(project, person);
+            this.project = project;
+            this.person = person;
+        }
+
+        @Override
+        public Project getProject() {
+            return project;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("project", project.getName())
+                    .add("person", person.getName())
+                    .toString();
+        }
+    }
+
+    /**
+     * A person stopped being a member of a project.
+     */
+    public static final class MemberRemoved extends ProjectEvent {
+        private final Project project;
+        private final Person person;
+
+        /**
+         * Creates an event telling that {@code person} stopped being a member of {@code project}.
+         */
+        public MemberRemoved(Project project, Person person) {
+            requireAllNonNull(project, person);
+            this.project = project;
+            this.person = person;
+        }
+
+        @Override
+        public Project getProject() {
+            return project;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("project", project.getName())
+                    .add("person", person.getName())
+                    .toString();
+        }
+    }
+
+    /**
+     * The project book was changed as a whole, by replacing its data or by undoing or redoing a change, so that
+     * anything kept from earlier events should be worked out again.
+     */
+    public static final class ProjectBookRestored extends DomainEvent {
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).toString();
+        }
+    }
+}
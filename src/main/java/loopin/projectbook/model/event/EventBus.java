@@ -0,0 +1,170 @@
+package loopin.projectbook.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import loopin.projectbook.commons.core.LogsCenter;
+
+/**
+ * Delivers the {@link DomainEvent}s published by the model to the subscribers of their type, or of a supertype.
+ * <p>
+ * A synchronous subscriber is part of the change: it is called on the publishing thread as soon as an event is
+ * published, while the model is still locked, and so may change the model further through undoable changes. It
+ * sees the events of a transaction as they happen, even if the transaction is later rolled back, and any exception
+ * it throws fails the change.
+ * <p>
+ * A subscriber on an executor, e.g. a UI panel or a saver, only sees the events of changes which were kept: events
+ * published while changes are {@link #hold() held} are handed to its executor once the outermost hold is released,
+ * and dropped if it is discarded. Each event is handed to the executor separately, in the order it was published;
+ * an exception thrown by the subscriber is logged.
+ * <p>
+ * Subscribing and cancelling may be done from any thread. Publishing and holding must be done by the thread
+ * changing the model, while it holds the model's write lock.
+ */
+public class EventBus {
+
+    private static final Logger logger = LogsCenter.getLogger(EventBus.class);
+
+    private final List<Subscriber<?>> subscribers = new CopyOnWriteArrayList<>();
+    private final List<DomainEvent> held = new ArrayList<>();
+    private final Deque<Integer> holds = new ArrayDeque<>();
+
+    /**
+     * Subscribes {@code handler} to the events of {@code type}, to be called synchronously.
+     */
+    public <E extends DomainEvent> Subscription subscribe(Class<E> type, Consumer<? super E> handler) {
+        requireAllNonNull(type, handler);
+        return add(new Subscriber<>(type, handler, null));
+    }
+
+    /**
+     * Subscribes {@code handler} to the events of {@code type}, to be run on {@code executor} once their changes
+     * have been kept.
+     */
+    public <E extends DomainEvent> Subscription subscribe(Class<E> type, Consumer<? super E> handler,
+            Executor executor) {
+        requireAllNonNull(type, handler, executor);
+        return add(new Subscriber<>(type, handler, executor));
+    }
+
+    private Subscription add(Subscriber<?> subscriber) {
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    /**
+     * Delivers {@code event} to the synchronous subscribers of its type at once, and to the others once it is
+     * no longer held.
+     */
+    public void publish(DomainEvent event) {
+        requireNonNull(event);
+        for (Subscriber<?> subscriber : subscribers) {
+            if (subscriber.executor == null) {
+                subscriber.deliver(event);
+            }
+        }
+        if (holds.isEmpty()) {
+            dispatch(event);
+        } else {
+            held.add(event);
+        }
+    }
+
+    /**
+     * Holds back the events published from now on from the subscribers on executors, until the matching
+     * {@link #release()} or {@link #discard()}. Holds may be nested.
+     */
+    public void hold() {
+        holds.push(held.size());
+    }
+
+    /**
+     * Ends the innermost hold, keeping its events. Once no holds are left, the events held are dispatched.
+     */
+    public void release() {
+        requireHold();
+        holds.pop();
+        dispatchIfReleased();
+    }
+
+    /**
+     * Ends the innermost hold, dropping the events published since it began, whose changes were rolled back.
+     */
+    public void discard() {
+        requireHold();
+        held.subList(holds.pop(), held.size()).clear();
+        dispatchIfReleased();
+    }
+
+    private void requireHold() {
+        if (holds.isEmpty()) {
+            throw new IllegalStateException("No events are being held.");
+        }
+    }
+
+    private void dispatchIfReleased() {
+        if (!holds.isEmpty()) {
+            return;
+        }
+        List<DomainEvent> released = new ArrayList<>(held);
+        held.clear();
+        released.forEach(this::dispatch);
+    }
+
+    /**
+     * Hands {@code event} to the executor of each of its subscribers which have one.
+     */
+    private void dispatch(DomainEvent event) {
+        for (Subscriber<?> subscriber : subscribers) {
+            if (subscriber.executor != null && subscriber.type.isInstance(event)) {
+                subscriber.executor.execute(() -> {
+                    try {
+                        subscriber.deliver(event);
+                    } catch (RuntimeException e) {
+                        logger.log(Level.WARNING, "Subscriber failed to handle " + event, e);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * A subscription to events, which can be cancelled.
+     */
+    @FunctionalInterface
+    public interface Subscription {
+        /**
+         * Stops the subscriber from being given any more events. Events already handed to its executor may
+         * still be delivered.
+         */
+        void cancel();
+    }
+
+    private static class Subscriber<E extends DomainEvent> {
+        private final Class<E> type;
+        private final Consumer<? super E> handler;
+        private final Executor executor;
+
+        Subscriber(Class<E> type, Consumer<? super E> handler, Executor executor) {
+            this.type = type;
+            this.handler = handler;
+            this.executor = executor;
+        }
+
+        void deliver(DomainEvent event) {
+            if (type.isInstance(event)) {
+                handler.accept(type.cast(event));
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package loopin.projectbook.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import loopin.projectbook.commons.util.StringUtil;
+import loopin.projectbook.model.util.BkTree;
+import loopin.projectbook.model.util.ElementListener;
+
+/**
+ * Finds the persons whose names are closest to a query, tolerating typos and different spellings of names that
+ * sound alike.
+ * <p>
+ * Names are split into lower-case words. The distinct words are kept in a {@link BkTree} under edit distance, and
+ * grouped by their Soundex code, so a search only compares the query against a small part of the words, never
+ * against every person. The index follows a person list as an {@link ElementListener}.
+ */
+public class FuzzyNameIndex implements ElementListener<Person> {
+
+    public static final String MESSAGE_INVALID_LIMIT = "The number of results must be positive.";
+
+    /** Score of a word that only sounds like the query word; a word within edit distance scores more. */
+    static final double PHONETIC_SCORE = 0.4;
+
+    /** Removed words are dropped from the tree by rebuilding it once they outnumber this and the live words. */
+    private static final int MIN_REBUILD_WORDS = 256;
+
+    private static final Comparator<ScoredPerson> BEST_LAST = Comparator.<ScoredPerson>comparingDouble(
+            scored -> scored.score)
+            .thenComparing(scored -> scored.person.getName().fullName, Comparator.reverseOrder())
+            .thenComparing(scored -> scored.person.getEmail().value, Comparator.reverseOrder());
+
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+    private final Map<String, Set<String>> wordsBySoundex = new HashMap<>();
+    private BkTree<String> words = new BkTree<>(StringUtil::editDistance);
+
+    @Override
+    public void elementAdded(Person person) {
+        for (String word : wordsOf(person.getName().fullName)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                persons = Collections.newSetFromMap(new IdentityHashMap<>());
+                personsByWord.put(word, persons);
+                words.add(word);
+                wordsBySoundex.computeIfAbsent(StringUtil.soundex(word), unused -> new HashSet<>()).add(word);
+            }
+            persons.add(person);
+        }
+    }
+
+    @Override
+    public void elementRemoved(Person person) {
+        for (String word : wordsOf(person.getName().fullName)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null || !persons.remove(person) || !persons.isEmpty()) {
+                continue;
+            }
+            personsByWord.remove(word);
+            String soundex = StringUtil.soundex(word);
+            Set<String> soundsAlike = wordsBySoundex.get(soundex);
+            soundsAlike.remove(word);
+            if (soundsAlike.isEmpty()) {
+                wordsBySoundex.remove(soundex);
+            }
+        }
+        int removedWords = words.size() - personsByWord.size();
+        if (removedWords > MIN_REBUILD_WORDS && removedWords > personsByWord.size()) {
+            rebuildTree();
+        }
+    }
+
+    private void rebuildTree() {
+        words = new BkTree<>(StringUtil::editDistance);
+        personsByWord.keySet().forEach(words::add);
+    }
+
+    /**
+     * Returns at most {@code limit} persons whose names have a word close to a word of {@code query}, best first.
+     * <p>
+     * Each query word scores the best-matching word of a name: 1 for the same word, less the more edits apart
+     * they are, or {@link #PHONETIC_SCORE} if they only sound alike. A name scores the sum over the query words,
+     * so names matching more of the query rank higher. Ties are broken by name, then by email.
+     */
+    public List<Person> search(String query, int limit) {
+        requireNonNull(query);
+        checkArgument(limit > 0, MESSAGE_INVALID_LIMIT);
+        List<String> queryWords = new ArrayList<>(wordsOf(query));
+        Map<Person, double[]> scores = new IdentityHashMap<>();
+        for (int i = 0; i < queryWords.size(); i++) {
+            scoreMatches(queryWords.get(i), i, queryWords.size(), scores);
+        }
+
+        PriorityQueue<ScoredPerson> best = new PriorityQueue<>(limit + 1, BEST_LAST);
+        for (Map.Entry<Person, double[]> entry : scores.entrySet()) {
+            double total = 0;
+            for (double score : entry.getValue()) {
+                total += score;
+            }
+            best.add(new ScoredPerson(entry.getKey(), total));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Person> results = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            results.add(best.poll().person);
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    /**
+     * Records, for every person with a word matching {@code queryWord}, the score of its best-matching word as the
+     * score of query word number {@code index}.
+     */
+    private void scoreMatches(String queryWord, int index, int queryWordCount, Map<Person, double[]> scores) {
+        Map<String, Double> matches = new HashMap<>();
+        words.search(queryWord, maxEditsFor(queryWord), (word, distance) -> {
+            if (personsByWord.containsKey(word)) {
+                matches.put(word, 1.0 - (double) distance / Math.max(word.length(), queryWord.length()));
+            }
+        });
+        String soundex = StringUtil.soundex(queryWord);
+        for (String word : wordsBySoundex.getOrDefault(soundex, Set.of())) {
+            matches.merge(word, PHONETIC_SCORE, Math::max);
+        }
+
+        for (Map.Entry<String, Double> match : matches.entrySet()) {
+            for (Person person : personsByWord.get(match.getKey())) {
+                double[] personScores = scores.computeIfAbsent(person, unused -> new double[queryWordCount]);
+                personScores[index] = Math.max(personScores[index], match.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the most edits a word may be away from {@code queryWord} to match it; short words must be closer.
+     */
+    private static int maxEditsFor(String queryWord) {
+        if (queryWord.length() <= 2) {
+            return 0;
+        }
+        return queryWord.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the distinct lower-case words of {@code text}, split at anything but letters and digits.
+     */
+    static Set<String> wordsOf(String text) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String word : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    private static class ScoredPerson {
+        private final Person person;
+        private final double score;
+
+        ScoredPerson(Person person, double score) {
+            this.person = person;
+            this.score = score;
+        }
+    }
+}
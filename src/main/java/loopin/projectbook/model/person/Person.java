@@ -2,19 +2,19 @@ package loopin.projectbook.model.person;
 
 import static loopin.projectbook.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
 
 import loopin.projectbook.commons.core.LogsCenter;
 import loopin.projectbook.commons.util.ToStringBuilder;
-import loopin.projectbook.model.project.LastUpdate;
 import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.util.ChangeLog;
 
 /**
  * Represents a Person in the project book.
@@ -36,7 +36,8 @@ public abstract class Person {
 
     // Data fields
     private final Set<Remark> remarks = new HashSet<>(); // Changed to Set
-    private List<Project> projects = new ArrayList<>(); //list of projects the person is part of, empty by default
+    // projects the person is part of, empty by default; copy-on-write so concurrent readers can iterate safely
+    private final List<Project> projects = new CopyOnWriteArrayList<>();
     /**
      * All fields must be present and non null.
      *
@@ -91,12 +92,6 @@ public abstract class Person {
         Person updatedPerson = createCopy(name, phone, email, telegram, remarks, projects);
         updatedPerson.remarks.addAll(this.remarks);
         updatedPerson.remarks.add(newRemark);
-
-        // Update all associated projects
-        for (Project project : this.projects) {
-            LastUpdate update = new LastUpdate().remarkAdded(name, newRemark.toString());
-            project.recordUpdate(update);
-        }
         return updatedPerson;
     }
     /**
@@ -107,12 +102,6 @@ public abstract class Person {
         updatedPerson.remarks.addAll(this.remarks);
         updatedPerson.remarks.remove(oldRemark);
         updatedPerson.remarks.add(resolvedRemark);
-
-        // Update all associated projects
-        for (Project project : this.projects) {
-            LastUpdate update = LastUpdate.remarkResolved(updatedPerson.getName(), oldRemark.toString());
-            project.recordUpdate(update);
-        }
         return updatedPerson;
     }
 
@@ -122,14 +111,7 @@ public abstract class Person {
     public Person withRemarkRemoved(Remark remarkToRemove) {
         Set<Remark> updatedRemarks = new HashSet<>(this.remarks);
         updatedRemarks.remove(remarkToRemove);
-        Person updatedPerson = createCopy(name, phone, email, telegram, updatedRemarks, projects);
-
-        // Update all associated projects
-        for (Project project : this.projects) {
-            LastUpdate update = LastUpdate.remarkResolved(updatedPerson.getName(), remarkToRemove.toString());
-            project.recordUpdate(update);
-        }
-        return updatedPerson;
+        return createCopy(name, phone, email, telegram, updatedRemarks, projects);
     }
 
     /**
@@ -140,12 +122,19 @@ public abstract class Person {
         if (this.projects.contains(p)) {
             throw new IllegalStateException("Person is already in that project");
         }
+        int index = this.projects.size();
         this.projects.add(p);
+        ChangeLog.record(() -> this.projects.remove(index), () -> this.projects.add(index, p));
         logger.fine("Project added to person.");
     }
     /** Removes project from the person */
     public void removeProject(Project p) {
-        this.projects.remove(p);
+        int index = this.projects.indexOf(p);
+        if (index == -1) {
+            return;
+        }
+        Project removed = this.projects.remove(index);
+        ChangeLog.record(() -> this.projects.add(index, removed), () -> this.projects.remove(index));
     }
     /**
      * Returns a list of the projects that the person is in
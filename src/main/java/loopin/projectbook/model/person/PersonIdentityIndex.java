@@ -0,0 +1,45 @@
+package loopin.projectbook.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Hash sets of the fields that identify persons, answering {@link Person#isSamePerson(Person)} against every
+ * indexed person in O(1) instead of comparing with each of them.
+ */
+public class PersonIdentityIndex {
+
+    private final Set<Email> emails = new HashSet<>();
+    private final Set<Phone> phones = new HashSet<>();
+    private final Set<Telegram> telegrams = new HashSet<>();
+
+    /**
+     * Creates an index of {@code persons}.
+     */
+    public PersonIdentityIndex(Iterable<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns true if an indexed person has the same identity as {@code person}.
+     */
+    public boolean containsSamePerson(Person person) {
+        requireNonNull(person);
+        return emails.contains(person.getEmail())
+                || person.getPhone().map(phones::contains).orElse(false)
+                || person.getTelegram().map(telegrams::contains).orElse(false);
+    }
+
+    /**
+     * Adds the identifying fields of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        emails.add(person.getEmail());
+        person.getPhone().ifPresent(phones::add);
+        person.getTelegram().ifPresent(telegrams::add);
+    }
+}
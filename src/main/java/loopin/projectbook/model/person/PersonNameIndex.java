@@ -0,0 +1,59 @@
+package loopin.projectbook.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import loopin.projectbook.model.util.ElementListener;
+
+/**
+ * The persons of a list grouped by name, ignoring case and surrounding whitespace, so that the persons with a
+ * given name are found in O(1) instead of comparing the name of every person. The index follows a person list as
+ * an {@link ElementListener}.
+ */
+public class PersonNameIndex implements ElementListener<Person> {
+
+    private final Map<String, List<Person>> personsByName = new HashMap<>();
+
+    @Override
+    public void elementAdded(Person person) {
+        personsByName.computeIfAbsent(keyOf(person.getName().fullName), unused -> new ArrayList<>(1)).add(person);
+    }
+
+    @Override
+    public void elementRemoved(Person person) {
+        String key = keyOf(person.getName().fullName);
+        List<Person> persons = personsByName.get(key);
+        if (persons == null) {
+            return;
+        }
+        // persons sharing a name are few, and are told apart by identity as a person's hash code can change
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) == person) {
+                persons.remove(i);
+                break;
+            }
+        }
+        if (persons.isEmpty()) {
+            personsByName.remove(key);
+        }
+    }
+
+    /**
+     * Returns the persons whose name is {@code name}, ignoring case and surrounding whitespace, in the order they
+     * were added.
+     */
+    public List<Person> get(String name) {
+        requireNonNull(name);
+        List<Person> persons = personsByName.get(keyOf(name));
+        return persons == null ? List.of() : List.copyOf(persons);
+    }
+
+    private static String keyOf(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
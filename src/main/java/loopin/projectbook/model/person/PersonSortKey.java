@@ -0,0 +1,63 @@
+package loopin.projectbook.model.person;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The orders in which the person list can be sorted, each named by a keyword of the {@code sort} command.
+ */
+public enum PersonSortKey {
+    /** The order in which the persons were added. */
+    ADDED("added", null, false),
+    /** By name, ignoring case. */
+    NAME("name", person -> person.getName().fullName.toLowerCase(Locale.ROOT), false),
+    /** By role: committee members, then organisation members, then volunteers, each by committee or organisation. */
+    ROLE("role", person -> person.getRole().fullRole.toLowerCase(Locale.ROOT), false),
+    /** Persons in the most projects first. */
+    PROJECTS("projects", person -> person.getProjects().size(), true),
+    /** Persons with the most pending remarks first. */
+    PENDING("pending", person -> (int) person.getRemarks().stream()
+            .filter(remark -> remark.status == Remark.Status.PENDING)
+            .count(), true);
+
+    private final String keyword;
+    private final Function<Person, ? extends Comparable<?>> keyFunction;
+    private final boolean isDescending;
+
+    PersonSortKey(String keyword, Function<Person, ? extends Comparable<?>> keyFunction, boolean isDescending) {
+        this.keyword = keyword;
+        this.keyFunction = keyFunction;
+        this.isDescending = isDescending;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the function giving each person its sort key, or an empty Optional for the order persons were added.
+     */
+    public Optional<Function<Person, ? extends Comparable<?>>> getKeyFunction() {
+        return Optional.ofNullable(keyFunction);
+    }
+
+    /**
+     * Returns true if persons with greater keys come first.
+     */
+    public boolean isDescending() {
+        return isDescending;
+    }
+
+    /**
+     * Returns the sort key named by {@code keyword}, ignoring case.
+     */
+    public static Optional<PersonSortKey> fromKeyword(String keyword) {
+        for (PersonSortKey key : values()) {
+            if (key.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(key);
+            }
+        }
+        return Optional.empty();
+    }
+}
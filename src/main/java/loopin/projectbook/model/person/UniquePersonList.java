@@ -10,6 +10,9 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import loopin.projectbook.model.person.exceptions.DuplicatePersonException;
 import loopin.projectbook.model.person.exceptions.PersonNotFoundException;
+import loopin.projectbook.model.util.BatchedObservableList;
+import loopin.projectbook.model.util.ElementListener;
+import loopin.projectbook.model.util.SnapshotArrayList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -24,9 +27,20 @@ import loopin.projectbook.model.person.exceptions.PersonNotFoundException;
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final SnapshotArrayList<Person> backingList = new SnapshotArrayList<>();
+    private final BatchedObservableList<Person> internalList = new BatchedObservableList<>(backingList);
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final FuzzyNameIndex fuzzyNameIndex = new FuzzyNameIndex();
+    private final PersonNameIndex nameIndex = new PersonNameIndex();
+
+    /**
+     * Creates an empty list.
+     */
+    public UniquePersonList() {
+        internalList.addElementListener(fuzzyNameIndex);
+        internalList.addElementListener(nameIndex);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -36,6 +50,32 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.stream().anyMatch(toCheck::isSamePerson);
     }
 
+    /**
+     * Adds a listener told of each person added to or removed from the list, as soon as it is.
+     * The listener is first told of the persons already in the list.
+     */
+    public void addElementListener(ElementListener<? super Person> listener) {
+        requireNonNull(listener);
+        internalList.forEach(listener::elementAdded);
+        internalList.addElementListener(listener);
+    }
+
+    /**
+     * Returns the persons whose name is {@code name}, ignoring case and surrounding whitespace, in O(1).
+     */
+    public List<Person> findByName(String name) {
+        return nameIndex.get(name);
+    }
+
+    /**
+     * Returns at most {@code limit} persons whose names are closest to {@code query}, best first.
+     *
+     * @see FuzzyNameIndex#search(String, int)
+     */
+    public List<Person> searchByName(String query, int limit) {
+        return fuzzyNameIndex.search(query, limit);
+    }
+
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
@@ -48,6 +88,22 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the end of the list, as one change.
+     * None of them may have the same identity as a person in the list, or as each other.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        PersonIdentityIndex index = new PersonIdentityIndex(internalList);
+        for (Person person : toAdd) {
+            if (index.containsSamePerson(person)) {
+                throw new DuplicatePersonException();
+            }
+            index.add(person);
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -127,6 +183,27 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable copy of the current persons in O(1), sharing storage with this list until it changes.
+     */
+    public List<Person> snapshot() {
+        return backingList.snapshot();
+    }
+
+    /**
+     * Holds back change events of this list until the matching {@link #endBatch()}. Batches may be nested.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch, firing one change event for everything changed in it if this is the outermost batch.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -0,0 +1,22 @@
+package loopin.projectbook.model.project;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Keeps the events pushed out of the {@link ActivityHistory} of projects, so that the full history of a project
+ * can be paged through without being kept in memory.
+ */
+public interface ActivityArchive {
+
+    /**
+     * Appends {@code events} of {@code project}, oldest first, to the archive.
+     */
+    void append(Project project, List<ActivityEvent> events) throws IOException;
+
+    /**
+     * Returns the archived events of {@code project} numbered from {@code fromSequence}, inclusive, to
+     * {@code toSequence}, exclusive, latest first. Events missing from the archive are left out.
+     */
+    List<ActivityEvent> read(Project project, long fromSequence, long toSequence) throws IOException;
+}
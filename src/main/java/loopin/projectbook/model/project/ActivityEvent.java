@@ -0,0 +1,137 @@
+package loopin.projectbook.model.project;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.model.person.Name;
+
+/**
+ * Something that happened in a project, kept as structured fields and only rendered to text when it is shown.
+ * <p>
+ * The person and remark are held as the immutable {@link Name} and remark content already held by the person, so
+ * recording an event copies and formats nothing. Events of a project are numbered from 0 in the order they
+ * happened, which lets a page of older events be looked up in an {@link ActivityArchive} by their numbers.
+ * Guarantees: immutable.
+ */
+public class ActivityEvent {
+
+    /**
+     * The kinds of events, each with the format its message is rendered with. The format is given the person's
+     * name and the event's detail, in that order.
+     */
+    public enum Type {
+        REMARK_ADDED("Added remark to %1$s: \"%2$s\""),
+        REMARK_RESOLVED("Resolved remark for %1$s: \"%2$s\""),
+        MEMBER_ADDED("Added new member: %1$s"),
+        MEMBER_REMOVED("Removed member: %1$s"),
+        /** An update written out in full, whose detail is its message. */
+        CUSTOM("%2$s");
+
+        private final String format;
+
+        Type(String format) {
+            this.format = format;
+        }
+    }
+
+    private final long sequence;
+    private final Type type;
+    private final Name person;
+    private final String detail;
+    private final LocalDateTime timestamp;
+    private LastUpdate rendered;
+
+    /**
+     * Creates the event numbered {@code sequence} in its project. {@code person} and {@code detail} may be null
+     * for types which do not use them.
+     */
+    public ActivityEvent(long sequence, Type type, Name person, String detail, LocalDateTime timestamp) {
+        requireNonNull(type);
+        requireNonNull(timestamp);
+        this.sequence = sequence;
+        this.type = type;
+        this.person = person;
+        this.detail = detail;
+        this.timestamp = timestamp;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /** Returns the name of the person the event is about, or null if it is about no one. */
+    public Name getPerson() {
+        return person;
+    }
+
+    /** Returns the remark content, or the message of a custom event, or null if the event has neither. */
+    public String getDetail() {
+        return detail;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the event written out as text.
+     */
+    public String getMessage() {
+        return toLastUpdate().getUpdateMessage();
+    }
+
+    /**
+     * Returns the event as the {@link LastUpdate} of its project, rendering it the first time it is asked for.
+     */
+    public LastUpdate toLastUpdate() {
+        LastUpdate lastUpdate = rendered;
+        if (lastUpdate == null) {
+            // a race only renders the same update twice
+            lastUpdate = new LastUpdate(String.format(type.format, person, detail), timestamp);
+            rendered = lastUpdate;
+        }
+        return lastUpdate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ActivityEvent)) {
+            return false;
+        }
+
+        ActivityEvent otherEvent = (ActivityEvent) other;
+        return sequence == otherEvent.sequence
+                && type == otherEvent.type
+                && Objects.equals(person, otherEvent.person)
+                && Objects.equals(detail, otherEvent.detail)
+                && timestamp.equals(otherEvent.timestamp);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sequence, type, person, detail, timestamp);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sequence", sequence)
+                .add("type", type)
+                .add("person", person)
+                .add("detail", detail)
+                .add("timestamp", timestamp)
+                .toString();
+    }
+}
@@ -0,0 +1,199 @@
+package loopin.projectbook.model.project;
+
+import static loopin.projectbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+import loopin.projectbook.commons.util.ToStringBuilder;
+
+/**
+ * Merges the activity of many projects into one feed, latest first.
+ * <p>
+ * The histories of the projects are merged k ways with a heap holding one cursor per project. A project only
+ * joins the merge once its last update is at least as late as the next event the merge would give, and projects
+ * are taken latest active first, so the projects visited are about as many as the events given, however many
+ * projects there are. The events of a project are read a chunk at a time, so older events are only read from the
+ * archive if the feed reaches them.
+ */
+public class ActivityFeed {
+
+    /**
+     * Reads a page of the history of a project, latest first.
+     */
+    @FunctionalInterface
+    public interface HistoryReader {
+        /**
+         * Returns up to {@code limit} events of {@code project}, latest first, after skipping the latest
+         * {@code offset}.
+         */
+        List<ActivityEvent> read(Project project, int offset, int limit) throws IOException;
+    }
+
+    /**
+     * An event in the feed, with the project it happened in.
+     */
+    public static class Entry {
+        private final Project project;
+        private final ActivityEvent event;
+
+        /**
+         * Creates an entry for {@code event} of {@code project}.
+         */
+        public Entry(Project project, ActivityEvent event) {
+            requireAllNonNull(project, event);
+            this.project = project;
+            this.event = event;
+        }
+
+        public Project getProject() {
+            return project;
+        }
+
+        public ActivityEvent getEvent() {
+            return event;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+
+            Entry otherEntry = (Entry) other;
+            return project == otherEntry.project && event.equals(otherEntry.event);
+        }
+
+        @Override
+        public int hashCode() {
+            return event.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("project", project.getName())
+                    .add("event", event)
+                    .toString();
+        }
+    }
+
+    private static final Comparator<Cursor> LATEST_FIRST = Comparator
+            .comparing((Cursor cursor) -> cursor.head().getTimestamp()).reversed()
+            .thenComparing(cursor -> cursor.project.getName().fullName);
+
+    private ActivityFeed() {}
+
+    /**
+     * Returns up to {@code limit} events of the {@code projects} that pass {@code filter}, latest first, after
+     * skipping the latest {@code offset} that pass it.
+     *
+     * @param projects the projects to merge, latest active first.
+     */
+    public static List<Entry> merge(Iterator<Project> projects, HistoryReader reader, Predicate<ActivityEvent> filter,
+            int offset, int limit) throws IOException {
+        requireAllNonNull(projects, reader, filter);
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("Offset must not be negative, and limit must be positive.");
+        }
+        int chunkSize = Math.min(offset + limit, ActivityHistory.DEFAULT_CAPACITY);
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(LATEST_FIRST);
+        List<Entry> entries = new ArrayList<>(limit);
+        int skipped = 0;
+        Project nextProject = nextUpdated(projects);
+        while (entries.size() < limit) {
+            // bring in every project which may have an event later than the latest one merged so far
+            while (nextProject != null && (cursors.isEmpty() || !nextProject.getLastUpdateTime().get()
+                    .isBefore(cursors.peek().head().getTimestamp()))) {
+                Cursor cursor = new Cursor(nextProject, reader, chunkSize);
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                }
+                nextProject = nextUpdated(projects);
+            }
+            Cursor latest = cursors.poll();
+            if (latest == null) {
+                break;
+            }
+
+            ActivityEvent event = latest.head();
+            if (filter.test(event)) {
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    entries.add(new Entry(latest.project, event));
+                }
+            }
+            if (entries.size() == limit) {
+                // not moving on, which might read the next chunk for nothing
+                break;
+            }
+            if (latest.advance()) {
+                cursors.add(latest);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the next project which has ever been updated, or null if there is none.
+     */
+    private static Project nextUpdated(Iterator<Project> projects) {
+        while (projects.hasNext()) {
+            Project project = projects.next();
+            if (project.getLastUpdateTime().isPresent()) {
+                return project;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Walks the history of a project, latest first, reading it a chunk at a time.
+     */
+    private static class Cursor {
+        private final Project project;
+        private final HistoryReader reader;
+        private final int chunkSize;
+        private List<ActivityEvent> chunk = List.of();
+        private int index;
+        private int read;
+
+        Cursor(Project project, HistoryReader reader, int chunkSize) {
+            this.project = project;
+            this.reader = reader;
+            this.chunkSize = chunkSize;
+        }
+
+        ActivityEvent head() {
+            return chunk.get(index);
+        }
+
+        /**
+         * Moves to the next older event, returning false if there is none.
+         */
+        boolean advance() throws IOException {
+            if (read > 0) {
+                // only once the first chunk is read is there an event to move past
+                index++;
+            }
+            if (index < chunk.size()) {
+                return true;
+            }
+            chunk = reader.read(project, read, chunkSize);
+            index = 0;
+            read += chunk.size();
+            return !chunk.isEmpty();
+        }
+    }
+}
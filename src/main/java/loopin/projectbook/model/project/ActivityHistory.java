@@ -0,0 +1,193 @@
+package loopin.projectbook.model.project;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import loopin.projectbook.model.person.Name;
+import loopin.projectbook.model.util.ChangeLog;
+
+/**
+ * The recent activity of a project, kept in a ring buffer of a fixed number of {@link ActivityEvent}s.
+ * <p>
+ * Once the buffer is full, recording an event pushes out the oldest one, which is held as unarchived until it is
+ * written to an {@link ActivityArchive} and marked as archived. The events held are always the latest of the
+ * project, numbered without gaps, so the number of an event tells whether it is still held or must be read from
+ * the archive.
+ * <p>
+ * Recording an event is undone with the rest of a transaction, bringing back the event it pushed out. An event
+ * which had already been archived may then be pushed out again; it is not archived twice. Methods synchronize on
+ * the history, so that it can be read while saving a snapshot.
+ */
+public class ActivityHistory {
+
+    /** The number of recent events kept by a project. */
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final ActivityEvent[] events;
+    private int oldest;
+    private int size;
+    private long nextSequence;
+    private final List<ActivityEvent> unarchived = new ArrayList<>();
+    private long archivedThrough = -1;
+
+    /**
+     * Creates an empty history keeping {@link #DEFAULT_CAPACITY} recent events.
+     */
+    public ActivityHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty history keeping {@code capacity} recent events.
+     */
+    public ActivityHistory(int capacity) {
+        checkArgument(capacity > 0, "A history must keep at least one event.");
+        events = new ActivityEvent[capacity];
+    }
+
+    /**
+     * Records an event of {@code type} about {@code person} that happened at {@code timestamp}, numbering it after
+     * the latest event, and returns it.
+     */
+    public synchronized ActivityEvent record(ActivityEvent.Type type, Name person, String detail,
+            LocalDateTime timestamp) {
+        ActivityEvent event = new ActivityEvent(nextSequence, type, person, detail, timestamp);
+        ActivityEvent pushedOut = push(event);
+        ChangeLog.record(() -> pop(pushedOut), () -> push(event));
+        return event;
+    }
+
+    /**
+     * Adds {@code event} as the latest event, returning the oldest event if it was pushed out, or null.
+     */
+    private synchronized ActivityEvent push(ActivityEvent event) {
+        ActivityEvent pushedOut = null;
+        if (size < events.length) {
+            events[(oldest + size) % events.length] = event;
+            size++;
+        } else {
+            pushedOut = events[oldest];
+            events[oldest] = event;
+            oldest = (oldest + 1) % events.length;
+            if (pushedOut.getSequence() > archivedThrough) {
+                unarchived.add(pushedOut);
+            }
+        }
+        nextSequence = event.getSequence() + 1;
+        return pushedOut;
+    }
+
+    /**
+     * Removes the latest event, bringing back {@code pushedOut} as the oldest event unless it is null.
+     */
+    private synchronized void pop(ActivityEvent pushedOut) {
+        events[(oldest + size - 1) % events.length] = null;
+        size--;
+        nextSequence--;
+        if (pushedOut != null) {
+            oldest = (oldest + events.length - 1) % events.length;
+            events[oldest] = pushedOut;
+            size++;
+            int last = unarchived.size() - 1;
+            if (last >= 0 && unarchived.get(last) == pushedOut) {
+                unarchived.remove(last);
+            }
+        }
+    }
+
+    /**
+     * Replaces the history with {@code recent}, the latest events of a project, oldest first and numbered without
+     * gaps, as they were saved. Events older than those kept are taken to be archived already.
+     */
+    public synchronized void restore(List<ActivityEvent> recent) {
+        requireNonNull(recent);
+        for (int i = 1; i < recent.size(); i++) {
+            checkArgument(recent.get(i).getSequence() == recent.get(i - 1).getSequence() + 1,
+                    "Restored events should be numbered without gaps.");
+        }
+        Arrays.fill(events, null);
+        oldest = 0;
+        size = 0;
+        nextSequence = 0;
+        unarchived.clear();
+        List<ActivityEvent> kept = recent.subList(Math.max(0, recent.size() - events.length), recent.size());
+        for (ActivityEvent event : kept) {
+            push(event);
+        }
+        archivedThrough = kept.isEmpty() ? -1 : kept.get(0).getSequence() - 1;
+    }
+
+    /**
+     * Returns the latest event, if there has been any.
+     */
+    public synchronized Optional<ActivityEvent> getLatest() {
+        return size == 0 ? Optional.empty() : Optional.of(events[(oldest + size - 1) % events.length]);
+    }
+
+    /**
+     * Returns the events kept, latest first.
+     */
+    public synchronized List<ActivityEvent> getRecent() {
+        List<ActivityEvent> recent = new ArrayList<>(size);
+        for (int i = size - 1; i >= 0; i--) {
+            recent.add(events[(oldest + i) % events.length]);
+        }
+        return recent;
+    }
+
+    /**
+     * Returns the events numbered from {@code fromSequence}, inclusive, to {@code toSequence}, exclusive, which
+     * are still held, i.e. kept or not yet archived, latest first. The events held are the latest, so those left
+     * out are the oldest of the range, and are found in the archive.
+     */
+    public synchronized List<ActivityEvent> getHeld(long fromSequence, long toSequence) {
+        List<ActivityEvent> held = new ArrayList<>();
+        for (ActivityEvent event : getRecent()) {
+            if (event.getSequence() >= fromSequence && event.getSequence() < toSequence) {
+                held.add(event);
+            }
+        }
+        for (int i = unarchived.size() - 1; i >= 0; i--) {
+            ActivityEvent event = unarchived.get(i);
+            if (event.getSequence() >= fromSequence && event.getSequence() < toSequence) {
+                held.add(event);
+            }
+        }
+        return held;
+    }
+
+    /**
+     * Returns the number of events that have ever been recorded, which is one more than the number of the latest.
+     */
+    public synchronized long getEventCount() {
+        return nextSequence;
+    }
+
+    /**
+     * Returns the number of the oldest event kept. Older events have been pushed out to the archive.
+     */
+    public synchronized long getOldestKeptSequence() {
+        return nextSequence - size;
+    }
+
+    /**
+     * Returns the events pushed out and not yet archived, oldest first.
+     */
+    public synchronized List<ActivityEvent> getUnarchived() {
+        return List.copyOf(unarchived);
+    }
+
+    /**
+     * Marks the events numbered up to {@code sequence}, inclusive, as archived.
+     */
+    public synchronized void markArchived(long sequence) {
+        unarchived.removeIf(event -> event.getSequence() <= sequence);
+        archivedThrough = Math.max(archivedThrough, sequence);
+    }
+}
@@ -5,11 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
-import loopin.projectbook.model.person.Name;
-import loopin.projectbook.model.person.Person;
-
 /**
- * Represents the last update made to a Project in the project book.
+ * Represents the last update made to a Project in the project book, as rendered from its latest
+ * {@link ActivityEvent}.
  * Guarantees: immutable; is always valid
  */
 public class LastUpdate {
@@ -53,45 +51,6 @@ public class LastUpdate {
         this.timestamp = timestamp;
     }
 
-    /**
-     * Creates a LastUpdate for adding a remark to a member.
-     */
-    public LastUpdate remarkAdded(Name personName, String remark) {
-        String message = String.format("Added remark to %s: \"%s\"", personName, remark);
-        return new LastUpdate(message);
-    }
-
-    /**
-     * Creates a LastUpdate for completing a remark of a member.
-     */
-    public static LastUpdate remarkResolved(Name personName, String remark) {
-        String message = String.format("Resolved remark for %s: \"%s\"", personName, remark);
-        return new LastUpdate(message);
-    }
-
-    /**
-     * Creates a LastUpdate for adding a new member to the project.
-     */
-    public static LastUpdate memberAdded(Person person) {
-        String message = String.format("Added new member: %s", person.getName());
-        return new LastUpdate(message);
-    }
-
-    /**
-     * Creates a LastUpdate for removing a member from the project.
-     */
-    public static LastUpdate memberRemoved(Person person) {
-        String message = String.format("Removed member: %s", person.getName());
-        return new LastUpdate(message);
-    }
-
-    /**
-     * Creates a LastUpdate for a custom message.
-     */
-    public static LastUpdate custom(String message) {
-        return new LastUpdate(message);
-    }
-
     public String getUpdateMessage() {
         return updateMessage;
     }
@@ -1,14 +1,19 @@
 package loopin.projectbook.model.project;
 
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
 import static loopin.projectbook.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.model.person.Name;
 import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.util.ChangeLog;
 
 /**
  * Represents a project in the ProjectBook system.
@@ -16,6 +21,8 @@ import loopin.projectbook.model.person.Person;
  * A Project contains identifying information such as its name and description,
  * timestamps for creation and last update, and a list of {@link Membership}
  * objects representing people who are part of the project.
+ * <p>
+ * What happens in the project is kept in its {@link ActivityHistory}, whose latest event is the last update.
  */
 public class Project {
 
@@ -23,9 +30,10 @@ public class Project {
     private final ProjectName name;
     private final Description description;
     private final LocalDateTime createdAt;
-    private LastUpdate lastUpdate;
+    private final ActivityHistory history = new ActivityHistory();
 
-    private final List<Membership> memberships = new ArrayList<>();
+    // copy-on-write so readers iterating the members never see a half-applied change
+    private final List<Membership> memberships = new CopyOnWriteArrayList<>();
 
     /**
      * Creates a new Project with the given name and description.
@@ -39,7 +47,6 @@ public class Project {
         this.name = name;
         this.description = description;
         this.createdAt = LocalDateTime.now();
-        this.lastUpdate = new LastUpdate();
     }
 
     /**
@@ -54,7 +61,9 @@ public class Project {
         this.name = name;
         this.description = description;
         this.createdAt = createdAt;
-        this.lastUpdate = lastUpdate;
+        if (lastUpdate.hasUpdate()) {
+            recordUpdate(lastUpdate);
+        }
     }
 
     //    /** @return the unique ID of this project */
@@ -77,16 +86,46 @@ public class Project {
         return createdAt;
     }
 
-    public void recordUpdate(LastUpdate lastUpdate) {
-        this.lastUpdate = lastUpdate;
+    /**
+     * Records an event of {@code type} about {@code person} happening now. The event is only rendered to text
+     * when it is shown.
+     *
+     * @param person the person the event is about, or null.
+     * @param detail the remark content or custom message of the event, or null.
+     */
+    public void recordActivity(ActivityEvent.Type type, Name person, String detail) {
+        history.record(type, person, detail, LocalDateTime.now());
+    }
+
+    /**
+     * Records {@code update}, which must have a timestamp, as a custom event of this project.
+     */
+    public void recordUpdate(LastUpdate update) {
+        requireNonNull(update);
+        checkArgument(update.hasUpdate(), "Only an update with a timestamp can be recorded.");
+        history.record(ActivityEvent.Type.CUSTOM, null, update.getUpdateMessage(), update.getTimestamp());
+    }
+
+    public ActivityHistory getHistory() {
+        return history;
     }
 
+    /**
+     * Returns the latest event of this project as its last update, or a default update if there has been none.
+     */
     public LastUpdate getLastUpdate() {
-        return lastUpdate;
+        return history.getLatest().map(ActivityEvent::toLastUpdate).orElseGet(LastUpdate::new);
+    }
+
+    /**
+     * Returns when this project was last updated, without rendering the update, if it has ever been updated.
+     */
+    public Optional<LocalDateTime> getLastUpdateTime() {
+        return history.getLatest().map(ActivityEvent::getTimestamp);
     }
 
     public String getLastUpdateAsString() {
-        return lastUpdate.toString();
+        return getLastUpdate().toString();
     }
 
     /**
@@ -108,7 +147,7 @@ public class Project {
      * @param membership the {@link Membership} to add
      */
     public void addMembership(Membership membership) {
-        memberships.add(membership);
+        insertMembership(memberships.size(), membership);
     }
 
     /**
@@ -148,9 +187,8 @@ public class Project {
         if (hasMember(p)) {
             throw new IllegalStateException("Person is already in this project.");
         }
-        memberships.add(new Membership(p));
-        LastUpdate update = LastUpdate.memberAdded(p);
-        recordUpdate(update);
+        insertMembership(memberships.size(), new Membership(p));
+        recordActivity(ActivityEvent.Type.MEMBER_ADDED, p.getName(), null);
     }
 
     /**
@@ -161,12 +199,13 @@ public class Project {
      * @throws IllegalStateException if the person is not currently a member of the project
      */
     public void removePerson(Person p) {
-        boolean removed = memberships.removeIf(m -> m.getPerson().isSamePerson(p));
-        if (!removed) {
+        int index = indexOfMember(p);
+        if (index == -1) {
             throw new IllegalStateException("Person is not in this project.");
         }
-        LastUpdate update = LastUpdate.memberRemoved(p);
-        recordUpdate(update);
+        Membership removed = memberships.remove(index);
+        ChangeLog.record(() -> memberships.add(index, removed), () -> memberships.remove(index));
+        recordActivity(ActivityEvent.Type.MEMBER_REMOVED, p.getName(), null);
     }
 
     /**
@@ -219,12 +258,30 @@ public class Project {
      * @param newPerson the new person reference
      */
     public void updatePersonReference(Person oldPerson, Person newPerson) {
+        int index = indexOfMember(oldPerson);
+        if (index == -1) {
+            return;
+        }
+        Membership updated = new Membership(newPerson);
+        Membership previous = memberships.set(index, updated);
+        ChangeLog.record(() -> memberships.set(index, previous), () -> memberships.set(index, updated));
+    }
+
+    /**
+     * Returns the index of the membership of the person with the same identity as {@code p}, or -1 if none.
+     */
+    private int indexOfMember(Person p) {
         for (int i = 0; i < memberships.size(); i++) {
-            if (memberships.get(i).getPerson().isSamePerson(oldPerson)) {
-                memberships.set(i, new Membership(newPerson));
-                break;
+            if (memberships.get(i).getPerson().isSamePerson(p)) {
+                return i;
             }
         }
+        return -1;
+    }
+
+    private void insertMembership(int index, Membership membership) {
+        memberships.add(index, membership);
+        ChangeLog.record(() -> memberships.remove(index), () -> memberships.add(index, membership));
     }
 
 }
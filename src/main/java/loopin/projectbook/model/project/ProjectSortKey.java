@@ -0,0 +1,64 @@
+package loopin.projectbook.model.project;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The orders in which the project list can be sorted, each named by a keyword of the {@code project sort}
+ * command.
+ */
+public enum ProjectSortKey {
+    /** The order in which the projects were added. */
+    ADDED("added", null, false),
+    /** By name, ignoring case. */
+    NAME("name", project -> project.getName().fullName.toLowerCase(Locale.ROOT), false),
+    /** The oldest projects first. */
+    CREATED("created", Project::getCreatedAt, false),
+    /** The most recently updated projects first, and projects never updated last. */
+    UPDATED("updated", project -> project.getLastUpdateTime().orElse(LocalDateTime.MIN), true),
+    /** Projects with the most members first. */
+    MEMBERS("members", project -> project.getAllPeople().size(), true);
+
+    private final String keyword;
+    private final Function<Project, ? extends Comparable<?>> keyFunction;
+    private final boolean isDescending;
+
+    ProjectSortKey(String keyword, Function<Project, ? extends Comparable<?>> keyFunction, boolean isDescending) {
+        this.keyword = keyword;
+        this.keyFunction = keyFunction;
+        this.isDescending = isDescending;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the function giving each project its sort key, or an empty Optional for the order projects were
+     * added.
+     */
+    public Optional<Function<Project, ? extends Comparable<?>>> getKeyFunction() {
+        return Optional.ofNullable(keyFunction);
+    }
+
+    /**
+     * Returns true if projects with greater keys come first.
+     */
+    public boolean isDescending() {
+        return isDescending;
+    }
+
+    /**
+     * Returns the sort key named by {@code keyword}, ignoring case.
+     */
+    public static Optional<ProjectSortKey> fromKeyword(String keyword) {
+        for (ProjectSortKey key : values()) {
+            if (key.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(key);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,172 @@
+package loopin.projectbook.model.project;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import loopin.projectbook.model.util.ElementListener;
+
+/**
+ * The projects of a list ordered by when they were created and by when they were last active, so that the
+ * projects in a time range are found by a range scan, in O(log n + matches), instead of checking every project.
+ * The index follows a project list as an {@link ElementListener}.
+ * <p>
+ * A project is last active when it was last updated, or when it was created if it has never been updated. The
+ * time a project was indexed under is kept, so that a project whose last update changed in place, and was then
+ * put back into the list, is found again where it was indexed.
+ * <p>
+ * While {@link #beginDeferral() deferred}, a project put into the list is only filed by when it was last active
+ * once the deferral ends or the index is next read. Rolling back or undoing a change puts a project back into the
+ * list before its own activity is undone, so it must not be filed until its activity is as it was.
+ */
+public class ProjectTimeIndex implements ElementListener<Project> {
+
+    private final NavigableMap<LocalDateTime, List<Project>> projectsByCreation = new TreeMap<>();
+    private final NavigableMap<LocalDateTime, List<Project>> projectsByActivity = new TreeMap<>();
+    private final Map<Project, LocalDateTime> indexedActivity = new IdentityHashMap<>();
+    /** The projects in the list not yet filed by when they were last active, in the order they were added. */
+    private final List<Project> unfiled = new ArrayList<>();
+    private int deferrals;
+
+    @Override
+    public void elementAdded(Project project) {
+        add(projectsByCreation, project.getCreatedAt(), project);
+        if (deferrals > 0) {
+            unfiled.add(project);
+        } else {
+            fileByActivity(project);
+        }
+    }
+
+    @Override
+    public void elementRemoved(Project project) {
+        if (removeByIdentity(unfiled, project)) {
+            remove(projectsByCreation, project.getCreatedAt(), project);
+            return;
+        }
+        LocalDateTime lastActive = indexedActivity.remove(project);
+        if (lastActive == null) {
+            return;
+        }
+        remove(projectsByCreation, project.getCreatedAt(), project);
+        remove(projectsByActivity, lastActive, project);
+    }
+
+    private void fileByActivity(Project project) {
+        LocalDateTime lastActive = lastActiveOf(project);
+        add(projectsByActivity, lastActive, project);
+        indexedActivity.put(project, lastActive);
+    }
+
+    /**
+     * Holds back filing the projects put into the list by when they were last active, until the matching
+     * {@link #endDeferral()}. Deferrals may be nested.
+     */
+    public void beginDeferral() {
+        deferrals++;
+    }
+
+    /**
+     * Ends the innermost deferral. Once none are left, files the projects put into the list while deferred.
+     */
+    public void endDeferral() {
+        if (deferrals == 0) {
+            throw new IllegalStateException("No deferral is in progress.");
+        }
+        deferrals--;
+        if (deferrals == 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Files the projects put into the list since the last flush. Must only be called when their activity is
+     * consistent, i.e. not while a change is being rolled back or undone.
+     */
+    private void flush() {
+        for (Project project : unfiled) {
+            fileByActivity(project);
+        }
+        unfiled.clear();
+    }
+
+    /**
+     * Returns the projects created from {@code from}, inclusive, to {@code to}, exclusive, oldest first.
+     */
+    public List<Project> getCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (!from.isBefore(to)) {
+            return List.of();
+        }
+        return flatten(projectsByCreation.subMap(from, true, to, false));
+    }
+
+    /**
+     * Returns the projects last active before {@code cutoff}, the longest inactive first.
+     */
+    public List<Project> getInactiveSince(LocalDateTime cutoff) {
+        requireNonNull(cutoff);
+        flush();
+        return flatten(projectsByActivity.headMap(cutoff, false));
+    }
+
+    /**
+     * Returns the projects latest active first, found lazily, so that taking the first few costs O(log n + few).
+     * The index must not change while the iterator is used.
+     */
+    public Iterator<Project> iterateLatestActiveFirst() {
+        flush();
+        return projectsByActivity.descendingMap().values().stream().flatMap(List::stream).iterator();
+    }
+
+    /**
+     * Returns when {@code project} was last active: its last update, or its creation if it has never been updated.
+     */
+    public static LocalDateTime lastActiveOf(Project project) {
+        return project.getLastUpdateTime().orElse(project.getCreatedAt());
+    }
+
+    private static void add(NavigableMap<LocalDateTime, List<Project>> index, LocalDateTime time, Project project) {
+        index.computeIfAbsent(time, unused -> new ArrayList<>(1)).add(project);
+    }
+
+    private static void remove(NavigableMap<LocalDateTime, List<Project>> index, LocalDateTime time,
+            Project project) {
+        List<Project> projects = index.get(time);
+        if (projects == null) {
+            return;
+        }
+        removeByIdentity(projects, project);
+        if (projects.isEmpty()) {
+            index.remove(time);
+        }
+    }
+
+    /**
+     * Removes {@code project} itself from {@code projects}, returning whether it was there.
+     */
+    private static boolean removeByIdentity(List<Project> projects, Project project) {
+        // the projects searched are few, and are told apart by identity as two projects can be equal
+        for (int i = 0; i < projects.size(); i++) {
+            if (projects.get(i) == project) {
+                projects.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Project> flatten(Map<LocalDateTime, List<Project>> range) {
+        List<Project> projects = new ArrayList<>();
+        range.values().forEach(projects::addAll);
+        return projects;
+    }
+}
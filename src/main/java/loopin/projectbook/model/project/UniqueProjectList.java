@@ -2,6 +2,7 @@ package loopin.projectbook.model.project;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -10,6 +11,9 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import loopin.projectbook.model.project.exceptions.DuplicateProjectException;
 import loopin.projectbook.model.project.exceptions.ProjectNotFoundException;
+import loopin.projectbook.model.util.BatchedObservableList;
+import loopin.projectbook.model.util.ElementListener;
+import loopin.projectbook.model.util.SnapshotArrayList;
 
 /**
  * Maintains a list of {@link Project} with uniqueness enforced and no null elements allowed.
@@ -21,9 +25,18 @@ import loopin.projectbook.model.project.exceptions.ProjectNotFoundException;
  * This class supports a minimal set of list operations and exposes an unmodifiable view suitable for UI binding.
  */
 public class UniqueProjectList implements Iterable<Project> {
-    private final ObservableList<Project> internalList = FXCollections.observableArrayList();
+    private final SnapshotArrayList<Project> backingList = new SnapshotArrayList<>();
+    private final BatchedObservableList<Project> internalList = new BatchedObservableList<>(backingList);
     private final ObservableList<Project> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final ProjectTimeIndex timeIndex = new ProjectTimeIndex();
+
+    /**
+     * Creates an empty list.
+     */
+    public UniqueProjectList() {
+        internalList.addElementListener(timeIndex);
+    }
 
     /**
      * Returns {@code true} if the list contains an equivalent project to {@code toCheck}.
@@ -36,6 +49,16 @@ public class UniqueProjectList implements Iterable<Project> {
         return internalList.stream().anyMatch(p -> p.equals(toCheck));
     }
 
+    /**
+     * Adds a listener told of each project added to or removed from the list, as soon as it is.
+     * The listener is first told of the projects already in the list.
+     */
+    public void addElementListener(ElementListener<? super Project> listener) {
+        requireNonNull(listener);
+        internalList.forEach(listener::elementAdded);
+        internalList.addElementListener(listener);
+    }
+
     /**
      * Finds the first project whose name exactly matches {@code name} under normalization
      * (trim + collapse internal whitespace + case-insensitive).
@@ -53,6 +76,33 @@ public class UniqueProjectList implements Iterable<Project> {
                 .findFirst();
     }
 
+    /**
+     * Returns the projects created from {@code from}, inclusive, to {@code to}, exclusive, oldest first.
+     *
+     * @see ProjectTimeIndex#getCreatedBetween(LocalDateTime, LocalDateTime)
+     */
+    public List<Project> findCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return timeIndex.getCreatedBetween(from, to);
+    }
+
+    /**
+     * Returns the projects neither updated nor created since {@code cutoff}, the longest inactive first.
+     *
+     * @see ProjectTimeIndex#getInactiveSince(LocalDateTime)
+     */
+    public List<Project> findInactiveSince(LocalDateTime cutoff) {
+        return timeIndex.getInactiveSince(cutoff);
+    }
+
+    /**
+     * Returns the projects latest active first, found lazily.
+     *
+     * @see ProjectTimeIndex#iterateLatestActiveFirst()
+     */
+    public Iterator<Project> iterateLatestActiveFirst() {
+        return timeIndex.iterateLatestActiveFirst();
+    }
+
     /**
      * Normalizes a project name by trimming, collapsing internal whitespace to a single space, and lowercasing.
      */
@@ -151,6 +201,33 @@ public class UniqueProjectList implements Iterable<Project> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable copy of the current projects in O(1), sharing storage with this list until it changes.
+     */
+    public List<Project> snapshot() {
+        return backingList.snapshot();
+    }
+
+    /**
+     * Holds back change events of this list, and filing its projects by activity, until the matching
+     * {@link #endBatch()}. Batches may be nested.
+     *
+     * @see ProjectTimeIndex#beginDeferral()
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+        timeIndex.beginDeferral();
+    }
+
+    /**
+     * Ends a batch, firing one change event for everything changed in it, and filing the projects changed in it
+     * by activity, if this is the outermost batch.
+     */
+    public void endBatch() {
+        timeIndex.endDeferral();
+        internalList.endBatch();
+    }
+
     @Override
     public Iterator<Project> iterator() {
         return internalList.iterator();
@@ -0,0 +1,160 @@
+package loopin.projectbook.model.query;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.person.Remark;
+import loopin.projectbook.model.person.RoleType;
+import loopin.projectbook.model.person.orgmember.OrgMember;
+import loopin.projectbook.model.person.teammember.TeamMember;
+import loopin.projectbook.model.project.Project;
+
+/**
+ * The attributes of a person that a {@link Query.Term} can test, each written {@code SYNTAX VALUE} in a query,
+ * e.g. {@code name:alex}. All comparisons ignore case.
+ */
+public enum Field {
+    /** The name contains the value. */
+    NAME_CONTAINS("name:", "Names can be matched by any text, e.g. name:alex"),
+    /** The name is the value; answered from the name index. */
+    NAME_IS("name=", "Names can be matched by any text, e.g. name=\"Alex Yeoh\""),
+    /** The role is the value: volunteer, teammember or orgmember, or their first letters. */
+    ROLE("role:", "Roles are volunteer (v), teammember (t) or orgmember (o), e.g. role:t"),
+    /** A team member in the committee named by the value. */
+    COMMITTEE("committee:", "Committees can be matched by any text, e.g. committee:logistics"),
+    /** An organisation member of the organisation named by the value. */
+    ORGANISATION("org:", "Organisations can be matched by any text, e.g. org:nus"),
+    /** A member of the project named by the value; answered from the project's members. */
+    PROJECT("project:", "Projects can be matched by any name, e.g. project:artshow"),
+    /** A remark contains the value. */
+    REMARK("remark:", "Remarks can be matched by any text, e.g. remark:payment"),
+    /** A remark has the status given by the value: pending or completed. */
+    REMARK_STATUS("status:", "Remark statuses are pending or completed, e.g. status:pending"),
+    /** The field named by the value is present: phone, telegram, remark or project. */
+    HAS("has:", "Persons can be checked for a phone, telegram, remark or project, e.g. has:telegram");
+
+    private final String syntax;
+    private final String constraints;
+
+    Field(String syntax, String constraints) {
+        this.syntax = syntax;
+        this.constraints = constraints;
+    }
+
+    /**
+     * Returns how the field is written in a query, up to its value, e.g. {@code name:}.
+     */
+    public String getSyntax() {
+        return syntax;
+    }
+
+    /**
+     * Returns a message describing the valid values of the field.
+     */
+    public String getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * Returns the field written as {@code syntax} in a query, ignoring case.
+     */
+    public static Optional<Field> fromSyntax(String syntax) {
+        for (Field field : values()) {
+            if (field.syntax.equalsIgnoreCase(syntax)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if {@code value} is a valid value of this field.
+     */
+    public boolean isValidValue(String value) {
+        String folded = fold(value);
+        switch (this) {
+        case ROLE:
+            return roleTypeOf(folded).isPresent();
+        case REMARK_STATUS:
+            return folded.equals("pending") || folded.equals("completed");
+        case HAS:
+            return folded.equals("phone") || folded.equals("telegram") || folded.equals("remark")
+                    || folded.equals("project");
+        default:
+            return !value.isBlank();
+        }
+    }
+
+    /**
+     * Returns true if {@code person} matches {@code value} in this field.
+     */
+    public boolean test(Person person, String value) {
+        String folded = fold(value);
+        switch (this) {
+        case NAME_CONTAINS:
+            return fold(person.getName().fullName).contains(folded);
+        case NAME_IS:
+            return fold(person.getName().fullName.trim()).equals(folded.trim());
+        case ROLE:
+            return roleTypeOf(folded).map(type -> person.getRole().getRoleType() == type).orElse(false);
+        case COMMITTEE:
+            return person instanceof TeamMember
+                    && fold(((TeamMember) person).getCommittee().getCommitteeName()).equals(folded);
+        case ORGANISATION:
+            return person instanceof OrgMember
+                    && fold(((OrgMember) person).getOrganisation().value).equals(folded);
+        case PROJECT:
+            for (Project project : person.getProjects()) {
+                if (fold(project.getName().toString()).equals(folded)) {
+                    return true;
+                }
+            }
+            return false;
+        case REMARK:
+            return person.getRemarks().stream().anyMatch(remark -> fold(remark.content).contains(folded));
+        case REMARK_STATUS:
+            Remark.Status status = folded.equals("pending") ? Remark.Status.PENDING : Remark.Status.COMPLETED;
+            return person.getRemarks().stream().anyMatch(remark -> remark.status == status);
+        case HAS:
+            return hasField(person, folded);
+        default:
+            throw new AssertionError(this);
+        }
+    }
+
+    private static boolean hasField(Person person, String field) {
+        switch (field) {
+        case "phone":
+            return person.getPhone().isPresent();
+        case "telegram":
+            return person.getTelegram().isPresent();
+        case "remark":
+            return !person.getRemarks().isEmpty();
+        case "project":
+            return person.getNumberOfProjects() > 0;
+        default:
+            return false;
+        }
+    }
+
+    private static Optional<RoleType> roleTypeOf(String role) {
+        switch (role) {
+        case "v":
+        case "volunteer":
+            return Optional.of(RoleType.VOLUNTEER);
+        case "t":
+        case "teammember":
+            return Optional.of(RoleType.TEAMMEMBER);
+        case "o":
+        case "orgmember":
+            return Optional.of(RoleType.ORGMEMBER);
+        default:
+            return Optional.empty();
+        }
+    }
+
+    private static String fold(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,223 @@
+package loopin.projectbook.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import loopin.projectbook.model.person.Person;
+
+/**
+ * A compiled person query: a tree of {@link Term}s joined by {@link And}, {@link Or} and {@link Not}, which tests
+ * whether a person matches. Queries are immutable, and are turned into an execution plan by {@link QueryPlanner}.
+ */
+public abstract class Query implements Predicate<Person> {
+
+    public static final String MESSAGE_NO_OPERANDS = "AND and OR need at least two operands.";
+
+    private Query() {}
+
+    /**
+     * Returns the query written back in the query language, with parentheses around every AND, OR and NOT that
+     * is an operand, so that the structure of the tree can be read off.
+     */
+    public abstract String toQueryString();
+
+    @Override
+    public String toString() {
+        return toQueryString();
+    }
+
+    /**
+     * Matches persons matched by every one of its operands.
+     */
+    public static final class And extends Query {
+        private final List<Query> operands;
+
+        /**
+         * Creates a query matching persons matched by every one of {@code operands}.
+         */
+        public And(List<Query> operands) {
+            requireNonNull(operands);
+            checkArgument(operands.size() >= 2, MESSAGE_NO_OPERANDS);
+            this.operands = List.copyOf(operands);
+        }
+
+        public List<Query> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (Query operand : operands) {
+                if (!operand.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toQueryString() {
+            return operands.stream().map(Query::toOperandString).collect(Collectors.joining(" AND "));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof And && operands.equals(((And) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+    }
+
+    /**
+     * Matches persons matched by any of its operands.
+     */
+    public static final class Or extends Query {
+        private final List<Query> operands;
+
+        /**
+         * Creates a query matching persons matched by any of {@code operands}.
+         */
+        public Or(List<Query> operands) {
+            requireNonNull(operands);
+            checkArgument(operands.size() >= 2, MESSAGE_NO_OPERANDS);
+            this.operands = List.copyOf(operands);
+        }
+
+        public List<Query> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (Query operand : operands) {
+                if (operand.test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toQueryString() {
+            return operands.stream().map(Query::toOperandString).collect(Collectors.joining(" OR "));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Or && operands.equals(((Or) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+    }
+
+    /**
+     * Matches persons not matched by its operand.
+     */
+    public static final class Not extends Query {
+        private final Query operand;
+
+        /**
+         * Creates a query matching persons not matched by {@code operand}.
+         */
+        public Not(Query operand) {
+            requireNonNull(operand);
+            this.operand = operand;
+        }
+
+        public Query getOperand() {
+            return operand;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return !operand.test(person);
+        }
+
+        @Override
+        public String toQueryString() {
+            return "NOT " + operand.toOperandString();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Not && operand.equals(((Not) other).operand));
+        }
+
+        @Override
+        public int hashCode() {
+            return ~operand.hashCode();
+        }
+    }
+
+    /**
+     * Matches persons whose {@link Field} matches a value.
+     */
+    public static final class Term extends Query {
+        private final Field field;
+        private final String value;
+
+        /**
+         * Creates a query matching persons whose {@code field} matches {@code value}.
+         *
+         * @throws IllegalArgumentException if {@code value} is not a valid value of {@code field}.
+         */
+        public Term(Field field, String value) {
+            requireNonNull(field);
+            requireNonNull(value);
+            checkArgument(field.isValidValue(value), field.getConstraints());
+            this.field = field;
+            this.value = value;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return field.test(person, value);
+        }
+
+        @Override
+        public String toQueryString() {
+            boolean needsQuotes = value.isEmpty() || value.chars().anyMatch(c -> Character.isWhitespace(c)
+                    || c == '(' || c == ')' || c == '"');
+            return field.getSyntax() + (needsQuotes ? '"' + value.replace("\"", "") + '"' : value);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Term)) {
+                return false;
+            }
+            Term otherTerm = (Term) other;
+            return field == otherTerm.field && value.equalsIgnoreCase(otherTerm.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return field.hashCode() * 31 + value.toLowerCase().hashCode();
+        }
+    }
+
+    private String toOperandString() {
+        return this instanceof Term ? toQueryString() : "(" + toQueryString() + ")";
+    }
+}
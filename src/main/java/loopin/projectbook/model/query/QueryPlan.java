@@ -0,0 +1,206 @@
+package loopin.projectbook.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import loopin.projectbook.model.person.Person;
+
+/**
+ * How a {@link Query} is answered: an access path that fetches the candidate persons, from an index if the
+ * query allows it or else by scanning every person, and the query itself as a filter over the candidates.
+ * Created by {@link QueryPlanner}.
+ */
+public class QueryPlan {
+
+    private final AccessPath accessPath;
+    private final Query filter;
+    private final int personCount;
+    private final long planNanos;
+    private int candidateCount = -1;
+    private int matchCount = -1;
+    private long executeNanos;
+
+    QueryPlan(AccessPath accessPath, Query filter, int personCount, long planNanos) {
+        this.accessPath = accessPath;
+        this.filter = filter;
+        this.personCount = personCount;
+        this.planNanos = planNanos;
+    }
+
+    /**
+     * Returns true if the candidates are fetched from an index rather than by scanning every person.
+     */
+    public boolean isIndexed() {
+        return !(accessPath instanceof FullScan);
+    }
+
+    /**
+     * Returns the estimated number of candidates, before they are filtered.
+     */
+    public int getEstimatedCandidates() {
+        return accessPath.estimate();
+    }
+
+    /**
+     * Returns the persons matching the query, as an identity set since a person's hash code can change.
+     */
+    public Set<Person> execute() {
+        long start = System.nanoTime();
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        accessPath.fetch(candidate -> {
+            if (candidates.add(candidate) && filter.test(candidate)) {
+                matches.add(candidate);
+            }
+        });
+        executeNanos = System.nanoTime() - start;
+        candidateCount = candidates.size();
+        matchCount = matches.size();
+        return matches;
+    }
+
+    /**
+     * Returns the plan as an indented tree, one step per line, with the time taken to plan and, once executed,
+     * the time taken to execute and the number of persons at each stage.
+     */
+    public String explain() {
+        StringBuilder explanation = new StringBuilder();
+        explanation.append("Filter ").append(filter.toQueryString());
+        if (matchCount >= 0) {
+            explanation.append(" (").append(matchCount).append(" matched)");
+        }
+        accessPath.describe(explanation, 1);
+        explanation.append(String.format("\nPlanned in %.3f ms", planNanos / 1e6));
+        if (matchCount >= 0) {
+            explanation.append(String.format(", executed in %.3f ms over %d of %d persons",
+                    executeNanos / 1e6, candidateCount, personCount));
+        }
+        return explanation.toString();
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+
+    /**
+     * Receives the candidates fetched by an access path.
+     */
+    interface CandidateSink {
+        void accept(Person candidate);
+    }
+
+    /**
+     * A way of fetching a superset of the persons matching a query.
+     */
+    abstract static class AccessPath {
+        /** Returns the number of candidates this path is expected to fetch, counting duplicates. */
+        abstract int estimate();
+
+        /** Passes every candidate to {@code sink}, possibly more than once. */
+        abstract void fetch(CandidateSink sink);
+
+        /** Appends a line describing this path, and then its own paths, indented by {@code depth}. */
+        abstract void describe(StringBuilder explanation, int depth);
+
+        static void newLine(StringBuilder explanation, int depth) {
+            explanation.append('\n').append("  ".repeat(depth));
+        }
+    }
+
+    /**
+     * Fetches every person.
+     */
+    static class FullScan extends AccessPath {
+        private final List<Person> persons;
+
+        FullScan(List<Person> persons) {
+            requireNonNull(persons);
+            this.persons = persons;
+        }
+
+        @Override
+        int estimate() {
+            return persons.size();
+        }
+
+        @Override
+        void fetch(CandidateSink sink) {
+            persons.forEach(sink::accept);
+        }
+
+        @Override
+        void describe(StringBuilder explanation, int depth) {
+            newLine(explanation, depth);
+            explanation.append("Scan all persons (").append(estimate()).append(" rows)");
+        }
+    }
+
+    /**
+     * Fetches the persons an index holds for a term, looked up while planning so that its size is exact.
+     */
+    static class IndexLookup extends AccessPath {
+        private final String indexName;
+        private final Query.Term term;
+        private final List<Person> persons;
+
+        IndexLookup(String indexName, Query.Term term, List<Person> persons) {
+            requireNonNull(indexName);
+            requireNonNull(term);
+            requireNonNull(persons);
+            this.indexName = indexName;
+            this.term = term;
+            this.persons = persons;
+        }
+
+        @Override
+        int estimate() {
+            return persons.size();
+        }
+
+        @Override
+        void fetch(CandidateSink sink) {
+            persons.forEach(sink::accept);
+        }
+
+        @Override
+        void describe(StringBuilder explanation, int depth) {
+            newLine(explanation, depth);
+            explanation.append("Look up ").append(term.toQueryString()).append(" in the ").append(indexName)
+                    .append(" (").append(estimate()).append(" rows)");
+        }
+    }
+
+    /**
+     * Fetches the candidates of each of several paths, for a query matching any of their terms.
+     */
+    static class Union extends AccessPath {
+        private final List<AccessPath> paths;
+
+        Union(List<AccessPath> paths) {
+            requireNonNull(paths);
+            this.paths = List.copyOf(paths);
+        }
+
+        @Override
+        int estimate() {
+            return paths.stream().mapToInt(AccessPath::estimate).sum();
+        }
+
+        @Override
+        void fetch(CandidateSink sink) {
+            paths.forEach(path -> path.fetch(sink));
+        }
+
+        @Override
+        void describe(StringBuilder explanation, int depth) {
+            newLine(explanation, depth);
+            explanation.append("Union (").append(estimate()).append(" rows)");
+            paths.forEach(path -> path.describe(explanation, depth + 1));
+        }
+    }
+}
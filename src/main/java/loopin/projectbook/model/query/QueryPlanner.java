@@ -0,0 +1,112 @@
+package loopin.projectbook.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.query.QueryPlan.AccessPath;
+import loopin.projectbook.model.query.QueryPlan.FullScan;
+import loopin.projectbook.model.query.QueryPlan.IndexLookup;
+import loopin.projectbook.model.query.QueryPlan.Union;
+
+/**
+ * Turns a {@link Query} into a {@link QueryPlan} over a model.
+ * <p>
+ * Two kinds of term can be answered without scanning every person: {@link Field#NAME_IS} from the model's
+ * index of exact names, and {@link Field#PROJECT} from the members of the project named. An AND is answered
+ * from the most selective of its operands that can be, an OR from the union of its operands if every one of
+ * them can be, and anything else by scanning every person. Either way every candidate is then tested against
+ * the whole query, so the plan only affects how fast a query is answered and never what it matches.
+ */
+public class QueryPlanner {
+
+    private static final String NAME_INDEX = "name index";
+    private static final String PROJECT_MEMBERS = "project members";
+
+    private final Model model;
+
+    /**
+     * Creates a planner for queries over the persons in {@code model}.
+     */
+    public QueryPlanner(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Returns a plan answering {@code query}.
+     */
+    public QueryPlan plan(Query query) {
+        requireNonNull(query);
+        long start = System.nanoTime();
+        List<Person> persons = model.getProjectBook().getPersonList();
+        AccessPath accessPath = indexedPathFor(query);
+        if (accessPath == null) {
+            accessPath = new FullScan(persons);
+        }
+        return new QueryPlan(accessPath, query, persons.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * Returns a path fetching every person matched by {@code query} from an index, or null if there is none.
+     */
+    private AccessPath indexedPathFor(Query query) {
+        if (query instanceof Query.Term) {
+            return indexedPathFor((Query.Term) query);
+        }
+        if (query instanceof Query.And) {
+            AccessPath mostSelective = null;
+            for (Query operand : ((Query.And) query).getOperands()) {
+                AccessPath path = indexedPathFor(operand);
+                if (path != null && (mostSelective == null || path.estimate() < mostSelective.estimate())) {
+                    mostSelective = path;
+                }
+            }
+            return mostSelective;
+        }
+        if (query instanceof Query.Or) {
+            List<AccessPath> paths = new ArrayList<>();
+            for (Query operand : ((Query.Or) query).getOperands()) {
+                AccessPath path = indexedPathFor(operand);
+                if (path == null) {
+                    return null;
+                }
+                paths.add(path);
+            }
+            return new Union(paths);
+        }
+        // A NOT matches everyone its operand does not, which no index holds.
+        return null;
+    }
+
+    private AccessPath indexedPathFor(Query.Term term) {
+        switch (term.getField()) {
+        case NAME_IS:
+            return new IndexLookup(NAME_INDEX, term, model.findPersonsByName(term.getValue()));
+        case PROJECT:
+            return new IndexLookup(PROJECT_MEMBERS, term, membersOfProjectsNamed(term.getValue()));
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Returns the members of every project named {@code name}, ignoring case as {@link Field#PROJECT} does.
+     * Project names are compared one by one since there are few projects compared to persons.
+     */
+    private List<Person> membersOfProjectsNamed(String name) {
+        String folded = name.toLowerCase(Locale.ROOT);
+        List<Person> members = new ArrayList<>();
+        for (Project project : model.getProjectBook().getProjectList()) {
+            if (project.getName().toString().toLowerCase(Locale.ROOT).equals(folded)) {
+                members.addAll(project.getAllPeople());
+            }
+        }
+        return members;
+    }
+}
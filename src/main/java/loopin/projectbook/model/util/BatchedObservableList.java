@@ -0,0 +1,124 @@
+package loopin.projectbook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list over a {@link SnapshotArrayList} that records every change in the current
+ * {@link ChangeLog}, and that can hold back its change events so that listeners see a batch of changes as one.
+ * {@link ElementListener}s are told of every change at once, whether or not events are held back.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> implements RandomAccess {
+
+    private final SnapshotArrayList<E> backingList;
+    private final List<ElementListener<? super E>> elementListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates an observable list over {@code backingList}, which must only be modified through this list.
+     */
+    public BatchedObservableList(SnapshotArrayList<E> backingList) {
+        requireNonNull(backingList);
+        this.backingList = backingList;
+    }
+
+    /**
+     * Adds a listener told of each element added to or removed from this list, as soon as it is.
+     */
+    public void addElementListener(ElementListener<? super E> listener) {
+        requireNonNull(listener);
+        elementListeners.add(listener);
+    }
+
+    /**
+     * Holds back change events until the matching {@link #endBatch()}. Batches may be nested.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends a batch, firing one change event for everything changed in it if this is the outermost batch.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    /**
+     * Replaces the contents of this list, recording the replacement as a single change.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> elements) {
+        List<E> replacement = new ArrayList<>(elements);
+        List<E> previous = backingList.snapshot();
+        beginChange();
+        try {
+            backingList.clear();
+            backingList.addAll(replacement);
+            previous.forEach(this::fireElementRemoved);
+            replacement.forEach(this::fireElementAdded);
+            if (!previous.isEmpty()) {
+                nextRemove(0, previous);
+            }
+            if (!replacement.isEmpty()) {
+                nextAdd(0, replacement.size());
+            }
+        } finally {
+            endChange();
+        }
+        ChangeLog.record(() -> setAll(previous), () -> setAll(replacement), previous.size() + replacement.size());
+        return true;
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+        fireElementAdded(element);
+        ChangeLog.record(() -> remove(index), () -> add(index, element));
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E previous = backingList.set(index, element);
+        fireElementRemoved(previous);
+        fireElementAdded(element);
+        ChangeLog.record(() -> set(index, previous), () -> set(index, element));
+        return previous;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E removed = backingList.remove(index);
+        fireElementRemoved(removed);
+        ChangeLog.record(() -> add(index, removed), () -> remove(index));
+        return removed;
+    }
+
+    private void fireElementAdded(E element) {
+        for (ElementListener<? super E> listener : elementListeners) {
+            listener.elementAdded(element);
+        }
+    }
+
+    private void fireElementRemoved(E element) {
+        for (ElementListener<? super E> listener : elementListeners) {
+            listener.elementRemoved(element);
+        }
+    }
+}
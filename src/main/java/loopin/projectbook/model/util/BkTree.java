@@ -0,0 +1,103 @@
+package loopin.projectbook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A Burkhard-Keller tree: a set of keys in a metric space that finds every key within a given distance of a
+ * query without comparing the query against every key.
+ * <p>
+ * Each child of a node is filed under its distance to that node, so by the triangle inequality a search only
+ * descends into the children whose distance to the node is within the search radius of the query's own.
+ * Keys cannot be removed; callers that need removal keep the key and ignore it when it is found.
+ */
+public class BkTree<K> {
+
+    private final ToIntBiFunction<? super K, ? super K> metric;
+    private Node<K> root;
+    private int size;
+
+    /**
+     * Creates an empty tree measuring the distance between keys with {@code metric}, which must be a metric:
+     * non-negative, zero only between equal keys, symmetric, and satisfying the triangle inequality.
+     */
+    public BkTree(ToIntBiFunction<? super K, ? super K> metric) {
+        requireNonNull(metric);
+        this.metric = metric;
+    }
+
+    /**
+     * Adds {@code key} to the tree. Does nothing if it is already in the tree.
+     *
+     * @return true if the key was added.
+     */
+    public boolean add(K key) {
+        requireNonNull(key);
+        if (root == null) {
+            root = new Node<>(key);
+            size++;
+            return true;
+        }
+        Node<K> node = root;
+        while (true) {
+            int distance = metric.applyAsInt(key, node.key);
+            if (distance == 0) {
+                return false;
+            }
+            Node<K> child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node<>(key));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Passes every key within {@code maxDistance} of {@code query} to {@code action}, with its distance.
+     */
+    public void search(K query, int maxDistance, ObjIntConsumer<? super K> action) {
+        requireNonNull(query);
+        requireNonNull(action);
+        if (root == null) {
+            return;
+        }
+        Deque<Node<K>> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node<K> node = pending.pop();
+            int distance = metric.applyAsInt(query, node.key);
+            if (distance <= maxDistance) {
+                action.accept(node.key, distance);
+            }
+            for (Map.Entry<Integer, Node<K>> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static class Node<K> {
+        private final K key;
+        private final Map<Integer, Node<K>> children = new HashMap<>();
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package loopin.projectbook.model.util;
+
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import loopin.projectbook.model.util.ChangeLog.Change;
+
+/**
+ * The undo and redo history of the project book, kept as the changes recorded by each committed transaction.
+ * <p>
+ * Undoing replays the inverses of one transaction's changes, so its cost is proportional to what that
+ * transaction changed rather than to the size of the book. The history is bounded both by the number of
+ * transactions it keeps and by the total weight of their changes; the oldest transactions are forgotten first.
+ * <p>
+ * Undo and redo record their own changes in the open {@link ChangeLog}, if any, and so can be rolled back.
+ */
+public class ChangeHistory {
+
+    public static final String MESSAGE_INVALID_LIMITS = "History depth and budget must not be negative.";
+
+    private final Deque<Entry> undoStack = new ArrayDeque<>();
+    private final Deque<Entry> redoStack = new ArrayDeque<>();
+    private int maxDepth;
+    private long budget;
+    private long weight;
+
+    /**
+     * Creates an empty history keeping at most {@code maxDepth} transactions with a total weight of at most
+     * {@code budget}.
+     */
+    public ChangeHistory(int maxDepth, long budget) {
+        setLimits(maxDepth, budget);
+    }
+
+    /**
+     * Changes the bounds of this history, forgetting the oldest transactions that no longer fit.
+     */
+    public void setLimits(int maxDepth, long budget) {
+        checkArgument(maxDepth >= 0 && budget >= 0, MESSAGE_INVALID_LIMITS);
+        this.maxDepth = maxDepth;
+        this.budget = budget;
+        trim();
+    }
+
+    /**
+     * Adds the changes of a newly committed transaction, which makes everything undone so far unredoable.
+     * Does nothing if {@code changes} is empty. If the transaction alone does not fit in the budget, the whole
+     * history is forgotten, as the transactions before it can no longer be undone in order.
+     */
+    public void push(List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        forget(redoStack);
+
+        Entry entry = new Entry(changes);
+        if (entry.weight > budget || maxDepth == 0) {
+            clear();
+            return;
+        }
+        undoStack.addLast(entry);
+        weight += entry.weight;
+        trim();
+    }
+
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Reverts the most recent transaction that has not been undone.
+     *
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    public void undo() {
+        if (undoStack.isEmpty()) {
+            throw new IllegalStateException("There is nothing to undo.");
+        }
+        Entry entry = undoStack.removeLast();
+        entry.undo();
+        redoStack.addLast(entry);
+        ChangeLog.record(() -> undoStack.addLast(redoStack.removeLast()),
+                () -> redoStack.addLast(undoStack.removeLast()));
+    }
+
+    /**
+     * Applies again the most recently undone transaction.
+     *
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    public void redo() {
+        if (redoStack.isEmpty()) {
+            throw new IllegalStateException("There is nothing to redo.");
+        }
+        Entry entry = redoStack.removeLast();
+        entry.redo();
+        undoStack.addLast(entry);
+        ChangeLog.record(() -> redoStack.addLast(undoStack.removeLast()),
+                () -> undoStack.addLast(redoStack.removeLast()));
+    }
+
+    /**
+     * Forgets every transaction, e.g. because the book was changed outside a transaction.
+     */
+    public void clear() {
+        forget(undoStack);
+        forget(redoStack);
+    }
+
+    private void trim() {
+        while (undoStack.size() + redoStack.size() > maxDepth || weight > budget) {
+            // the oldest undoable transaction goes first, then the undone one furthest from the current state
+            Entry forgotten = undoStack.isEmpty() ? redoStack.removeFirst() : undoStack.removeFirst();
+            weight -= forgotten.weight;
+        }
+    }
+
+    private void forget(Deque<Entry> stack) {
+        for (Entry entry : stack) {
+            weight -= entry.weight;
+        }
+        stack.clear();
+    }
+
+    /**
+     * The changes of one committed transaction.
+     */
+    private static class Entry {
+        private final List<Change> changes;
+        private final long weight;
+
+        Entry(List<Change> changes) {
+            this.changes = changes;
+            long total = 0;
+            for (Change change : changes) {
+                total += change.getWeight();
+            }
+            this.weight = total;
+        }
+
+        void undo() {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo();
+            }
+        }
+
+        void redo() {
+            for (Change change : changes) {
+                change.redo();
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package loopin.projectbook.model.util;
+
+import static loopin.projectbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the changes made to the project book and its persons and projects on the current thread, each
+ * together with how to undo it, so that a transaction can be rolled back without copying the book.
+ * <p>
+ * Mutators call {@link #record(Runnable, Runnable)} after applying a change. Nothing is recorded while no log
+ * is open on the calling thread, so code running outside a transaction pays only a thread-local lookup.
+ * Not thread-safe: a log belongs to the thread that opened it, which must also hold the model's write lock.
+ */
+public class ChangeLog {
+
+    private static final ThreadLocal<ChangeLog> openLog = new ThreadLocal<>();
+
+    private final List<Change> changes = new ArrayList<>();
+    private boolean isReplaying;
+
+    private ChangeLog() {}
+
+    /**
+     * Opens a new change log on the current thread.
+     *
+     * @throws IllegalStateException if a log is already open on this thread.
+     */
+    public static ChangeLog open() {
+        if (openLog.get() != null) {
+            throw new IllegalStateException("A change log is already open on this thread.");
+        }
+        ChangeLog log = new ChangeLog();
+        openLog.set(log);
+        return log;
+    }
+
+    /**
+     * Records a change that has just been applied, if a log is open on the current thread.
+     *
+     * @param undo reverts the change.
+     * @param redo applies the change again after it has been reverted.
+     */
+    public static void record(Runnable undo, Runnable redo) {
+        record(undo, redo, 1);
+    }
+
+    /**
+     * Records a change that has just been applied, if a log is open on the current thread.
+     *
+     * @param weight roughly how many elements {@code undo} and {@code redo} keep alive, used to bound the
+     *     memory held by recorded changes.
+     */
+    public static void record(Runnable undo, Runnable redo, int weight) {
+        ChangeLog log = openLog.get();
+        if (log == null || log.isReplaying) {
+            return;
+        }
+        requireAllNonNull(undo, redo);
+        log.changes.add(new Change(undo, redo, Math.max(1, weight)));
+    }
+
+    /**
+     * Returns the number of changes recorded so far, which can be passed to {@link #rollbackTo(int)}.
+     */
+    public int size() {
+        return changes.size();
+    }
+
+    /**
+     * Undoes, newest first, and forgets every change recorded after the first {@code savepoint} changes.
+     */
+    public void rollbackTo(int savepoint) {
+        if (savepoint < 0 || savepoint > changes.size()) {
+            throw new IndexOutOfBoundsException(savepoint);
+        }
+        isReplaying = true;
+        try {
+            for (int i = changes.size() - 1; i >= savepoint; i--) {
+                changes.remove(i).undo();
+            }
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Closes this log and returns the changes it recorded, oldest first.
+     *
+     * @throws IllegalStateException if this log is not the one open on the current thread.
+     */
+    public List<Change> close() {
+        if (openLog.get() != this) {
+            throw new IllegalStateException("This change log is not open on this thread.");
+        }
+        openLog.remove();
+        return changes;
+    }
+
+    /**
+     * A recorded change, which can be reverted and applied again.
+     */
+    public static final class Change {
+        private final Runnable undo;
+        private final Runnable redo;
+        private final int weight;
+
+        private Change(Runnable undo, Runnable redo, int weight) {
+            this.undo = undo;
+            this.redo = redo;
+            this.weight = weight;
+        }
+
+        /** Returns roughly how many elements this change keeps alive; at least 1. */
+        public int getWeight() {
+            return weight;
+        }
+
+        /** Reverts this change. */
+        public void undo() {
+            undo.run();
+        }
+
+        /** Applies this change again after it has been reverted. */
+        public void redo() {
+            redo.run();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package loopin.projectbook.model.util;
+
+/**
+ * Listens to the elements added to and removed from a {@link BatchedObservableList}.
+ * <p>
+ * Unlike a {@code ListChangeListener}, it is called as soon as each element changes, even while the list holds
+ * back its change events, so that indexes kept over the list are never stale, including during a transaction
+ * and while its changes are rolled back. Replacing an element is a removal followed by an addition.
+ */
+public interface ElementListener<E> {
+
+    /**
+     * Called after {@code element} is added to the list.
+     */
+    void elementAdded(E element);
+
+    /**
+     * Called after {@code element} is removed from the list.
+     */
+    void elementRemoved(E element);
+}
@@ -0,0 +1,130 @@
+package loopin.projectbook.model.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An array-backed list that can hand out frozen snapshots of itself in O(1).
+ * <p>
+ * A snapshot shares the list's current backing array. The list marks the array as shared and copies it
+ * the next time it is modified, so the cost of a snapshot is paid at most once per snapshot by the writer,
+ * and only if the list actually changes afterwards. Elements themselves are never copied.
+ * <p>
+ * Not thread-safe: mutations and calls to {@link #snapshot()} must be serialised by the caller.
+ * Snapshots are immutable and may be read from any thread once safely published.
+ */
+public class SnapshotArrayList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final Object[] EMPTY = new Object[0];
+    private static final int MIN_CAPACITY = 10;
+
+    private Object[] elements = EMPTY;
+    private int size;
+    private boolean isShared;
+
+    /**
+     * Returns an immutable view of the current contents, sharing the backing array.
+     */
+    public List<E> snapshot() {
+        isShared = true;
+        return new Frozen<>(elements, size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        ensureOwned(size);
+        E previous = (E) elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+        ensureOwned(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        ensureOwned(size);
+        E removed = (E) elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        if (isShared) {
+            elements = EMPTY;
+            isShared = false;
+        } else {
+            Arrays.fill(elements, 0, size, null);
+        }
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Makes sure the backing array is not shared with any snapshot and can hold {@code minCapacity} elements.
+     */
+    private void ensureOwned(int minCapacity) {
+        if (!isShared && minCapacity <= elements.length) {
+            return;
+        }
+        int capacity = minCapacity <= elements.length
+                ? elements.length
+                : Math.max(MIN_CAPACITY, Math.max(minCapacity, elements.length + (elements.length >> 1)));
+        elements = Arrays.copyOf(elements, capacity);
+        isShared = false;
+    }
+
+    /**
+     * An immutable list over a prefix of an array that is never written again.
+     */
+    private static class Frozen<E> extends AbstractList<E> implements RandomAccess {
+        private final Object[] elements;
+        private final int size;
+
+        Frozen(Object[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
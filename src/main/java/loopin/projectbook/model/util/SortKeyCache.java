@@ -0,0 +1,60 @@
+package loopin.projectbook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The sort keys of the elements of a {@link BatchedObservableList}, each computed the first time the element is
+ * compared and kept until the list reports the element removed.
+ * <p>
+ * A {@code SortedList} compares an element O(log n) times when it is added, and O(n log n) times in all when the
+ * list is sorted again, so computing an expensive key, e.g. a count over a person's remarks, once per element
+ * rather than once per comparison keeps sorting cheap. An element changed in place must be put back into the list
+ * for its key to be computed again, which is how the project book already tells of such changes.
+ */
+public class SortKeyCache<E> implements ElementListener<E> {
+
+    private final Map<E, Comparable<Object>> keys = new IdentityHashMap<>();
+    private Function<? super E, ? extends Comparable<?>> keyFunction;
+
+    /**
+     * Returns a comparator of elements by the keys {@code keyFunction} gives them, in descending order if
+     * {@code isDescending}. The keys cached for any earlier comparator are forgotten, and that comparator must no
+     * longer be used.
+     */
+    public Comparator<E> comparing(Function<? super E, ? extends Comparable<?>> keyFunction, boolean isDescending) {
+        requireNonNull(keyFunction);
+        keys.clear();
+        this.keyFunction = keyFunction;
+        Comparator<E> comparator = (first, second) -> keyOf(first).compareTo(keyOf(second));
+        return isDescending ? comparator.reversed() : comparator;
+    }
+
+    /**
+     * Forgets the cached keys, so that no element is kept alive by them.
+     */
+    public void clear() {
+        keys.clear();
+        keyFunction = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Comparable<Object> keyOf(E element) {
+        // every key comes from the same function, so keys of the same type are only compared with each other
+        return keys.computeIfAbsent(element, e -> (Comparable<Object>) keyFunction.apply(e));
+    }
+
+    @Override
+    public void elementAdded(E element) {
+        // the key is computed when the element is first compared
+    }
+
+    @Override
+    public void elementRemoved(E element) {
+        keys.remove(element);
+    }
+}
@@ -0,0 +1,173 @@
+package loopin.projectbook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only observable list showing the elements of another observable list, its source, which can be
+ * switched for a different list at any time.
+ * <p>
+ * Switching costs O(1) plus whatever the listeners do with the change, which reports every element of the old
+ * source as replaced by every element of the new one. Unlike changing the predicate of a {@code FilteredList},
+ * no element of either list is visited, so a list kept up to date elsewhere can be shown in time proportional to
+ * the part of it on screen. The elements reported as removed are those of the old source while the change is
+ * being reported, and must not be kept for later.
+ */
+public class SwitchingObservableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> forwarder = change -> fireChange(new ForwardedChange<>(this, change));
+    private ObservableList<E> source;
+
+    /**
+     * Creates a list showing the elements of {@code source}.
+     */
+    public SwitchingObservableList(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(forwarder);
+    }
+
+    public ObservableList<E> getSource() {
+        return source;
+    }
+
+    /**
+     * Shows the elements of {@code newSource} instead of those of the current source.
+     */
+    public void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+        ObservableList<E> previous = source;
+        previous.removeListener(forwarder);
+        source = newSource;
+        newSource.addListener(forwarder);
+        if (hasListeners()) {
+            fireChange(new ReplacementChange<>(this, previous, newSource.size()));
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    /**
+     * A change of a source, reported as a change of this list.
+     */
+    private static class ForwardedChange<E> extends ListChangeListener.Change<E> {
+        private final ListChangeListener.Change<? extends E> change;
+
+        ForwardedChange(ObservableList<E> list, ListChangeListener.Change<? extends E> change) {
+            super(list);
+            this.change = change;
+        }
+
+        @Override
+        public boolean next() {
+            return change.next();
+        }
+
+        @Override
+        public void reset() {
+            change.reset();
+        }
+
+        @Override
+        public int getFrom() {
+            return change.getFrom();
+        }
+
+        @Override
+        public int getTo() {
+            return change.getTo();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<E> getRemoved() {
+            // the removed elements are only read
+            return (List<E>) change.getRemoved();
+        }
+
+        @Override
+        public boolean wasPermutated() {
+            return change.wasPermutated();
+        }
+
+        @Override
+        public boolean wasUpdated() {
+            return change.wasUpdated();
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            if (!change.wasPermutated()) {
+                return new int[0];
+            }
+            int[] permutation = new int[getTo() - getFrom()];
+            for (int i = 0; i < permutation.length; i++) {
+                permutation[i] = change.getPermutation(getFrom() + i);
+            }
+            return permutation;
+        }
+    }
+
+    /**
+     * The replacement of every element of the old source by every element of the new one.
+     */
+    private static class ReplacementChange<E> extends ListChangeListener.Change<E> {
+        private final List<E> removed;
+        private final int addedSize;
+        private int position = -1;
+
+        ReplacementChange(ObservableList<E> list, List<E> previous, int addedSize) {
+            super(list);
+            this.removed = Collections.unmodifiableList(previous);
+            this.addedSize = addedSize;
+        }
+
+        @Override
+        public boolean next() {
+            position++;
+            return position == 0;
+        }
+
+        @Override
+        public void reset() {
+            position = -1;
+        }
+
+        @Override
+        public int getFrom() {
+            return 0;
+        }
+
+        @Override
+        public int getTo() {
+            return addedSize;
+        }
+
+        @Override
+        public List<E> getRemoved() {
+            return removed;
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            return new int[0];
+        }
+    }
+}
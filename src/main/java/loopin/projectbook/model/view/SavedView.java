@@ -0,0 +1,108 @@
+package loopin.projectbook.model.view;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import loopin.projectbook.commons.util.ToStringBuilder;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.query.Query;
+
+/**
+ * A named query whose matching persons are kept, and kept up to date by {@link SavedViews} as the project book
+ * changes, so that they can be shown without running the query again.
+ * <p>
+ * The persons are kept in the order in which they came to match, and an edited person keeps its place.
+ */
+public class SavedView {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "View names should only contain letters, digits, hyphens and underscores, and should not be blank";
+
+    public static final String VALIDATION_REGEX = "[\\p{Alnum}_-]+";
+
+    private final String name;
+    private final Query query;
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiablePersons = FXCollections.unmodifiableObservableList(persons);
+
+    /**
+     * Creates a view named {@code name} of the persons among {@code candidates} that match {@code query}.
+     */
+    SavedView(String name, Query query, Iterable<Person> candidates) {
+        requireNonNull(name);
+        requireNonNull(query);
+        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        this.name = name;
+        this.query = query;
+        for (Person candidate : candidates) {
+            if (query.test(candidate)) {
+                persons.add(candidate);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code name} is a valid view name.
+     */
+    public static boolean isValidName(String name) {
+        return name.matches(VALIDATION_REGEX);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    /**
+     * Returns the persons matching the query, as an unmodifiable list which follows the project book.
+     */
+    public ObservableList<Person> getPersons() {
+        return unmodifiablePersons;
+    }
+
+    /**
+     * Brings the view up to date with a change to {@code person}, which has replaced {@code replaced} unless it
+     * is null, and is in the project book if {@code isInBook}. Costs O(number of persons in the view).
+     */
+    void update(Person person, Person replaced, boolean isInBook) {
+        int index = indexOf(person);
+        if (index < 0 && replaced != null) {
+            index = indexOf(replaced);
+        }
+        boolean matches = isInBook && query.test(person);
+        if (matches && index < 0) {
+            persons.add(person);
+        } else if (matches && persons.get(index) != person) {
+            persons.set(index, person);
+        } else if (!matches && index >= 0) {
+            persons.remove(index);
+        }
+    }
+
+    /**
+     * Returns the index of {@code person} itself in the view, or -1 if it is not in the view.
+     * Identity is used as persons are mutable, and equal persons can differ in their projects.
+     */
+    private int indexOf(Person person) {
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) == person) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("query", query)
+                .add("size", persons.size())
+                .toString();
+    }
+}
@@ -0,0 +1,161 @@
+package loopin.projectbook.model.view;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.query.Query;
+import loopin.projectbook.model.util.ElementListener;
+
+/**
+ * The saved views of a project book, kept up to date as an {@link ElementListener} of its persons.
+ * <p>
+ * A change to the book only re-tests the persons it touches, each against every view, so keeping the views
+ * costs O(views) per changed person rather than re-running every query over the book. A person changed in place,
+ * e.g. by joining a project, is touched by putting it back into the book's list.
+ * <p>
+ * While a transaction is in progress, or a change is being undone, the persons touched are only re-tested once
+ * it ends: its changes are told of as they happen, and while they are rolled back a person may be told of
+ * before its own in-place changes are undone. A person replaced on its own is deferred in the same way, so that
+ * its removal and addition are re-tested together. {@link #flush()} may be called at any point where the book is
+ * consistent to re-test them earlier.
+ */
+public class SavedViews implements ElementListener<Person> {
+
+    private final Map<String, SavedView> views = new LinkedHashMap<>();
+    private final Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Person> touched = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Person> touchedInOrder = new ArrayList<>();
+    private final Map<Person, Person> replacements = new IdentityHashMap<>();
+    private Person lastRemoved;
+    private int deferrals;
+
+    @Override
+    public void elementAdded(Person person) {
+        persons.add(person);
+        if (!views.isEmpty() && lastRemoved != null && lastRemoved != person && lastRemoved.isSamePerson(person)) {
+            // an edit, which should keep the edited person's place; chains of edits lead back to the first person
+            Person original = replacements.getOrDefault(lastRemoved, lastRemoved);
+            replacements.remove(lastRemoved);
+            if (original != person) {
+                replacements.put(person, original);
+            }
+        }
+        lastRemoved = null;
+        touch(person);
+    }
+
+    @Override
+    public void elementRemoved(Person person) {
+        persons.remove(person);
+        lastRemoved = person;
+        touch(person);
+    }
+
+    private void touch(Person person) {
+        if (views.isEmpty()) {
+            return;
+        }
+        if (touched.add(person)) {
+            touchedInOrder.add(person);
+        }
+        if (deferrals == 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Re-tests the persons touched since the last flush against every view. Must only be called when the persons
+     * and their projects are consistent, i.e. not while a change is being made or rolled back.
+     */
+    public void flush() {
+        if (touchedInOrder.isEmpty()) {
+            return;
+        }
+        Set<Person> replaced = Collections.newSetFromMap(new IdentityHashMap<>());
+        replaced.addAll(replacements.values());
+        for (Person person : touchedInOrder) {
+            boolean isInBook = persons.contains(person);
+            if (!isInBook && replaced.contains(person)) {
+                // updated along with the person replacing it, which takes its place
+                continue;
+            }
+            Person replacedPerson = replacements.get(person);
+            for (SavedView view : views.values()) {
+                view.update(person, replacedPerson, isInBook);
+            }
+        }
+        touched.clear();
+        touchedInOrder.clear();
+        replacements.clear();
+    }
+
+    /**
+     * Holds back re-testing the persons touched until the matching {@link #endDeferral()}, or an earlier
+     * {@link #flush()}. Deferrals may be nested.
+     */
+    public void beginDeferral() {
+        deferrals++;
+    }
+
+    /**
+     * Ends the innermost deferral. Once none are left, re-tests the persons touched while deferred, and re-tests
+     * those touched later at once.
+     */
+    public void endDeferral() {
+        if (deferrals == 0) {
+            throw new IllegalStateException("No deferral is in progress.");
+        }
+        deferrals--;
+        if (deferrals == 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Saves a view named {@code name} of the persons in {@code book} matching {@code query}, replacing any view
+     * of that name. {@code book} must be the persons this listens to, in order.
+     *
+     * @throws IllegalArgumentException if {@code name} is not a valid view name.
+     */
+    public SavedView save(String name, Query query, List<Person> book) {
+        requireNonNull(book);
+        flush();
+        SavedView view = new SavedView(name, query, book);
+        views.put(name, view);
+        return view;
+    }
+
+    /**
+     * Deletes the view named {@code name}, returning false if there is none.
+     */
+    public boolean delete(String name) {
+        requireNonNull(name);
+        return views.remove(name) != null;
+    }
+
+    /**
+     * Returns the up-to-date view named {@code name}, if there is one.
+     */
+    public Optional<SavedView> get(String name) {
+        requireNonNull(name);
+        flush();
+        return Optional.ofNullable(views.get(name));
+    }
+
+    /**
+     * Returns the up-to-date views, in the order they were first saved.
+     */
+    public List<SavedView> asList() {
+        flush();
+        return List.copyOf(views.values());
+    }
+}
@@ -0,0 +1,318 @@
+package loopin.projectbook.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import loopin.projectbook.commons.core.LogsCenter;
+import loopin.projectbook.commons.util.JsonUtil;
+import loopin.projectbook.logic.Logic;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.model.person.NameContainsKeywordsPredicate;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectNameContainsKeywordsPredicate;
+import loopin.projectbook.storage.JsonAdaptedViews;
+
+/**
+ * Serves the project book over a local HTTP/JSON API.
+ *
+ * <ul>
+ *     <li>{@code GET /api/persons[?name=KEYWORDS]} lists persons, optionally filtered by name keywords.</li>
+ *     <li>{@code GET /api/projects[?name=KEYWORDS]} lists projects, optionally filtered by name keywords.</li>
+ *     <li>{@code POST /api/commands} submits the command text in the request body to {@link Logic#submit(String)}
+ *     and responds once it has been executed and saved.</li>
+ * </ul>
+ *
+ * Requests are handled by a fixed pool of worker threads fed by a bounded queue. Whether a request is let in is
+ * decided as it arrives: once every worker is busy and the queue is full, a new request is answered straight away
+ * with {@code 503 Service Unavailable} and a {@code Retry-After} header, on a thread of its own, instead of piling up.
+ * A worker waits for a submitted command only up to a timeout, after which it answers {@code 504 Gateway Timeout}.
+ * Reads build their response under the model's read lock, so that the memberships of the persons and projects
+ * shown, which are shared with the model, are all of one version. They wait only for commands being executed.
+ */
+public class ApiServer {
+
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String PROJECTS_PATH = "/api/projects";
+    public static final String COMMANDS_PATH = "/api/commands";
+
+    public static final int DEFAULT_THREADS = 8;
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+    public static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(30);
+
+    public static final String MESSAGE_OVERLOADED = "Server is busy, please retry later.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method %s is not allowed, use %s.";
+    public static final String MESSAGE_EMPTY_COMMAND = "Request body must contain a command.";
+    public static final String MESSAGE_COMMAND_TIMED_OUT =
+            "The command did not finish within %d ms. It may still be executed.";
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int STATUS_UNAVAILABLE = 503;
+    private static final int STATUS_GATEWAY_TIMEOUT = 504;
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final int MAX_BACKLOG = 128;
+    private static final int MAX_WAITING_REJECTIONS = MAX_BACKLOG;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final HttpServer server;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor rejecter;
+    private final int capacity;
+    private final Duration commandTimeout;
+    private final AtomicInteger admittedCount = new AtomicInteger();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    /** Set while an exchange rejected on arrival is being answered. */
+    private final ThreadLocal<Boolean> isRejecting = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Creates a server for {@code logic} bound to {@code address}, handling requests with {@code threads}
+     * workers and at most {@code queueCapacity} waiting requests, and waiting for submitted commands up to
+     * {@link #DEFAULT_COMMAND_TIMEOUT}. The server is not started.
+     */
+    public ApiServer(Logic logic, InetSocketAddress address, int threads, int queueCapacity) throws IOException {
+        this(logic, address, threads, queueCapacity, DEFAULT_COMMAND_TIMEOUT);
+    }
+
+    /**
+     * Creates a server as {@link #ApiServer(Logic, InetSocketAddress, int, int)} does, waiting for submitted
+     * commands up to {@code commandTimeout}.
+     */
+    public ApiServer(Logic logic, InetSocketAddress address, int threads, int queueCapacity,
+            Duration commandTimeout) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(address);
+        requireNonNull(commandTimeout);
+        this.logic = logic;
+        this.capacity = threads + queueCapacity;
+        this.commandTimeout = commandTimeout;
+
+        // requests are only handed to the workers while there is room for them, so the queue never overflows
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+        // answers the requests turned away; if even it falls behind, the server's own thread answers them
+        rejecter = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_WAITING_REJECTIONS), new ThreadPoolExecutor.CallerRunsPolicy());
+        server = HttpServer.create(address, MAX_BACKLOG);
+        server.setExecutor(this::admit);
+        server.createContext(PERSONS_PATH, exchange -> handle(exchange, "GET", this::getPersons));
+        server.createContext(PROJECTS_PATH, exchange -> handle(exchange, "GET", this::getProjects));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, "POST", this::executeCommand));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("API server listening on port " + getPort());
+    }
+
+    /**
+     * Stops accepting requests, waits up to {@code delaySeconds} for in-flight requests, then shuts down the workers.
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+        rejecter.shutdown();
+        logger.info("API server stopped, " + rejectedCount.get() + " request(s) were rejected while overloaded");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * Hands the exchange the server has just accepted to the workers if one of them is free or there is room in the
+     * queue, and otherwise has it answered at once as rejected.
+     */
+    private void admit(Runnable exchange) {
+        if (admittedCount.incrementAndGet() > capacity) {
+            admittedCount.decrementAndGet();
+            rejectedCount.incrementAndGet();
+            rejecter.execute(() -> {
+                isRejecting.set(true);
+                try {
+                    exchange.run();
+                } finally {
+                    isRejecting.set(false);
+                }
+            });
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                exchange.run();
+            } finally {
+                admittedCount.decrementAndGet();
+            }
+        });
+    }
+
+    private void handle(HttpExchange exchange, String allowedMethod, RequestHandler handler) {
+        try {
+            if (isRejecting.get()) {
+                exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER_SECONDS);
+                sendError(exchange, STATUS_UNAVAILABLE, MESSAGE_OVERLOADED);
+                return;
+            }
+            if (!allowedMethod.equals(exchange.getRequestMethod())) {
+                sendError(exchange, STATUS_METHOD_NOT_ALLOWED,
+                        String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod(), allowedMethod));
+                return;
+            }
+            handler.handle(exchange);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to handle " + exchange.getRequestURI() + ": " + e);
+            try {
+                sendError(exchange, STATUS_INTERNAL_ERROR, e.getMessage());
+            } catch (IOException ioe) {
+                // the client has gone away, nothing left to report to
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void getPersons(HttpExchange exchange) throws IOException {
+        Predicate<Person> predicate = nameKeywords(exchange)
+                .<Predicate<Person>>map(NameContainsKeywordsPredicate::new)
+                .orElse(person -> true);
+        String json;
+        logic.getLock().readLock().lock();
+        try {
+            json = JsonAdaptedViews.personsToJson(logic.snapshot().getPersonList().stream()
+                    .filter(predicate).collect(Collectors.toList()));
+        } finally {
+            logic.getLock().readLock().unlock();
+        }
+        send(exchange, STATUS_OK, json);
+    }
+
+    private void getProjects(HttpExchange exchange) throws IOException {
+        Predicate<Project> predicate = nameKeywords(exchange)
+                .<Predicate<Project>>map(ProjectNameContainsKeywordsPredicate::new)
+                .orElse(project -> true);
+        String json;
+        logic.getLock().readLock().lock();
+        try {
+            json = JsonAdaptedViews.projectsToJson(logic.snapshot().getProjectList().stream()
+                    .filter(predicate).collect(Collectors.toList()));
+        } finally {
+            logic.getLock().readLock().unlock();
+        }
+        send(exchange, STATUS_OK, json);
+    }
+
+    private void executeCommand(HttpExchange exchange) throws IOException {
+        String commandText = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).trim();
+        if (commandText.isEmpty()) {
+            sendError(exchange, STATUS_BAD_REQUEST, MESSAGE_EMPTY_COMMAND);
+            return;
+        }
+
+        CommandResult result;
+        try {
+            result = logic.submit(commandText).get(commandTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // the worker is freed, but the command stays queued, so it is not worth retrying straight away
+            sendError(exchange, STATUS_GATEWAY_TIMEOUT, String.format(MESSAGE_COMMAND_TIMED_OUT,
+                    commandTimeout.toMillis()));
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendError(exchange, STATUS_INTERNAL_ERROR, e.getMessage());
+            return;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                sendError(exchange, STATUS_BAD_REQUEST, cause.getMessage());
+            } else {
+                sendError(exchange, STATUS_INTERNAL_ERROR, String.valueOf(cause));
+            }
+            return;
+        }
+        send(exchange, STATUS_OK, JsonUtil.toJsonString(Map.of("feedback", result.getFeedbackToUser())));
+    }
+
+    /**
+     * Returns the whitespace-separated keywords of the {@code name} query parameter, if present.
+     */
+    private static Optional<List<String>> nameKeywords(HttpExchange exchange) {
+        String name = parseQuery(exchange.getRequestURI().getRawQuery()).get("name");
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.asList(name.trim().split("\\s+")));
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, JsonUtil.toJsonString(Map.of("error", String.valueOf(message))));
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    /**
+     * Handles a single request whose method has already been checked.
+     */
+    @FunctionalInterface
+    private interface RequestHandler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+}
@@ -0,0 +1,251 @@
+package loopin.projectbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import loopin.projectbook.commons.core.LogsCenter;
+import loopin.projectbook.model.ReadOnlyProjectBook;
+import loopin.projectbook.model.person.Name;
+import loopin.projectbook.model.project.ActivityArchive;
+import loopin.projectbook.model.project.ActivityEvent;
+import loopin.projectbook.model.project.ActivityHistory;
+import loopin.projectbook.model.project.Project;
+
+/**
+ * Archives the activity of projects in append-only log files, one per day, in a directory.
+ * <p>
+ * Each line of a file is one event, written as tab-separated fields: the creation time and name of its project,
+ * which together tell projects of the same name apart, then its number, type, timestamp, person and detail.
+ * An event goes into the file of the day it happened. Reading a page of events streams the files from the latest
+ * day back, keeping only the events asked for, so the log is never loaded as a whole.
+ */
+public class ActivityLogStorage implements ActivityArchive {
+
+    /** The directory, next to the project book file, that the log files are kept in. */
+    public static final String DIRECTORY_NAME = "activity";
+
+    private static final Logger logger = LogsCenter.getLogger(ActivityLogStorage.class);
+    private static final String FILE_EXTENSION = ".log";
+    private static final String NULL_FIELD = "\\0";
+    private static final int EVENT_FIELD_COUNT = 5;
+
+    private final Path directory;
+
+    /**
+     * Creates a log kept in {@code directory}, which is created when the first event is archived.
+     */
+    public ActivityLogStorage(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Appends the events pushed out of the histories of the projects in {@code projectBook} to the log, and marks
+     * them as archived.
+     */
+    public void archive(ReadOnlyProjectBook projectBook) throws IOException {
+        for (Project project : projectBook.getProjectList()) {
+            ActivityHistory history = project.getHistory();
+            List<ActivityEvent> unarchived = history.getUnarchived();
+            if (!unarchived.isEmpty()) {
+                append(project, unarchived);
+                history.markArchived(unarchived.get(unarchived.size() - 1).getSequence());
+            }
+        }
+    }
+
+    @Override
+    public void append(Project project, List<ActivityEvent> events) throws IOException {
+        requireNonNull(project);
+        requireNonNull(events);
+        if (events.isEmpty()) {
+            return;
+        }
+        Map<LocalDate, List<ActivityEvent>> eventsByDay = events.stream()
+                .collect(Collectors.groupingBy(event -> event.getTimestamp().toLocalDate(), LinkedHashMap::new,
+                        Collectors.toList()));
+        Files.createDirectories(directory);
+        String projectKey = getProjectKey(project);
+        for (Map.Entry<LocalDate, List<ActivityEvent>> day : eventsByDay.entrySet()) {
+            try (BufferedWriter writer = Files.newBufferedWriter(getFile(day.getKey()), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (ActivityEvent event : day.getValue()) {
+                    writer.write(projectKey);
+                    writer.write(toLine(event));
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<ActivityEvent> read(Project project, long fromSequence, long toSequence) throws IOException {
+        requireNonNull(project);
+        if (fromSequence >= toSequence || !Files.isDirectory(directory)) {
+            return List.of();
+        }
+        String projectKey = getProjectKey(project);
+        long wanted = toSequence - fromSequence;
+        NavigableMap<Long, ActivityEvent> found = new TreeMap<>();
+        for (Path file : getFilesLatestFirst()) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.startsWith(projectKey)) {
+                        continue;
+                    }
+                    ActivityEvent event = parseLine(file, line.substring(projectKey.length()));
+                    if (event != null && event.getSequence() >= fromSequence && event.getSequence() < toSequence) {
+                        found.put(event.getSequence(), event);
+                    }
+                }
+            }
+            if (found.size() == wanted) {
+                break;
+            }
+        }
+        return new ArrayList<>(found.descendingMap().values());
+    }
+
+    private Path getFile(LocalDate day) {
+        return directory.resolve(day + FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the log files in the directory, the latest day first.
+     */
+    private List<Path> getFilesLatestFirst() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> toDay(file) != null)
+                    .sorted(Comparator.comparing(ActivityLogStorage::toDay).reversed())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the day of the log file {@code file}, or null if it is not a log file.
+     */
+    private static LocalDate toDay(Path file) {
+        String fileName = file.getFileName().toString();
+        if (!fileName.endsWith(FILE_EXTENSION)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(fileName.substring(0, fileName.length() - FILE_EXTENSION.length()));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the fields that start every line of {@code project}'s events, ending with a tab.
+     */
+    private static String getProjectKey(Project project) {
+        return escape(project.getCreatedAt().toString()) + '\t' + escape(project.getName().fullName) + '\t';
+    }
+
+    private static String toLine(ActivityEvent event) {
+        return event.getSequence() + "\t" + event.getType().name() + '\t' + event.getTimestamp() + '\t'
+                + (event.getPerson() == null ? NULL_FIELD : escape(event.getPerson().fullName)) + '\t'
+                + (event.getDetail() == null ? NULL_FIELD : escape(event.getDetail()));
+    }
+
+    /**
+     * Returns the event written as {@code fields}, the fields of a line after its project, or null if the line
+     * is damaged, in which case it is skipped.
+     */
+    private static ActivityEvent parseLine(Path file, String fields) {
+        String[] parts = fields.split("\t", -1);
+        try {
+            if (parts.length != EVENT_FIELD_COUNT) {
+                throw new IllegalArgumentException("expected " + EVENT_FIELD_COUNT + " fields after the project");
+            }
+            String person = unescape(parts[3]);
+            return new ActivityEvent(Long.parseLong(parts[0]), ActivityEvent.Type.valueOf(parts[1]),
+                    person == null ? null : new Name(person), unescape(parts[4]), LocalDateTime.parse(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            logger.warning("Skipping damaged line in " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String escape(String field) {
+        StringBuilder escaped = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            switch (c) {
+            case '\\':
+                escaped.append("\\\\");
+                break;
+            case '\t':
+                escaped.append("\\t");
+                break;
+            case '\n':
+                escaped.append("\\n");
+                break;
+            case '\r':
+                escaped.append("\\r");
+                break;
+            default:
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Returns the field written as {@code field} by {@link #escape(String)}, or null for a null field.
+     */
+    private static String unescape(String field) {
+        if (field.equals(NULL_FIELD)) {
+            return null;
+        }
+        StringBuilder unescaped = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c != '\\' || i + 1 == field.length()) {
+                unescaped.append(c);
+                continue;
+            }
+            char escapedChar = field.charAt(++i);
+            switch (escapedChar) {
+            case 't':
+                unescaped.append('\t');
+                break;
+            case 'n':
+                unescaped.append('\n');
+                break;
+            case 'r':
+                unescaped.append('\r');
+                break;
+            default:
+                unescaped.append(escapedChar);
+            }
+        }
+        return unescaped.toString();
+    }
+}
@@ -0,0 +1,160 @@
+package loopin.projectbook.storage;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.storage.JsonAdaptedChange.OP_DELETE;
+import static loopin.projectbook.storage.JsonAdaptedChange.OP_INSERT;
+import static loopin.projectbook.storage.JsonAdaptedChange.OP_UPDATE;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import loopin.projectbook.model.ReadOnlyProjectBook;
+import loopin.projectbook.model.event.DomainEvent;
+import loopin.projectbook.model.event.DomainEvent.MemberAssigned;
+import loopin.projectbook.model.event.DomainEvent.MemberRemoved;
+import loopin.projectbook.model.event.DomainEvent.PersonAdded;
+import loopin.projectbook.model.event.DomainEvent.PersonDeleted;
+import loopin.projectbook.model.event.DomainEvent.PersonEdited;
+import loopin.projectbook.model.event.DomainEvent.ProjectAdded;
+import loopin.projectbook.model.event.DomainEvent.ProjectBookRestored;
+import loopin.projectbook.model.event.DomainEvent.ProjectDeleted;
+import loopin.projectbook.model.event.DomainEvent.RemarkAdded;
+import loopin.projectbook.model.event.DomainEvent.RemarkResolved;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Project;
+
+/**
+ * Turns the events of changes kept in the model into change records, and holds them until they are written to
+ * the {@link ChangeFeedStorage} along with the project book.
+ * <p>
+ * Records are made as each event is captured, while the model is locked, so they hold the entities as they were
+ * just after the change. A change to the members or activity of a project is also recorded as an update of the
+ * project. A change which cannot be told of entity by entity, e.g. an undo, is recorded as a reset followed by the
+ * whole book, as is the book when the feed is first written.
+ * <p>
+ * Each record is kept with the version of the book it was made in, as a book may be saved after later changes have
+ * been captured. Only the records a book holds are appended when it is saved, the rest are kept for a later save.
+ */
+class ChangeCapture {
+
+    private static final long NO_RESET = -1;
+
+    private final ChangeFeedStorage feed;
+    /** The records not yet appended, in the order they were made, and so also in order of their versions. */
+    private final List<VersionedChange> pending = new ArrayList<>();
+    /** The version of the book in which a reset became needed, or {@link #NO_RESET}. */
+    private long resetVersion = NO_RESET;
+
+    ChangeCapture(ChangeFeedStorage feed) {
+        requireNonNull(feed);
+        this.feed = feed;
+    }
+
+    /**
+     * Records the change told of by {@code event}, which was made in the book at {@code version}.
+     */
+    synchronized void capture(DomainEvent event, long version) {
+        requireNonNull(event);
+        if (event instanceof PersonAdded) {
+            Person person = ((PersonAdded) event).getPerson();
+            record(version, JsonAdaptedChange.ofPerson(OP_INSERT, person.getEmail().value, person));
+        } else if (event instanceof PersonDeleted) {
+            Person person = ((PersonDeleted) event).getPerson();
+            record(version, JsonAdaptedChange.ofPerson(OP_DELETE, person.getEmail().value, person));
+        } else if (event instanceof PersonEdited) {
+            PersonEdited edit = (PersonEdited) event;
+            record(version, JsonAdaptedChange.ofPerson(OP_UPDATE, edit.getBefore().getEmail().value, edit.getAfter()));
+        } else if (event instanceof RemarkAdded) {
+            recordProjectsOf(version, ((RemarkAdded) event).getPerson());
+        } else if (event instanceof RemarkResolved) {
+            recordProjectsOf(version, ((RemarkResolved) event).getPerson());
+        } else if (event instanceof ProjectAdded) {
+            record(version, JsonAdaptedChange.ofProject(OP_INSERT, ((ProjectAdded) event).getProject()));
+        } else if (event instanceof ProjectDeleted) {
+            record(version, JsonAdaptedChange.ofProject(OP_DELETE, ((ProjectDeleted) event).getProject()));
+        } else if (event instanceof MemberAssigned) {
+            MemberAssigned assignment = (MemberAssigned) event;
+            record(version, JsonAdaptedChange.ofMembership(OP_INSERT, assignment.getProject(), assignment.getPerson()));
+            record(version, JsonAdaptedChange.ofProject(OP_UPDATE, assignment.getProject()));
+        } else if (event instanceof MemberRemoved) {
+            MemberRemoved removal = (MemberRemoved) event;
+            record(version, JsonAdaptedChange.ofMembership(OP_DELETE, removal.getProject(), removal.getPerson()));
+            record(version, JsonAdaptedChange.ofProject(OP_UPDATE, removal.getProject()));
+        } else if (event instanceof ProjectBookRestored) {
+            // the reset covers every change made up to now
+            pending.clear();
+            resetVersion = version;
+        }
+    }
+
+    private void recordProjectsOf(long version, Person person) {
+        for (Project project : person.getProjects()) {
+            record(version, JsonAdaptedChange.ofProject(OP_UPDATE, project));
+        }
+    }
+
+    private void record(long version, JsonAdaptedChange change) {
+        pending.add(new VersionedChange(version, change));
+    }
+
+    /**
+     * Appends the changes recorded in {@code projectBook} since the last flush to the feed, or a reset and the
+     * whole of {@code projectBook} if one is needed by then. Changes recorded after the version of
+     * {@code projectBook} are kept for a later flush, and all are kept to be appended again if this fails.
+     */
+    synchronized void flush(ReadOnlyProjectBook projectBook) throws IOException {
+        requireNonNull(projectBook);
+        long version = projectBook.getVersion();
+        int heldCount = 0;
+        while (heldCount < pending.size() && pending.get(heldCount).version <= version) {
+            heldCount++;
+        }
+        List<VersionedChange> held = pending.subList(0, heldCount);
+
+        boolean isResetHeld = resetVersion != NO_RESET && resetVersion <= version;
+        if (isResetHeld || feed.getNextOffset() == 0) {
+            feed.append(toReset(projectBook));
+            if (isResetHeld) {
+                resetVersion = NO_RESET;
+            }
+        } else {
+            List<JsonAdaptedChange> changes = new ArrayList<>(heldCount);
+            for (VersionedChange change : held) {
+                changes.add(change.change);
+            }
+            feed.append(changes);
+        }
+        held.clear();
+    }
+
+    private static List<JsonAdaptedChange> toReset(ReadOnlyProjectBook projectBook) {
+        List<JsonAdaptedChange> changes = new ArrayList<>();
+        changes.add(JsonAdaptedChange.ofReset());
+        for (Person person : projectBook.getPersonList()) {
+            changes.add(JsonAdaptedChange.ofPerson(OP_INSERT, person.getEmail().value, person));
+        }
+        for (Project project : projectBook.getProjectList()) {
+            changes.add(JsonAdaptedChange.ofProject(OP_INSERT, project));
+        }
+        for (Project project : projectBook.getProjectList()) {
+            for (Person member : project.getAllPeople()) {
+                changes.add(JsonAdaptedChange.ofMembership(OP_INSERT, project, member));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * A change record, with the version of the book it was made in.
+     */
+    private static class VersionedChange {
+        private final long version;
+        private final JsonAdaptedChange change;
+
+        VersionedChange(long version, JsonAdaptedChange change) {
+            this.version = version;
+            this.change = change;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package loopin.projectbook.storage;
+
+import static java.util.Objects.requireNonNull;
+import static loopin.projectbook.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import loopin.projectbook.commons.core.LogsCenter;
+import loopin.projectbook.commons.util.JsonUtil;
+
+/**
+ * An append-only feed of the changes made to the project book, for other systems to mirror it from, kept as
+ * newline-delimited JSON in a directory.
+ * <p>
+ * Each change is one {@link JsonAdaptedChange} on its own line, numbered by its offset, which counts up from 0
+ * without gaps. A consumer keeps the offset after the last change it has applied, and resumes from there.
+ * <p>
+ * The feed is split into segments named by the offset of their first change, e.g. {@code 00000000000000000042.ndjson},
+ * and a new segment is started once the latest one has grown past the segment size. Only the latest segments are
+ * kept; a consumer which has fallen further behind than {@link #getEarliestOffset()} has to start over from the
+ * data file. Next to each segment, an {@code .index} file holds the position in the segment of each of its changes,
+ * as 8-byte big-endian numbers, so that reading from an offset seeks straight to it and reads only the changes
+ * from there on.
+ */
+public class ChangeFeedStorage {
+
+    /** The directory, next to the project book file, that the feed is kept in. */
+    public static final String DIRECTORY_NAME = "changes";
+    public static final long DEFAULT_SEGMENT_BYTES = 1024 * 1024;
+    public static final int DEFAULT_RETAINED_SEGMENTS = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(ChangeFeedStorage.class);
+    private static final String SEGMENT_EXTENSION = ".ndjson";
+    private static final String INDEX_EXTENSION = ".index";
+    private static final String SEGMENT_NAME_FORMAT = "%020d";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final int retainedSegments;
+    /** The first offset of each segment kept, in order. */
+    private final NavigableMap<Long, Path> segments = new TreeMap<>();
+    private long nextOffset;
+    private long latestSegmentSize;
+    private boolean isLoaded;
+
+    /**
+     * Creates a feed kept in {@code directory}, with the default segment size and number of segments kept.
+     */
+    public ChangeFeedStorage(Path directory) {
+        this(directory, DEFAULT_SEGMENT_BYTES, DEFAULT_RETAINED_SEGMENTS);
+    }
+
+    /**
+     * Creates a feed kept in {@code directory}, which is created when the first change is appended, starting a new
+     * segment once the latest one has {@code segmentBytes} bytes, and keeping the latest {@code retainedSegments}.
+     */
+    public ChangeFeedStorage(Path directory, long segmentBytes, int retainedSegments) {
+        requireNonNull(directory);
+        checkArgument(segmentBytes > 0, "Segments must hold at least one byte.");
+        checkArgument(retainedSegments > 0, "At least one segment must be kept.");
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.retainedSegments = retainedSegments;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the offset the next change appended will have, which is the number of changes ever appended.
+     */
+    public synchronized long getNextOffset() throws IOException {
+        load();
+        return nextOffset;
+    }
+
+    /**
+     * Returns the offset of the earliest change still kept, or the next offset if none are.
+     */
+    public synchronized long getEarliestOffset() throws IOException {
+        load();
+        return segments.isEmpty() ? nextOffset : segments.firstKey();
+    }
+
+    /**
+     * Appends {@code changes} to the feed in order, numbering them from the next offset, then drops the segments
+     * beyond those kept. If this fails part way, the changes appended so far are kept.
+     */
+    synchronized void append(List<JsonAdaptedChange> changes) throws IOException {
+        requireNonNull(changes);
+        load();
+        if (changes.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(directory);
+        int appended = 0;
+        while (appended < changes.size()) {
+            if (segments.isEmpty() || latestSegmentSize >= segmentBytes) {
+                startSegment();
+            }
+            appended += appendToLatestSegment(changes.subList(appended, changes.size()));
+        }
+        dropOldSegments();
+    }
+
+    /**
+     * Appends changes to the latest segment until it is full, returning how many were appended.
+     */
+    private int appendToLatestSegment(List<JsonAdaptedChange> changes) throws IOException {
+        Map.Entry<Long, Path> latest = segments.lastEntry();
+        int appended = 0;
+        try (FileChannel segment = FileChannel.open(latest.getValue(), StandardOpenOption.WRITE);
+             FileChannel index = FileChannel.open(getIndexFile(latest.getKey()), StandardOpenOption.WRITE)) {
+            segment.position(latestSegmentSize);
+            index.position((nextOffset - latest.getKey()) * Long.BYTES);
+            while (appended < changes.size() && (appended == 0 || latestSegmentSize < segmentBytes)) {
+                byte[] line = (JsonUtil.toJsonLine(changes.get(appended).atOffset(nextOffset)) + "\n")
+                        .getBytes(StandardCharsets.UTF_8);
+                writeFully(segment, ByteBuffer.wrap(line));
+                // the index is written last, so that a change is only part of the feed once both are written
+                writeFully(index, ByteBuffer.allocate(Long.BYTES).putLong(0, latestSegmentSize));
+                latestSegmentSize += line.length;
+                nextOffset++;
+                appended++;
+            }
+        }
+        return appended;
+    }
+
+    private void startSegment() throws IOException {
+        Path segment = directory.resolve(String.format(SEGMENT_NAME_FORMAT, nextOffset) + SEGMENT_EXTENSION);
+        Files.write(segment, new byte[0]);
+        Files.write(getIndexFile(nextOffset), new byte[0]);
+        segments.put(nextOffset, segment);
+        latestSegmentSize = 0;
+    }
+
+    private void dropOldSegments() throws IOException {
+        while (segments.size() > retainedSegments) {
+            Map.Entry<Long, Path> oldest = segments.pollFirstEntry();
+            Files.deleteIfExists(getIndexFile(oldest.getKey()));
+            Files.deleteIfExists(oldest.getValue());
+            logger.fine("Dropped change feed segment " + oldest.getValue());
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} changes, as the lines of JSON they were written as, from {@code fromOffset} on,
+     * or from the earliest change kept if that is later. Only the changes returned are read.
+     */
+    public synchronized List<String> read(long fromOffset, int limit) throws IOException {
+        checkArgument(fromOffset >= 0 && limit >= 0, "The offset and limit must not be negative.");
+        load();
+        List<String> changes = new ArrayList<>();
+        long offset = Math.max(fromOffset, getEarliestOffset());
+        while (changes.size() < limit && offset < nextOffset) {
+            Map.Entry<Long, Path> segment = segments.floorEntry(offset);
+            Long nextSegment = segments.higherKey(offset);
+            long segmentEnd = nextSegment == null ? nextOffset : nextSegment;
+            int count = (int) Math.min(limit - changes.size(), segmentEnd - offset);
+            readSegment(segment.getKey(), segment.getValue(), offset, count, changes);
+            offset += count;
+        }
+        return changes;
+    }
+
+    private void readSegment(long firstOffset, Path segment, long offset, int count, List<String> changes)
+            throws IOException {
+        long position = readPosition(firstOffset, offset);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            channel.position(position);
+            BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+            for (int i = 0; i < count; i++) {
+                String line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Change feed segment " + segment + " ends before offset " + (offset + i));
+                }
+                changes.add(line);
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the change at {@code offset} in the segment starting at {@code firstOffset}.
+     */
+    private long readPosition(long firstOffset, long offset) throws IOException {
+        try (FileChannel index = FileChannel.open(getIndexFile(firstOffset), StandardOpenOption.READ)) {
+            ByteBuffer entry = ByteBuffer.allocate(Long.BYTES);
+            long entryPosition = (offset - firstOffset) * Long.BYTES;
+            while (entry.hasRemaining()) {
+                if (index.read(entry, entryPosition + entry.position()) < 0) {
+                    throw new IOException("Change feed index of segment " + firstOffset + " is missing " + offset);
+                }
+            }
+            return entry.getLong(0);
+        }
+    }
+
+    /**
+     * Finds the segments kept and the next offset the first time the feed is used, cutting off the end of the
+     * latest segment that was written without being indexed, e.g. if the application stopped part way.
+     */
+    private void load() throws IOException {
+        if (isLoaded) {
+            return;
+        }
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(file -> file.getFileName().toString().matches("\\d+\\" + SEGMENT_EXTENSION))
+                        .forEach(file -> segments.put(getFirstOffset(file), file));
+            }
+        }
+        if (!segments.isEmpty()) {
+            long firstOffset = segments.lastKey();
+            Path indexFile = getIndexFile(firstOffset);
+            long indexed = Files.exists(indexFile) ? Files.size(indexFile) / Long.BYTES : 0;
+            latestSegmentSize = indexed == 0 ? 0 : getEnd(segments.lastEntry().getValue(),
+                    readPosition(firstOffset, firstOffset + indexed - 1));
+            truncate(indexFile, indexed * Long.BYTES);
+            truncate(segments.lastEntry().getValue(), latestSegmentSize);
+            nextOffset = firstOffset + indexed;
+        }
+        isLoaded = true;
+    }
+
+    /**
+     * Returns the position just after the line starting at {@code position} in {@code segment}.
+     */
+    private static long getEnd(Path segment, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(8192);
+            long end = position;
+            while (channel.read(buffer, end) > 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    end++;
+                    if (buffer.get() == '\n') {
+                        return end;
+                    }
+                }
+                buffer.clear();
+            }
+            throw new IOException("Change feed segment " + segment + " ends part way through a change.");
+        }
+    }
+
+    private static void truncate(Path file, long size) throws IOException {
+        if (!Files.exists(file)) {
+            Files.write(file, new byte[0]);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            if (channel.size() > size) {
+                logger.warning("Cutting off the unfinished end of " + file);
+                channel.truncate(size);
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static long getFirstOffset(Path segment) {
+        String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_EXTENSION.length()));
+    }
+
+    private Path getIndexFile(long firstOffset) {
+        return directory.resolve(String.format(SEGMENT_NAME_FORMAT, firstOffset) + INDEX_EXTENSION);
+    }
+}
@@ -0,0 +1,75 @@
+package loopin.projectbook.storage;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import loopin.projectbook.commons.exceptions.IllegalValueException;
+import loopin.projectbook.model.person.Name;
+import loopin.projectbook.model.project.ActivityEvent;
+
+/**
+ * Jackson-friendly version of {@link ActivityEvent}.
+ */
+class JsonAdaptedActivityEvent {
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Activity event's %s field is missing!";
+
+    private final long sequence;
+    private final String type;
+    private final String person;
+    private final String detail;
+    private final String timestamp;
+
+    /**
+     * Constructs a {@code JsonAdaptedActivityEvent} with the given event details.
+     */
+    @JsonCreator
+    public JsonAdaptedActivityEvent(@JsonProperty("sequence") long sequence, @JsonProperty("type") String type,
+            @JsonProperty("person") String person, @JsonProperty("detail") String detail,
+            @JsonProperty("timestamp") String timestamp) {
+        this.sequence = sequence;
+        this.type = type;
+        this.person = person;
+        this.detail = detail;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Converts a given {@code ActivityEvent} into this class for Jackson use.
+     */
+    public JsonAdaptedActivityEvent(ActivityEvent source) {
+        sequence = source.getSequence();
+        type = source.getType().name();
+        person = source.getPerson() == null ? null : source.getPerson().fullName;
+        detail = source.getDetail();
+        timestamp = source.getTimestamp().toString();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted event object into the model's {@code ActivityEvent} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ActivityEvent toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        if (timestamp == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "timestamp"));
+        }
+        if (person != null && !Name.isValidName(person)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+
+        try {
+            return new ActivityEvent(sequence, ActivityEvent.Type.valueOf(type),
+                    person == null ? null : new Name(person), detail, LocalDateTime.parse(timestamp));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException("Activity event type is invalid: " + type);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException("Activity event timestamp is invalid: " + timestamp);
+        }
+    }
+}
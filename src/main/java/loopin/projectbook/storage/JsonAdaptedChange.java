@@ -0,0 +1,103 @@
+package loopin.projectbook.storage;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Project;
+
+/**
+ * Jackson-friendly record of one change to the project book, as written to the {@link ChangeFeedStorage}.
+ * <p>
+ * Persons are keyed by their email and projects by their name, as memberships are in the data file. An update is
+ * keyed by the entity as it was before the change, and carries the whole entity as it is after it. A membership
+ * has no key, and is told apart by the project and person in its data. A {@code reset} of the {@code book} means
+ * that the records which follow it, up to the next change, are the whole book, which replaces everything before.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedChange {
+
+    static final String ENTITY_BOOK = "book";
+    static final String ENTITY_PERSON = "person";
+    static final String ENTITY_PROJECT = "project";
+    static final String ENTITY_MEMBERSHIP = "membership";
+
+    static final String OP_INSERT = "insert";
+    static final String OP_UPDATE = "update";
+    static final String OP_DELETE = "delete";
+    static final String OP_RESET = "reset";
+
+    private static final long NO_OFFSET = -1;
+
+    private final long offset;
+    private final String time;
+    private final String entity;
+    private final String op;
+    private final String key;
+    private final Object data;
+
+    private JsonAdaptedChange(long offset, String time, String entity, String op, String key, Object data) {
+        this.offset = offset;
+        this.time = time;
+        this.entity = entity;
+        this.op = op;
+        this.key = key;
+        this.data = data;
+    }
+
+    private JsonAdaptedChange(String entity, String op, String key, Object data) {
+        this(NO_OFFSET, LocalDateTime.now().toString(), entity, op, key, data);
+    }
+
+    /**
+     * Returns a record of {@code person}, which was keyed by {@code key} before the change, going through
+     * {@code op}.
+     */
+    static JsonAdaptedChange ofPerson(String op, String key, Person person) {
+        return new JsonAdaptedChange(ENTITY_PERSON, op, key,
+                op.equals(OP_DELETE) ? null : new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record of {@code project} going through {@code op}.
+     */
+    static JsonAdaptedChange ofProject(String op, Project project) {
+        return new JsonAdaptedChange(ENTITY_PROJECT, op, project.getName().fullName,
+                op.equals(OP_DELETE) ? null : new JsonAdaptedProject(project));
+    }
+
+    /**
+     * Returns a record of the membership of {@code person} in {@code project} going through {@code op}.
+     */
+    static JsonAdaptedChange ofMembership(String op, Project project, Person person) {
+        Map<String, String> membership = new LinkedHashMap<>();
+        membership.put(ENTITY_PROJECT, project.getName().fullName);
+        membership.put(ENTITY_PERSON, person.getEmail().value);
+        return new JsonAdaptedChange(ENTITY_MEMBERSHIP, op, null, membership);
+    }
+
+    /**
+     * Returns a record telling that the whole book follows.
+     */
+    static JsonAdaptedChange ofReset() {
+        return new JsonAdaptedChange(ENTITY_BOOK, OP_RESET, null, null);
+    }
+
+    /**
+     * Returns this record placed at {@code offset} in the feed.
+     */
+    JsonAdaptedChange atOffset(long offset) {
+        return new JsonAdaptedChange(offset, time, entity, op, key, data);
+    }
+
+    String getEntity() {
+        return entity;
+    }
+
+    String getOp() {
+        return op;
+    }
+}
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import loopin.projectbook.commons.exceptions.IllegalValueException;
 import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.ActivityEvent;
 import loopin.projectbook.model.project.Description;
 import loopin.projectbook.model.project.LastUpdate;
 import loopin.projectbook.model.project.Project;
@@ -27,6 +28,7 @@ class JsonAdaptedProject {
     private final String createdAt;
     private final String lastUpdateMessage;
     private final String lastUpdateTimestamp;
+    private final List<JsonAdaptedActivityEvent> activity;
 
     /**
      * Constructs a {@code JsonAdaptedProject} with the given project details.
@@ -37,12 +39,15 @@ class JsonAdaptedProject {
                               @JsonProperty("members") List<String> members,
                               @JsonProperty("createdAt") String createdAt,
                               @JsonProperty("lastUpdateMessage") String lastUpdateMessage,
-                              @JsonProperty("lastUpdateTimestamp") String lastUpdateTimestamp) {
+                              @JsonProperty("lastUpdateTimestamp") String lastUpdateTimestamp,
+                              @JsonProperty("activity") List<JsonAdaptedActivityEvent> activity) {
         this.name = name;
         this.description = description;
         this.createdAt = createdAt;
         this.lastUpdateMessage = lastUpdateMessage;
         this.lastUpdateTimestamp = lastUpdateTimestamp;
+        // null for data saved before projects kept their recent activity
+        this.activity = activity;
 
         if (members != null) {
             this.members.addAll(members);
@@ -70,6 +75,13 @@ class JsonAdaptedProject {
             this.members.add(p.getEmail().value);
         }
 
+        // oldest first, as they are restored
+        this.activity = new ArrayList<>();
+        List<ActivityEvent> recent = source.getHistory().getRecent();
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            this.activity.add(new JsonAdaptedActivityEvent(recent.get(i)));
+        }
+
     }
 
     /**
@@ -111,6 +123,25 @@ class JsonAdaptedProject {
         return new Project(modelName, modelDescription, modelCreatedAt, modelLastUpdate);
     }
 
+    /**
+     * Returns the recent activity of the project, oldest first. Data saved with only the last update of the
+     * project gives that update as its one event.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted events.
+     */
+    public List<ActivityEvent> toActivityEvents() throws IllegalValueException {
+        List<ActivityEvent> events = new ArrayList<>();
+        if (activity != null) {
+            for (JsonAdaptedActivityEvent event : activity) {
+                events.add(event.toModelType());
+            }
+        } else if (lastUpdateMessage != null && lastUpdateTimestamp != null) {
+            events.add(new ActivityEvent(0, ActivityEvent.Type.CUSTOM, null, lastUpdateMessage,
+                    LocalDateTime.parse(lastUpdateTimestamp)));
+        }
+        return events;
+    }
+
     public String getName() {
         return name;
     }
@@ -0,0 +1,33 @@
+package loopin.projectbook.storage;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import loopin.projectbook.commons.util.JsonUtil;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Project;
+
+/**
+ * Renders model objects as JSON using the same {@code JsonAdapted*} representations as the data file,
+ * for components outside the storage package (e.g. the HTTP API).
+ */
+public class JsonAdaptedViews {
+
+    private JsonAdaptedViews() {} // prevents instantiation
+
+    /**
+     * Returns {@code persons} as a JSON array of {@link JsonAdaptedPerson}.
+     */
+    public static String personsToJson(List<? extends Person> persons) throws JsonProcessingException {
+        return JsonUtil.toJsonString(persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns {@code projects} as a JSON array of {@link JsonAdaptedProject}.
+     */
+    public static String projectsToJson(List<? extends Project> projects) throws JsonProcessingException {
+        return JsonUtil.toJsonString(projects.stream().map(JsonAdaptedProject::new).collect(Collectors.toList()));
+    }
+}
@@ -12,7 +12,6 @@ import loopin.projectbook.commons.exceptions.IllegalValueException;
 import loopin.projectbook.model.ProjectBook;
 import loopin.projectbook.model.ReadOnlyProjectBook;
 import loopin.projectbook.model.person.Person;
-import loopin.projectbook.model.project.LastUpdate;
 import loopin.projectbook.model.project.Project;
 
 /**
@@ -57,7 +56,6 @@ class JsonSerializableProjectBook {
         ProjectBook projectBook = new ProjectBook();
         java.util.Map<String, Person> personsByEmail = new java.util.HashMap<>();
         java.util.Map<String, Project> projectsByName = new java.util.HashMap<>();
-        java.util.Map<String, LastUpdate> savedLastUpdates = new java.util.HashMap<>();
 
         // Add persons
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
@@ -77,7 +75,6 @@ class JsonSerializableProjectBook {
             }
             projectBook.addProject(project);
             projectsByName.put(project.getName().toString(), project);
-            savedLastUpdates.put(project.getName().toString(), project.getLastUpdate());
         }
 
         // Attach memberships
@@ -95,7 +92,13 @@ class JsonSerializableProjectBook {
                     }
                 }
             }
-            project.recordUpdate(savedLastUpdates.get(jsonAdaptedProject.getName()));
+            // attaching members recorded events of their own, which the saved activity replaces
+            try {
+                project.getHistory().restore(jsonAdaptedProject.toActivityEvents());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+            projectBook.setProject(project);
         }
 
         return projectBook;
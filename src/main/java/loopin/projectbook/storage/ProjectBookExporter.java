@@ -0,0 +1,410 @@
+package loopin.projectbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import loopin.projectbook.commons.util.CsvUtil;
+import loopin.projectbook.commons.util.FileUtil;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.person.orgmember.OrgMember;
+import loopin.projectbook.model.person.teammember.TeamMember;
+import loopin.projectbook.model.project.LastUpdate;
+import loopin.projectbook.model.project.Project;
+
+/**
+ * Writes persons, projects or memberships to a file as CSV, vCard or JSON Lines, one record at a time.
+ * <p>
+ * Records go straight from the model objects into a buffered writer over a file channel, so only the record
+ * being written is held in memory, however large the export. The file is written next to its destination and
+ * moved into place once complete, so a failed export never leaves a truncated file behind.
+ * <p>
+ * The persons CSV has the columns read by the {@code import} command, so it can be imported again.
+ */
+public class ProjectBookExporter {
+
+    /** Size in bytes of the buffer between the encoder and the file channel. */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private ProjectBookExporter() {} // prevents instantiation
+
+    /**
+     * The kinds of records that can be exported.
+     */
+    public enum Data {
+        PERSONS, PROJECTS, MEMBERSHIPS;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * The file formats that can be exported to, each identified by its file extension.
+     */
+    public enum Format {
+        CSV("csv"), VCARD("vcf"), JSONL("jsonl");
+
+        public final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Returns the format whose extension ends {@code fileName}, ignoring case.
+         */
+        public static Optional<Format> fromFileName(String fileName) {
+            requireNonNull(fileName);
+            String lowerCaseName = fileName.toLowerCase();
+            for (Format format : values()) {
+                if (lowerCaseName.endsWith("." + format.extension)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Returns true if records of kind {@code data} can be written in this format. A vCard only holds persons.
+         */
+        public boolean supports(Data data) {
+            return this != VCARD || data == Data.PERSONS;
+        }
+    }
+
+    /**
+     * Writes the records of kind {@code data} to {@code file} in {@code format}, replacing the file if it exists.
+     * Persons are taken from {@code persons}, projects from {@code projects}, and memberships are those of
+     * {@code projects}, project by project.
+     *
+     * @return the number of records written.
+     * @throws IllegalArgumentException if {@code format} does not support {@code data}.
+     * @throws IOException if the file cannot be written; the destination is then left untouched.
+     */
+    public static long export(Path file, Format format, Data data, Iterable<? extends Person> persons,
+            Iterable<? extends Project> projects) throws IOException {
+        requireNonNull(file);
+        requireNonNull(persons);
+        requireNonNull(projects);
+        if (!format.supports(data)) {
+            throw new IllegalArgumentException("Cannot export " + data + " as " + format);
+        }
+
+        Path target = file.toAbsolutePath();
+        FileUtil.createParentDirsOfFile(target);
+        Path partial = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+        boolean isMoved = false;
+        try {
+            long count;
+            try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+                    Writer out = new BufferedWriter(
+                            Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE));
+                    RecordWriter records = createRecordWriter(format, out)) {
+                count = writeRecords(records, data, persons, projects);
+            }
+            moveIntoPlace(partial, target);
+            isMoved = true;
+            return count;
+        } finally {
+            if (!isMoved) {
+                Files.deleteIfExists(partial);
+            }
+        }
+    }
+
+    private static long writeRecords(RecordWriter records, Data data, Iterable<? extends Person> persons,
+            Iterable<? extends Project> projects) throws IOException {
+        records.writeHeader(data);
+        long count = 0;
+        switch (data) {
+        case PERSONS:
+            for (Person person : persons) {
+                records.writePerson(person);
+                count++;
+            }
+            break;
+        case PROJECTS:
+            for (Project project : projects) {
+                records.writeProject(project);
+                count++;
+            }
+            break;
+        case MEMBERSHIPS:
+            for (Project project : projects) {
+                for (Person member : project.getAllPeople()) {
+                    records.writeMembership(project, member);
+                    count++;
+                }
+            }
+            break;
+        default:
+            throw new AssertionError(data);
+        }
+        return count;
+    }
+
+    private static void moveIntoPlace(Path partial, Path target) throws IOException {
+        try {
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static RecordWriter createRecordWriter(Format format, Writer out) throws IOException {
+        switch (format) {
+        case CSV:
+            return new CsvRecordWriter(out);
+        case VCARD:
+            return new VcardRecordWriter(out);
+        case JSONL:
+            return new JsonLinesRecordWriter(out);
+        default:
+            throw new AssertionError(format);
+        }
+    }
+
+    private static String getCommittee(Person person) {
+        return person instanceof TeamMember ? ((TeamMember) person).getCommittee().getCommitteeName() : null;
+    }
+
+    private static String getOrganisation(Person person) {
+        return person instanceof OrgMember ? ((OrgMember) person).getOrganisation().value : null;
+    }
+
+    private static String getRoleType(Person person) {
+        return person.getRole().getRoleType().name().toLowerCase();
+    }
+
+    private static String getLastUpdateMessage(Project project) {
+        LastUpdate lastUpdate = project.getLastUpdate();
+        return lastUpdate != null && lastUpdate.hasUpdate() ? lastUpdate.getUpdateMessage() : null;
+    }
+
+    private static String getLastUpdateTimestamp(Project project) {
+        LastUpdate lastUpdate = project.getLastUpdate();
+        return lastUpdate != null && lastUpdate.hasUpdate() ? lastUpdate.getTimestamp().toString() : null;
+    }
+
+    /**
+     * Writes records in one format. Closing it finishes the output, but leaves the underlying writer open.
+     */
+    private abstract static class RecordWriter implements AutoCloseable {
+        protected final Writer out;
+
+        RecordWriter(Writer out) {
+            this.out = out;
+        }
+
+        void writeHeader(Data data) throws IOException {}
+
+        abstract void writePerson(Person person) throws IOException;
+
+        abstract void writeProject(Project project) throws IOException;
+
+        abstract void writeMembership(Project project, Person member) throws IOException;
+
+        @Override
+        public void close() throws IOException {}
+    }
+
+    private static class CsvRecordWriter extends RecordWriter {
+        CsvRecordWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        void writeHeader(Data data) throws IOException {
+            switch (data) {
+            case PERSONS:
+                CsvUtil.appendRecord(out, "name", "email", "phone", "telegram", "role", "committee",
+                        "organisation");
+                break;
+            case PROJECTS:
+                CsvUtil.appendRecord(out, "name", "description", "createdAt", "lastUpdate", "lastUpdateAt",
+                        "members");
+                break;
+            case MEMBERSHIPS:
+                CsvUtil.appendRecord(out, "project", "name", "email");
+                break;
+            default:
+                throw new AssertionError(data);
+            }
+        }
+
+        @Override
+        void writePerson(Person person) throws IOException {
+            CsvUtil.appendRecord(out, person.getName().fullName, person.getEmail().value,
+                    person.getPhone().map(phone -> phone.value).orElse(null),
+                    person.getTelegram().map(telegram -> telegram.value).orElse(null),
+                    getRoleType(person), getCommittee(person), getOrganisation(person));
+        }
+
+        @Override
+        void writeProject(Project project) throws IOException {
+            CsvUtil.appendRecord(out, project.getName().toString(), project.getDescription().toString(),
+                    project.getCreatedAt().toString(), getLastUpdateMessage(project),
+                    getLastUpdateTimestamp(project), String.valueOf(project.getAllPeople().size()));
+        }
+
+        @Override
+        void writeMembership(Project project, Person member) throws IOException {
+            CsvUtil.appendRecord(out, project.getName().toString(), member.getName().fullName,
+                    member.getEmail().value);
+        }
+    }
+
+    /**
+     * Writes persons as vCard 3.0 (RFC 2426) cards. Lines longer than 75 characters are folded.
+     */
+    private static class VcardRecordWriter extends RecordWriter {
+        private static final int MAX_LINE_LENGTH = 75;
+
+        VcardRecordWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        void writePerson(Person person) throws IOException {
+            writeLine("BEGIN:VCARD");
+            writeLine("VERSION:3.0");
+            writeLine("FN:" + escape(person.getName().fullName));
+            writeLine("N:" + escape(person.getName().fullName) + ";;;;");
+            writeLine("EMAIL;TYPE=INTERNET:" + escape(person.getEmail().value));
+            if (person.getPhone().isPresent()) {
+                writeLine("TEL;TYPE=CELL:" + escape(person.getPhone().get().value));
+            }
+            if (person.getTelegram().isPresent()) {
+                writeLine("X-TELEGRAM:" + escape(person.getTelegram().get().value));
+            }
+            if (getOrganisation(person) != null) {
+                writeLine("ORG:" + escape(getOrganisation(person)));
+            }
+            writeLine("ROLE:" + escape(person.getRole().fullRole));
+            if (!person.getProjects().isEmpty()) {
+                StringBuilder categories = new StringBuilder("CATEGORIES:");
+                for (Project project : person.getProjects()) {
+                    if (categories.length() > "CATEGORIES:".length()) {
+                        categories.append(',');
+                    }
+                    categories.append(escape(project.getName().toString()));
+                }
+                writeLine(categories.toString());
+            }
+            writeLine("END:VCARD");
+        }
+
+        @Override
+        void writeProject(Project project) {
+            throw new AssertionError("A vCard only holds persons.");
+        }
+
+        @Override
+        void writeMembership(Project project, Person member) {
+            throw new AssertionError("A vCard only holds persons.");
+        }
+
+        private void writeLine(String line) throws IOException {
+            int start = 0;
+            while (line.length() - start > MAX_LINE_LENGTH) {
+                // never splits a surrogate pair, which could not be encoded
+                int length = Character.isHighSurrogate(line.charAt(start + MAX_LINE_LENGTH - 1))
+                        ? MAX_LINE_LENGTH - 1
+                        : MAX_LINE_LENGTH;
+                out.write(line, start, length);
+                out.write("\r\n ");
+                start += length;
+            }
+            out.write(line, start, line.length() - start);
+            out.write("\r\n");
+        }
+
+        private static String escape(String value) {
+            return value.replace("\\", "\\\\").replace(",", "\\,").replace(";", "\\;")
+                    .replace("\r\n", "\\n").replace("\n", "\\n");
+        }
+    }
+
+    /**
+     * Writes one JSON object per line, with the same fields as the CSV columns.
+     */
+    private static class JsonLinesRecordWriter extends RecordWriter {
+        private final JsonGenerator generator;
+
+        JsonLinesRecordWriter(Writer out) throws IOException {
+            super(out);
+            generator = JSON_FACTORY.createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void writePerson(Person person) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("name", person.getName().fullName);
+            generator.writeStringField("email", person.getEmail().value);
+            generator.writeStringField("phone", person.getPhone().map(phone -> phone.value).orElse(null));
+            generator.writeStringField("telegram",
+                    person.getTelegram().map(telegram -> telegram.value).orElse(null));
+            generator.writeStringField("role", getRoleType(person));
+            generator.writeStringField("committee", getCommittee(person));
+            generator.writeStringField("organisation", getOrganisation(person));
+            generator.writeArrayFieldStart("projects");
+            for (Project project : person.getProjects()) {
+                generator.writeString(project.getName().toString());
+            }
+            generator.writeEndArray();
+            endLine();
+        }
+
+        @Override
+        void writeProject(Project project) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("name", project.getName().toString());
+            generator.writeStringField("description", project.getDescription().toString());
+            generator.writeStringField("createdAt", project.getCreatedAt().toString());
+            generator.writeStringField("lastUpdate", getLastUpdateMessage(project));
+            generator.writeStringField("lastUpdateAt", getLastUpdateTimestamp(project));
+            generator.writeNumberField("members", project.getAllPeople().size());
+            endLine();
+        }
+
+        @Override
+        void writeMembership(Project project, Person member) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("project", project.getName().toString());
+            generator.writeStringField("name", member.getName().fullName);
+            generator.writeStringField("email", member.getEmail().value);
+            endLine();
+        }
+
+        private void endLine() throws IOException {
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
@@ -8,6 +8,8 @@ import loopin.projectbook.commons.exceptions.DataLoadingException;
 import loopin.projectbook.model.ReadOnlyProjectBook;
 import loopin.projectbook.model.ReadOnlyUserPrefs;
 import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.event.DomainEvent;
+import loopin.projectbook.model.project.ActivityArchive;
 
 /**
  * API of the Storage component
@@ -26,7 +28,27 @@ public interface Storage extends ProjectBookStorage, UserPrefsStorage {
     @Override
     Optional<ReadOnlyProjectBook> readProjectBook() throws DataLoadingException;
 
+    /**
+     * Saves {@code projectBook}, first archiving the activity pushed out of the histories of its projects and
+     * appending the changes captured since the last save to the change feed.
+     */
     @Override
     void saveProjectBook(ReadOnlyProjectBook projectBook) throws IOException;
 
+    /**
+     * Returns the archive of the activity pushed out of project histories.
+     */
+    ActivityArchive getActivityArchive();
+
+    /**
+     * Records the change told of by {@code event}, which must have been kept in the book at {@code version}, to be
+     * appended to the change feed on the first save of the book at that version or later.
+     */
+    void captureChange(DomainEvent event, long version);
+
+    /**
+     * Returns the feed of the changes made to the project book.
+     */
+    ChangeFeedStorage getChangeFeed();
+
 }
@@ -10,6 +10,8 @@ import loopin.projectbook.commons.exceptions.DataLoadingException;
 import loopin.projectbook.model.ReadOnlyProjectBook;
 import loopin.projectbook.model.ReadOnlyUserPrefs;
 import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.event.DomainEvent;
+import loopin.projectbook.model.project.ActivityArchive;
 
 /**
  * Manages storage of ProjectBook data in local storage.
@@ -19,13 +21,22 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private ProjectBookStorage projectBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private ActivityLogStorage activityLogStorage;
+    private ChangeFeedStorage changeFeedStorage;
+    private ChangeCapture changeCapture;
 
     /**
      * Creates a {@code StorageManager} with the given {@code ProjectBookStorage} and {@code UserPrefStorage}.
+     * Project activity is archived, and the change feed kept, in directories next to the project book file.
      */
     public StorageManager(ProjectBookStorage projectBookStorage, UserPrefsStorage userPrefsStorage) {
         this.projectBookStorage = projectBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.activityLogStorage = new ActivityLogStorage(
+                projectBookStorage.getProjectBookFilePath().resolveSibling(ActivityLogStorage.DIRECTORY_NAME));
+        this.changeFeedStorage = new ChangeFeedStorage(
+                projectBookStorage.getProjectBookFilePath().resolveSibling(ChangeFeedStorage.DIRECTORY_NAME));
+        this.changeCapture = new ChangeCapture(changeFeedStorage);
     }
 
     // ================ UserPrefs methods ==============================
@@ -66,6 +77,10 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveProjectBook(ReadOnlyProjectBook projectBook) throws IOException {
+        // archived first, so that a failed save leaves the pushed out events in both places rather than neither
+        activityLogStorage.archive(projectBook);
+        // the feed is written before the book for the same reason, so that no change is missing from it
+        changeCapture.flush(projectBook);
         saveProjectBook(projectBook, projectBookStorage.getProjectBookFilePath());
     }
 
@@ -75,4 +90,23 @@ public class StorageManager implements Storage {
         projectBookStorage.saveProjectBook(projectBook, filePath);
     }
 
+    // ================ Activity methods ==============================
+
+    @Override
+    public ActivityArchive getActivityArchive() {
+        return activityLogStorage;
+    }
+
+    // ================ Change feed methods ==============================
+
+    @Override
+    public void captureChange(DomainEvent event, long version) {
+        changeCapture.capture(event, version);
+    }
+
+    @Override
+    public ChangeFeedStorage getChangeFeed() {
+        return changeFeedStorage;
+    }
+
 }
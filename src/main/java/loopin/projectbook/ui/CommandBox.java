@@ -1,35 +1,75 @@
 package loopin.projectbook.ui;
 
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import loopin.projectbook.logic.Logic;
 import loopin.projectbook.logic.commands.CommandResult;
 import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.logic.completion.Suggestion;
 import loopin.projectbook.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Suggests completions of the command being typed, looked up on a background thread once typing pauses; Tab
+ * accepts the first suggestion.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    /** How long typing must pause before suggestions are looked up, so that a burst of keystrokes costs one. */
+    private static final long SUGGESTION_DELAY_MILLIS = 80;
+
+    private static final ScheduledExecutorService SUGGESTION_EXECUTOR =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "command-suggestions");
+                thread.setDaemon(true);
+                return thread;
+            });
+
     private final CommandExecutor commandExecutor;
+    private final SuggestionProvider suggestionProvider;
+    private final ContextMenu suggestionMenu = new ContextMenu();
+    private ScheduledFuture<?> pendingSuggestions;
+    /** Counts the changes to the text, so that suggestions for text that has changed since are dropped. */
+    private long textVersion;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code SuggestionProvider}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, SuggestionProvider suggestionProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.suggestionProvider = suggestionProvider;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            scheduleSuggestions();
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
+        commandTextField.focusedProperty().addListener((unused1, unused2, isFocused) -> {
+            if (!isFocused) {
+                suggestionMenu.hide();
+            }
+        });
     }
 
     /**
@@ -50,6 +90,65 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Looks up suggestions for the current text on the suggestion thread once typing pauses, dropping the lookup
+     * for the previous text if it has not started yet.
+     */
+    private void scheduleSuggestions() {
+        long version = ++textVersion;
+        if (pendingSuggestions != null) {
+            pendingSuggestions.cancel(false);
+        }
+        suggestionMenu.hide();
+
+        String commandText = commandTextField.getText();
+        if (commandText.isBlank()) {
+            return;
+        }
+        pendingSuggestions = SUGGESTION_EXECUTOR.schedule(() -> {
+            List<Suggestion> suggestions = suggestionProvider.suggest(commandText);
+            Platform.runLater(() -> showSuggestions(version, commandText, suggestions));
+        }, SUGGESTION_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Shows {@code suggestions} for {@code commandText}, unless the text has changed since they were looked up.
+     */
+    private void showSuggestions(long version, String commandText, List<Suggestion> suggestions) {
+        if (version != textVersion || suggestions.isEmpty() || !commandTextField.isFocused()) {
+            return;
+        }
+        suggestionMenu.getItems().clear();
+        for (Suggestion suggestion : suggestions) {
+            MenuItem item = new MenuItem(suggestion.getText().strip());
+            item.setMnemonicParsing(false);
+            item.setOnAction(unused -> applySuggestion(commandText, suggestion));
+            suggestionMenu.getItems().add(item);
+        }
+        suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+    }
+
+    private void applySuggestion(String commandText, Suggestion suggestion) {
+        commandTextField.setText(suggestion.applyTo(commandText));
+        commandTextField.positionCaret(commandTextField.getText().length());
+    }
+
+    /**
+     * Accepts the first suggestion on Tab, and hides the suggestions on Escape.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (!suggestionMenu.isShowing()) {
+            return;
+        }
+        if (event.getCode() == KeyCode.TAB) {
+            suggestionMenu.getItems().get(0).fire();
+            event.consume();
+        } else if (event.getCode() == KeyCode.ESCAPE) {
+            suggestionMenu.hide();
+            event.consume();
+        }
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -83,4 +182,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests completions of a command being typed.
+     */
+    @FunctionalInterface
+    public interface SuggestionProvider {
+        /**
+         * Returns completions of {@code commandText}. Called on a background thread.
+         *
+         * @see Logic#suggest(String)
+         */
+        List<Suggestion> suggest(String commandText);
+    }
+
 }
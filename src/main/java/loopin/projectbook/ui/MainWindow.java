@@ -17,6 +17,7 @@ import loopin.projectbook.logic.Logic;
 import loopin.projectbook.logic.commands.CommandResult;
 import loopin.projectbook.logic.commands.exceptions.CommandException;
 import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.model.event.DomainEvent;
 import loopin.projectbook.ui.person.PersonListPanel;
 import loopin.projectbook.ui.project.ProjectListPanel;
 
@@ -125,6 +126,8 @@ public class MainWindow extends UiPart<Stage> {
 
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
         projectListPanelPlaceholder.getChildren().add(projectListPanel.getRoot());
+        // project cards show members and activity, which change in place, so are redrawn after every change
+        logic.getEventBus().subscribe(DomainEvent.class, unused -> projectListPanel.requestRefresh(), Runnable::run);
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
@@ -132,7 +135,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getProjectBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::suggest);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -199,9 +202,6 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
-            //Refresh project list
-            projectListPanel.refresh();
-
             return commandResult;
         } catch (CommandException | ParseException e) {
             logger.info("An error occurred while executing command: " + commandText);
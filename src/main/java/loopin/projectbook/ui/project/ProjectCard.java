@@ -1,8 +1,9 @@
 package loopin.projectbook.ui.project;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -10,7 +11,9 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.person.RoleType;
 import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.util.SortKeyCache;
 import loopin.projectbook.ui.UiPart;
 import loopin.projectbook.ui.person.PersonCard;
 
@@ -67,21 +70,15 @@ public class ProjectCard extends UiPart<Region> {
      * Populates the members section organized by their roles.
      */
     private void populateMembersByRole() {
-        // Get members categorized by role
-        List<Person> committee = project.getAllPeople().stream()
-                .filter(person -> person.getRole().fullRole.toLowerCase().startsWith("committee"))
-                .sorted(Comparator.comparing(person -> person.getName().toString()))
-                .collect(Collectors.toList());
-
-        List<Person> organisations = project.getAllPeople().stream()
-                .filter(person -> person.getRole().fullRole.toLowerCase().startsWith("organisation"))
-                .sorted(Comparator.comparing(person -> person.getName().toString()))
-                .collect(Collectors.toList());
-
-        List<Person> volunteers = project.getAllPeople().stream()
-                .filter(person -> person.getRole().fullRole.equalsIgnoreCase("volunteer"))
-                .sorted(Comparator.comparing(person -> person.getName().toString()))
-                .collect(Collectors.toList());
+        // Sort the members by name once, then split them by role in a single pass
+        Map<RoleType, List<Person>> membersByRole = new EnumMap<>(RoleType.class);
+        for (Person person : sortedByName(project.getAllPeople())) {
+            membersByRole.computeIfAbsent(person.getRole().getRoleType(), type -> new ArrayList<>()).add(person);
+        }
+
+        List<Person> committee = membersByRole.getOrDefault(RoleType.TEAMMEMBER, List.of());
+        List<Person> organisations = membersByRole.getOrDefault(RoleType.ORGMEMBER, List.of());
+        List<Person> volunteers = membersByRole.getOrDefault(RoleType.VOLUNTEER, List.of());
 
         if (!committee.isEmpty()) {
             addRoleSection("Committee:", committee);
@@ -96,6 +93,15 @@ public class ProjectCard extends UiPart<Region> {
         }
     }
 
+    /**
+     * Returns {@code members} sorted by name, computing each name's sort key once rather than on every comparison.
+     */
+    private static List<Person> sortedByName(List<Person> members) {
+        List<Person> sorted = new ArrayList<>(members);
+        sorted.sort(new SortKeyCache<Person>().comparing(person -> person.getName().toString(), false));
+        return sorted;
+    }
+
     /**
      * Adds a section for a specific role with its members displayed as PersonCards.
      */
@@ -1,7 +1,9 @@
 package loopin.projectbook.ui.project;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -18,6 +20,7 @@ import loopin.projectbook.ui.person.PersonListPanel;
 public class ProjectListPanel extends UiPart<Region> {
     private static final String FXML = "ProjectListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
+    private final AtomicBoolean isRefreshPending = new AtomicBoolean();
 
     @FXML
     private ListView<Project> projectListView;
@@ -48,8 +51,17 @@ public class ProjectListPanel extends UiPart<Region> {
         }
     }
 
-    public void refresh() {
-        projectListView.refresh();
+    /**
+     * Redraws the project cards on the JavaFX thread, once for all the requests made before it gets to.
+     * Can be called from any thread.
+     */
+    public void requestRefresh() {
+        if (isRefreshPending.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                isRefreshPending.set(false);
+                projectListView.refresh();
+            });
+        }
     }
 
 }
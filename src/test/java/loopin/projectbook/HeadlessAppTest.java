@@ -0,0 +1,79 @@
+package loopin.projectbook;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import loopin.projectbook.logic.LogicManager;
+import loopin.projectbook.logic.commands.ClearCommand;
+import loopin.projectbook.logic.commands.ExitCommand;
+import loopin.projectbook.logic.commands.ListCommand;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.storage.JsonProjectBookStorage;
+import loopin.projectbook.storage.JsonUserPrefsStorage;
+import loopin.projectbook.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonProjectBookStorage(temporaryFolder.resolve("projectBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        app = new HeadlessApp(new LogicManager(new ModelManager(), storage),
+                new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    @Test
+    public void isHeadless() {
+        assertTrue(HeadlessApp.isHeadless(new String[] {"--config=a.json", HeadlessApp.HEADLESS_FLAG}));
+        assertFalse(HeadlessApp.isHeadless(new String[] {"--config=a.json"}));
+    }
+
+    @Test
+    public void run_validCommands_printsFeedback() throws Exception {
+        int status = app.run(script("# comment", "", ListCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD));
+        assertEquals(HeadlessApp.EXIT_SUCCESS, status);
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator()
+                + ClearCommand.MESSAGE_SUCCESS + System.lineSeparator(), out.toString());
+        assertEquals("", err.toString());
+    }
+
+    @Test
+    public void run_invalidCommand_stopsWithFailureStatus() throws Exception {
+        int status = app.run(script(ListCommand.COMMAND_WORD, "unknowncommand", ClearCommand.COMMAND_WORD));
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILURE, status);
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), out.toString());
+        assertEquals(String.format(HeadlessApp.MESSAGE_COMMAND_FAILED, 2, MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator(), err.toString());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        int status = app.run(script(ExitCommand.COMMAND_WORD, "unknowncommand"));
+        assertEquals(HeadlessApp.EXIT_SUCCESS, status);
+        assertEquals("", err.toString());
+    }
+
+    private static BufferedReader script(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+}
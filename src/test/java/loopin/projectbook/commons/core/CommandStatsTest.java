@@ -0,0 +1,62 @@
+package loopin.projectbook.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.commons.core.CommandStats.Phase;
+import loopin.projectbook.commons.core.CommandStats.Timings;
+
+public class CommandStatsTest {
+
+    private final CommandStats stats = new CommandStats();
+
+    @Test
+    public void addTimings_sameType_sameTimingsUnderFirstWord() {
+        assertNull(stats.getTimings(String.class));
+        Timings timings = stats.addTimings(String.class, "edit");
+
+        assertSame(timings, stats.addTimings(String.class, "other"));
+        assertSame(timings, stats.getTimings(String.class));
+        assertEquals("edit", timings.getCommandWord());
+    }
+
+    @Test
+    public void getSummary_nothingTimed_saysSo() {
+        assertEquals(CommandStats.MESSAGE_NONE_TIMED, stats.getSummary());
+    }
+
+    @Test
+    public void getSummary_timed_linePerCommandInOrder() {
+        Timings list = stats.addTimings(Integer.class, "list");
+        list.record(Phase.PARSE, 1_000_000);
+        list.record(Phase.EXECUTE, 2_000_000);
+        Timings add = stats.addTimings(String.class, "add");
+        add.record(Phase.PARSE, 1_000_000);
+        add.record(Phase.PARSE, 1_000_000);
+        stats.getInvalidTimings().record(Phase.PARSE, 500_000);
+
+        String[] lines = stats.getSummary().split("\n");
+        assertEquals(CommandStats.MESSAGE_HEADER, lines[0]);
+        assertEquals(String.format("%s (1 runs): parse %.2f / %.2f / %.2f / %.2f",
+                CommandStats.INVALID_COMMAND, 0.5, 0.5, 0.5, 0.5), lines[1]);
+        assertEquals(String.format("add (2 runs): parse %.2f / %.2f / %.2f / %.2f", 1.0, 1.0, 1.0, 1.0),
+                lines[2]);
+        assertTrue(lines[3].startsWith("list (1 runs): parse "));
+        assertTrue(lines[3].contains(String.format(", execute %.2f / ", 2.0)));
+        assertFalse(lines[3].contains("save"));
+    }
+
+    @Test
+    public void takeSummaryIfDue_intervalPassed_takenOnce() {
+        CommandStats dueStats = new CommandStats(Duration.ZERO);
+        assertTrue(dueStats.takeSummaryIfDue().isPresent());
+        assertFalse(new CommandStats(Duration.ofHours(1)).takeSummaryIfDue().isPresent());
+    }
+}
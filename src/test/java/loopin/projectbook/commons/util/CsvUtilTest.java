@@ -0,0 +1,58 @@
+package loopin.projectbook.commons.util;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitRecord_plainValues_splitOnCommas() {
+        assertEquals(List.of("a", " b ", ""), CsvUtil.splitRecord("a, b ,"));
+        assertEquals(List.of(""), CsvUtil.splitRecord(""));
+    }
+
+    @Test
+    public void splitRecord_quotedValues_keepCommasAndQuotes() {
+        assertEquals(List.of("Lee, Amy", "say \"hi\"", ""),
+                CsvUtil.splitRecord("\"Lee, Amy\",\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void splitRecord_invalidQuotes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.splitRecord("a,\"b"));
+        assertThrows(IllegalArgumentException.class, CsvUtil.MESSAGE_TEXT_AFTER_QUOTE, () ->
+                CsvUtil.splitRecord("\"a\"b,c"));
+    }
+
+    @Test
+    public void readRecord_quotedLineBreaks_recordSpansLines() throws Exception {
+        CsvUtil.RecordReader reader = new CsvUtil.RecordReader(new BufferedReader(new StringReader(
+                "a,\"b\n\"\"c\"\"\",\"\nd\"\nx\"y,z\n\"\"\n\"open\nend")));
+
+        assertEquals("a,\"b\n\"\"c\"\"\",\"\nd\"", reader.readRecord());
+        assertEquals(1, reader.getLineNumber());
+        assertEquals(List.of("a", "b\n\"c\"", "\nd"), CsvUtil.splitRecord("a,\"b\n\"\"c\"\"\",\"\nd\""));
+        assertEquals("x\"y,z", reader.readRecord());
+        assertEquals(4, reader.getLineNumber());
+        assertEquals("\"\"", reader.readRecord());
+        assertEquals("\"open\nend", reader.readRecord());
+        assertEquals(6, reader.getLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void appendRecord_valuesNeedingQuotes_quoted() throws Exception {
+        StringBuilder out = new StringBuilder();
+        CsvUtil.appendRecord(out, "Lee, Amy", "say \"hi\"", null, "plain");
+        assertEquals("\"Lee, Amy\",\"say \"\"hi\"\"\",,plain\n", out.toString());
+        assertEquals(List.of("Lee, Amy", "say \"hi\"", "", "plain"), CsvUtil.splitRecord(out.toString().trim()));
+    }
+}
@@ -1,6 +1,7 @@
 package loopin.projectbook.commons.util;
 
 import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -140,4 +141,32 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+        assertEquals(0, StringUtil.editDistance("alex", "alex"));
+        assertEquals(1, StringUtil.editDistance("alex", "alx")); // deletion
+        assertEquals(1, StringUtil.editDistance("alex", "alexa")); // insertion
+        assertEquals(1, StringUtil.editDistance("alex", "alez")); // substitution
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(StringUtil.editDistance("sitting", "kitten"), StringUtil.editDistance("kitten", "sitting"));
+    }
+
+    //---------------- Tests for soundex --------------------------------------
+
+    @Test
+    public void soundex() {
+        assertEquals("R163", StringUtil.soundex("Robert"));
+        assertEquals("R163", StringUtil.soundex("Rupert"));
+        assertEquals("A261", StringUtil.soundex("Ashcraft")); // H does not separate S and C
+        assertEquals("T522", StringUtil.soundex("Tymczak")); // vowels separate C and K
+        assertEquals("P236", StringUtil.soundex("Pfister")); // F has the code of P
+        assertEquals("L000", StringUtil.soundex("Lee"));
+        assertEquals("S530", StringUtil.soundex("smith"));
+        assertEquals("S530", StringUtil.soundex("Smyth"));
+        assertEquals("", StringUtil.soundex("123"));
+    }
 }
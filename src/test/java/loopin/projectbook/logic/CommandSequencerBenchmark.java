@@ -0,0 +1,166 @@
+package loopin.projectbook.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.ProjectBookSnapshot;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.util.SampleDataUtil;
+import loopin.projectbook.storage.JsonProjectBookStorage;
+
+/**
+ * Throughput benchmark for {@link CommandSequencer}. Not run as part of the test suite.
+ *
+ * Usage: {@code CommandSequencerBenchmark [COMMANDS_PER_RUN]}
+ *
+ * For 1, 4 and 16 producer threads, compares submitting commands to the sequencer, which saves once per batch,
+ * against executing each command under the write lock and saving after every command.
+ * The project book is saved to a temporary file as JSON, so the save cost is realistic for the sample data.
+ */
+public class CommandSequencerBenchmark {
+
+    private static final int[] PRODUCER_COUNTS = {1, 4, 16};
+    private static final int WARMUP_RUNS = 2;
+
+    public static void main(String[] args) throws Exception {
+        int commandsPerRun = args.length > 0 ? Integer.parseInt(args[0]) : 4000;
+        Path folder = Files.createTempDirectory("sequencer-benchmark");
+        JsonProjectBookStorage storage = new JsonProjectBookStorage(folder.resolve("projectBook.json"));
+        Model model = new ModelManager(SampleDataUtil.getSampleProjectBook(), new UserPrefs());
+        CommandSequencer.Persister persister = snapshot -> save(storage, snapshot);
+
+        System.out.printf("%-10s %10s %14s %14s%n", "producers", "mode", "commands/s", "saves");
+        for (int producers : PRODUCER_COUNTS) {
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                runDirect(model, persister, producers, commandsPerRun);
+                runSequenced(model, persister, producers, commandsPerRun);
+            }
+            Result direct = runDirect(model, persister, producers, commandsPerRun);
+            Result sequenced = runSequenced(model, persister, producers, commandsPerRun);
+            System.out.printf("%-10d %10s %14.0f %14d%n", producers, "direct", direct.throughput, direct.saves);
+            System.out.printf("%-10d %10s %14.0f %14d%n", producers, "sequenced", sequenced.throughput,
+                    sequenced.saves);
+        }
+    }
+
+    /**
+     * Executes every command on its producer thread under the write lock and saves after each one,
+     * as {@link LogicManager#execute(String)} does.
+     */
+    private static Result runDirect(Model model, CommandSequencer.Persister persister, int producers,
+            int commands) throws Exception {
+        CountingPersister counting = new CountingPersister(persister);
+        Object saveLock = new Object();
+        ReentrantReadWriteLock lock = model.getLock();
+        return run(producers, commands, counting, () -> {
+            ProjectBookSnapshot snapshot;
+            lock.writeLock().lock();
+            try {
+                new ReadCommand().execute(model);
+                snapshot = model.snapshot();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            synchronized (saveLock) {
+                counting.persist(snapshot);
+            }
+        });
+    }
+
+    private static Result runSequenced(Model model, CommandSequencer.Persister persister, int producers,
+            int commands) throws Exception {
+        CountingPersister counting = new CountingPersister(persister);
+        try (CommandSequencer sequencer = new CommandSequencer(model, counting, CommandSequencer.DEFAULT_CAPACITY)) {
+            return run(producers, commands, counting, () -> {
+                CompletableFuture<CommandResult> result = sequencer.submit(new ReadCommand());
+                result.join();
+            });
+        }
+    }
+
+    private static Result run(int producers, int commands, CountingPersister counting, Task task)
+            throws InterruptedException {
+        int perProducer = commands / producers;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        task.run();
+                    }
+                } catch (CommandException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+
+        long start = System.nanoTime();
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Result(perProducer * producers / seconds, counting.saves);
+    }
+
+    private static void save(JsonProjectBookStorage storage, ProjectBookSnapshot snapshot) throws CommandException {
+        try {
+            storage.saveProjectBook(snapshot);
+        } catch (IOException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * One command's worth of work on a producer thread.
+     */
+    @FunctionalInterface
+    private interface Task {
+        void run() throws CommandException;
+    }
+
+    /**
+     * A command that only reads the model, so that every run starts from the same data.
+     */
+    private static class ReadCommand extends Command {
+        @Override
+        public CommandResult execute(Model model) {
+            return new CommandResult(String.valueOf(model.getFilteredPersonList().size()));
+        }
+    }
+
+    private static class CountingPersister implements CommandSequencer.Persister {
+        private final CommandSequencer.Persister delegate;
+        private volatile int saves;
+
+        CountingPersister(CommandSequencer.Persister delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void persist(ProjectBookSnapshot snapshot) throws CommandException {
+            delegate.persist(snapshot);
+            saves++;
+        }
+    }
+
+    private static class Result {
+        private final double throughput;
+        private final int saves;
+
+        Result(double throughput, int saves) {
+            this.throughput = throughput;
+            this.saves = saves;
+        }
+    }
+}
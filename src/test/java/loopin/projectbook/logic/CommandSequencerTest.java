@@ -0,0 +1,201 @@
+package loopin.projectbook.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+
+public class CommandSequencerTest {
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void submit_manyProducers_executedInArrivalOrderPerProducer() throws Exception {
+        List<String> executed = new ArrayList<>();
+        int producers = 4;
+        int commandsPerProducer = 200;
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>();
+
+        try (CommandSequencer sequencer = new CommandSequencer(model, snapshot -> { }, 16)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                String producer = "p" + p;
+                threads.add(new Thread(() -> {
+                    for (int i = 0; i < commandsPerProducer; i++) {
+                        sequencer.submit(new RecordingCommand(producer + ":" + i, executed));
+                    }
+                }));
+            }
+            threads.forEach(Thread::start);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            results.add(sequencer.submit(new RecordingCommand("last", executed)));
+        }
+
+        assertEquals("last", results.get(0).get().getFeedbackToUser());
+        assertEquals(producers * commandsPerProducer + 1, executed.size());
+        for (int p = 0; p < producers; p++) {
+            String producer = "p" + p + ":";
+            int expected = 0;
+            for (String id : executed) {
+                if (id.startsWith(producer)) {
+                    assertEquals(producer + expected, id);
+                    expected++;
+                }
+            }
+            assertEquals(commandsPerProducer, expected);
+        }
+    }
+
+    @Test
+    public void submit_failingCommand_onlyThatCommandFails() throws Exception {
+        List<String> executed = new ArrayList<>();
+        CompletableFuture<CommandResult> first;
+        CompletableFuture<CommandResult> failing;
+        CompletableFuture<CommandResult> last;
+        try (CommandSequencer sequencer = new CommandSequencer(model, snapshot -> { }, 4)) {
+            first = sequencer.submit(new RecordingCommand("first", executed));
+            failing = sequencer.submit(new FailingCommand("boom"));
+            last = sequencer.submit(new RecordingCommand("last", executed));
+        }
+
+        assertEquals("first", first.get().getFeedbackToUser());
+        assertEquals("last", last.get().getFeedbackToUser());
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> failing.get());
+        assertTrue(thrown.getCause() instanceof CommandException);
+        assertEquals("boom", thrown.getCause().getMessage());
+        assertEquals(List.of("first", "last"), executed);
+    }
+
+    @Test
+    public void submit_persisterThrows_batchFailsAndLaterCommandsRun() throws Exception {
+        AtomicInteger saves = new AtomicInteger();
+        CommandSequencer.Persister persister = snapshot -> {
+            if (saves.getAndIncrement() == 0) {
+                throw new IllegalStateException("disk gone");
+            }
+        };
+        List<String> executed = new ArrayList<>();
+        CompletableFuture<CommandResult> failed;
+        CompletableFuture<CommandResult> later;
+        try (CommandSequencer sequencer = new CommandSequencer(model, persister, 4)) {
+            failed = sequencer.submit(new RecordingCommand("failed", executed));
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> failed.get());
+            assertTrue(thrown.getCause() instanceof IllegalStateException);
+
+            later = sequencer.submit(new RecordingCommand("later", executed));
+            assertEquals("later", later.get().getFeedbackToUser());
+        }
+        assertEquals(List.of("failed", "later"), executed);
+        assertEquals(2, saves.get());
+    }
+
+    @Test
+    public void submit_queuedWhilePersisting_persistedInOneBatch() throws Exception {
+        CountDownLatch persisting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger saves = new AtomicInteger();
+        CommandSequencer.Persister persister = snapshot -> {
+            persisting.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            saves.incrementAndGet();
+        };
+
+        List<String> executed = new ArrayList<>();
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>();
+        try (CommandSequencer sequencer = new CommandSequencer(model, persister, 256)) {
+            results.add(sequencer.submit(new RecordingCommand("0", executed)));
+            persisting.await();
+            assertFalse(results.get(0).isDone());
+            for (int i = 1; i <= 100; i++) {
+                results.add(sequencer.submit(new RecordingCommand(String.valueOf(i), executed)));
+            }
+            release.countDown();
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(String.valueOf(i), results.get(i).get().getFeedbackToUser());
+        }
+        assertEquals(2, saves.get());
+    }
+
+    @Test
+    public void submit_persistenceFails_executedCommandsFail() throws Exception {
+        CommandException saveFailure = new CommandException("disk full");
+        CompletableFuture<CommandResult> result;
+        try (CommandSequencer sequencer = new CommandSequencer(model, snapshot -> {
+            throw saveFailure;
+        }, 4)) {
+            result = sequencer.submit(new RecordingCommand("a", new ArrayList<>()));
+        }
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get());
+        assertSame(saveFailure, thrown.getCause());
+    }
+
+    @Test
+    public void submit_afterClose_fails() throws Exception {
+        CommandSequencer sequencer = new CommandSequencer(model, snapshot -> { }, 4);
+        sequencer.close();
+
+        CompletableFuture<CommandResult> result = sequencer.submit(new RecordingCommand("a", new ArrayList<>()));
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get());
+        assertEquals(CommandSequencer.MESSAGE_SHUT_DOWN, thrown.getCause().getMessage());
+    }
+
+    /**
+     * A command that records its id when executed and reports it as feedback.
+     */
+    private static class RecordingCommand extends Command {
+        private final String id;
+        private final List<String> executed;
+
+        RecordingCommand(String id, List<String> executed) {
+            this.id = id;
+            this.executed = executed;
+        }
+
+        @Override
+        public CommandResult execute(Model model) {
+            executed.add(id);
+            return new CommandResult(id);
+        }
+    }
+
+    /**
+     * A command that always fails with the given message.
+     */
+    private static class FailingCommand extends Command {
+        private final String message;
+
+        FailingCommand(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public CommandResult execute(Model model) throws CommandException {
+            throw new CommandException(message);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package loopin.projectbook.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.ReadOnlyProjectBook;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.storage.JsonProjectBookStorage;
+import loopin.projectbook.storage.JsonUserPrefsStorage;
+import loopin.projectbook.storage.StorageManager;
+
+/**
+ * Stress test that runs commands from several threads while readers check the model's invariants.
+ */
+public class LogicManagerConcurrencyTest {
+
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int PERSONS_PER_WRITER = 30;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void execute_concurrentWritersAndReaders_invariantsHold() throws Exception {
+        Model model = new ModelManager();
+        StorageManager storage = new StorageManager(
+                new JsonProjectBookStorage(temporaryFolder.resolve("projectBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Logic logic = new LogicManager(model, storage);
+
+        Queue<String> violations = new ConcurrentLinkedQueue<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch writersDone = new CountDownLatch(WRITERS);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            threads.add(new Thread(() -> {
+                try {
+                    runWriter(logic, writer, violations);
+                } finally {
+                    writersDone.countDown();
+                }
+            }));
+        }
+        for (int r = 0; r < READERS; r++) {
+            threads.add(new Thread(() -> {
+                while (writing.get()) {
+                    checkInvariants(logic, violations);
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        writersDone.await();
+        writing.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        checkInvariants(logic, violations);
+        assertTrue(violations.isEmpty(), () -> String.join("\n", violations));
+        assertEquals(WRITERS, model.getProjectBook().getProjectList().size());
+    }
+
+    private static void runWriter(Logic logic, int writer, Queue<String> violations) {
+        String project = "Project " + writer;
+        execute(logic, "project add n/" + project + " d/stress test", violations);
+        for (int i = 0; i < PERSONS_PER_WRITER; i++) {
+            String name = "Writer " + writer + " Person " + i;
+            execute(logic, "addv n/" + name + " e/w" + writer + "p" + i + "@example.com", violations);
+            // another writer's "delete 1" may have deleted the person in the meantime
+            String deleted = String.format(Messages.MESSAGE_NO_PERSON, name);
+            execute(logic, "project assign n/" + name + " project/" + project, deleted, violations);
+            if (i % 3 == 0) {
+                execute(logic, "project remove n/" + name + " project/" + project, deleted, violations);
+            }
+            if (i % 5 == 0) {
+                // may delete another writer's person; failures are expected and ignored
+                try {
+                    logic.execute("delete 1");
+                } catch (CommandException | ParseException e) {
+                    // the displayed list may be empty
+                }
+            }
+        }
+    }
+
+    private static void execute(Logic logic, String command, Queue<String> violations) {
+        execute(logic, command, null, violations);
+    }
+
+    /**
+     * Executes {@code command}, reporting a failure unless its message is {@code expectedFailure}.
+     */
+    private static void execute(Logic logic, String command, String expectedFailure, Queue<String> violations) {
+        try {
+            logic.execute(command);
+        } catch (CommandException | ParseException e) {
+            if (!e.getMessage().equals(expectedFailure)) {
+                violations.add(command + " failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void checkInvariants(Logic logic, Queue<String> violations) {
+        Lock readLock = logic.getLock().readLock();
+        readLock.lock();
+        try {
+            ReadOnlyProjectBook book = logic.getProjectBook();
+            List<Person> persons = book.getPersonList();
+            Set<String> emails = new HashSet<>();
+            for (Person person : persons) {
+                if (!emails.add(person.getEmail().value)) {
+                    violations.add("duplicate person " + person.getEmail());
+                }
+                for (Project project : person.getProjects()) {
+                    if (!project.getAllPeople().contains(person)) {
+                        violations.add(person.getName() + " lists " + project.getName() + " but is not a member");
+                    }
+                }
+            }
+            Set<String> projectNames = new HashSet<>();
+            for (Project project : book.getProjectList()) {
+                if (!projectNames.add(project.getName().fullName.toLowerCase())) {
+                    violations.add("duplicate project " + project.getName());
+                }
+                for (Person member : project.getAllPeople()) {
+                    if (!persons.contains(member)) {
+                        violations.add(member.getName() + " is a member of " + project.getName()
+                                + " but not in the book");
+                    }
+                    if (!member.getProjects().contains(project)) {
+                        violations.add(member.getName() + " is missing " + project.getName());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            violations.add("reader failed: " + e);
+        } finally {
+            readLock.unlock();
+        }
+    }
+}
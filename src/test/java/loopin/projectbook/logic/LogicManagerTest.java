@@ -9,27 +9,43 @@ import static loopin.projectbook.logic.commands.CommandTestUtil.TELEGRAM_DESC_AM
 import static loopin.projectbook.testutil.Assert.assertThrows;
 import static loopin.projectbook.testutil.TypicalPersons.AMY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import loopin.projectbook.commons.core.CommandStats;
+import loopin.projectbook.commons.core.CommandStats.Phase;
+import loopin.projectbook.commons.core.CommandStats.Timings;
 import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.logic.commands.ExportCommand;
 import loopin.projectbook.logic.commands.ListCommand;
+import loopin.projectbook.logic.commands.RedoCommand;
+import loopin.projectbook.logic.commands.RunCommand;
+import loopin.projectbook.logic.commands.UndoCommand;
 import loopin.projectbook.logic.commands.exceptions.CommandException;
 import loopin.projectbook.logic.commands.personcommands.AddVolunteerCommand;
+import loopin.projectbook.logic.commands.projectcommands.ProjectListCommand;
+import loopin.projectbook.logic.completion.Suggestion;
 import loopin.projectbook.logic.parser.exceptions.ParseException;
 import loopin.projectbook.model.Model;
 import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.ProjectBook;
 import loopin.projectbook.model.ReadOnlyProjectBook;
 import loopin.projectbook.model.UserPrefs;
 import loopin.projectbook.model.person.Person;
 import loopin.projectbook.storage.JsonProjectBookStorage;
 import loopin.projectbook.storage.JsonUserPrefsStorage;
+import loopin.projectbook.storage.ProjectBookExporter.Data;
 import loopin.projectbook.storage.StorageManager;
 import loopin.projectbook.testutil.PersonBuilder;
 
@@ -82,6 +98,152 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void executeBatch_allCommandsSucceed_savedOnce() throws Exception {
+        String addCommand = AddVolunteerCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + TELEGRAM_DESC_AMY;
+        CommandResult result = logic.executeBatch(List.of(addCommand, ListCommand.COMMAND_WORD));
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, LogicManager.BATCH_SOURCE),
+                result.getFeedbackToUser().split("\n")[0]);
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).build());
+        assertEquals(expectedModel, model);
+        assertEquals(expectedModel.getProjectBook(), new JsonProjectBookStorage(
+                temporaryFolder.resolve("projectBook.json")).readProjectBook().get());
+    }
+
+    @Test
+    public void executeBatch_commandFails_nothingChanged() {
+        String addCommand = AddVolunteerCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + TELEGRAM_DESC_AMY;
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_FAILED, 2,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, 1, LogicManager.BATCH_SOURCE);
+        assertThrows(CommandException.class, expectedMessage, ()
+            -> logic.executeBatch(List.of(addCommand, "delete 9")));
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void execute_undoAfterBatch_undoesWholeBatch() throws Exception {
+        String addCommand = AddVolunteerCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + TELEGRAM_DESC_AMY;
+        logic.executeBatch(List.of(addCommand, "project add n/Artshow d/Annual art show",
+                "project assign n/Amy Bee project/Artshow"));
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertEquals(List.of(model.getFilteredPersonList().get(0)),
+                model.getFilteredProjectList().get(0).getAllPeople());
+    }
+
+    @Test
+    public void execute_commands_timedByCommandWord() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("  project   list ");
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        CommandStats stats = logic.getCommandStats();
+        Timings list = stats.getTimings(ListCommand.class);
+        assertEquals(ListCommand.COMMAND_WORD, list.getCommandWord());
+        assertEquals(List.of(2L, 2L, 2L), List.of(list.get(Phase.PARSE).getCount(),
+                list.get(Phase.EXECUTE).getCount(), list.get(Phase.SAVE).getCount()));
+        assertEquals("project list", stats.getTimings(ProjectListCommand.class).getCommandWord());
+        assertEquals(List.of(1L), List.of(stats.getInvalidTimings().get(Phase.PARSE).getCount()));
+    }
+
+    @Test
+    public void executeAndSubmit_savedHoldingOnlyReadLock() throws Exception {
+        // whether the write lock is held, then whether this thread holds the read lock, for each save
+        List<Boolean> lockStates = new ArrayList<>();
+        JsonProjectBookStorage projectBookStorage = new JsonProjectBookStorage(
+                temporaryFolder.resolve("projectBook.json")) {
+            @Override
+            public void saveProjectBook(ReadOnlyProjectBook projectBook, Path filePath) throws IOException {
+                lockStates.add(model.getLock().isWriteLocked());
+                lockStates.add(model.getLock().getReadHoldCount() > 0);
+                super.saveProjectBook(projectBook, filePath);
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(projectBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        logic.execute(AddVolunteerCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + TELEGRAM_DESC_AMY);
+        logic.submit(AddVolunteerCommand.COMMAND_WORD + " n/Bob Choo e/bob@example.com").get();
+        logic.shutdown();
+
+        assertEquals(List.of(false, true, false, true), lockStates);
+    }
+
+    @Test
+    public void execute_export_writtenBeforeReturning() throws Exception {
+        Path file = temporaryFolder.resolve("persons.csv");
+        CommandResult result = logic.execute(ExportCommand.COMMAND_WORD + " persons " + file);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 0, Data.PERSONS, file),
+                result.getFeedbackToUser());
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    public void submit_commands_timedByCommandWord() throws Exception {
+        logic.submit(ListCommand.COMMAND_WORD);
+        logic.submit(ListCommand.COMMAND_WORD).get();
+        assertTrue(logic.submit("uicfhmowqewca").isCompletedExceptionally());
+
+        CommandStats stats = logic.getCommandStats();
+        Timings list = stats.getTimings(ListCommand.class);
+        assertEquals(List.of(2L, 2L, 2L), List.of(list.get(Phase.PARSE).getCount(),
+                list.get(Phase.EXECUTE).getCount(), list.get(Phase.SAVE).getCount()));
+        assertEquals(List.of(1L), List.of(stats.getInvalidTimings().get(Phase.PARSE).getCount()));
+    }
+
+    @Test
+    public void shutdown_commandsSubmitted_savedBeforeReturning() throws Exception {
+        CompletableFuture<CommandResult> added = logic.submit(AddVolunteerCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + TELEGRAM_DESC_AMY);
+        logic.shutdown();
+
+        assertTrue(added.isDone());
+        assertEquals(List.of(AMY), new JsonProjectBookStorage(temporaryFolder.resolve("projectBook.json"))
+                .readProjectBook().get().getPersonList());
+        CompletableFuture<CommandResult> refused = logic.submit(ListCommand.COMMAND_WORD);
+        assertTrue(refused.isCompletedExceptionally());
+        assertEquals(CommandSequencer.MESSAGE_SHUT_DOWN, refused.handle((result, e) -> e.getMessage()).get());
+    }
+
+    @Test
+    public void suggest_afterCommand_suggestsNewPerson() throws Exception {
+        assertEquals(List.of(), logic.suggest("project assign n/am"));
+
+        logic.execute(AddVolunteerCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + TELEGRAM_DESC_AMY);
+        assertEquals(List.of(new Suggestion(17, AMY.getName().fullName + " ")),
+                logic.suggest("project assign n/am"));
+    }
+
+    @Test
+    public void constructor_savedViewsInUserPrefs_viewsRestored() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.putSavedView("amys", "name:amy");
+        userPrefs.putSavedView("broken", "colour:red");
+        model = new ModelManager(new ProjectBook(), userPrefs);
+        JsonProjectBookStorage projectBookStorage =
+                new JsonProjectBookStorage(temporaryFolder.resolve("projectBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(projectBookStorage, userPrefsStorage));
+
+        logic.execute(AddVolunteerCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + TELEGRAM_DESC_AMY);
+        assertEquals(1, model.getSavedViews().size());
+        assertEquals(List.of(AMY), model.getSavedViews().get(0).getPersons());
+
+        // a view which cannot be parsed is kept for a later version to read
+        assertEquals("colour:red", model.getUserPrefs().getSavedViews().get("broken"));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -0,0 +1,91 @@
+package loopin.projectbook.logic.commands;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_NO_PROJECT;
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.person.Name;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class ActivityCommandTest {
+
+    private final ModelManager model = new ModelManager();
+    private final Person amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com").build();
+    private final Person bob = new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com")
+            .withPhone("22222222").withTelegram("bobchoo").build();
+    private final Project artshow = new Project(new ProjectName("Artshow"), new Description("Annual art show"));
+    private final Project bakesale = new Project(new ProjectName("Bakesale"), new Description("Charity bake sale"));
+
+    @BeforeEach
+    public void setUp() {
+        model.addPerson(amy);
+        model.addPerson(bob);
+        model.addProject(artshow);
+        model.addProject(bakesale);
+        join(artshow, amy);
+        join(bakesale, bob);
+        join(bakesale, amy);
+    }
+
+    @Test
+    public void execute_allProjects_latestFirst() throws Exception {
+        String[] lines = new ActivityCommand(10, 1, Optional.empty(), Optional.empty()).execute(model)
+                .getFeedbackToUser().split("\n");
+        assertEquals(String.format(ActivityCommand.MESSAGE_SUCCESS, 1), lines[0]);
+        assertEquals(4, lines.length);
+        assertTrue(lines[1].endsWith("Bakesale: Added new member: Amy Bee"), lines[1]);
+        assertTrue(lines[3].endsWith("Artshow: Added new member: Amy Bee"), lines[3]);
+    }
+
+    @Test
+    public void execute_filtered_onlyMatchingEvents() throws Exception {
+        String[] lines = new ActivityCommand(10, 1, Optional.of(new Name("bob choo")), Optional.empty())
+                .execute(model).getFeedbackToUser().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].endsWith("Bakesale: Added new member: Bob Choo"));
+
+        lines = new ActivityCommand(10, 1, Optional.empty(), Optional.of(new ProjectName("Artshow")))
+                .execute(model).getFeedbackToUser().split("\n");
+        assertEquals(2, lines.length);
+    }
+
+    @Test
+    public void execute_pageWithoutActivity_noActivityMessage() throws Exception {
+        assertEquals(ActivityCommand.MESSAGE_NO_ACTIVITY, new ActivityCommand(3, 2, Optional.empty(),
+                Optional.empty()).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_unknownProject_throwsCommandException() {
+        assertThrows(CommandException.class, String.format(MESSAGE_NO_PROJECT, "Carnival"), () ->
+                new ActivityCommand(10, 1, Optional.empty(), Optional.of(new ProjectName("Carnival"))).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ActivityCommand command = new ActivityCommand(10, 1, Optional.empty(), Optional.empty());
+        assertTrue(command.equals(new ActivityCommand(10, 1, Optional.empty(), Optional.empty())));
+        assertFalse(command.equals(new ActivityCommand(10, 2, Optional.empty(), Optional.empty())));
+        assertFalse(command.equals(null));
+    }
+
+    private void join(Project project, Person person) {
+        project.assignPerson(person);
+        person.addProject(project);
+        model.setProject(project);
+        model.setPersonInPlace(person);
+    }
+}
@@ -69,7 +69,7 @@ public class CommandTestUtil {
     public static void assertCommandSuccess(Command command, Model actualModel, CommandResult expectedCommandResult,
             Model expectedModel) {
         try {
-            CommandResult result = command.execute(actualModel);
+            CommandResult result = command.execute(actualModel).runPostCommitAction();
             assertEquals(expectedCommandResult, result);
             assertEquals(expectedModel, actualModel);
         } catch (CommandException ce) {
@@ -111,7 +111,8 @@ public class CommandTestUtil {
         ProjectBook expectedProjectBook = new ProjectBook(actualModel.getProjectBook());
         List<Person> expectedFilteredList = new ArrayList<>(actualModel.getFilteredPersonList());
 
-        assertThrows(CommandException.class, expectedMessage, () -> command.execute(actualModel));
+        assertThrows(CommandException.class, expectedMessage, () ->
+                command.execute(actualModel).runPostCommitAction());
         assertEquals(expectedProjectBook, actualModel.getProjectBook());
         assertEquals(expectedFilteredList, actualModel.getFilteredPersonList());
     }
@@ -0,0 +1,136 @@
+package loopin.projectbook.logic.commands;
+
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static loopin.projectbook.testutil.TypicalPersons.ALICE;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalPersons;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.storage.ProjectBookExporter.Data;
+import loopin.projectbook.storage.ProjectBookExporter.Format;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Person amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com")
+            .withPhone("81111111").withTelegram("amy_bee").build();
+    private final Project artshow = new Project(new ProjectName("Artshow"), new Description("Art show"));
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+        model.addPerson(amy);
+        model.addProject(artshow);
+        artshow.assignPerson(amy);
+        amy.addProject(artshow);
+        expectedModel = new ModelManager(model.getProjectBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_allPersons_writesEveryPerson() throws Exception {
+        Path file = testFolder.resolve("persons.csv");
+        int personCount = getTypicalPersons().size() + 1;
+
+        assertCommandSuccess(new ExportCommand(Data.PERSONS, Format.CSV, file, false, Optional.empty()), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, personCount, Data.PERSONS, file), expectedModel);
+        assertEquals(personCount + 1, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void execute_shownPersons_writesFilteredList() throws Exception {
+        Path file = testFolder.resolve("persons.jsonl");
+        model.updateFilteredPersonList(person -> person.equals(ALICE));
+        expectedModel.updateFilteredPersonList(person -> person.equals(ALICE));
+
+        assertCommandSuccess(new ExportCommand(Data.PERSONS, Format.JSONL, file, true, Optional.empty()), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, Data.PERSONS, file), expectedModel);
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains(ALICE.getEmail().value));
+    }
+
+    @Test
+    public void execute_project_writesItsMemberships() throws Exception {
+        Path file = testFolder.resolve("memberships.csv");
+
+        assertCommandSuccess(new ExportCommand(Data.MEMBERSHIPS, Format.CSV, file, false,
+                Optional.of(artshow.getName())), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, Data.MEMBERSHIPS, file), expectedModel);
+        assertEquals(List.of("project,name,email", "Artshow,Amy Bee,amy@example.com"),
+                Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_fileWrittenByPostCommitAction() throws Exception {
+        Path file = testFolder.resolve("projects.csv");
+        CommandResult result = new ExportCommand(Data.PROJECTS, Format.CSV, file, false, Optional.empty())
+                .execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORTING, Data.PROJECTS, file),
+                result.getFeedbackToUser());
+        assertFalse(Files.exists(file));
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, Data.PROJECTS, file),
+                result.runPostCommitAction().getFeedbackToUser());
+        assertEquals(2, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void execute_unknownProject_failure() {
+        Path file = testFolder.resolve("persons.csv");
+
+        assertCommandFailure(new ExportCommand(Data.PERSONS, Format.CSV, file, false,
+                Optional.of(new ProjectName("Unknown"))), model,
+                String.format(ExportCommand.MESSAGE_PROJECT_NOT_FOUND, "Unknown"));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void equals() {
+        Path file = testFolder.resolve("persons.csv");
+        ExportCommand command = new ExportCommand(Data.PERSONS, Format.CSV, file, false, Optional.empty());
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new ExportCommand(Data.PERSONS, Format.CSV, file, false, Optional.empty())));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different data -> returns false
+        assertFalse(command.equals(new ExportCommand(Data.PROJECTS, Format.CSV, file, false, Optional.empty())));
+
+        // different filter -> returns false
+        assertFalse(command.equals(new ExportCommand(Data.PERSONS, Format.CSV, file, true, Optional.empty())));
+    }
+}
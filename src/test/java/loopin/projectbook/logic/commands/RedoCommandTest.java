@@ -0,0 +1,44 @@
+package loopin.projectbook.logic.commands;
+
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static loopin.projectbook.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.personcommands.DeleteCommand;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.ProjectBook;
+import loopin.projectbook.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingUndone_failure() throws Exception {
+        new ClearCommand().executeAtomically(model);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterUndo_appliesChangeAgain() throws Exception {
+        new ClearCommand().executeAtomically(model);
+        new UndoCommand().executeAtomically(model);
+
+        Model expectedModel = new ModelManager(new ProjectBook(), new UserPrefs());
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_failure() throws Exception {
+        new ClearCommand().executeAtomically(model);
+        new UndoCommand().executeAtomically(model);
+        new DeleteCommand(INDEX_FIRST_PERSON).executeAtomically(model);
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
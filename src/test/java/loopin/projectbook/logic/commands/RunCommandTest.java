@@ -0,0 +1,118 @@
+package loopin.projectbook.logic.commands;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.logic.parser.ProjectBookParser;
+import loopin.projectbook.logic.parser.RunCommandParser;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.view.SavedView;
+import loopin.projectbook.storage.ProjectBookExporter.Data;
+
+public class RunCommandTest {
+
+    private static final String SOURCE = "script.txt";
+    private static final String ADD_AMY = "addv n/Amy Bee e/amy@example.com";
+    private static final String ADD_BOB = "addv n/Bob Choo e/bob@example.com";
+    private static final String ADD_ARTSHOW = "project add n/Artshow d/Annual art show";
+    private static final String ASSIGN_AMY = "project assign n/Amy Bee project/Artshow";
+    private static final String REMOVE_AMY = "project remove n/Amy Bee project/Artshow";
+
+    @TempDir
+    public Path testFolder;
+
+    private final RunCommandParser parser = new RunCommandParser(new ProjectBookParser());
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_allCommandsSucceed_reportsEachLine() throws Exception {
+        RunCommand command = parser.parseLines(SOURCE, List.of(ADD_AMY, "# comment", ADD_ARTSHOW, ASSIGN_AMY));
+        String[] report = command.execute(model).getFeedbackToUser().split("\n");
+
+        assertEquals(4, report.length);
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 3, SOURCE), report[0]);
+        assertTrue(report[1].startsWith("Line 1: "));
+        assertTrue(report[2].startsWith("Line 3: "));
+        assertTrue(report[3].startsWith("Line 4: "));
+
+        Person amy = model.getFilteredPersonList().get(0);
+        Project artshow = model.getFilteredProjectList().get(0);
+        assertEquals(List.of(amy), artshow.getAllPeople());
+        assertEquals(List.of(artshow), amy.getProjects());
+    }
+
+    @Test
+    public void execute_exportLine_writtenByPostCommitAction() throws Exception {
+        Path file = testFolder.resolve("persons.csv");
+        RunCommand command = parser.parseLines(SOURCE, List.of(ADD_AMY, "export persons " + file));
+        CommandResult result = command.execute(model);
+        assertFalse(Files.exists(file));
+
+        String[] report = result.runPostCommitAction().getFeedbackToUser().split("\n");
+        assertEquals("Line 2: " + String.format(ExportCommand.MESSAGE_SUCCESS, 1, Data.PERSONS, file), report[2]);
+        assertEquals(2, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void execute_commandFails_earlierChangesRolledBack() throws Exception {
+        parser.parseLines(SOURCE, List.of(ADD_AMY, ADD_ARTSHOW, ASSIGN_AMY)).execute(model);
+        Person amy = model.getFilteredPersonList().get(0);
+        Project artshow = model.getFilteredProjectList().get(0);
+
+        RunCommand command = parser.parseLines(SOURCE, List.of(REMOVE_AMY, ADD_BOB, "delete 99"));
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_FAILED, 3,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, 2, SOURCE);
+        assertThrows(CommandException.class, expectedMessage, () -> command.execute(model));
+
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals(1, model.getFilteredProjectList().size());
+        Person restoredAmy = model.getFilteredPersonList().get(0);
+        Project restoredArtshow = model.getFilteredProjectList().get(0);
+        assertTrue(restoredAmy.isSamePerson(amy));
+        assertTrue(restoredArtshow.isSameProject(artshow));
+        assertEquals(List.of(restoredArtshow), restoredAmy.getProjects());
+        assertEquals(1, restoredArtshow.getAllPeople().size());
+        assertSame(restoredAmy, restoredArtshow.getAllPeople().get(0));
+    }
+
+    @Test
+    public void execute_commandFails_viewChangesRolledBack() throws Exception {
+        parser.parseLines(SOURCE, List.of(ADD_AMY, "view save kept name:amy")).execute(model);
+
+        RunCommand command = parser.parseLines(SOURCE,
+                List.of("view delete kept", "view save added name:amy", "delete 99"));
+        assertThrows(CommandException.class, () -> command.execute(model));
+
+        assertEquals(List.of("kept"), model.getSavedViews().stream().map(SavedView::getName).toList());
+        assertEquals(List.of("kept"), List.copyOf(model.getUserPrefs().getSavedViews().keySet()));
+        assertTrue(model.showView("kept"));
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void equals() throws Exception {
+        RunCommand deleteFirst = parser.parseLines(SOURCE, List.of("delete 1"));
+        RunCommand deleteFirstCopy = parser.parseLines(SOURCE, List.of("delete 1"));
+
+        assertTrue(deleteFirst.equals(deleteFirst));
+        assertTrue(deleteFirst.equals(deleteFirstCopy));
+        assertFalse(deleteFirst.equals(null));
+        assertFalse(deleteFirst.equals(parser.parseLines(SOURCE, List.of("", "delete 1"))));
+        assertFalse(deleteFirst.equals(parser.parseLines("other.txt", List.of("delete 1"))));
+    }
+}
@@ -0,0 +1,40 @@
+package loopin.projectbook.logic.commands;
+
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.commons.core.CommandStats;
+import loopin.projectbook.commons.core.CommandStats.Phase;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final CommandStats stats = new CommandStats();
+
+    @Test
+    public void execute_nothingTimed_saysSo() {
+        Model model = new ModelManager();
+        assertCommandSuccess(new StatsCommand(stats), model, CommandStats.MESSAGE_NONE_TIMED, new ModelManager());
+    }
+
+    @Test
+    public void execute_commandsTimed_showsSummary() {
+        Model model = new ModelManager();
+        stats.addTimings(ListCommand.class, ListCommand.COMMAND_WORD).record(Phase.PARSE, 1_000_000);
+        assertCommandSuccess(new StatsCommand(stats), model, stats.getSummary(), new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(stats);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(stats)));
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandStats())));
+    }
+}
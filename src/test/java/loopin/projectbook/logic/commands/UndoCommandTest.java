@@ -0,0 +1,56 @@
+package loopin.projectbook.logic.commands;
+
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static loopin.projectbook.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.personcommands.DeleteCommand;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+
+    @Test
+    public void execute_noChanges_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterCommittedChanges_undoesNewestFirst() throws Exception {
+        new DeleteCommand(INDEX_FIRST_PERSON).executeAtomically(model);
+        new ClearCommand().executeAtomically(model);
+
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()));
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        Model typicalModel = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, typicalModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_bookChangedOutsideTransaction_failure() throws Exception {
+        new ClearCommand().executeAtomically(model);
+        model.setProjectBook(getTypicalProjectBook());
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void executeAtomically_rolledBack_changeNotUndone() throws Exception {
+        new ClearCommand().executeAtomically(model);
+
+        model.beginTransaction();
+        new UndoCommand().execute(model);
+        model.rollbackTransaction();
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
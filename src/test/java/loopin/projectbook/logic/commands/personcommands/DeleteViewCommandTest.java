@@ -0,0 +1,70 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_NO_VIEW;
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalPersons;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.query.Field;
+import loopin.projectbook.model.query.Query;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DeleteViewCommand}.
+ */
+public class DeleteViewCommandTest {
+    private static final Query MEIER = new Query.Term(Field.NAME_CONTAINS, "meier");
+
+    private Model model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        DeleteViewCommand firstCommand = new DeleteViewCommand("meiers");
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new DeleteViewCommand("meiers")));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different name -> returns false
+        assertFalse(firstCommand.equals(new DeleteViewCommand("others")));
+    }
+
+    @Test
+    public void execute_shownView_viewDeletedAndAllPersonsShown() {
+        model.saveView("meiers", MEIER);
+        model.showView("meiers");
+        String expectedMessage = String.format(DeleteViewCommand.MESSAGE_SUCCESS, "meiers");
+        assertCommandSuccess(new DeleteViewCommand("meiers"), model, expectedMessage, expectedModel);
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+        assertTrue(model.getSavedViews().isEmpty());
+    }
+
+    @Test
+    public void execute_unknownView_throwsCommandException() {
+        assertCommandFailure(new DeleteViewCommand("meiers"), model, String.format(MESSAGE_NO_VIEW, "meiers"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        DeleteViewCommand command = new DeleteViewCommand("meiers");
+        String expected = DeleteViewCommand.class.getCanonicalName() + "{name=meiers}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,88 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static loopin.projectbook.testutil.TypicalPersons.BENSON;
+import static loopin.projectbook.testutil.TypicalPersons.DANIEL;
+import static loopin.projectbook.testutil.TypicalPersons.ELLE;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private static final boolean SHOW_PERSON_LIST = true;
+    private Model model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FuzzyFindCommand firstCommand = new FuzzyFindCommand("first", 10);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new FuzzyFindCommand("first", 10)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(new FuzzyFindCommand("second", 10)));
+
+        // different limit -> returns false
+        assertFalse(firstCommand.equals(new FuzzyFindCommand("first", 5)));
+    }
+
+    @Test
+    public void execute_misspeltKeyword_closestPersonsListed() {
+        String expectedMessage = String.format(FuzzyFindCommand.MESSAGE_SUCCESS, 3)
+                + "\n" + String.format(FuzzyFindCommand.MESSAGE_MATCH, 1, BENSON.getName())
+                + "\n" + String.format(FuzzyFindCommand.MESSAGE_MATCH, 2, DANIEL.getName())
+                + "\n" + String.format(FuzzyFindCommand.MESSAGE_MATCH, 3, ELLE.getName());
+        expectedModel.updateFilteredPersonList(person -> person == BENSON || person == DANIEL || person == ELLE);
+        assertCommandSuccess(new FuzzyFindCommand("meir", 10), model, expectedMessage, expectedModel,
+                SHOW_PERSON_LIST);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_limit_onlyClosestListed() {
+        String expectedMessage = String.format(FuzzyFindCommand.MESSAGE_SUCCESS, 1)
+                + "\n" + String.format(FuzzyFindCommand.MESSAGE_MATCH, 1, BENSON.getName());
+        expectedModel.updateFilteredPersonList(person -> person == BENSON);
+        assertCommandSuccess(new FuzzyFindCommand("meier", 1), model, expectedMessage, expectedModel,
+                SHOW_PERSON_LIST);
+    }
+
+    @Test
+    public void execute_noCloseName_noPersonsFound() {
+        String expectedMessage = String.format(FuzzyFindCommand.MESSAGE_SUCCESS, 0);
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(new FuzzyFindCommand("Kusasnz", 10), model, expectedMessage, expectedModel,
+                SHOW_PERSON_LIST);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FuzzyFindCommand command = new FuzzyFindCommand("keyword", 10);
+        String expected = FuzzyFindCommand.class.getCanonicalName() + "{query=keyword, limit=10}";
+        assertEquals(expected, command.toString());
+    }
+}
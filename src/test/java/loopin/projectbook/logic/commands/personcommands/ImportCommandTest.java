@@ -0,0 +1,107 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static loopin.projectbook.testutil.TypicalPersons.ALICE;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.personcommands.ImportCommand.Row;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String SOURCE = "people.csv";
+
+    private final Person amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com")
+            .withPhone("81111111").withTelegram("amy_bee").build();
+    private final Person bob = new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com")
+            .withPhone("82222222").withTelegram("bob_choo").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_newPersons_allAdded() {
+        ImportCommand command = new ImportCommand(SOURCE, List.of(new Row(2, amy), new Row(3, bob)), Map.of());
+
+        Model expectedModel = new ModelManager(model.getProjectBook(), new UserPrefs());
+        expectedModel.addPersons(List.of(amy, bob));
+
+        assertCommandSuccess(command, model, String.format(ImportCommand.MESSAGE_SUCCESS, 2, SOURCE),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_duplicatesAndInvalidRows_skippedAndReported() {
+        Person amyAgain = new PersonBuilder(amy).withName("Amy Again").withPhone("83333333")
+                .withTelegram("amy_again").build();
+        Person aliceByPhone = new PersonBuilder().withName("Alice Again").withEmail("other@example.com")
+                .withPhone(ALICE.getPhone().get().value).withTelegram("other_alice").build();
+        ImportCommand command = new ImportCommand(SOURCE,
+                List.of(new Row(2, amy), new Row(4, aliceByPhone), new Row(5, amyAgain), new Row(6, bob)),
+                Map.of(3, "Bad row."));
+
+        Model expectedModel = new ModelManager(model.getProjectBook(), new UserPrefs());
+        expectedModel.addPersons(List.of(amy, bob));
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, SOURCE)
+                + "\n" + String.format(ImportCommand.MESSAGE_SKIPPED, 3)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 3, "Bad row.")
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, AddCommand.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 5, AddCommand.MESSAGE_DUPLICATE_PERSON);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_transaction_oneUndoableChange() throws Exception {
+        ImportCommand command = new ImportCommand(SOURCE, List.of(new Row(2, amy), new Row(3, bob)), Map.of());
+        int sizeBefore = model.getProjectBook().getPersonList().size();
+
+        command.executeAtomically(model);
+        assertEquals(sizeBefore + 2, model.getProjectBook().getPersonList().size());
+
+        model.undoProjectBook();
+        assertEquals(sizeBefore, model.getProjectBook().getPersonList().size());
+        assertFalse(model.canUndoProjectBook());
+        assertTrue(model.canRedoProjectBook());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand command = new ImportCommand(SOURCE, List.of(new Row(2, amy)), Map.of(3, "Bad row."));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new ImportCommand(SOURCE, List.of(new Row(2, amy)), Map.of(3, "Bad row."))));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different rows -> returns false
+        assertFalse(command.equals(new ImportCommand(SOURCE, List.of(new Row(2, bob)), Map.of(3, "Bad row."))));
+
+        // different invalid rows -> returns false
+        assertFalse(command.equals(new ImportCommand(SOURCE, List.of(new Row(2, amy)), Map.of())));
+    }
+}
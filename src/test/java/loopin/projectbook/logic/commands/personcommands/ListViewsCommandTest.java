@@ -0,0 +1,42 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.query.Field;
+import loopin.projectbook.model.query.Query;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListViewsCommand}.
+ */
+public class ListViewsCommandTest {
+
+    private Model model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+
+    @Test
+    public void execute_noViews_showsNoViews() {
+        assertCommandSuccess(new ListViewsCommand(), model, ListViewsCommand.MESSAGE_NO_VIEWS, expectedModel);
+    }
+
+    @Test
+    public void execute_savedViews_listsViewsInOrder() {
+        Query meier = new Query.Term(Field.NAME_CONTAINS, "meier");
+        Query volunteers = new Query.Term(Field.ROLE, "v");
+        model.saveView("meiers", meier);
+        model.saveView("volunteers", volunteers);
+        expectedModel.saveView("meiers", meier);
+        expectedModel.saveView("volunteers", volunteers);
+
+        String expectedMessage = String.format(ListViewsCommand.MESSAGE_SUCCESS, 2)
+                + "\n" + String.format(ListViewsCommand.MESSAGE_VIEW, "meiers", 2, "name:meier")
+                + "\n" + String.format(ListViewsCommand.MESSAGE_VIEW, "volunteers",
+                        expectedModel.getSavedViews().get(1).getPersons().size(), "role:v");
+        assertCommandSuccess(new ListViewsCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -0,0 +1,88 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static loopin.projectbook.testutil.TypicalPersons.BENSON;
+import static loopin.projectbook.testutil.TypicalPersons.DANIEL;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.query.Field;
+import loopin.projectbook.model.query.Query;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private static final boolean SHOW_PERSON_LIST = true;
+    private static final Query MEIER = new Query.Term(Field.NAME_CONTAINS, "meier");
+    private static final Query BENSON_MEIER = new Query.Term(Field.NAME_IS, "benson meier");
+
+    private Model model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryCommand firstCommand = new QueryCommand(MEIER, false);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new QueryCommand(new Query.Term(Field.NAME_CONTAINS, "Meier"), false)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(new QueryCommand(BENSON_MEIER, false)));
+
+        // different explain -> returns false
+        assertFalse(firstCommand.equals(new QueryCommand(MEIER, true)));
+    }
+
+    @Test
+    public void execute_query_matchingPersonsListed() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        expectedModel.updateFilteredPersonList(person -> person.getName().equals(DANIEL.getName()));
+        Query query = new Query.And(List.of(MEIER, new Query.Not(BENSON_MEIER)));
+        assertCommandSuccess(new QueryCommand(query, false), model, expectedMessage, expectedModel,
+                SHOW_PERSON_LIST);
+        assertEquals(Arrays.asList(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_planShown() {
+        CommandResult result = new QueryCommand(new Query.Or(List.of(MEIER, BENSON_MEIER)), true).execute(model);
+
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), lines[0]);
+        assertEquals("Filter name:meier OR name=\"benson meier\" (2 matched)", lines[1]);
+        assertEquals("  Scan all persons (7 rows)", lines[2]);
+        assertTrue(lines[3].startsWith("Planned in "));
+        assertTrue(lines[4].startsWith("Listed in "));
+        assertTrue(lines[4].endsWith(" ms by checking each of 7 persons against the matches"));
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        QueryCommand command = new QueryCommand(MEIER, true);
+        String expected = QueryCommand.class.getCanonicalName() + "{query=name:meier, isExplained=true}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,73 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static loopin.projectbook.testutil.TypicalPersons.BENSON;
+import static loopin.projectbook.testutil.TypicalPersons.DANIEL;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.query.Field;
+import loopin.projectbook.model.query.Query;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SaveViewCommand}.
+ */
+public class SaveViewCommandTest {
+    private static final boolean SHOW_PERSON_LIST = true;
+    private static final Query MEIER = new Query.Term(Field.NAME_CONTAINS, "meier");
+
+    private Model model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SaveViewCommand firstCommand = new SaveViewCommand("meiers", MEIER);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new SaveViewCommand("meiers", new Query.Term(Field.NAME_CONTAINS, "meier"))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different name -> returns false
+        assertFalse(firstCommand.equals(new SaveViewCommand("others", MEIER)));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(new SaveViewCommand("meiers", new Query.Term(Field.ROLE, "v"))));
+    }
+
+    @Test
+    public void execute_newView_viewSavedAndShown() {
+        String expectedMessage = String.format(SaveViewCommand.MESSAGE_SUCCESS, "meiers", "name:meier") + "\n"
+                + String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        expectedModel.saveView("meiers", MEIER);
+        expectedModel.showView("meiers");
+        assertCommandSuccess(new SaveViewCommand("meiers", MEIER), model, expectedMessage, expectedModel,
+                SHOW_PERSON_LIST);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+        assertEquals("name:meier", model.getUserPrefs().getSavedViews().get("meiers"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SaveViewCommand command = new SaveViewCommand("meiers", MEIER);
+        String expected = SaveViewCommand.class.getCanonicalName() + "{name=meiers, query=name:meier}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,76 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_NO_VIEW;
+import static loopin.projectbook.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static loopin.projectbook.testutil.TypicalPersons.BENSON;
+import static loopin.projectbook.testutil.TypicalPersons.DANIEL;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.query.Field;
+import loopin.projectbook.model.query.Query;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ShowViewCommand}.
+ */
+public class ShowViewCommandTest {
+    private static final boolean SHOW_PERSON_LIST = true;
+    private static final Query MEIER = new Query.Term(Field.NAME_CONTAINS, "meier");
+
+    private Model model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ShowViewCommand firstCommand = new ShowViewCommand("meiers");
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new ShowViewCommand("meiers")));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different name -> returns false
+        assertFalse(firstCommand.equals(new ShowViewCommand("others")));
+    }
+
+    @Test
+    public void execute_savedView_viewShown() {
+        model.saveView("meiers", MEIER);
+        expectedModel.saveView("meiers", MEIER);
+        expectedModel.showView("meiers");
+        String expectedMessage = String.format(ShowViewCommand.MESSAGE_SUCCESS, "meiers") + "\n"
+                + String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        assertCommandSuccess(new ShowViewCommand("meiers"), model, expectedMessage, expectedModel, SHOW_PERSON_LIST);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownView_throwsCommandException() {
+        assertCommandFailure(new ShowViewCommand("meiers"), model, String.format(MESSAGE_NO_VIEW, "meiers"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ShowViewCommand command = new ShowViewCommand("meiers");
+        String expected = ShowViewCommand.class.getCanonicalName() + "{name=meiers}";
+        assertEquals(expected, command.toString());
+    }
+}
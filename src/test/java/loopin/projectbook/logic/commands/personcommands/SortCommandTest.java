@@ -0,0 +1,98 @@
+package loopin.projectbook.logic.commands.personcommands;
+
+import static loopin.projectbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static loopin.projectbook.testutil.TypicalPersons.ALICE;
+import static loopin.projectbook.testutil.TypicalPersons.BENSON;
+import static loopin.projectbook.testutil.TypicalPersons.CARL;
+import static loopin.projectbook.testutil.TypicalPersons.DANIEL;
+import static loopin.projectbook.testutil.TypicalPersons.ELLE;
+import static loopin.projectbook.testutil.TypicalPersons.FIONA;
+import static loopin.projectbook.testutil.TypicalPersons.GEORGE;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalPersons;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.person.PersonSortKey;
+import loopin.projectbook.model.person.Remark;
+import loopin.projectbook.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCommand}.
+ */
+public class SortCommandTest {
+    private static final boolean SHOW_PERSON_LIST = true;
+
+    private Model model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SortCommand firstCommand = new SortCommand(PersonSortKey.NAME);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new SortCommand(PersonSortKey.NAME)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different key -> returns false
+        assertFalse(firstCommand.equals(new SortCommand(PersonSortKey.ROLE)));
+    }
+
+    @Test
+    public void execute_pending_personsWithMostPendingRemarksFirst() {
+        Person remarkedElle = new PersonBuilder(ELLE).withRemarks("call back").build();
+        model.setPerson(ELLE, remarkedElle);
+        expectedModel.setPerson(ELLE, remarkedElle);
+        expectedModel.sortPersonList(PersonSortKey.PENDING);
+
+        assertCommandSuccess(new SortCommand(PersonSortKey.PENDING), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, "pending"), expectedModel, SHOW_PERSON_LIST);
+        assertEquals(remarkedElle, model.getFilteredPersonList().get(0));
+
+        // the list stays sorted as persons change
+        Person remarkedGeorge = GEORGE.withNewRemark(new Remark("send forms")).withNewRemark(new Remark("pay"));
+        model.setPerson(GEORGE, remarkedGeorge);
+        assertEquals(List.of(remarkedGeorge, remarkedElle), model.getFilteredPersonList().subList(0, 2));
+        Person resolvedGeorge = new PersonBuilder(GEORGE).build();
+        model.setPerson(remarkedGeorge, resolvedGeorge);
+        assertEquals(remarkedElle, model.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void execute_nameThenAdded_restoresOrderAdded() {
+        Person zara = new PersonBuilder().withName("Aaron Zara").withEmail("zara@example.com")
+                .withPhone("81112222").withTelegram("aaronzara").build();
+        model.addPerson(zara);
+        new SortCommand(PersonSortKey.NAME).execute(model);
+        assertEquals(List.of(zara, ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+
+        new SortCommand(PersonSortKey.ADDED).execute(model);
+        List<Person> expectedPersons = getTypicalPersons();
+        expectedPersons.add(zara);
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        SortCommand command = new SortCommand(PersonSortKey.PROJECTS);
+        String expected = SortCommand.class.getCanonicalName() + "{key=PROJECTS}";
+        assertEquals(expected, command.toString());
+    }
+}
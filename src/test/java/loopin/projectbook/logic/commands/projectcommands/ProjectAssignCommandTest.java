@@ -1,5 +1,6 @@
 package loopin.projectbook.logic.commands.projectcommands;
 
+import static loopin.projectbook.logic.Messages.MESSAGE_AMBIGUOUS_NAME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -19,7 +20,7 @@ class ProjectAssignCommandTest {
         Person alice = ProjectMemberTestUtil.mkVolunteer("Alice Tan");
         Project website = ProjectMemberTestUtil.mkProject("Website Revamp");
 
-        var model = new ProjectMemberTestUtil.ModelStub(
+        var model = new ProjectMemberTestUtil.MemberModelStub(
                 ProjectMemberTestUtil.peopleList(alice),
                 ProjectMemberTestUtil.projectList(website));
 
@@ -39,7 +40,7 @@ class ProjectAssignCommandTest {
         Person alice = ProjectMemberTestUtil.mkVolunteer("Alice Tan");
         Project website = ProjectMemberTestUtil.mkProject("Website Revamp");
 
-        var model = new ProjectMemberTestUtil.ModelStub(
+        var model = new ProjectMemberTestUtil.MemberModelStub(
                 ProjectMemberTestUtil.peopleList(alice),
                 ProjectMemberTestUtil.projectList(website));
 
@@ -55,11 +56,23 @@ class ProjectAssignCommandTest {
 
     @Test
     void execute_personNameNotFound_throwsCommandException() {
-        var model = new ProjectMemberTestUtil.ModelStub(
+        var model = new ProjectMemberTestUtil.MemberModelStub(
                 ProjectMemberTestUtil.peopleList(), // empty
                 ProjectMemberTestUtil.projectList(ProjectMemberTestUtil.mkProject("Website Revamp"))
         );
         ProjectAssignCommand cmd = new ProjectAssignCommand("Ghost", new ProjectName("Website Revamp"));
         assertThrows(CommandException.class, () -> cmd.execute(model));
     }
+
+    @Test
+    void execute_personNameShared_throwsCommandException() {
+        var model = new ProjectMemberTestUtil.MemberModelStub(
+                ProjectMemberTestUtil.peopleList(ProjectMemberTestUtil.mkVolunteer("Alice Tan"),
+                        ProjectMemberTestUtil.mkVolunteer("alice tan")),
+                ProjectMemberTestUtil.projectList(ProjectMemberTestUtil.mkProject("Website Revamp"))
+        );
+        ProjectAssignCommand cmd = new ProjectAssignCommand("ALICE TAN", new ProjectName("Website Revamp"));
+        CommandException thrown = assertThrows(CommandException.class, () -> cmd.execute(model));
+        assertEquals(String.format(MESSAGE_AMBIGUOUS_NAME, "ALICE TAN"), thrown.getMessage());
+    }
 }
@@ -0,0 +1,93 @@
+package loopin.projectbook.logic.commands.projectcommands;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_NO_PROJECT;
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.logic.commands.exceptions.CommandException;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.project.ActivityEvent;
+import loopin.projectbook.model.project.ActivityHistory;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.storage.ActivityLogStorage;
+
+public class ProjectHistoryCommandTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 3, 9, 0);
+    private static final int EVENT_COUNT = ActivityHistory.DEFAULT_CAPACITY + 13;
+
+    @TempDir
+    public Path testFolder;
+
+    private final ModelManager model = new ModelManager();
+    private final Project artshow = new Project(new ProjectName("Artshow"), new Description("Annual art show"));
+    private ActivityLogStorage log;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        log = new ActivityLogStorage(testFolder);
+        model.setActivityArchive(log);
+        model.addProject(artshow);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            artshow.getHistory().record(ActivityEvent.Type.CUSTOM, null, "Update " + i, START.plusHours(i));
+        }
+        log.archive(model.getProjectBook());
+    }
+
+    @Test
+    public void execute_firstPage_latestEventsShown() throws Exception {
+        CommandResult result = new ProjectHistoryCommand(artshow.getName(), 1).execute(model);
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(ProjectHistoryCommand.MESSAGE_SUCCESS, "Artshow", 1, 5), lines[0]);
+        assertEquals(ProjectHistoryCommand.PAGE_SIZE + 1, lines.length);
+        assertTrue(lines[1].endsWith("Update " + (EVENT_COUNT - 1)));
+    }
+
+    @Test
+    public void execute_pageAcrossArchive_eventsInOrder() throws Exception {
+        // page 4 holds events 14 to 5, of which 12 and older were pushed out to the log
+        String[] lines = new ProjectHistoryCommand(artshow.getName(), 4).execute(model)
+                .getFeedbackToUser().split("\n");
+        assertEquals(ProjectHistoryCommand.PAGE_SIZE + 1, lines.length);
+        for (int i = 1; i < lines.length; i++) {
+            assertTrue(lines[i].endsWith("Update " + (EVENT_COUNT - 30 - i)), lines[i]);
+        }
+
+        String[] lastPage = new ProjectHistoryCommand(artshow.getName(), 5).execute(model)
+                .getFeedbackToUser().split("\n");
+        assertEquals(6, lastPage.length);
+        assertTrue(lastPage[5].endsWith("Update 0"));
+    }
+
+    @Test
+    public void execute_pageOutOfRange_throwsCommandException() {
+        assertThrows(CommandException.class, String.format(ProjectHistoryCommand.MESSAGE_PAGE_OUT_OF_RANGE,
+                "Artshow", 5), () -> new ProjectHistoryCommand(artshow.getName(), 6).execute(model));
+    }
+
+    @Test
+    public void execute_unknownProject_throwsCommandException() {
+        assertThrows(CommandException.class, String.format(MESSAGE_NO_PROJECT, "Bakesale"), () ->
+                new ProjectHistoryCommand(new ProjectName("Bakesale"), 1).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ProjectHistoryCommand firstPage = new ProjectHistoryCommand(artshow.getName(), 1);
+        assertTrue(firstPage.equals(new ProjectHistoryCommand(new ProjectName("Artshow"), 1)));
+        assertFalse(firstPage.equals(new ProjectHistoryCommand(artshow.getName(), 2)));
+        assertFalse(firstPage.equals(null));
+    }
+}
@@ -3,13 +3,14 @@ package loopin.projectbook.logic.commands.projectcommands;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import loopin.projectbook.commons.core.GuiSettings;
-import loopin.projectbook.model.Model;
 import loopin.projectbook.model.ReadOnlyProjectBook;
 import loopin.projectbook.model.ReadOnlyUserPrefs;
 import loopin.projectbook.model.UserPrefs;
@@ -23,6 +24,7 @@ import loopin.projectbook.model.person.volunteer.Volunteer;
 import loopin.projectbook.model.project.Description;
 import loopin.projectbook.model.project.Project;
 import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.testutil.ModelStub;
 
 final class ProjectMemberTestUtil {
 
@@ -61,7 +63,7 @@ final class ProjectMemberTestUtil {
 
     /**
      * Minimal read-only ProjectBook stub that just exposes the live observable lists
-     * we pass into the ModelStub. This prevents NPEs when production code reads
+     * we pass into the MemberModelStub. This prevents NPEs when production code reads
      * model.getProjectBook().
      */
     private static final class ReadOnlyProjectBookStub implements ReadOnlyProjectBook {
@@ -82,16 +84,25 @@ final class ProjectMemberTestUtil {
         public ObservableList<Project> getProjectList() {
             return FXCollections.unmodifiableObservableList(projects);
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
-    static class ModelStub implements Model {
+    /**
+     * A model stub keeping persons and projects in the given lists, enough for assigning and removing members.
+     */
+    static class MemberModelStub extends ModelStub {
         private final ObservableList<Person> persons;
         private final ObservableList<Project> projects;
         private final ReadOnlyProjectBook roBookView;
         private Path projectBookFilePath = Path.of("test.json");
         private final UserPrefs prefs = new UserPrefs();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
 
-        ModelStub(ObservableList<Person> persons, ObservableList<Project> projects) {
+        MemberModelStub(ObservableList<Person> persons, ObservableList<Project> projects) {
             this.persons = persons;
             this.projects = projects;
             this.roBookView = new ReadOnlyProjectBookStub(persons, projects);
@@ -159,6 +170,10 @@ final class ProjectMemberTestUtil {
             return roBookView;
         }
 
+        @Override public ReentrantReadWriteLock getLock() {
+            return lock;
+        }
+
         // ----- People ops (unused in these tests) -----
         @Override public boolean hasPerson(Person person) {
             return false;
@@ -169,6 +184,25 @@ final class ProjectMemberTestUtil {
             persons.add(person);
         }
 
+        @Override public void assignMember(Project project, Person person) {
+            project.assignPerson(person);
+            person.addProject(project);
+            setProject(project);
+        }
+
+        @Override public void removeMember(Project project, Person person) {
+            project.removePerson(person);
+            person.removeProject(project);
+            setProject(project);
+        }
+
+        @Override public List<Person> findPersonsByName(String name) {
+            String needle = name.trim().toLowerCase();
+            return persons.stream()
+                    .filter(p -> p.getName().fullName.trim().toLowerCase().equals(needle))
+                    .toList();
+        }
+
         @Override public void setPerson(Person target, Person editedPerson) {}
         @Override public void setPersonInPlace(Person person) {}
 
@@ -20,7 +20,7 @@ class ProjectRemoveCommandTest {
         Project website = ProjectMemberTestUtil.mkProject("Website Revamp");
         website.assignPerson(alice);
 
-        var model = new ProjectMemberTestUtil.ModelStub(
+        var model = new ProjectMemberTestUtil.MemberModelStub(
                 ProjectMemberTestUtil.peopleList(alice),
                 ProjectMemberTestUtil.projectList(website));
 
@@ -41,7 +41,7 @@ class ProjectRemoveCommandTest {
         Project website = ProjectMemberTestUtil.mkProject("Website Revamp");
         website.assignPerson(alice);
 
-        var model = new ProjectMemberTestUtil.ModelStub(
+        var model = new ProjectMemberTestUtil.MemberModelStub(
                 ProjectMemberTestUtil.peopleList(alice),
                 ProjectMemberTestUtil.projectList(website));
 
@@ -57,7 +57,7 @@ class ProjectRemoveCommandTest {
 
     @Test
     void execute_personNameNotFound_throwsCommandException() {
-        var model = new ProjectMemberTestUtil.ModelStub(
+        var model = new ProjectMemberTestUtil.MemberModelStub(
                 ProjectMemberTestUtil.peopleList(),
                 ProjectMemberTestUtil.projectList(ProjectMemberTestUtil.mkProject("Website Revamp"))
         );
@@ -0,0 +1,70 @@
+package loopin.projectbook.logic.commands.projectcommands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.LastUpdate;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+
+public class ProjectStaleCommandTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private final ModelManager model = new ModelManager();
+    private final Project artshow = project("Artshow", NOW.minusDays(40), new LastUpdate());
+    private final Project bakesale = project("Bakesale", NOW.minusDays(30), new LastUpdate("Booked hall",
+            NOW.minusDays(2)));
+    private final Project carnival = project("Carnival", NOW.minusDays(1), new LastUpdate());
+
+    @Test
+    public void execute_staleProjectsListed() {
+        addAll();
+        CommandResult result = new ProjectStaleCommand(7).execute(model);
+        assertEquals(String.format(ProjectStaleCommand.MESSAGE_SUCCESS, 1, 7), result.getFeedbackToUser());
+        assertEquals(List.of(artshow), model.getFilteredProjectList());
+
+        new ProjectStaleCommand(2).execute(model);
+        assertEquals(List.of(artshow, bakesale), model.getFilteredProjectList());
+    }
+
+    @Test
+    public void executeCreated_projectsInRangeListed() {
+        addAll();
+        LocalDate today = NOW.toLocalDate();
+        new ProjectCreatedCommand(today.minusDays(40), today.minusDays(30)).execute(model);
+        assertEquals(List.of(artshow, bakesale), model.getFilteredProjectList());
+
+        new ProjectCreatedCommand(today, today).execute(model);
+        assertTrue(model.getFilteredProjectList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        ProjectStaleCommand staleWeek = new ProjectStaleCommand(7);
+        assertTrue(staleWeek.equals(staleWeek));
+        assertTrue(staleWeek.equals(new ProjectStaleCommand(7)));
+        assertFalse(staleWeek.equals(new ProjectStaleCommand(8)));
+        assertFalse(staleWeek.equals(null));
+    }
+
+    private void addAll() {
+        model.addProject(artshow);
+        model.addProject(bakesale);
+        model.addProject(carnival);
+    }
+
+    private static Project project(String name, LocalDateTime createdAt, LastUpdate lastUpdate) {
+        return new Project(new ProjectName(name), new Description(name + " project"), createdAt, lastUpdate);
+    }
+}
@@ -0,0 +1,83 @@
+package loopin.projectbook.logic.completion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import loopin.projectbook.logic.parser.CommandRegistry;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.testutil.PersonBuilder;
+
+/**
+ * Suggestion-latency benchmark for {@link CompletionEngine}. Not run as part of the test suite.
+ *
+ * Usage: {@code CompletionEngineBenchmark [PERSONS]}
+ *
+ * Fills a model with random names, then reports the median and worst latency of suggesting completions while
+ * typing a name one character at a time, to compare against a 16 ms frame.
+ */
+public class CompletionEngineBenchmark {
+
+    private static final String[] SYLLABLES = {"al", "be", "chi", "da", "en", "fa", "go", "han", "li", "mo", "na",
+        "ong", "pe", "ra", "si", "tan", "wei", "xu", "yeo", "zh"};
+    private static final int TYPED_NAMES = 2_000;
+
+    public static void main(String[] args) {
+        int persons = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        Random random = new Random(1);
+        List<Person> toAdd = new ArrayList<>(persons);
+        for (int i = 0; i < persons; i++) {
+            toAdd.add(new PersonBuilder().withName(randomName(random)).withEmail("person" + i + "@example.com")
+                    .withPhone(String.valueOf(80_000_000 + i)).withTelegram("person" + i).build());
+        }
+        Model model = new ModelManager();
+        model.addPersons(toAdd);
+
+        long start = System.nanoTime();
+        CompletionEngine engine = new CompletionEngine(model, CommandRegistry.createDefault());
+        System.out.printf("indexed %d persons in %.1f ms%n", persons, (System.nanoTime() - start) / 1e6);
+
+        typeNames(engine, toAdd, random);
+        long[] sorted = typeNames(engine, toAdd, random);
+        System.out.printf("%d suggestions: median %.1f us, p99 %.1f us, max %.1f us%n", sorted.length,
+                sorted[sorted.length / 2] / 1e3, sorted[sorted.length * 99 / 100] / 1e3,
+                sorted[sorted.length - 1] / 1e3);
+    }
+
+    /**
+     * Types random names of {@code persons} one character at a time, and returns the sorted latencies of
+     * suggesting completions after each character.
+     */
+    private static long[] typeNames(CompletionEngine engine, List<Person> persons, Random random) {
+        List<Long> latencies = new ArrayList<>();
+        for (int i = 0; i < TYPED_NAMES; i++) {
+            String name = persons.get(random.nextInt(persons.size())).getName().fullName;
+            for (int typed = 0; typed <= name.length(); typed++) {
+                String commandText = "project assign n/" + name.substring(0, typed);
+                long before = System.nanoTime();
+                engine.suggest(commandText, 8);
+                latencies.add(System.nanoTime() - before);
+            }
+        }
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        for (int word = 0; word < 2; word++) {
+            StringBuilder syllables = new StringBuilder();
+            int count = 1 + random.nextInt(3);
+            for (int i = 0; i < count; i++) {
+                syllables.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            syllables.setCharAt(0, Character.toUpperCase(syllables.charAt(0)));
+            name.append(word > 0 ? " " : "").append(syllables);
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package loopin.projectbook.logic.completion;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static loopin.projectbook.testutil.TypicalPersons.BENSON;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.parser.CommandRegistry;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class CompletionEngineTest {
+
+    private static final int LIMIT = 8;
+
+    private final Model model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+    private final CompletionEngine engine = new CompletionEngine(model, CommandRegistry.createDefault());
+
+    @Test
+    public void suggest_firstWord_commandWords() {
+        assertEquals(List.of(new Suggestion(0, "find "), new Suggestion(0, "findrole ")),
+                engine.suggest("fi", LIMIT));
+        assertEquals(List.of(new Suggestion(2, "project ")), engine.suggest("  PROJ", LIMIT));
+        assertEquals(List.of(), engine.suggest("unknown", LIMIT));
+    }
+
+    @Test
+    public void suggest_secondWordOfGroup_subcommands() {
+        assertEquals(List.of(new Suggestion(8, "add "), new Suggestion(8, "assign ")),
+                engine.suggest("project a", LIMIT));
+        assertEquals(List.of(), engine.suggest("list a", LIMIT));
+    }
+
+    @Test
+    public void suggest_afterNamePrefix_personNames() {
+        assertEquals(List.of(new Suggestion(17, "Benson Meier ")), engine.suggest("project assign n/be", LIMIT));
+
+        // the name has been typed in full
+        assertEquals(List.of(), engine.suggest("project assign n/Benson Meier", LIMIT));
+    }
+
+    @Test
+    public void suggest_afterProjectPrefix_projectNames() {
+        model.addProject(new Project(new ProjectName("Artshow"), new Description("Annual art show")));
+
+        String commandText = "project assign n/Benson Meier project/ar";
+        assertEquals(List.of(new Suggestion(commandText.length() - 2, "Artshow ")),
+                engine.suggest(commandText, LIMIT));
+    }
+
+    @Test
+    public void suggest_startOfWord_prefixes() {
+        String commandText = "project assign n/Benson Meier pro";
+        assertEquals(List.of(new Suggestion(commandText.length() - 3, "project/")),
+                engine.suggest(commandText, LIMIT));
+        assertEquals(List.of(new Suggestion(5, "fuzzy/")), engine.suggest("find fu", LIMIT));
+    }
+
+    @Test
+    public void suggest_modelChanged_namesFollowModel() {
+        Person bernice = new PersonBuilder().withName("Bernice Yu").withEmail("bernice@example.com")
+                .withPhone("99272758").withTelegram("bernice").build();
+        model.addPerson(bernice);
+        assertEquals(List.of(new Suggestion(4, "Benson Meier "), new Suggestion(4, "Bernice Yu ")),
+                engine.suggest("x n/be", LIMIT));
+
+        model.deletePerson(BENSON);
+        assertEquals(List.of(new Suggestion(4, "Bernice Yu ")), engine.suggest("x n/be", LIMIT));
+
+        model.beginTransaction();
+        model.deletePerson(bernice);
+        assertEquals(List.of(), engine.suggest("x n/be", LIMIT));
+        model.rollbackTransaction();
+        assertEquals(List.of(new Suggestion(4, "Bernice Yu ")), engine.suggest("x n/be", LIMIT));
+    }
+
+    @Test
+    public void suggest_invalidLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CompletionEngine.MESSAGE_INVALID_LIMIT, () ->
+                engine.suggest("fi", 0));
+    }
+}
@@ -0,0 +1,122 @@
+package loopin.projectbook.logic.completion;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class CompletionTrieTest {
+
+    private final CompletionTrie trie = new CompletionTrie();
+
+    @Test
+    public void complete_prefix_matchingWordsInOrder() {
+        List.of("Alex Yeoh", "alexa Tan", "Bernice Yu", "Al", "Alexander").forEach(trie::add);
+
+        assertEquals(List.of("Al", "Alex Yeoh", "alexa Tan", "Alexander"), trie.complete("al", 10));
+        assertEquals(List.of("Alex Yeoh", "alexa Tan"), trie.complete("ALEX", 2));
+        assertEquals(List.of("Alex Yeoh"), trie.complete("alex y", 10));
+        assertEquals(List.of(), trie.complete("alexy", 10));
+        assertEquals(List.of(), trie.complete("c", 10));
+        assertEquals(5, trie.complete("", 10).size());
+    }
+
+    @Test
+    public void complete_invalidLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CompletionTrie.MESSAGE_INVALID_LIMIT, () ->
+                trie.complete("a", 0));
+    }
+
+    @Test
+    public void add_sameWordTwice_keptUntilRemovedTwice() {
+        trie.add("Alex");
+        trie.add("Alex");
+        trie.add("ALEX");
+        assertEquals(3, trie.size());
+        assertEquals(List.of("ALEX", "Alex"), trie.complete("a", 10));
+
+        assertTrue(trie.remove("Alex"));
+        assertEquals(List.of("ALEX", "Alex"), trie.complete("a", 10));
+        assertTrue(trie.remove("Alex"));
+        assertEquals(List.of("ALEX"), trie.complete("a", 10));
+        assertFalse(trie.remove("Alex"));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void remove_wordNotInTrie_returnsFalse() {
+        trie.add("Alexander");
+        assertFalse(trie.remove("Alex"));
+        assertFalse(trie.remove("Alexanders"));
+        assertFalse(trie.remove("Bob"));
+        assertEquals(List.of("Alexander"), trie.complete("alex", 10));
+    }
+
+    @Test
+    public void remove_wordsSharingPrefixes_othersStillFound() {
+        List.of("team", "tea", "ten", "te", "to").forEach(trie::add);
+
+        assertTrue(trie.remove("tea"));
+        assertEquals(List.of("te", "team", "ten"), trie.complete("te", 10));
+        assertTrue(trie.remove("te"));
+        assertEquals(List.of("team", "ten"), trie.complete("te", 10));
+        assertTrue(trie.remove("ten"));
+        assertEquals(List.of("team"), trie.complete("t", 1));
+        assertEquals(List.of("team", "to"), trie.complete("t", 10));
+        assertTrue(trie.remove("team"));
+        assertTrue(trie.remove("to"));
+        assertEquals(List.of(), trie.complete("", 10));
+        assertEquals(0, trie.size());
+    }
+
+    @Test
+    public void complete_randomChanges_sameAsSortedScan() {
+        Random random = new Random(7);
+        TreeMap<String, Integer> expected = new TreeMap<>();
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            if (!added.isEmpty() && random.nextInt(3) == 0) {
+                String word = added.remove(random.nextInt(added.size()));
+                assertTrue(trie.remove(word));
+                expected.merge(word, -1, Integer::sum);
+                expected.remove(word, 0);
+            } else {
+                String word = randomWord(random);
+                trie.add(word);
+                added.add(word);
+                expected.merge(word, 1, Integer::sum);
+            }
+        }
+
+        for (String prefix : List.of("", "a", "b", "ab", "ba", "abc", "cab", "A")) {
+            List<String> matching = expected.keySet().stream()
+                    .filter(word -> word.toLowerCase(Locale.ROOT).startsWith(prefix.toLowerCase(Locale.ROOT)))
+                    .sorted((first, second) -> {
+                        int byKey = first.toLowerCase(Locale.ROOT).compareTo(second.toLowerCase(Locale.ROOT));
+                        return byKey != 0 ? byKey : first.compareTo(second);
+                    })
+                    .collect(Collectors.toList());
+            assertEquals(matching.subList(0, Math.min(20, matching.size())), trie.complete(prefix, 20));
+        }
+        assertEquals(added.size(), trie.size());
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            char letter = (char) ('a' + random.nextInt(3));
+            word.append(random.nextInt(10) == 0 ? Character.toUpperCase(letter) : letter);
+        }
+        return word.toString();
+    }
+}
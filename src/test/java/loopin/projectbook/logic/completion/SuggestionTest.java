@@ -0,0 +1,35 @@
+package loopin.projectbook.logic.completion;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class SuggestionTest {
+
+    @Test
+    public void constructor_negativeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, Suggestion.MESSAGE_INVALID_START, () ->
+                new Suggestion(-1, "list "));
+    }
+
+    @Test
+    public void applyTo() {
+        assertEquals("project assign n/Alex Yeoh ", new Suggestion(17, "Alex Yeoh ").applyTo("project assign n/al"));
+        assertEquals("list ", new Suggestion(0, "list ").applyTo("li"));
+    }
+
+    @Test
+    public void equals() {
+        Suggestion suggestion = new Suggestion(0, "list ");
+
+        assertTrue(suggestion.equals(suggestion));
+        assertTrue(suggestion.equals(new Suggestion(0, "list ")));
+        assertFalse(suggestion.equals(null));
+        assertFalse(suggestion.equals(1));
+        assertFalse(suggestion.equals(new Suggestion(1, "list ")));
+        assertFalse(suggestion.equals(new Suggestion(0, "find ")));
+    }
+}
@@ -0,0 +1,42 @@
+package loopin.projectbook.logic.parser;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.ActivityCommand;
+import loopin.projectbook.model.person.Name;
+import loopin.projectbook.model.project.ProjectName;
+
+public class ActivityCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ActivityCommand.MESSAGE_USAGE);
+
+    private ActivityCommandParser parser = new ActivityCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "ten", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " page/0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/Amy$", Name.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_noArgs_returnsDefaultCommand() {
+        assertParseSuccess(parser, "",
+                new ActivityCommand(ActivityCommand.DEFAULT_COUNT, 1, Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_allArgs_returnsActivityCommand() {
+        assertParseSuccess(parser, " 5 n/Amy Bee project/Beach Cleanup page/2",
+                new ActivityCommand(5, 2, Optional.of(new Name("Amy Bee")),
+                        Optional.of(new ProjectName("Beach Cleanup"))));
+    }
+}
@@ -3,6 +3,7 @@ package loopin.projectbook.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -136,6 +137,34 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixTaken() {
+        Prefix p = new Prefix("p");
+        Prefix project = new Prefix("project/");
+        String argsString = "preamble project/Artshow p value pvalue";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, p, pSlash, project);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, project, "Artshow");
+        assertArgumentPresent(argMultimap, p, "value", "value");
+        assertArgumentAbsent(argMultimap, pSlash);
+    }
+
+    @Test
+    public void tokenize_prefixAfterNonSpaceWhitespace_notRecognised() {
+        String argsString = "preamble\tp/value p/other";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, "preamble\tp/value");
+        assertArgumentPresent(argMultimap, pSlash, "other");
+    }
+
+    @Test
+    public void getAllValues_returnedList_unmodifiable() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" p/one p/two", pSlash);
+        assertThrows(UnsupportedOperationException.class, () -> argMultimap.getAllValues(pSlash).add("three"));
+        assertThrows(UnsupportedOperationException.class, () -> argMultimap.getAllValues(dashT).add("three"));
+        assertArgumentPresent(argMultimap, pSlash, "one", "two");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
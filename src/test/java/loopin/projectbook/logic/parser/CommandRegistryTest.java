@@ -0,0 +1,125 @@
+package loopin.projectbook.logic.parser;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.commands.CommandResult;
+import loopin.projectbook.logic.commands.ListCommand;
+import loopin.projectbook.logic.commands.projectcommands.ProjectListCommand;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.model.Model;
+
+public class CommandRegistryTest {
+
+    private static final String MISSING = "missing";
+    private static final String UNKNOWN = "unknown";
+
+    private final CommandRegistry registry = new CommandRegistry();
+
+    @Test
+    public void parse_registeredCommand_parserReceivesArguments() throws Exception {
+        registry.register("echo", EchoCommand::new);
+
+        assertEquals(new EchoCommand(" a  b"), registry.parse("echo a  b", MISSING, UNKNOWN));
+        assertEquals(new EchoCommand(""), registry.parse("  echo", MISSING, UNKNOWN));
+        assertEquals(new EchoCommand("\tx"), registry.parse("echo\tx", MISSING, UNKNOWN));
+    }
+
+    @Test
+    public void parse_blankInput_throwsMissingMessage() {
+        assertThrows(ParseException.class, MISSING, () -> registry.parse("", MISSING, UNKNOWN));
+        assertThrows(ParseException.class, MISSING, () -> registry.parse("   ", MISSING, UNKNOWN));
+    }
+
+    @Test
+    public void parse_unknownWord_throwsUnknownMessage() {
+        registry.register("echo", EchoCommand::new);
+        assertThrows(ParseException.class, UNKNOWN, () -> registry.parse("echoes", MISSING, UNKNOWN));
+        assertThrows(ParseException.class, UNKNOWN, () -> registry.parse("ech o", MISSING, UNKNOWN));
+    }
+
+    @Test
+    public void register_duplicateWord_throwsIllegalArgumentException() {
+        registry.register("echo", EchoCommand::new);
+        assertThrows(IllegalArgumentException.class, String.format(CommandRegistry.MESSAGE_DUPLICATE_COMMAND, "echo"),
+                () -> registry.register("echo", EchoCommand::new));
+    }
+
+    @Test
+    public void register_subcommand_dispatchedBySecondWord() throws Exception {
+        registry.registerGroup("group", "no sub", "bad sub");
+        registry.register("group", "echo", EchoCommand::new);
+
+        assertEquals(new EchoCommand(" x"), registry.parse("group   echo x", MISSING, UNKNOWN));
+        assertThrows(ParseException.class, "no sub", () -> registry.parse("group  ", MISSING, UNKNOWN));
+        assertThrows(ParseException.class, "bad sub", () -> registry.parse("group other", MISSING, UNKNOWN));
+    }
+
+    @Test
+    public void register_subcommandOfPlainCommand_throwsIllegalArgumentException() {
+        registry.register("echo", EchoCommand::new);
+        assertThrows(IllegalArgumentException.class, String.format(CommandRegistry.MESSAGE_NOT_A_GROUP, "echo"),
+                () -> registry.register("echo", "sub", EchoCommand::new));
+        assertThrows(IllegalArgumentException.class, String.format(CommandRegistry.MESSAGE_NOT_A_GROUP, "none"),
+                () -> registry.register("none", "sub", EchoCommand::new));
+    }
+
+    @Test
+    public void createDefault_pluginCommand_parsedAlongsideBuiltIns() throws Exception {
+        CommandRegistry defaults = CommandRegistry.createDefault();
+        defaults.register("echo", EchoCommand::new);
+        defaults.register(CommandRegistry.PROJECT_COMMAND_WORD, "echo", EchoCommand::new);
+        ProjectBookParser parser = new ProjectBookParser(defaults);
+
+        assertTrue(defaults.contains(ListCommand.COMMAND_WORD));
+        assertFalse(defaults.contains("unregistered"));
+        assertEquals(new EchoCommand(" hi"), parser.parseCommand("echo hi"));
+        assertEquals(new EchoCommand(" hi"), parser.parseCommand("project echo hi"));
+        assertTrue(parser.parseCommand("project list") instanceof ProjectListCommand);
+    }
+
+    @Test
+    public void getCommandWords_registeredWordsAndSubcommands() {
+        registry.register("echo", EchoCommand::new);
+        registry.registerGroup("group", "no sub", "bad sub");
+        registry.register("group", "sub", EchoCommand::new);
+
+        assertEquals(Set.of("echo", "group"), registry.getCommandWords());
+        assertEquals(Set.of("sub"), registry.getSubcommandWords("group"));
+        assertEquals(Set.of(), registry.getSubcommandWords("echo"));
+        assertEquals(Set.of(), registry.getSubcommandWords("none"));
+    }
+
+    /**
+     * A command that only remembers the arguments it was parsed from.
+     */
+    private static class EchoCommand extends Command {
+        private final String arguments;
+
+        EchoCommand(String arguments) {
+            this.arguments = arguments;
+        }
+
+        @Override
+        public CommandResult execute(Model model) {
+            return new CommandResult(arguments);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof EchoCommand && arguments.equals(((EchoCommand) other).arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return arguments.hashCode();
+        }
+    }
+}
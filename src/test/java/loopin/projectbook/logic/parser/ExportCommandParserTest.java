@@ -0,0 +1,54 @@
+package loopin.projectbook.logic.parser;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CliSyntax.PREFIX_PROJECT;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.Messages;
+import loopin.projectbook.logic.commands.ExportCommand;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.storage.ProjectBookExporter.Data;
+import loopin.projectbook.storage.ProjectBookExporter.Format;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " persons volunteers.csv",
+                new ExportCommand(Data.PERSONS, Format.CSV, Paths.get("volunteers.csv"), false, Optional.empty()));
+        assertParseSuccess(parser, " shown persons my exports/volunteers.VCF",
+                new ExportCommand(Data.PERSONS, Format.VCARD, Paths.get("my exports/volunteers.VCF"), true,
+                        Optional.empty()));
+        assertParseSuccess(parser, " Memberships out.jsonl project/Art Show",
+                new ExportCommand(Data.MEMBERSHIPS, Format.JSONL, Paths.get("out.jsonl"), false,
+                        Optional.of(new ProjectName("Art Show"))));
+    }
+
+    @Test
+    public void parse_missingParts_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", invalidFormat);
+        assertParseFailure(parser, " persons", invalidFormat);
+        assertParseFailure(parser, " shown persons", invalidFormat);
+        assertParseFailure(parser, " project/Artshow", invalidFormat);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " people out.csv", ExportCommandParser.MESSAGE_UNKNOWN_DATA);
+        assertParseFailure(parser, " persons out.json", ExportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+        assertParseFailure(parser, " projects out.vcf", ExportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+        assertParseFailure(parser, " shown persons out.csv project/Artshow",
+                ExportCommandParser.MESSAGE_CONFLICTING_FILTERS);
+        assertParseFailure(parser, " persons out.csv project/Artshow project/Other",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_PROJECT));
+    }
+}
@@ -5,6 +5,8 @@ import static loopin.projectbook.testutil.Assert.assertThrows;
 import static loopin.projectbook.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import loopin.projectbook.logic.parser.exceptions.ParseException;
@@ -113,4 +115,15 @@ public class ParserUtilTest {
         assertEquals(expectedEmail, ParserUtil.parseEmail(emailWithWhitespace));
     }
 
+    @Test
+    public void parseDate_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseDate("31-03-2025"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDate("2025-02-30"));
+    }
+
+    @Test
+    public void parseDate_validValueWithWhitespace_returnsDate() throws Exception {
+        assertEquals(LocalDate.of(2025, 3, 31), ParserUtil.parseDate(WHITESPACE + "2025-03-31" + WHITESPACE));
+    }
+
 }
@@ -0,0 +1,58 @@
+package loopin.projectbook.logic.parser;
+
+import java.util.List;
+
+import loopin.projectbook.logic.commands.Command;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parse-throughput benchmark for {@link ProjectBookParser}. Not run as part of the test suite.
+ *
+ * Usage: {@code ProjectBookParserBenchmark [ITERATIONS]}
+ *
+ * Reports the throughput of parsing a mix of typical scripted commands, and of commands whose parsing is
+ * almost only dispatch (e.g. {@code list}), which bounds the cost of looking up the command's parser.
+ */
+public class ProjectBookParserBenchmark {
+
+    private static final List<String> MIXED_COMMANDS = List.of(
+            "addv n/Amy Bee p/85355255 e/amy@example.com t/amybee",
+            "edit 1 p/91234567 e/johndoe@example.com",
+            "project add n/Artshow d/Annual art show",
+            "project assign n/Amy Bee project/Artshow",
+            "project remove 2 project/Artshow",
+            "project find art show",
+            "find alex david",
+            "delete 3");
+    private static final List<String> DISPATCH_COMMANDS = List.of("list", "project list", "clear", "help");
+    private static final int WARMUP_ITERATIONS = 100_000;
+
+    public static void main(String[] args) throws ParseException {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        ProjectBookParser parser = new ProjectBookParser();
+
+        run(parser, MIXED_COMMANDS, WARMUP_ITERATIONS);
+        run(parser, DISPATCH_COMMANDS, WARMUP_ITERATIONS);
+        report("mixed", iterations, run(parser, MIXED_COMMANDS, iterations));
+        report("dispatch", iterations, run(parser, DISPATCH_COMMANDS, iterations));
+    }
+
+    private static long run(ProjectBookParser parser, List<String> commands, int iterations) throws ParseException {
+        int checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            Command command = parser.parseCommand(commands.get(i % commands.size()));
+            checksum += command.getClass().hashCode();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (checksum == 42) {
+            System.out.println(); // keeps the parsed commands observable
+        }
+        return elapsed;
+    }
+
+    private static void report(String label, int iterations, long elapsedNanos) {
+        System.out.printf("%-10s %12.0f parses/s %10.1f ns/parse%n", label,
+                iterations / (elapsedNanos / 1e9), (double) elapsedNanos / iterations);
+    }
+}
@@ -17,12 +17,14 @@ import loopin.projectbook.logic.commands.ClearCommand;
 import loopin.projectbook.logic.commands.ExitCommand;
 import loopin.projectbook.logic.commands.HelpCommand;
 import loopin.projectbook.logic.commands.ListCommand;
+import loopin.projectbook.logic.commands.StatsCommand;
 import loopin.projectbook.logic.commands.personcommands.AddCommand;
 import loopin.projectbook.logic.commands.personcommands.AddVolunteerCommand;
 import loopin.projectbook.logic.commands.personcommands.DeleteCommand;
 import loopin.projectbook.logic.commands.personcommands.EditCommand;
 import loopin.projectbook.logic.commands.personcommands.EditCommand.EditPersonDescriptor;
 import loopin.projectbook.logic.commands.personcommands.FindCommand;
+import loopin.projectbook.logic.commands.projectcommands.ProjectListCommand;
 import loopin.projectbook.logic.parser.exceptions.ParseException;
 import loopin.projectbook.model.person.NameContainsKeywordsPredicate;
 import loopin.projectbook.model.person.Person;
@@ -90,6 +92,32 @@ public class ProjectBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_projectList() throws Exception {
+        assertTrue(parser.parseCommand("project list") instanceof ProjectListCommand);
+        assertTrue(parser.parseCommand("  project   list 3 ") instanceof ProjectListCommand);
+    }
+
+    @Test
+    public void parseCommand_projectSubcommandMissingOrUnknown_throwsParseException() {
+        assertThrows(ParseException.class, CommandRegistry.MESSAGE_MISSING_PROJECT_SUBCOMMAND, ()
+            -> parser.parseCommand("project"));
+        assertThrows(ParseException.class, CommandRegistry.MESSAGE_UNKNOWN_PROJECT_SUBCOMMAND, ()
+            -> parser.parseCommand("project unknown"));
+    }
+
+    @Test
+    public void parseCommand_multipleLines_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand("list\nclear"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
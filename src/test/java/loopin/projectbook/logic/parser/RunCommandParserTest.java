@@ -0,0 +1,88 @@
+package loopin.projectbook.logic.parser;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static loopin.projectbook.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static loopin.projectbook.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import loopin.projectbook.logic.commands.RunCommand;
+import loopin.projectbook.logic.commands.RunCommand.ScriptLine;
+import loopin.projectbook.logic.commands.personcommands.DeleteCommand;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+
+public class RunCommandParserTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final RunCommandParser parser = new RunCommandParser(new ProjectBookParser());
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        String missingFile = temporaryFolder.resolve("missing.txt").toString();
+        // the message of the NoSuchFileException is the path of the missing file
+        assertParseFailure(parser, " " + missingFile,
+                String.format(RunCommandParser.MESSAGE_READ_FAILED, missingFile, missingFile));
+    }
+
+    @Test
+    public void parse_validFile_returnsRunCommand() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of("# remove the first two persons", "", "delete 1", "  delete 1  "),
+                StandardCharsets.UTF_8);
+
+        RunCommand expectedCommand = new RunCommand(script.toString(), List.of(
+                new ScriptLine(3, new DeleteCommand(INDEX_FIRST_PERSON)),
+                new ScriptLine(4, new DeleteCommand(INDEX_FIRST_PERSON))));
+        assertParseSuccess(parser, " " + script, expectedCommand);
+    }
+
+    @Test
+    public void parseLines_invalidLines_reportsEveryInvalidLine() throws Exception {
+        Path nestedScript = temporaryFolder.resolve("nested.txt");
+        Files.write(nestedScript, List.of("list"), StandardCharsets.UTF_8);
+
+        List<String> lines = List.of("delete 2", "unknown", "delete x", "run " + nestedScript);
+        String expectedMessage = String.format(RunCommandParser.MESSAGE_PARSE_FAILED, "batch")
+                + "\n" + String.format(RunCommandParser.MESSAGE_LINE_ERROR, 2, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(RunCommandParser.MESSAGE_LINE_ERROR, 3,
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE))
+                + "\n" + String.format(RunCommandParser.MESSAGE_LINE_ERROR, 4, RunCommandParser.MESSAGE_NESTED_RUN);
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parseLines("batch", lines));
+    }
+
+    @Test
+    public void parseLines_undoOrRedo_throwsParseException() {
+        String lineError = RunCommandParser.MESSAGE_LINE_ERROR;
+        String expectedMessage = String.format(RunCommandParser.MESSAGE_PARSE_FAILED, "batch")
+                + "\n" + String.format(lineError, 2, RunCommandParser.MESSAGE_HISTORY_IN_SCRIPT)
+                + "\n" + String.format(lineError, 3, RunCommandParser.MESSAGE_HISTORY_IN_SCRIPT);
+        assertThrows(ParseException.class, expectedMessage, () ->
+                parser.parseLines("batch", List.of("delete 1", "undo", "redo")));
+    }
+
+    @Test
+    public void parseLines_validLines_keepsLineNumbers() throws Exception {
+        RunCommand command = parser.parseLines("batch", List.of("", "delete 1", "#", "delete 2"));
+        assertEquals(new RunCommand("batch", List.of(
+                new ScriptLine(2, new DeleteCommand(INDEX_FIRST_PERSON)),
+                new ScriptLine(4, new DeleteCommand(INDEX_SECOND_PERSON)))), command);
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import loopin.projectbook.logic.commands.personcommands.FindCommand;
+import loopin.projectbook.logic.commands.personcommands.FuzzyFindCommand;
 import loopin.projectbook.model.person.NameContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -31,4 +32,15 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyArgs_returnsFuzzyFindCommand() {
+        FuzzyFindCommand expectedCommand = new FuzzyFindCommand("alx  yoe", FuzzyFindCommand.DEFAULT_LIMIT);
+        assertParseSuccess(parser, " fuzzy/ alx  yoe ", expectedCommand);
+    }
+
+    @Test
+    public void parse_fuzzyWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, "fuzzy/  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE));
+    }
 }
@@ -0,0 +1,119 @@
+package loopin.projectbook.logic.parser.person;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.commons.util.CsvUtil;
+import loopin.projectbook.logic.commands.personcommands.ImportCommand;
+import loopin.projectbook.logic.commands.personcommands.ImportCommand.Row;
+import loopin.projectbook.logic.parser.exceptions.ParseException;
+import loopin.projectbook.model.person.Email;
+import loopin.projectbook.model.person.Name;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class ImportCommandParserTest {
+
+    private static final String SOURCE = "people.csv";
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parseLines_invalidHeader_throwsParseException() {
+        assertThrows(ParseException.class, String.format(ImportCommandParser.MESSAGE_EMPTY_FILE, SOURCE), () ->
+                parser.parseLines(SOURCE, List.of("", " ")));
+        assertThrows(ParseException.class, String.format(ImportCommandParser.MESSAGE_INVALID_HEADER, SOURCE,
+                String.format(ImportCommandParser.MESSAGE_MISSING_COLUMN, "email")), () ->
+                parser.parseLines(SOURCE, List.of("name,phone")));
+        assertThrows(ParseException.class, String.format(ImportCommandParser.MESSAGE_INVALID_HEADER, SOURCE,
+                String.format(ImportCommandParser.MESSAGE_DUPLICATE_COLUMN, "name")), () ->
+                parser.parseLines(SOURCE, List.of("name,email,Name")));
+    }
+
+    @Test
+    public void parseLines_mixedRows_keepsValidRowsAndReportsInvalidOnes() throws Exception {
+        List<String> lines = List.of(
+                "Email, Name, Role, Committee",
+                "amy@example.com,Amy Bee,,",
+                "",
+                "bob@example.com,\"Bob, Choo!\",,",
+                "carl@example.com,Carl Kurz,teammember,",
+                "dan@example.com,Dan Meier,manager,",
+                "eve@example.com,Eve Tan,teammember,Logistics",
+                "fay@example.com,Fay");
+
+        ImportCommand command = parser.parseLines(SOURCE, lines);
+
+        List<Row> expectedRows = List.of(
+                new Row(2, volunteer("Amy Bee", "amy@example.com")),
+                new Row(7, new PersonBuilder().withName("Eve Tan").withEmail("eve@example.com").withPhone(null)
+                        .withTelegram(null).buildTeamMember("Logistics")));
+        Map<Integer, String> expectedInvalidRows = Map.of(
+                4, Name.MESSAGE_CONSTRAINTS,
+                5, String.format(ImportCommandParser.MESSAGE_MISSING_VALUE, "committee"),
+                6, ImportCommandParser.MESSAGE_UNKNOWN_ROLE,
+                8, String.format(ImportCommandParser.MESSAGE_WRONG_VALUE_COUNT, 4, 2));
+        assertEquals(new ImportCommand(SOURCE, expectedRows, expectedInvalidRows), command);
+    }
+
+    @Test
+    public void parse_quotedValueWithLineBreaks_readAsOneRow() throws Exception {
+        String csv = "name,email,role,committee\r\n"
+                + "Amy Bee,\"amy@\r\nexample.com\",,\r\n"
+                + "Eve Tan,eve@example.com,teammember,\"Logistics\"\r\n"
+                + "\"Fay\n\n\"\"Lee\"\"\",fay@example.com,,\n"
+                + "Gus Ong,gus@example.com,,\"Logistics\n";
+
+        ImportCommand command = parser.parse(SOURCE, new BufferedReader(new StringReader(csv)));
+
+        List<Row> expectedRows = List.of(new Row(4, new PersonBuilder().withName("Eve Tan")
+                .withEmail("eve@example.com").withPhone(null).withTelegram(null).buildTeamMember("Logistics")));
+        Map<Integer, String> expectedInvalidRows = Map.of(
+                2, Email.MESSAGE_CONSTRAINTS,
+                5, Name.MESSAGE_CONSTRAINTS,
+                8, CsvUtil.MESSAGE_UNTERMINATED_QUOTE);
+        assertEquals(new ImportCommand(SOURCE, expectedRows, expectedInvalidRows), command);
+    }
+
+    @Test
+    public void parseLines_manyRows_parsedInFileOrder() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("name,email");
+        List<Row> expectedRows = new ArrayList<>();
+        for (int i = 0; i < ImportCommandParser.PARALLEL_THRESHOLD * 4; i++) {
+            String email = "person" + i + "@example.com";
+            lines.add("Person " + i + "," + (i % 100 == 0 ? "invalid" : email));
+            if (i % 100 != 0) {
+                expectedRows.add(new Row(i + 2, volunteer("Person " + i, email)));
+            }
+        }
+
+        ImportCommand command = parser.parseLines(SOURCE, lines);
+
+        Map<Integer, String> expectedInvalidRows = new TreeMap<>();
+        for (int i = 0; i < ImportCommandParser.PARALLEL_THRESHOLD * 4; i += 100) {
+            expectedInvalidRows.put(i + 2, Email.MESSAGE_CONSTRAINTS);
+        }
+        assertEquals(new ImportCommand(SOURCE, expectedRows, expectedInvalidRows), command);
+    }
+
+    private static Person volunteer(String name, String email) {
+        return new PersonBuilder().withName(name).withEmail(email).withPhone(null).withTelegram(null).build();
+    }
+}
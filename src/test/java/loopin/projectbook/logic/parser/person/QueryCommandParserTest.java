@@ -0,0 +1,94 @@
+package loopin.projectbook.logic.parser.person;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.personcommands.QueryCommand;
+import loopin.projectbook.model.query.Field;
+import loopin.projectbook.model.query.Query;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private static final Query VOLUNTEER = new Query.Term(Field.ROLE, "v");
+    private static final Query ARTSHOW = new Query.Term(Field.PROJECT, "Artshow");
+    private static final Query HAS_TELEGRAM = new Query.Term(Field.HAS, "telegram");
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " explain ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_singleCondition_returnsQueryCommand() {
+        assertParseSuccess(parser, " role:v ", new QueryCommand(VOLUNTEER, false));
+        assertParseSuccess(parser, "ROLE:V", new QueryCommand(VOLUNTEER, false));
+        assertParseSuccess(parser, "EXPLAIN role:v", new QueryCommand(VOLUNTEER, true));
+    }
+
+    @Test
+    public void parse_quotedValue_returnsQueryCommand() {
+        assertParseSuccess(parser, "name=\"Alex Yeoh\"",
+                new QueryCommand(new Query.Term(Field.NAME_IS, "Alex Yeoh"), false));
+        assertParseSuccess(parser, "remark:\"size (L)\"",
+                new QueryCommand(new Query.Term(Field.REMARK, "size (L)"), false));
+
+        // quoted keywords are values, not keywords
+        assertParseFailure(parser, "\"explain\" role:v",
+                String.format(QueryCommandParser.MESSAGE_UNKNOWN_FIELD, "explain"));
+        assertParseSuccess(parser, "project:\"or\"", new QueryCommand(new Query.Term(Field.PROJECT, "or"), false));
+    }
+
+    @Test
+    public void parse_keywords_notBindsTighterThanAndThanOr() {
+        Query expected = new Query.Or(List.of(
+                new Query.And(List.of(VOLUNTEER, ARTSHOW)),
+                new Query.Not(HAS_TELEGRAM)));
+        assertParseSuccess(parser, "role:v AND project:Artshow OR NOT has:telegram",
+                new QueryCommand(expected, false));
+
+        // AND is implied between adjacent conditions, and keywords ignore case
+        assertParseSuccess(parser, "role:v project:Artshow or not has:telegram", new QueryCommand(expected, false));
+    }
+
+    @Test
+    public void parse_parentheses_groupConditions() {
+        Query expected = new Query.And(List.of(
+                VOLUNTEER,
+                new Query.Not(new Query.Or(List.of(ARTSHOW, HAS_TELEGRAM)))));
+        assertParseSuccess(parser, "role:v AND NOT (project:Artshow OR has:telegram)",
+                new QueryCommand(expected, false));
+        assertParseSuccess(parser, "((role:v))AND NOT(project:Artshow OR has:telegram)",
+                new QueryCommand(expected, false));
+    }
+
+    @Test
+    public void parse_invalidCondition_throwsParseException() {
+        assertParseFailure(parser, "alex", String.format(QueryCommandParser.MESSAGE_UNKNOWN_FIELD, "alex"));
+        assertParseFailure(parser, "phone:9123", String.format(QueryCommandParser.MESSAGE_UNKNOWN_FIELD,
+                "phone:9123"));
+        assertParseFailure(parser, "role:x", Field.ROLE.getConstraints());
+        assertParseFailure(parser, "name:", Field.NAME_CONTAINS.getConstraints());
+        assertParseFailure(parser, "name:\"alex", QueryCommandParser.MESSAGE_UNTERMINATED_QUOTE);
+    }
+
+    @Test
+    public void parse_invalidStructure_throwsParseException() {
+        assertParseFailure(parser, "role:v AND", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "OR role:v", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "NOT", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "()", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "(role:v", QueryCommandParser.MESSAGE_UNMATCHED_PARENTHESIS);
+        assertParseFailure(parser, "role:v)", QueryCommandParser.MESSAGE_UNMATCHED_PARENTHESIS);
+    }
+}
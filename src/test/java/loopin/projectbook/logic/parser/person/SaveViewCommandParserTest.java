@@ -0,0 +1,46 @@
+package loopin.projectbook.logic.parser.person;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.personcommands.SaveViewCommand;
+import loopin.projectbook.model.query.Field;
+import loopin.projectbook.model.query.Query;
+import loopin.projectbook.model.view.SavedView;
+
+public class SaveViewCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveViewCommand.MESSAGE_USAGE);
+
+    private SaveViewCommandParser parser = new SaveViewCommandParser();
+
+    @Test
+    public void parse_missingParts_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " volunteers ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, " volunteers! role:v", SavedView.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, " volunteers role:v )", QueryCommandParser.MESSAGE_UNMATCHED_PARENTHESIS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsSaveViewCommand() {
+        Query query = new Query.And(List.of(new Query.Term(Field.ROLE, "v"),
+                new Query.Term(Field.REMARK_STATUS, "pending")));
+        assertParseSuccess(parser, " pending-volunteers  role:v status:pending ",
+                new SaveViewCommand("pending-volunteers", query));
+    }
+}
@@ -0,0 +1,32 @@
+package loopin.projectbook.logic.parser.person;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.personcommands.SortCommand;
+import loopin.projectbook.model.person.PersonSortKey;
+
+public class SortCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "email", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "name role", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, " name ", new SortCommand(PersonSortKey.NAME));
+        assertParseSuccess(parser, "PENDING", new SortCommand(PersonSortKey.PENDING));
+        assertParseSuccess(parser, "added", new SortCommand(PersonSortKey.ADDED));
+    }
+}
@@ -0,0 +1,42 @@
+package loopin.projectbook.logic.parser.project;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.projectcommands.ProjectCreatedCommand;
+import loopin.projectbook.logic.parser.ParserUtil;
+
+public class ProjectCreatedCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProjectCreatedCommand.MESSAGE_USAGE);
+
+    private ProjectCreatedCommandParser parser = new ProjectCreatedCommandParser();
+
+    @Test
+    public void parse_missingParts_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/2025-01-01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " to/2025-01-01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 2025 from/2025-01-01 to/2025-02-01", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidDates_throwsParseException() {
+        assertParseFailure(parser, " from/1 Jan to/2025-02-01", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " from/2025-02-01 to/2025-01-31", ProjectCreatedCommand.MESSAGE_INVALID_RANGE);
+    }
+
+    @Test
+    public void parse_validArgs_returnsProjectCreatedCommand() {
+        assertParseSuccess(parser, " from/2025-01-01 to/2025-03-31",
+                new ProjectCreatedCommand(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31)));
+        assertParseSuccess(parser, " to/2025-01-01 from/2025-01-01",
+                new ProjectCreatedCommand(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1)));
+    }
+}
@@ -0,0 +1,34 @@
+package loopin.projectbook.logic.parser.project;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.projectcommands.ProjectHistoryCommand;
+import loopin.projectbook.model.project.ProjectName;
+
+public class ProjectHistoryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProjectHistoryCommand.MESSAGE_USAGE);
+
+    private ProjectHistoryCommandParser parser = new ProjectHistoryCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " page/2", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " project/Artshow page/0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " project/Artshow page/last", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsProjectHistoryCommand() {
+        assertParseSuccess(parser, " project/Beach Cleanup",
+                new ProjectHistoryCommand(new ProjectName("Beach Cleanup"), 1));
+        assertParseSuccess(parser, " project/Beach Cleanup page/3 ",
+                new ProjectHistoryCommand(new ProjectName("Beach Cleanup"), 3));
+    }
+}
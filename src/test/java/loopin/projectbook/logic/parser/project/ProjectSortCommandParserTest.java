@@ -0,0 +1,30 @@
+package loopin.projectbook.logic.parser.project;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.projectcommands.ProjectSortCommand;
+import loopin.projectbook.model.project.ProjectSortKey;
+
+public class ProjectSortCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProjectSortCommand.MESSAGE_USAGE);
+
+    private ProjectSortCommandParser parser = new ProjectSortCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "pending", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsProjectSortCommand() {
+        assertParseSuccess(parser, " updated ", new ProjectSortCommand(ProjectSortKey.UPDATED));
+        assertParseSuccess(parser, "Members", new ProjectSortCommand(ProjectSortKey.MEMBERS));
+    }
+}
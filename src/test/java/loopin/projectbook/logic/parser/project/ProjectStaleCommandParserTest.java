@@ -0,0 +1,30 @@
+package loopin.projectbook.logic.parser.project;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static loopin.projectbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.logic.commands.projectcommands.ProjectStaleCommand;
+
+public class ProjectStaleCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProjectStaleCommand.MESSAGE_USAGE);
+
+    private ProjectStaleCommandParser parser = new ProjectStaleCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "-3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "two weeks", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsProjectStaleCommand() {
+        assertParseSuccess(parser, " 14 ", new ProjectStaleCommand(14));
+    }
+}
@@ -8,12 +8,30 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import loopin.projectbook.commons.core.GuiSettings;
+import loopin.projectbook.model.event.DomainEvent;
 import loopin.projectbook.model.person.NameContainsKeywordsPredicate;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.person.PersonSortKey;
+import loopin.projectbook.model.person.Remark;
+import loopin.projectbook.model.project.ActivityEvent;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.LastUpdate;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.model.project.ProjectSortKey;
+import loopin.projectbook.model.query.Field;
+import loopin.projectbook.model.query.Query;
+import loopin.projectbook.testutil.PersonBuilder;
 import loopin.projectbook.testutil.ProjectBookBuilder;
 
 public class ModelManagerTest {
@@ -91,6 +109,234 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void rollbackTransaction_noTransaction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+    }
+
+    @Test
+    public void rollbackTransaction_undoesInPlaceAndListChanges() {
+        Person amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com")
+                .withPhone("22222222").withTelegram("bobchoo").build();
+        Project artshow = new Project(new ProjectName("Artshow"), new Description("Annual art show"));
+        modelManager.addPerson(amy);
+        modelManager.addPerson(bob);
+        modelManager.addProject(artshow);
+        artshow.assignPerson(amy);
+        amy.addProject(artshow);
+        LastUpdate lastUpdate = artshow.getLastUpdate();
+
+        modelManager.beginTransaction();
+        artshow.removePerson(amy);
+        amy.removeProject(artshow);
+        modelManager.deletePerson(amy);
+        modelManager.deleteProject(artshow);
+        modelManager.setPerson(bob, new PersonBuilder(bob).withPhone("99999999").build());
+        modelManager.rollbackTransaction();
+
+        assertEquals(List.of(amy, bob), modelManager.getProjectBook().getPersonList());
+        assertEquals(List.of(artshow), modelManager.getProjectBook().getProjectList());
+        assertEquals(List.of(amy), artshow.getAllPeople());
+        assertEquals(List.of(artshow), amy.getProjects());
+        assertSame(lastUpdate, artshow.getLastUpdate());
+    }
+
+    @Test
+    public void rollbackTransaction_nested_undoesOnlyInnerChanges() {
+        Person amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com")
+                .withPhone("22222222").withTelegram("bobchoo").build();
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(amy);
+        modelManager.beginTransaction();
+        modelManager.addPerson(bob);
+        modelManager.rollbackTransaction();
+        modelManager.commitTransaction();
+
+        assertEquals(List.of(amy), modelManager.getProjectBook().getPersonList());
+    }
+
+    @Test
+    public void findProjectsInactiveSince_activityRolledBackOrUndone_refiledAsBefore() {
+        LocalDateTime created = LocalDateTime.of(2025, 1, 1, 9, 0);
+        LocalDateTime cutoff = created.plusMonths(2);
+        Project artshow = new Project(new ProjectName("Artshow"), new Description("Annual art show"), created,
+                new LastUpdate());
+        modelManager.addProject(artshow);
+
+        modelManager.beginTransaction();
+        artshow.recordUpdate(new LastUpdate("Framed paintings", cutoff.plusDays(1)));
+        modelManager.setProject(artshow);
+        modelManager.rollbackTransaction();
+        assertEquals(List.of(artshow), modelManager.findProjectsInactiveSince(cutoff));
+
+        modelManager.beginTransaction();
+        artshow.recordUpdate(new LastUpdate("Framed paintings", cutoff.plusDays(1)));
+        modelManager.setProject(artshow);
+        modelManager.commitTransaction();
+        assertTrue(modelManager.findProjectsInactiveSince(cutoff).isEmpty());
+
+        modelManager.undoProjectBook();
+        assertEquals(List.of(artshow), modelManager.findProjectsInactiveSince(cutoff));
+
+        modelManager.redoProjectBook();
+        assertTrue(modelManager.findProjectsInactiveSince(cutoff).isEmpty());
+    }
+
+    @Test
+    public void undoProjectBook_viewChanged_viewRestoredAndSortKept() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+
+        modelManager.beginTransaction();
+        modelManager.saveView("alice", new Query.Term(Field.NAME_CONTAINS, "alice"));
+        modelManager.commitTransaction();
+        modelManager.beginTransaction();
+        modelManager.deleteView("alice");
+        modelManager.sortPersonList(PersonSortKey.NAME);
+        modelManager.commitTransaction();
+
+        modelManager.undoProjectBook();
+        assertTrue(modelManager.showView("alice"));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertEquals("name:alice", modelManager.getUserPrefs().getSavedViews().get("alice"));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.undoProjectBook();
+        assertTrue(modelManager.getSavedViews().isEmpty());
+        assertTrue(modelManager.getUserPrefs().getSavedViews().isEmpty());
+
+        modelManager.redoProjectBook();
+        modelManager.redoProjectBook();
+        assertTrue(modelManager.getSavedViews().isEmpty());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void commitTransaction_firesOneChangeEvent() {
+        AtomicInteger events = new AtomicInteger();
+        modelManager.getProjectBook().getPersonList().addListener((ListChangeListener<Person>) c -> {
+            events.incrementAndGet();
+        });
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com").build());
+        modelManager.addPerson(new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com")
+                .withPhone("22222222").withTelegram("bobchoo").build());
+        assertEquals(0, events.get());
+        modelManager.commitTransaction();
+
+        assertEquals(1, events.get());
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void rollbackTransaction_snapshotVersionIncreases() {
+        long version = modelManager.snapshot().getVersion();
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.rollbackTransaction();
+
+        assertTrue(modelManager.snapshot().getVersion() > version);
+        assertTrue(modelManager.getProjectBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void sortProjectList_updated_followsNewUpdates() {
+        Person amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com").build();
+        Project artshow = new Project(new ProjectName("Artshow"), new Description("Annual art show"));
+        Project marathon = new Project(new ProjectName("Marathon"), new Description("Charity run"));
+        modelManager.addPerson(amy);
+        modelManager.addProject(artshow);
+        modelManager.addProject(marathon);
+        artshow.assignPerson(amy);
+        amy.addProject(artshow);
+        modelManager.setPersonInPlace(amy);
+        LocalDateTime now = LocalDateTime.now();
+        artshow.recordUpdate(new LastUpdate("Venue booked", now.minusDays(2)));
+        marathon.recordUpdate(new LastUpdate("Route planned", now.minusDays(1)));
+        modelManager.setProject(artshow);
+        modelManager.setProject(marathon);
+
+        modelManager.sortProjectList(ProjectSortKey.UPDATED);
+        assertEquals(List.of(marathon, artshow), modelManager.getFilteredProjectList());
+
+        // a remark on a member updates the project, which is moved up
+        modelManager.setPerson(amy, amy.withNewRemark(new Remark("bring easels")));
+        assertEquals(List.of(artshow, marathon), modelManager.getFilteredProjectList());
+
+        modelManager.sortProjectList(ProjectSortKey.ADDED);
+        assertEquals(List.of(artshow, marathon), modelManager.getFilteredProjectList());
+        modelManager.sortProjectList(ProjectSortKey.NAME);
+        assertEquals(List.of(artshow, marathon), modelManager.getFilteredProjectList());
+    }
+
+    @Test
+    public void setPerson_remarks_publishedAndRecordedInProjects() {
+        Person amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com").build();
+        Project artshow = new Project(new ProjectName("Artshow"), new Description("Annual art show"));
+        modelManager.addPerson(amy);
+        modelManager.addProject(artshow);
+        modelManager.assignMember(artshow, amy);
+        List<DomainEvent> events = new ArrayList<>();
+        modelManager.getEventBus().subscribe(DomainEvent.class, events::add);
+
+        Remark remark = new Remark("bring easels");
+        Person remarkedAmy = amy.withNewRemark(remark);
+        modelManager.setPerson(amy, remarkedAmy);
+        assertEquals(2, events.size());
+        assertSame(remarkedAmy, ((DomainEvent.PersonEdited) events.get(0)).getAfter());
+        assertEquals(remark, ((DomainEvent.RemarkAdded) events.get(1)).getRemark());
+        assertEquals(List.of(remarkedAmy), artshow.getAllPeople());
+        assertEquals(ActivityEvent.Type.REMARK_ADDED, artshow.getHistory().getLatest().get().getType());
+
+        modelManager.setPerson(remarkedAmy, remarkedAmy.withResolvedRemark(remark, remark.resolve()));
+        assertTrue(events.get(3) instanceof DomainEvent.RemarkResolved);
+        assertEquals(ActivityEvent.Type.REMARK_RESOLVED, artshow.getHistory().getLatest().get().getType());
+    }
+
+    @Test
+    public void rollbackTransaction_eventsOnExecutorDropped() {
+        List<DomainEvent> events = new ArrayList<>();
+        modelManager.getEventBus().subscribe(DomainEvent.class, events::add, Runnable::run);
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.rollbackTransaction();
+        assertTrue(events.isEmpty());
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        assertTrue(events.isEmpty());
+        modelManager.commitTransaction();
+        assertEquals(1, events.size());
+        assertSame(BENSON, ((DomainEvent.PersonAdded) events.get(0)).getPerson());
+    }
+
+    @Test
+    public void assignAndRemoveMember_linksBothSidesAndPublishes() {
+        Person amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com").build();
+        Project artshow = new Project(new ProjectName("Artshow"), new Description("Annual art show"));
+        modelManager.addPerson(amy);
+        modelManager.addProject(artshow);
+        List<DomainEvent> events = new ArrayList<>();
+        modelManager.getEventBus().subscribe(DomainEvent.class, events::add);
+
+        modelManager.assignMember(artshow, amy);
+        assertTrue(artshow.hasMember(amy));
+        assertEquals(List.of(artshow), amy.getProjects());
+
+        modelManager.removeMember(artshow, amy);
+        assertFalse(artshow.hasMember(amy));
+        assertTrue(amy.getProjects().isEmpty());
+        assertTrue(events.get(0) instanceof DomainEvent.MemberAssigned);
+        assertTrue(events.get(1) instanceof DomainEvent.MemberRemoved);
+    }
+
     @Test
     public void equals() {
         ProjectBook projectBook = new ProjectBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -3,6 +3,7 @@ package loopin.projectbook.model;
 import static loopin.projectbook.logic.commands.CommandTestUtil.VALID_TELEGRAM_BOB;
 import static loopin.projectbook.testutil.Assert.assertThrows;
 import static loopin.projectbook.testutil.TypicalPersons.ALICE;
+import static loopin.projectbook.testutil.TypicalPersons.BENSON;
 import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -80,6 +81,26 @@ public class ProjectBookTest {
         assertThrows(UnsupportedOperationException.class, () -> projectBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void snapshot_laterChanges_notVisibleInSnapshot() {
+        projectBook.addPerson(ALICE);
+        ProjectBookSnapshot snapshot = projectBook.snapshot();
+
+        projectBook.addPerson(BENSON);
+        projectBook.removePerson(ALICE);
+
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+        assertEquals(Collections.singletonList(BENSON), projectBook.getPersonList());
+        assertTrue(projectBook.getVersion() > snapshot.getVersion());
+    }
+
+    @Test
+    public void snapshot_noChanges_sameVersion() {
+        projectBook.addPerson(ALICE);
+        assertEquals(projectBook.snapshot().getVersion(), projectBook.snapshot().getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> projectBook.snapshot().getPersonList().remove(0));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = ProjectBook.class.getCanonicalName() + "{persons=" + projectBook.getPersonList() + "}";
@@ -105,6 +126,11 @@ public class ProjectBookTest {
         public ObservableList<Project> getProjectList() {
             return FXCollections.observableArrayList();
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 
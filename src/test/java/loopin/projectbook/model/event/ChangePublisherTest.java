@@ -0,0 +1,225 @@
+package loopin.projectbook.model.event;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.event.ChangePublisher.OverflowPolicy;
+import loopin.projectbook.model.event.DomainEvent.PersonAdded;
+import loopin.projectbook.model.event.DomainEvent.PersonDeleted;
+import loopin.projectbook.model.event.DomainEvent.PersonEvent;
+import loopin.projectbook.model.event.DomainEvent.ProjectAdded;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class ChangePublisherTest {
+
+    private final EventBus bus = new EventBus();
+    private final List<Runnable> queued = new ArrayList<>();
+    private final Executor queue = queued::add;
+
+    @Test
+    public void constructor_emptyBuffer_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ChangePublisher<>(bus, PersonEvent.class, 0, OverflowPolicy.FAIL, queue));
+    }
+
+    @Test
+    public void publish_requested_deliveredOnExecutorInOrder() {
+        ChangePublisher<PersonEvent> publisher = new ChangePublisher<>(bus, PersonEvent.class, 10,
+                OverflowPolicy.FAIL, queue);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        runQueued();
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        List<DomainEvent> changes = List.of(new PersonAdded(person("Amy Bee")), new PersonDeleted(person("Amy Bee")));
+        changes.forEach(bus::publish);
+        bus.publish(new ProjectAdded(new Project(new ProjectName("Artshow"), new Description("Art"))));
+
+        assertTrue(subscriber.received.isEmpty());
+        runQueued();
+        assertEquals(changes, subscriber.received);
+    }
+
+    @Test
+    public void publish_held_onlyKeptChangesDelivered() {
+        ChangePublisher<PersonEvent> publisher = new ChangePublisher<>(bus, PersonEvent.class, 10,
+                OverflowPolicy.FAIL, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(10);
+
+        PersonAdded kept = new PersonAdded(person("Amy Bee"));
+        bus.hold();
+        bus.publish(kept);
+        bus.hold();
+        bus.publish(new PersonDeleted(person("Amy Bee")));
+        bus.discard();
+        bus.release();
+
+        assertEquals(List.of(kept), subscriber.received);
+    }
+
+    @Test
+    public void request_fewerThanPublished_restWaitInBuffer() {
+        ChangePublisher<PersonEvent> publisher = new ChangePublisher<>(bus, PersonEvent.class, 10,
+                OverflowPolicy.FAIL, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        publishPersons(3);
+
+        assertTrue(subscriber.received.isEmpty());
+        subscriber.subscription.request(2);
+        assertEquals(List.of("P0", "P1"), subscriber.names());
+        subscriber.subscription.request(5);
+        assertEquals(List.of("P0", "P1", "P2"), subscriber.names());
+    }
+
+    @Test
+    public void publish_bufferFullDropOldest_latestKept() {
+        ChangePublisher<PersonEvent> publisher = new ChangePublisher<>(bus, PersonEvent.class, 2,
+                OverflowPolicy.DROP_OLDEST, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        publishPersons(5);
+
+        subscriber.subscription.request(10);
+        assertEquals(List.of("P3", "P4"), subscriber.names());
+        assertEquals(3, publisher.getDroppedCount());
+    }
+
+    @Test
+    public void publish_bufferFullDropLatest_earliestKept() {
+        ChangePublisher<PersonEvent> publisher = new ChangePublisher<>(bus, PersonEvent.class, 2,
+                OverflowPolicy.DROP_LATEST, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        publishPersons(5);
+
+        subscriber.subscription.request(10);
+        assertEquals(List.of("P0", "P1"), subscriber.names());
+        assertEquals(3, publisher.getDroppedCount());
+    }
+
+    @Test
+    public void publish_bufferFullFail_subscriberGivenError() {
+        ChangePublisher<PersonEvent> publisher = new ChangePublisher<>(bus, PersonEvent.class, 2,
+                OverflowPolicy.FAIL, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        publishPersons(3);
+
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertEquals(0, publisher.getSubscriberCount());
+        subscriber.subscription.request(10);
+        assertTrue(subscriber.received.isEmpty());
+    }
+
+    @Test
+    public void request_notPositive_subscriberGivenError() {
+        ChangePublisher<PersonEvent> publisher = new ChangePublisher<>(bus, PersonEvent.class, 2,
+                OverflowPolicy.FAIL, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void cancel_subscribed_noMoreChanges() {
+        ChangePublisher<PersonEvent> publisher = new ChangePublisher<>(bus, PersonEvent.class, 10,
+                OverflowPolicy.FAIL, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(10);
+        publishPersons(1);
+        subscriber.subscription.cancel();
+        publishPersons(1);
+
+        assertEquals(List.of("P0"), subscriber.names());
+        assertEquals(0, publisher.getSubscriberCount());
+    }
+
+    @Test
+    public void close_bufferedChanges_deliveredThenCompleted() {
+        ChangePublisher<PersonEvent> publisher = new ChangePublisher<>(bus, PersonEvent.class, 10,
+                OverflowPolicy.FAIL, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        publishPersons(2);
+        publisher.close();
+        publishPersons(1);
+
+        assertFalse(subscriber.isCompleted);
+        subscriber.subscription.request(10);
+        assertEquals(List.of("P0", "P1"), subscriber.names());
+        assertTrue(subscriber.isCompleted);
+    }
+
+    private void publishPersons(int count) {
+        for (int i = 0; i < count; i++) {
+            bus.publish(new PersonAdded(person("P" + i)));
+        }
+    }
+
+    private void runQueued() {
+        while (!queued.isEmpty()) {
+            queued.remove(0).run();
+        }
+    }
+
+    private static Person person(String name) {
+        return new PersonBuilder().withName(name).build();
+    }
+
+    /**
+     * A subscriber which records what it is given, requesting nothing by itself.
+     */
+    private static class RecordingSubscriber implements Flow.Subscriber<PersonEvent> {
+        private final List<DomainEvent> received = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean isCompleted;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(PersonEvent item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            isCompleted = true;
+        }
+
+        List<String> names() {
+            List<String> names = new ArrayList<>();
+            for (DomainEvent change : received) {
+                names.add(((PersonEvent) change).getPerson().getName().fullName);
+            }
+            return names;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package loopin.projectbook.model.event;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.event.DomainEvent.PersonAdded;
+import loopin.projectbook.model.event.DomainEvent.PersonDeleted;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class EventBusTest {
+
+    private final EventBus bus = new EventBus();
+    private final Person amy = new PersonBuilder().withName("Amy Bee").build();
+    private final List<DomainEvent> delivered = new ArrayList<>();
+    private final List<Runnable> queued = new ArrayList<>();
+    private final Executor queue = queued::add;
+
+    @Test
+    public void publish_subscribedType_deliveredToMatchingSubscribers() {
+        List<PersonAdded> added = new ArrayList<>();
+        bus.subscribe(PersonAdded.class, added::add);
+        bus.subscribe(DomainEvent.class, delivered::add);
+
+        PersonAdded event = new PersonAdded(amy);
+        bus.publish(event);
+        bus.publish(new PersonDeleted(amy));
+
+        assertEquals(List.of(event), added);
+        assertEquals(2, delivered.size());
+    }
+
+    @Test
+    public void publish_executorSubscriber_runOnExecutor() {
+        bus.subscribe(DomainEvent.class, delivered::add, queue);
+        bus.publish(new PersonAdded(amy));
+
+        assertTrue(delivered.isEmpty());
+        assertEquals(1, queued.size());
+        queued.get(0).run();
+        assertEquals(1, delivered.size());
+    }
+
+    @Test
+    public void publish_held_executorSubscribersWaitForRelease() {
+        List<DomainEvent> synchronous = new ArrayList<>();
+        bus.subscribe(DomainEvent.class, synchronous::add);
+        bus.subscribe(DomainEvent.class, delivered::add, Runnable::run);
+
+        bus.hold();
+        bus.publish(new PersonAdded(amy));
+        bus.hold();
+        bus.publish(new PersonDeleted(amy));
+        bus.release();
+
+        assertEquals(2, synchronous.size());
+        assertTrue(delivered.isEmpty());
+        bus.release();
+        assertEquals(synchronous, delivered);
+    }
+
+    @Test
+    public void discard_innerHold_onlyItsEventsDropped() {
+        bus.subscribe(DomainEvent.class, delivered::add, Runnable::run);
+        PersonAdded kept = new PersonAdded(amy);
+
+        bus.hold();
+        bus.publish(kept);
+        bus.hold();
+        bus.publish(new PersonDeleted(amy));
+        bus.discard();
+        bus.release();
+
+        assertEquals(List.of(kept), delivered);
+    }
+
+    @Test
+    public void discard_outermostHold_nothingDelivered() {
+        bus.subscribe(DomainEvent.class, delivered::add, Runnable::run);
+        bus.hold();
+        bus.publish(new PersonAdded(amy));
+        bus.discard();
+
+        assertTrue(delivered.isEmpty());
+        assertThrows(IllegalStateException.class, bus::release);
+    }
+
+    @Test
+    public void cancel_subscription_noLongerDelivered() {
+        EventBus.Subscription subscription = bus.subscribe(DomainEvent.class, delivered::add);
+        subscription.cancel();
+        bus.publish(new PersonAdded(amy));
+
+        assertTrue(delivered.isEmpty());
+    }
+
+    @Test
+    public void publish_failingExecutorSubscriber_othersStillDelivered() {
+        bus.subscribe(DomainEvent.class, event -> {
+            throw new IllegalStateException("failed");
+        }, Runnable::run);
+        bus.subscribe(DomainEvent.class, delivered::add, Runnable::run);
+        bus.publish(new PersonAdded(amy));
+
+        assertEquals(1, delivered.size());
+    }
+
+    @Test
+    public void publish_failingSynchronousSubscriber_throws() {
+        bus.subscribe(DomainEvent.class, event -> {
+            throw new IllegalStateException("failed");
+        });
+        assertThrows(IllegalStateException.class, () -> bus.publish(new PersonAdded(amy)));
+    }
+}
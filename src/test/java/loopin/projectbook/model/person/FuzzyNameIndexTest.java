@@ -0,0 +1,123 @@
+package loopin.projectbook.model.person;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.util.ChangeLog;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class FuzzyNameIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+
+    @Test
+    public void search_typo_findsClosestFirst() {
+        Person alexYeoh = add("Alex Yeoh", 1);
+        Person alexaTan = add("Alexa Tan", 2);
+        add("Bernice Yu", 3);
+
+        assertEquals(List.of(alexYeoh, alexaTan), persons.searchByName("alx", 10));
+        assertEquals(List.of(alexYeoh), persons.searchByName("ALX yoeh", 1));
+        assertEquals(List.of(), persons.searchByName("zzz", 10));
+    }
+
+    @Test
+    public void search_soundsAlike_found() {
+        Person sean = add("Sean Lim", 1);
+        add("Sara Lim", 2);
+
+        assertEquals(List.of(sean), persons.searchByName("shaun", 10));
+    }
+
+    @Test
+    public void search_moreWordsMatched_rankedHigher() {
+        Person davidLi = add("David Li", 1);
+        Person davidLim = add("David Lim", 2);
+        Person irfan = add("Irfan Li", 3);
+
+        assertEquals(List.of(davidLim, davidLi, irfan), persons.searchByName("davd lim", 10));
+    }
+
+    @Test
+    public void search_sameScore_sortedByName() {
+        Person charlotte = add("Charlotte Oliveiro", 1);
+        Person charlie = add("Charlotte Ang", 2);
+
+        assertEquals(List.of(charlie, charlotte), persons.searchByName("charlote", 10));
+        assertEquals(List.of(charlie), persons.searchByName("charlote", 1));
+    }
+
+    @Test
+    public void search_invalidLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, FuzzyNameIndex.MESSAGE_INVALID_LIMIT, () ->
+                persons.searchByName("alex", 0));
+    }
+
+    @Test
+    public void search_afterRemoveAndEdit_followsList() {
+        Person alex = add("Alex Yeoh", 1);
+        Person bernice = add("Bernice Yu", 2);
+
+        persons.remove(alex);
+        assertEquals(List.of(), persons.searchByName("alex", 10));
+
+        Person renamed = new PersonBuilder(bernice).withName("Alex Yu").build();
+        persons.setPerson(bernice, renamed);
+        assertEquals(List.of(renamed), persons.searchByName("alex", 10));
+        assertEquals(List.of(), persons.searchByName("bernice", 10));
+    }
+
+    @Test
+    public void search_afterRollback_followsList() {
+        Person alex = add("Alex Yeoh", 1);
+
+        ChangeLog log = ChangeLog.open();
+        try {
+            persons.remove(alex);
+            add("Bernice Yu", 2);
+            log.rollbackTo(0);
+        } finally {
+            log.close();
+        }
+
+        assertEquals(List.of(alex), persons.searchByName("alex", 10));
+        assertEquals(List.of(), persons.searchByName("bernice", 10));
+    }
+
+    @Test
+    public void search_afterManyRemovals_stillFindsRemaining() {
+        List<Person> removed = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            removed.add(add("Person " + toWord(i), i + 10));
+        }
+        Person alex = add("Alex Yeoh", 1);
+        removed.forEach(persons::remove);
+
+        assertEquals(List.of(alex), persons.searchByName("alex", 10));
+        assertEquals(List.of(), persons.searchByName("person", 10));
+    }
+
+    private Person add(String name, int id) {
+        Person person = new PersonBuilder().withName(name).withEmail("person" + id + "@example.com")
+                .withPhone(String.valueOf(80000000 + id)).withTelegram("person" + id).build();
+        persons.add(person);
+        return person;
+    }
+
+    /**
+     * Returns a distinct word of letters for each {@code number}, as names cannot be told apart by digits alone.
+     */
+    private static String toWord(int number) {
+        StringBuilder word = new StringBuilder();
+        do {
+            word.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return word.append("xq").toString();
+    }
+}
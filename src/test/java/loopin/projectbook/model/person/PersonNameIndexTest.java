@@ -0,0 +1,78 @@
+package loopin.projectbook.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.util.ChangeLog;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class PersonNameIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+
+    @Test
+    public void findByName_ignoresCaseAndSurroundingWhitespace() {
+        Person alex = add("Alex Yeoh", 1);
+        add("Alex Yeo", 2);
+
+        assertEquals(List.of(alex), persons.findByName("  aLEX yeoh "));
+        assertEquals(List.of(), persons.findByName("Alex"));
+    }
+
+    @Test
+    public void findByName_sharedName_allPersonsInOrderAdded() {
+        Person first = add("Alex Yeoh", 1);
+        Person second = add("alex yeoh", 2);
+
+        assertEquals(List.of(first, second), persons.findByName("Alex Yeoh"));
+
+        persons.remove(first);
+        assertEquals(List.of(second), persons.findByName("Alex Yeoh"));
+    }
+
+    @Test
+    public void findByName_afterEdit_followsList() {
+        Person alex = add("Alex Yeoh", 1);
+        Person renamed = new PersonBuilder(alex).withName("Alexander Yeoh").build();
+
+        persons.setPerson(alex, renamed);
+        assertEquals(List.of(), persons.findByName("Alex Yeoh"));
+        assertEquals(List.of(renamed), persons.findByName("Alexander Yeoh"));
+    }
+
+    @Test
+    public void findByName_afterRollback_followsList() {
+        Person alex = add("Alex Yeoh", 1);
+
+        ChangeLog log = ChangeLog.open();
+        try {
+            persons.remove(alex);
+            add("Alex Yeoh", 2);
+            log.rollbackTo(0);
+        } finally {
+            log.close();
+        }
+
+        assertEquals(List.of(alex), persons.findByName("Alex Yeoh"));
+    }
+
+    @Test
+    public void findByName_afterSetPersons_followsList() {
+        add("Alex Yeoh", 1);
+        Person bernice = new PersonBuilder().withName("Bernice Yu").build();
+
+        persons.setPersons(List.of(bernice));
+        assertEquals(List.of(), persons.findByName("Alex Yeoh"));
+        assertEquals(List.of(bernice), persons.findByName("bernice yu"));
+    }
+
+    private Person add(String name, int id) {
+        Person person = new PersonBuilder().withName(name).withEmail("person" + id + "@example.com")
+                .withPhone(String.valueOf(80000000 + id)).withTelegram("person" + id).build();
+        persons.add(person);
+        return person;
+    }
+}
@@ -0,0 +1,114 @@
+package loopin.projectbook.model.project;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.person.Name;
+
+public class ActivityFeedTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 3, 9, 0);
+    private static final Name AMY = new Name("Amy Bee");
+
+    private final UniqueProjectList projects = new UniqueProjectList();
+    private final List<Project> projectsRead = new ArrayList<>();
+    private final ActivityFeed.HistoryReader reader = (project, offset, limit) -> {
+        projectsRead.add(project);
+        List<ActivityEvent> recent = project.getHistory().getRecent();
+        return recent.subList(Math.min(offset, recent.size()), Math.min(offset + limit, recent.size()));
+    };
+
+    private Project artshow;
+    private Project bakesale;
+
+    @BeforeEach
+    public void setUp() {
+        // artshow is updated at minutes 0, 2, 4 and bakesale at minutes 1, 3, with Amy at minute 3
+        artshow = addProject("Artshow");
+        bakesale = addProject("Bakesale");
+        record(artshow, null, 0);
+        record(bakesale, null, 1);
+        record(artshow, null, 2);
+        record(bakesale, AMY, 3);
+        record(artshow, null, 4);
+        projects.setProject(artshow);
+        projects.setProject(bakesale);
+    }
+
+    @Test
+    public void merge_allProjects_latestFirst() throws Exception {
+        assertEquals(List.of(4, 3, 2, 1, 0), minutesOf(merge(event -> true, 0, 10)));
+    }
+
+    @Test
+    public void merge_paged_continuesFromOffset() throws Exception {
+        assertEquals(List.of(4, 3), minutesOf(merge(event -> true, 0, 2)));
+        assertEquals(List.of(2, 1), minutesOf(merge(event -> true, 2, 2)));
+        assertTrue(merge(event -> true, 6, 2).isEmpty());
+    }
+
+    @Test
+    public void merge_filtered_onlyMatchingEvents() throws Exception {
+        List<ActivityFeed.Entry> entries = merge(event -> AMY.equals(event.getPerson()), 0, 10);
+        assertEquals(List.of(3), minutesOf(entries));
+        assertEquals(bakesale, entries.get(0).getProject());
+    }
+
+    @Test
+    public void merge_manyIdleProjects_onlyLatestRead() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            Project idle = addProject("Idle " + i);
+            record(idle, null, -100 - i);
+            projects.setProject(idle);
+        }
+        projectsRead.clear();
+
+        assertEquals(List.of(4), minutesOf(merge(event -> true, 0, 1)));
+        // bakesale was last updated before artshow's latest event, so neither it nor the idle projects are read
+        assertEquals(List.of(artshow), projectsRead);
+
+        projectsRead.clear();
+        assertEquals(List.of(4, 3, 2), minutesOf(merge(event -> true, 0, 3)));
+        assertEquals(List.of(artshow, bakesale), projectsRead);
+    }
+
+    @Test
+    public void merge_invalidLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> merge(event -> true, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> merge(event -> true, -1, 5));
+    }
+
+    private List<ActivityFeed.Entry> merge(Predicate<ActivityEvent> filter, int offset, int limit)
+            throws Exception {
+        return ActivityFeed.merge(projects.iterateLatestActiveFirst(), reader, filter, offset, limit);
+    }
+
+    private Project addProject(String name) {
+        Project project = new Project(new ProjectName(name), new Description(name + " project"),
+                START.minusDays(1), new LastUpdate());
+        projects.add(project);
+        return project;
+    }
+
+    private static void record(Project project, Name person, int minute) {
+        project.getHistory().record(ActivityEvent.Type.CUSTOM, person, "At minute " + minute,
+                START.plusMinutes(minute));
+    }
+
+    private static List<Integer> minutesOf(List<ActivityFeed.Entry> entries) {
+        return entries.stream()
+                .map(entry -> (int) Duration.between(START, entry.getEvent().getTimestamp()).toMinutes())
+                .collect(Collectors.toList());
+    }
+}
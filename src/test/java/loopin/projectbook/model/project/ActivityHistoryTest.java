@@ -0,0 +1,125 @@
+package loopin.projectbook.model.project;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.person.Name;
+import loopin.projectbook.model.util.ChangeLog;
+
+public class ActivityHistoryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 9, 0);
+    private static final Name AMY = new Name("Amy Bee");
+
+    private final ActivityHistory history = new ActivityHistory(3);
+
+    @Test
+    public void record_notFull_keepsAllLatestFirst() {
+        recordEvents(2);
+        assertEquals(List.of(1L, 0L), sequencesOf(history.getRecent()));
+        assertEquals(2, history.getEventCount());
+        assertEquals(0, history.getOldestKeptSequence());
+        assertTrue(history.getUnarchived().isEmpty());
+    }
+
+    @Test
+    public void record_full_pushesOutOldest() {
+        recordEvents(5);
+        assertEquals(List.of(4L, 3L, 2L), sequencesOf(history.getRecent()));
+        assertEquals(List.of(0L, 1L), sequencesOf(history.getUnarchived()));
+        assertEquals(2, history.getOldestKeptSequence());
+        assertEquals(List.of(3L, 2L, 1L, 0L), sequencesOf(history.getHeld(0, 4)));
+    }
+
+    @Test
+    public void markArchived_archivedEventsNoLongerHeld() {
+        recordEvents(5);
+        history.markArchived(0);
+        assertEquals(List.of(1L), sequencesOf(history.getUnarchived()));
+        assertEquals(List.of(2L, 1L), sequencesOf(history.getHeld(0, 3)));
+    }
+
+    @Test
+    public void rollback_pushedOutEventsBroughtBack() {
+        recordEvents(4);
+
+        ChangeLog log = ChangeLog.open();
+        try {
+            recordEvents(2);
+            log.rollbackTo(0);
+        } finally {
+            log.close();
+        }
+
+        assertEquals(List.of(3L, 2L, 1L), sequencesOf(history.getRecent()));
+        assertEquals(List.of(0L), sequencesOf(history.getUnarchived()));
+        assertEquals(4, history.getEventCount());
+    }
+
+    @Test
+    public void rollback_archivedEventBroughtBack_notArchivedAgain() {
+        recordEvents(4);
+        ChangeLog log = ChangeLog.open();
+        try {
+            recordEvents(1);
+            history.markArchived(1);
+            log.rollbackTo(0);
+        } finally {
+            log.close();
+        }
+        assertEquals(List.of(3L, 2L, 1L), sequencesOf(history.getRecent()));
+
+        recordEvents(1);
+        assertTrue(history.getUnarchived().isEmpty());
+        recordEvents(1);
+        assertEquals(List.of(2L), sequencesOf(history.getUnarchived()));
+    }
+
+    @Test
+    public void restore_keepsLatestEvents() {
+        List<ActivityEvent> saved = List.of(event(4), event(5), event(6), event(7));
+        history.restore(saved);
+        assertEquals(List.of(7L, 6L, 5L), sequencesOf(history.getRecent()));
+        assertEquals(8, history.getEventCount());
+        assertEquals(event(7), history.getLatest().get());
+
+        recordEvents(1);
+        assertEquals(List.of(5L), sequencesOf(history.getUnarchived()));
+    }
+
+    @Test
+    public void restore_gapInNumbers_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> history.restore(List.of(event(0), event(2))));
+    }
+
+    @Test
+    public void toLastUpdate_renderedOnce() {
+        ActivityEvent event = history.record(ActivityEvent.Type.REMARK_ADDED, AMY, "Booked hall", START);
+        assertEquals("Added remark to Amy Bee: \"Booked hall\"", event.getMessage());
+        assertSame(event.toLastUpdate(), event.toLastUpdate());
+        assertEquals(START, event.toLastUpdate().getTimestamp());
+    }
+
+    private void recordEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            history.record(ActivityEvent.Type.MEMBER_ADDED, AMY, null, START.plusMinutes(history.getEventCount()));
+        }
+    }
+
+    private static ActivityEvent event(long sequence) {
+        return new ActivityEvent(sequence, ActivityEvent.Type.CUSTOM, null, "Update " + sequence,
+                START.plusMinutes(sequence));
+    }
+
+    private static List<Long> sequencesOf(List<ActivityEvent> events) {
+        return events.stream().map(ActivityEvent::getSequence).collect(Collectors.toList());
+    }
+}
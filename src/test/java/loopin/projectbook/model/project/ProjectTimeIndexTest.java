@@ -0,0 +1,79 @@
+package loopin.projectbook.model.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ProjectTimeIndexTest {
+
+    private static final LocalDateTime JAN = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final LocalDateTime FEB = LocalDateTime.of(2025, 2, 1, 9, 0);
+    private static final LocalDateTime MAR = LocalDateTime.of(2025, 3, 1, 9, 0);
+    private static final LocalDateTime APR = LocalDateTime.of(2025, 4, 1, 9, 0);
+
+    private final UniqueProjectList projects = new UniqueProjectList();
+    private final Project artshow = project("Artshow", JAN, new LastUpdate());
+    private final Project bakesale = project("Bakesale", FEB, new LastUpdate("Booked hall", APR));
+    private final Project carnival = project("Carnival", MAR, new LastUpdate("Hired rides", MAR));
+
+    @Test
+    public void findCreatedBetween_fromInclusiveToExclusive() {
+        addAll();
+        assertEquals(List.of(artshow, bakesale), projects.findCreatedBetween(JAN, MAR));
+        assertEquals(List.of(bakesale, carnival), projects.findCreatedBetween(FEB, APR));
+        assertTrue(projects.findCreatedBetween(MAR, MAR).isEmpty());
+        assertTrue(projects.findCreatedBetween(APR, JAN).isEmpty());
+    }
+
+    @Test
+    public void findInactiveSince_neverUpdated_usesCreation() {
+        addAll();
+        assertEquals(List.of(artshow, carnival), projects.findInactiveSince(APR));
+        assertEquals(List.of(artshow), projects.findInactiveSince(MAR));
+        assertTrue(projects.findInactiveSince(JAN).isEmpty());
+    }
+
+    @Test
+    public void remove_projectNoLongerFound() {
+        addAll();
+        projects.remove(artshow);
+        assertEquals(List.of(bakesale), projects.findCreatedBetween(JAN, MAR));
+        assertEquals(List.of(carnival), projects.findInactiveSince(APR));
+    }
+
+    @Test
+    public void setProject_updatedInPlace_reindexed() {
+        addAll();
+        artshow.recordUpdate(new LastUpdate("Framed paintings", APR.plusDays(1)));
+        projects.setProject(artshow);
+
+        assertEquals(List.of(carnival), projects.findInactiveSince(APR));
+        assertEquals(List.of(carnival, bakesale, artshow), projects.findInactiveSince(APR.plusDays(2)));
+        assertEquals(List.of(artshow, bakesale), projects.findCreatedBetween(JAN, MAR));
+    }
+
+    @Test
+    public void sameTime_allProjectsKept() {
+        Project dance = project("Dance", JAN, new LastUpdate());
+        addAll();
+        projects.add(dance);
+        assertEquals(List.of(artshow, dance), projects.findCreatedBetween(JAN, FEB));
+
+        projects.remove(artshow);
+        assertEquals(List.of(dance), projects.findCreatedBetween(JAN, FEB));
+    }
+
+    private void addAll() {
+        projects.add(artshow);
+        projects.add(bakesale);
+        projects.add(carnival);
+    }
+
+    private static Project project(String name, LocalDateTime createdAt, LastUpdate lastUpdate) {
+        return new Project(new ProjectName(name), new Description(name + " project"), createdAt, lastUpdate);
+    }
+}
@@ -0,0 +1,122 @@
+package loopin.projectbook.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+
+    private static final int PERSON_COUNT = 50;
+    private static final Query ALEX = term(Field.NAME_IS, "alex yeoh");
+    private static final Query ARTSHOW = term(Field.PROJECT, "artshow");
+    private static final Query MARATHON = term(Field.PROJECT, "marathon");
+    private static final Query HAS_TELEGRAM = term(Field.HAS, "telegram");
+
+    private final Model model = new ModelManager();
+    private final QueryPlanner planner = new QueryPlanner(model);
+
+    @BeforeEach
+    public void setUp() {
+        Project artshow = new Project(new ProjectName("Artshow"), new Description("desc"));
+        Project marathon = new Project(new ProjectName("Marathon"), new Description("desc"));
+        model.addProject(artshow);
+        model.addProject(marathon);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            PersonBuilder builder = new PersonBuilder().withName(i % 10 == 0 ? "Alex Yeoh" : "Person " + i)
+                    .withEmail("person" + i + "@example.com").withPhone(String.valueOf(90000000 + i))
+                    .withTelegram(i % 3 == 0 ? null : "person_" + i);
+            Person person = i % 2 == 0 ? builder.build() : builder.buildTeamMember("Logistics");
+            model.addPerson(person);
+            if (i % 5 == 0) {
+                assign(person, artshow);
+            }
+            if (i % 7 == 0) {
+                assign(person, marathon);
+            }
+        }
+    }
+
+    @Test
+    public void plan_exactName_usesNameIndex() {
+        assertPlanMatchesScan(ALEX, true, 5);
+    }
+
+    @Test
+    public void plan_project_usesProjectMembers() {
+        assertPlanMatchesScan(term(Field.PROJECT, "ARTSHOW"), true, 10);
+    }
+
+    @Test
+    public void plan_and_usesMostSelectiveIndex() {
+        assertPlanMatchesScan(new Query.And(List.of(ARTSHOW, MARATHON, term(Field.ROLE, "v"))), true, 8);
+        assertPlanMatchesScan(new Query.And(List.of(term(Field.ROLE, "t"), ALEX, ARTSHOW)), true, 5);
+    }
+
+    @Test
+    public void plan_orOfIndexedTerms_usesUnion() {
+        assertPlanMatchesScan(new Query.Or(List.of(ARTSHOW, MARATHON)), true, 18);
+        assertPlanMatchesScan(new Query.Or(List.of(new Query.And(List.of(ARTSHOW, HAS_TELEGRAM)), ALEX)), true, 15);
+    }
+
+    @Test
+    public void plan_unindexedTerms_scansEveryPerson() {
+        assertPlanMatchesScan(term(Field.ROLE, "t"), false, PERSON_COUNT);
+        assertPlanMatchesScan(new Query.Or(List.of(ARTSHOW, HAS_TELEGRAM)), false, PERSON_COUNT);
+        assertPlanMatchesScan(new Query.Not(ARTSHOW), false, PERSON_COUNT);
+    }
+
+    @Test
+    public void plan_unknownProject_noCandidates() {
+        assertPlanMatchesScan(term(Field.PROJECT, "unknown"), true, 0);
+    }
+
+    @Test
+    public void explain_showsAccessPathAndCounts() {
+        QueryPlan plan = planner.plan(new Query.And(List.of(ALEX, term(Field.ROLE, "v"))));
+        assertTrue(plan.explain().contains("Look up name=\"alex yeoh\" in the name index (5 rows)"));
+        assertFalse(plan.explain().contains("executed"));
+
+        plan.execute();
+        assertTrue(plan.explain().startsWith("Filter name=\"alex yeoh\" AND role:v (5 matched)"));
+        assertTrue(plan.explain().contains("over 5 of " + PERSON_COUNT + " persons"));
+    }
+
+    /**
+     * Asserts that {@code query} is planned as expected and matches exactly the persons a scan would.
+     */
+    private void assertPlanMatchesScan(Query query, boolean isIndexed, int estimatedCandidates) {
+        QueryPlan plan = planner.plan(query);
+        assertEquals(isIndexed, plan.isIndexed(), plan.explain());
+        assertEquals(estimatedCandidates, plan.getEstimatedCandidates(), plan.explain());
+
+        List<Person> expected = new ArrayList<>();
+        model.getProjectBook().getPersonList().stream().filter(query).forEach(expected::add);
+        Set<Person> matched = plan.execute();
+        assertEquals(expected.size(), matched.size());
+        expected.forEach(person -> assertTrue(matched.contains(person)));
+    }
+
+    private static Query term(Field field, String value) {
+        return new Query.Term(field, value);
+    }
+
+    private static void assign(Person person, Project project) {
+        project.assignPerson(person);
+        person.addProject(project);
+    }
+}
@@ -0,0 +1,128 @@
+package loopin.projectbook.model.query;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class QueryTest {
+
+    private final Person volunteer = new PersonBuilder().withName("Alex Yeoh").withPhone(null)
+            .withRemarks("Check venue booking").build();
+    private final Person teamMember = new PersonBuilder().withName("David Li").withTelegram(null)
+            .buildTeamMember("Logistics");
+    private final Person orgMember = new PersonBuilder().withName("Roy Balakrishnan")
+            .buildOrgMember("PixelWorks");
+
+    @Test
+    public void fieldFromSyntax() {
+        assertEquals(Optional.of(Field.NAME_CONTAINS), Field.fromSyntax("NAME:"));
+        assertEquals(Optional.of(Field.NAME_IS), Field.fromSyntax("name="));
+        assertEquals(Optional.empty(), Field.fromSyntax("phone:"));
+    }
+
+    @Test
+    public void term_invalidValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Query.Term(Field.ROLE, "x"));
+        assertThrows(IllegalArgumentException.class, () -> new Query.Term(Field.REMARK_STATUS, "done"));
+        assertThrows(IllegalArgumentException.class, () -> new Query.Term(Field.HAS, "email"));
+        assertThrows(IllegalArgumentException.class, () -> new Query.Term(Field.NAME_CONTAINS, " "));
+    }
+
+    @Test
+    public void term_matchesFieldIgnoringCase() {
+        assertTrue(term(Field.NAME_CONTAINS, "yEo").test(volunteer));
+        assertFalse(term(Field.NAME_IS, "alex").test(volunteer));
+        assertTrue(term(Field.NAME_IS, "alex yeoh").test(volunteer));
+
+        assertTrue(term(Field.ROLE, "v").test(volunteer));
+        assertTrue(term(Field.ROLE, "TeamMember").test(teamMember));
+        assertFalse(term(Field.ROLE, "o").test(teamMember));
+
+        assertTrue(term(Field.COMMITTEE, "logistics").test(teamMember));
+        assertFalse(term(Field.COMMITTEE, "logistics").test(volunteer));
+        assertTrue(term(Field.ORGANISATION, "pixelworks").test(orgMember));
+        assertFalse(term(Field.ORGANISATION, "pixel").test(orgMember));
+
+        assertTrue(term(Field.REMARK, "VENUE").test(volunteer));
+        assertTrue(term(Field.REMARK_STATUS, "pending").test(volunteer));
+        assertFalse(term(Field.REMARK_STATUS, "completed").test(volunteer));
+        assertFalse(term(Field.REMARK_STATUS, "pending").test(teamMember));
+    }
+
+    @Test
+    public void term_hasField() {
+        assertFalse(term(Field.HAS, "phone").test(volunteer));
+        assertTrue(term(Field.HAS, "telegram").test(volunteer));
+        assertTrue(term(Field.HAS, "remark").test(volunteer));
+        assertFalse(term(Field.HAS, "telegram").test(teamMember));
+        assertTrue(term(Field.HAS, "phone").test(teamMember));
+        assertFalse(term(Field.HAS, "project").test(teamMember));
+    }
+
+    @Test
+    public void term_project_matchesMembersIgnoringCase() {
+        Person member = new PersonBuilder().build();
+        member.addProject(new Project(new ProjectName("Artshow"), new Description("desc")));
+
+        assertTrue(term(Field.PROJECT, "ARTSHOW").test(member));
+        assertTrue(term(Field.HAS, "project").test(member));
+        assertFalse(term(Field.PROJECT, "Art").test(member));
+        assertFalse(term(Field.PROJECT, "Artshow").test(volunteer));
+    }
+
+    @Test
+    public void combinators() {
+        Query isVolunteer = term(Field.ROLE, "v");
+        Query hasPhone = term(Field.HAS, "phone");
+
+        Query and = new Query.And(List.of(isVolunteer, hasPhone));
+        assertFalse(and.test(volunteer));
+        assertFalse(and.test(teamMember));
+
+        Query or = new Query.Or(List.of(isVolunteer, hasPhone));
+        assertTrue(or.test(volunteer));
+        assertTrue(or.test(teamMember));
+
+        Query not = new Query.Not(or);
+        assertFalse(not.test(volunteer));
+
+        assertThrows(IllegalArgumentException.class, Query.MESSAGE_NO_OPERANDS, () -> new Query.And(List.of(
+                isVolunteer)));
+    }
+
+    @Test
+    public void toQueryString_parenthesizesOperandsAndQuotesValues() {
+        Query query = new Query.And(List.of(
+                term(Field.NAME_IS, "Alex Yeoh"),
+                new Query.Not(new Query.Or(List.of(term(Field.ROLE, "v"), term(Field.REMARK, "(size L)"))))));
+        assertEquals("name=\"Alex Yeoh\" AND (NOT (role:v OR remark:\"(size L)\"))", query.toQueryString());
+    }
+
+    @Test
+    public void equals() {
+        Query query = new Query.Or(List.of(term(Field.ROLE, "v"), term(Field.NAME_CONTAINS, "alex")));
+
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(new Query.Or(List.of(term(Field.ROLE, "V"), term(Field.NAME_CONTAINS, "ALEX")))));
+        assertFalse(query.equals(new Query.And(List.of(term(Field.ROLE, "v"), term(Field.NAME_CONTAINS, "alex")))));
+        assertFalse(query.equals(new Query.Or(List.of(term(Field.NAME_CONTAINS, "alex"), term(Field.ROLE, "v")))));
+        assertFalse(term(Field.NAME_IS, "alex").equals(term(Field.NAME_CONTAINS, "alex")));
+        assertFalse(query.equals(null));
+    }
+
+    private static Query term(Field field, String value) {
+        return new Query.Term(field, value);
+    }
+}
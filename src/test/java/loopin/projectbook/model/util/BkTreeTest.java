@@ -0,0 +1,81 @@
+package loopin.projectbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.commons.util.StringUtil;
+
+public class BkTreeTest {
+
+    private final BkTree<String> tree = new BkTree<>(StringUtil::editDistance);
+
+    @Test
+    public void add_duplicateKey_ignored() {
+        assertTrue(tree.add("alex"));
+        assertTrue(tree.add("alexa"));
+        assertFalse(tree.add("alex"));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void search_emptyTree_findsNothing() {
+        assertEquals(Map.of(), search("alex", 2));
+    }
+
+    @Test
+    public void search_findsKeysWithinDistance() {
+        for (String key : List.of("alex", "alx", "alexa", "alexander", "bernice", "bernie", "david")) {
+            tree.add(key);
+        }
+
+        assertEquals(Map.of("alex", 0), search("alex", 0));
+        assertEquals(Map.of("alex", 0, "alx", 1, "alexa", 1), search("alex", 1));
+        assertEquals(Map.of("bernice", 1, "bernie", 1), search("bernce", 1));
+    }
+
+    @Test
+    public void search_randomKeys_sameAsFullScan() {
+        Random random = new Random(7);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            keys.add(randomWord(random));
+            tree.add(keys.get(i));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            Map<String, Integer> expected = new TreeMap<>();
+            for (String key : keys) {
+                int distance = StringUtil.editDistance(query, key);
+                if (distance <= 2) {
+                    expected.put(key, distance);
+                }
+            }
+            assertEquals(expected, search(query, 2));
+        }
+    }
+
+    private Map<String, Integer> search(String query, int maxDistance) {
+        Map<String, Integer> found = new TreeMap<>();
+        tree.search(query, maxDistance, found::put);
+        return found;
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 3 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,136 @@
+package loopin.projectbook.model.util;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ChangeHistoryTest {
+
+    private final List<String> values = new ArrayList<>();
+
+    @Test
+    public void constructor_negativeLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeHistory(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new ChangeHistory(10, -1));
+    }
+
+    @Test
+    public void undoRedo_replaysTransactionsInOrder() {
+        ChangeHistory history = new ChangeHistory(10, 100);
+        history.push(commit("a", "b"));
+        history.push(commit("c"));
+
+        history.undo();
+        assertEquals(List.of("a", "b"), values);
+        history.undo();
+        assertEquals(List.of(), values);
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, history::undo);
+
+        history.redo();
+        assertEquals(List.of("a", "b"), values);
+        history.redo();
+        assertEquals(List.of("a", "b", "c"), values);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void push_afterUndo_forgetsRedo() {
+        ChangeHistory history = new ChangeHistory(10, 100);
+        history.push(commit("a"));
+        history.undo();
+        history.push(commit("b"));
+
+        assertFalse(history.canRedo());
+        history.undo();
+        assertFalse(history.canUndo());
+        assertEquals(List.of(), values);
+    }
+
+    @Test
+    public void push_emptyTransaction_keepsRedo() {
+        ChangeHistory history = new ChangeHistory(10, 100);
+        history.push(commit("a"));
+        history.undo();
+        history.push(List.of());
+
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void push_beyondDepth_forgetsOldest() {
+        ChangeHistory history = new ChangeHistory(2, 100);
+        history.push(commit("a"));
+        history.push(commit("b"));
+        history.push(commit("c"));
+
+        history.undo();
+        history.undo();
+        assertFalse(history.canUndo());
+        assertEquals(List.of("a"), values);
+    }
+
+    @Test
+    public void push_beyondBudget_forgetsOldest() {
+        ChangeHistory history = new ChangeHistory(10, 3);
+        history.push(commit("a", "b"));
+        history.push(commit("c", "d"));
+
+        history.undo();
+        assertFalse(history.canUndo());
+
+        // a transaction larger than the whole budget cannot be undone, nor can anything before it
+        history.push(commit("e", "f", "g", "h"));
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_inOpenLog_rolledBackWithLog() {
+        ChangeHistory history = new ChangeHistory(10, 100);
+        history.push(commit("a"));
+
+        ChangeLog log = ChangeLog.open();
+        try {
+            history.undo();
+            assertEquals(List.of(), values);
+            log.rollbackTo(0);
+        } finally {
+            log.close();
+        }
+
+        assertEquals(List.of("a"), values);
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    /**
+     * Appends {@code newValues} in a transaction and returns its changes.
+     */
+    private List<ChangeLog.Change> commit(String... newValues) {
+        ChangeLog log = ChangeLog.open();
+        for (String value : newValues) {
+            append(value);
+        }
+        return log.close();
+    }
+
+    /**
+     * Appends {@code value}, recording the change like the model's own mutators do.
+     */
+    private void append(String value) {
+        values.add(value);
+        ChangeLog.record(this::removeLast, () -> append(value));
+    }
+
+    private void removeLast() {
+        String value = values.remove(values.size() - 1);
+        ChangeLog.record(() -> append(value), this::removeLast);
+    }
+}
@@ -0,0 +1,73 @@
+package loopin.projectbook.model.util;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ChangeLogTest {
+
+    private final List<String> values = new ArrayList<>();
+    private ChangeLog log;
+
+    @AfterEach
+    public void closeLog() {
+        if (log != null) {
+            log.close();
+        }
+    }
+
+    @Test
+    public void record_noOpenLog_ignored() {
+        append("a");
+        log = ChangeLog.open();
+        assertEquals(0, log.size());
+    }
+
+    @Test
+    public void open_alreadyOpen_throwsIllegalStateException() {
+        log = ChangeLog.open();
+        assertThrows(IllegalStateException.class, ChangeLog::open);
+    }
+
+    @Test
+    public void rollbackTo_undoesNewestFirstWithoutRecording() {
+        log = ChangeLog.open();
+        append("a");
+        int savepoint = log.size();
+        append("b");
+        append("c");
+
+        log.rollbackTo(savepoint);
+        assertEquals(List.of("a"), values);
+        assertEquals(1, log.size());
+
+        log.rollbackTo(0);
+        assertEquals(List.of(), values);
+        assertEquals(0, log.size());
+    }
+
+    @Test
+    public void close_returnsChangesThatCanBeRedone() {
+        log = ChangeLog.open();
+        append("a");
+        append("b");
+        List<ChangeLog.Change> changes = log.close();
+        log = null;
+
+        changes.get(1).undo();
+        changes.get(0).undo();
+        assertEquals(List.of(), values);
+        changes.forEach(ChangeLog.Change::redo);
+        assertEquals(List.of("a", "b"), values);
+    }
+
+    private void append(String value) {
+        values.add(value);
+        ChangeLog.record(() -> values.remove(values.size() - 1), () -> values.add(value));
+    }
+}
@@ -0,0 +1,54 @@
+package loopin.projectbook.model.util;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SnapshotArrayListTest {
+
+    private final SnapshotArrayList<String> list = new SnapshotArrayList<>();
+
+    @Test
+    public void listOperations_behaveLikeArrayList() {
+        list.add("a");
+        list.add("c");
+        list.add(1, "b");
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+
+        assertEquals("b", list.set(1, "x"));
+        assertEquals("a", list.remove(0));
+        assertEquals(Arrays.asList("x", "c"), list);
+
+        list.clear();
+        assertEquals(0, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    public void snapshot_unaffectedByLaterChanges() {
+        list.addAll(Arrays.asList("a", "b", "c"));
+        List<String> snapshot = list.snapshot();
+
+        list.set(0, "x");
+        list.remove(1);
+        list.add("d");
+        List<String> secondSnapshot = list.snapshot();
+        list.clear();
+
+        assertEquals(Arrays.asList("a", "b", "c"), snapshot);
+        assertEquals(Arrays.asList("x", "c", "d"), secondSnapshot);
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    public void snapshot_isImmutable() {
+        list.add("a");
+        List<String> snapshot = list.snapshot();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.set(0, "b"));
+    }
+}
@@ -0,0 +1,72 @@
+package loopin.projectbook.model.util;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class SortKeyCacheTest {
+
+    private final SortKeyCache<StringBuilder> cache = new SortKeyCache<>();
+    private final AtomicInteger computations = new AtomicInteger();
+
+    private Comparator<StringBuilder> byLength(boolean isDescending) {
+        return cache.comparing(builder -> {
+            computations.incrementAndGet();
+            return builder.length();
+        }, isDescending);
+    }
+
+    @Test
+    public void comparing_nullKeyFunction_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.comparing(null, false));
+    }
+
+    @Test
+    public void compare_keyComputedOncePerElement() {
+        List<StringBuilder> elements = new ArrayList<>();
+        for (int length = 20; length > 0; length--) {
+            elements.add(new StringBuilder("x".repeat(length)));
+        }
+
+        elements.sort(byLength(false));
+        assertEquals(20, computations.get());
+        assertEquals(1, elements.get(0).length());
+        assertEquals(20, elements.get(19).length());
+
+        elements.sort(byLength(true));
+        assertEquals(40, computations.get());
+        assertEquals(20, elements.get(0).length());
+    }
+
+    @Test
+    public void elementRemoved_keyComputedAgain() {
+        StringBuilder shorter = new StringBuilder("ab");
+        StringBuilder longer = new StringBuilder("abc");
+        Comparator<StringBuilder> comparator = byLength(false);
+        assertTrue(comparator.compare(shorter, longer) < 0);
+
+        // changed in place, then put back into the list
+        shorter.append("cd");
+        assertTrue(comparator.compare(shorter, longer) < 0);
+        cache.elementRemoved(shorter);
+        cache.elementAdded(shorter);
+        assertTrue(comparator.compare(shorter, longer) > 0);
+        assertEquals(3, computations.get());
+    }
+
+    @Test
+    public void compare_equalButDistinctElements_keyedSeparately() {
+        StringBuilder first = new StringBuilder("a");
+        StringBuilder second = new StringBuilder("a");
+        Comparator<StringBuilder> comparator = byLength(false);
+        assertEquals(0, comparator.compare(first, second));
+        assertEquals(2, computations.get());
+    }
+}
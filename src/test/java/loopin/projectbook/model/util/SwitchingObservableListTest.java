@@ -0,0 +1,73 @@
+package loopin.projectbook.model.util;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SwitchingObservableListTest {
+
+    private final ObservableList<String> letters = FXCollections.observableArrayList("a", "b");
+    private final ObservableList<String> digits = FXCollections.observableArrayList("1", "2", "3");
+    private final SwitchingObservableList<String> list = new SwitchingObservableList<>(letters);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SwitchingObservableList<String>(null));
+    }
+
+    @Test
+    public void sourceChange_forwarded() {
+        List<String> added = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        letters.add("c");
+        assertEquals(List.of("c"), added);
+        assertEquals(List.of("a", "b", "c"), list);
+    }
+
+    @Test
+    public void setSource_reportsReplacementAndFollowsNewSource() {
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        list.setSource(digits);
+        assertSame(digits, list.getSource());
+        assertEquals(List.of("a", "b"), removed);
+        assertEquals(List.of("1", "2", "3"), added);
+        assertEquals(List.of("1", "2", "3"), list);
+
+        // the old source is no longer followed
+        removed.clear();
+        added.clear();
+        letters.add("c");
+        assertTrue(added.isEmpty());
+        digits.remove("2");
+        assertEquals(List.of("2"), removed);
+        assertEquals(List.of("1", "3"), list);
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+    }
+}
@@ -0,0 +1,171 @@
+package loopin.projectbook.model.view;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.model.query.Field;
+import loopin.projectbook.model.query.Query;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class SavedViewsTest {
+
+    private static final Query IN_ARTSHOW = new Query.Term(Field.PROJECT, "artshow");
+    private static final Query NAMED_BEE = new Query.Term(Field.NAME_CONTAINS, "bee");
+
+    private final ModelManager model = new ModelManager();
+    private final Person amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com").build();
+    private final Person bob = new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com")
+            .withPhone("22222222").withTelegram("bobchoo").build();
+    private final Person cat = new PersonBuilder().withName("Cat Bee").withEmail("cat@example.com")
+            .withPhone("33333333").withTelegram("catbee").build();
+    private final Project artshow = new Project(new ProjectName("Artshow"), new Description("Annual art show"));
+
+    @BeforeEach
+    public void setUp() {
+        model.addPerson(amy);
+        model.addPerson(bob);
+        model.addProject(artshow);
+    }
+
+    @Test
+    public void save_invalidName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> model.saveView("two words", NAMED_BEE));
+        assertThrows(IllegalArgumentException.class, () -> model.saveView("", NAMED_BEE));
+    }
+
+    @Test
+    public void save_existingPersons_matchingPersonsKept() {
+        model.saveView("bees", NAMED_BEE);
+        assertEquals(List.of(amy), getView("bees").getPersons());
+        assertEquals(NAMED_BEE.toQueryString(), model.getUserPrefs().getSavedViews().get("bees"));
+    }
+
+    @Test
+    public void save_sameName_replacesView() {
+        model.saveView("people", NAMED_BEE);
+        model.saveView("people", new Query.Term(Field.NAME_CONTAINS, "choo"));
+        assertEquals(1, model.getSavedViews().size());
+        assertEquals(List.of(bob), getView("people").getPersons());
+    }
+
+    @Test
+    public void addAndDeletePerson_viewUpdated() {
+        model.saveView("bees", NAMED_BEE);
+
+        model.addPerson(cat);
+        assertEquals(List.of(amy, cat), getView("bees").getPersons());
+
+        model.deletePerson(amy);
+        assertEquals(List.of(cat), getView("bees").getPersons());
+    }
+
+    @Test
+    public void setPerson_editedPersonKeepsPlace() {
+        model.addPerson(cat);
+        model.saveView("bees", NAMED_BEE);
+
+        Person editedAmy = new PersonBuilder(amy).withPhone("99999999").build();
+        model.setPerson(amy, editedAmy);
+        assertEquals(List.of(editedAmy, cat), getView("bees").getPersons());
+
+        // an edit which stops matching leaves the view
+        Person renamedAmy = new PersonBuilder(editedAmy).withName("Amy Choo").build();
+        model.setPerson(editedAmy, renamedAmy);
+        assertEquals(List.of(cat), getView("bees").getPersons());
+    }
+
+    @Test
+    public void setPersonInPlace_joinedProject_viewUpdated() {
+        model.saveView("artshow", IN_ARTSHOW);
+        assertTrue(getView("artshow").getPersons().isEmpty());
+
+        joinArtshow(bob);
+        assertEquals(List.of(bob), getView("artshow").getPersons());
+    }
+
+    @Test
+    public void rollbackTransaction_viewUnchanged() {
+        model.saveView("artshow", IN_ARTSHOW);
+        model.beginTransaction();
+        joinArtshow(amy);
+        model.deletePerson(bob);
+        model.rollbackTransaction();
+
+        assertTrue(getView("artshow").getPersons().isEmpty());
+    }
+
+    @Test
+    public void undoAndRedo_viewFollowsBook() {
+        model.saveView("artshow", IN_ARTSHOW);
+        model.beginTransaction();
+        joinArtshow(amy);
+        model.commitTransaction();
+        assertEquals(List.of(amy), getView("artshow").getPersons());
+
+        model.undoProjectBook();
+        assertTrue(getView("artshow").getPersons().isEmpty());
+
+        model.redoProjectBook();
+        assertEquals(List.of(amy), getView("artshow").getPersons());
+    }
+
+    @Test
+    public void showView_displayedListFollowsView() {
+        model.saveView("bees", NAMED_BEE);
+        assertTrue(model.showView("bees"));
+        assertEquals(List.of(amy), model.getFilteredPersonList());
+
+        Person renamedBob = new PersonBuilder(bob).withName("Bob Bee").build();
+        model.setPerson(bob, renamedBob);
+        assertEquals(List.of(amy, renamedBob), model.getFilteredPersonList());
+
+        assertFalse(model.showView("wasps"));
+        assertEquals(List.of(amy, renamedBob), model.getFilteredPersonList());
+
+        model.updateFilteredPersonList(person -> true);
+        assertEquals(List.of(amy, renamedBob), model.getFilteredPersonList());
+        model.deletePerson(amy);
+        assertEquals(List.of(renamedBob), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void deleteView_shownView_displaysFilteredList() {
+        model.saveView("bees", NAMED_BEE);
+        model.showView("bees");
+
+        assertTrue(model.deleteView("bees"));
+        assertFalse(model.deleteView("bees"));
+        assertEquals(List.of(amy, bob), model.getFilteredPersonList());
+        assertTrue(model.getSavedViews().isEmpty());
+        assertTrue(model.getUserPrefs().getSavedViews().isEmpty());
+    }
+
+    /**
+     * Adds {@code person} to the artshow project in place, the way the project commands do.
+     */
+    private void joinArtshow(Person person) {
+        artshow.assignPerson(person);
+        person.addProject(artshow);
+        model.setProject(artshow);
+        model.setPersonInPlace(person);
+    }
+
+    private SavedView getView(String name) {
+        return model.getSavedViews().stream()
+                .filter(view -> view.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,128 @@
+package loopin.projectbook.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import loopin.projectbook.logic.LogicManager;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.util.SampleDataUtil;
+import loopin.projectbook.storage.JsonProjectBookStorage;
+import loopin.projectbook.storage.JsonUserPrefsStorage;
+import loopin.projectbook.storage.StorageManager;
+
+/**
+ * Load-test harness for {@link ApiServer}. Not run as part of the test suite.
+ *
+ * Usage: {@code ApiServerLoadHarness [--url=BASE_URL] [--path=PATH] [--clients=N] [--requests=N]}
+ *
+ * Without {@code --url}, an in-process server with the sample data is started on an ephemeral localhost port.
+ * Reports throughput, latency percentiles and the number of non-200 (e.g. 503 backpressure) responses.
+ */
+public class ApiServerLoadHarness {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(pair[0], pair.length > 1 ? pair[1] : "");
+        }
+        String path = options.getOrDefault("path", ApiServer.PERSONS_PATH);
+        int clients = Integer.parseInt(options.getOrDefault("clients", "16"));
+        int requestsPerClient = Integer.parseInt(options.getOrDefault("requests", "2000")) / clients;
+
+        ApiServer server = null;
+        String baseUrl = options.get("url");
+        if (baseUrl == null) {
+            server = startLocalServer();
+            baseUrl = "http://localhost:" + server.getPort();
+        }
+
+        try {
+            run(URI.create(baseUrl + path), clients, requestsPerClient);
+        } finally {
+            if (server != null) {
+                server.stop(0);
+            }
+        }
+    }
+
+    private static ApiServer startLocalServer() throws IOException {
+        Path folder = Files.createTempDirectory("loadtest");
+        StorageManager storage = new StorageManager(new JsonProjectBookStorage(folder.resolve("projectbook.json")),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json")));
+        ModelManager model = new ModelManager(SampleDataUtil.getSampleProjectBook(), new UserPrefs());
+        ApiServer server = new ApiServer(new LogicManager(model, storage),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                ApiServer.DEFAULT_THREADS, ApiServer.DEFAULT_QUEUE_CAPACITY);
+        server.start();
+        return server;
+    }
+
+    private static void run(URI uri, int clients, int requestsPerClient) throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        AtomicInteger failures = new AtomicInteger();
+
+        // warm-up
+        for (int i = 0; i < 200; i++) {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<long[]>> results = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int c = 0; c < clients; c++) {
+            results.add(pool.submit(() -> {
+                long[] latencies = new long[requestsPerClient];
+                for (int i = 0; i < requestsPerClient; i++) {
+                    long sent = System.nanoTime();
+                    int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    latencies[i] = System.nanoTime() - sent;
+                    if (status != 200) {
+                        failures.incrementAndGet();
+                    }
+                }
+                return latencies;
+            }));
+        }
+
+        long[] all = new long[clients * requestsPerClient];
+        int offset = 0;
+        for (Future<long[]> result : results) {
+            long[] latencies = result.get();
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+
+        Arrays.sort(all);
+        System.out.printf("%s: %d clients, %d requests in %.2fs%n", uri, clients, all.length, elapsedSeconds);
+        System.out.printf("throughput: %.0f req/s%n", all.length / elapsedSeconds);
+        System.out.printf("latency p50=%.2fms p99=%.2fms max=%.2fms%n",
+                percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1e6);
+        System.out.printf("non-200 responses: %d%n", failures.get());
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,176 @@
+package loopin.projectbook.server;
+
+import static loopin.projectbook.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import loopin.projectbook.logic.LogicManager;
+import loopin.projectbook.logic.commands.ClearCommand;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.storage.JsonProjectBookStorage;
+import loopin.projectbook.storage.JsonUserPrefsStorage;
+import loopin.projectbook.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonProjectBookStorage(temporaryFolder.resolve("projectBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new ApiServer(new LogicManager(model, storage),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2, 8);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void getPersons_noFilter_returnsAllPersons() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("Alice Pauline"));
+        assertTrue(response.body().contains("George Best"));
+    }
+
+    @Test
+    public void getPersons_nameFilter_returnsMatchingPersons() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH + "?name=alice");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("Alice Pauline"));
+        assertFalse(response.body().contains("George Best"));
+    }
+
+    @Test
+    public void getProjects_emptyBook_returnsEmptyArray() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PROJECTS_PATH);
+        assertEquals(200, response.statusCode());
+        assertEquals("[ ]", response.body());
+    }
+
+    @Test
+    public void postCommand_validCommand_executesThroughLogic() throws Exception {
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, ClearCommand.COMMAND_WORD);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains(ClearCommand.MESSAGE_SUCCESS));
+        assertTrue(model.getProjectBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_returnsBadRequest() throws Exception {
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, "unknowncommand");
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains(MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void postCommand_notDoneInTime_returnsGatewayTimeout() throws Exception {
+        server.stop(0);
+        server = new ApiServer(new LogicManager(model, new StorageManager(
+                new JsonProjectBookStorage(temporaryFolder.resolve("projectBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")))),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2, 8, Duration.ofMillis(200));
+        server.start();
+
+        // the command cannot be executed while the write lock is held here
+        ReentrantReadWriteLock.WriteLock writeLock = model.getLock().writeLock();
+        HttpResponse<String> response;
+        writeLock.lock();
+        try {
+            response = post(ApiServer.COMMANDS_PATH, "list");
+        } finally {
+            writeLock.unlock();
+        }
+        assertEquals(504, response.statusCode());
+        assertTrue(response.body().contains(String.format(ApiServer.MESSAGE_COMMAND_TIMED_OUT, 200)));
+    }
+
+    @Test
+    public void getPersons_workersAndQueueFull_rejectedWithServiceUnavailable() throws Exception {
+        // 2 workers and 8 queued requests are let in; reads wait for the write lock held here
+        ReentrantReadWriteLock.WriteLock writeLock = model.getLock().writeLock();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        writeLock.lock();
+        try {
+            for (int i = 0; i < 15; i++) {
+                responses.add(client.sendAsync(HttpRequest.newBuilder(uri(ApiServer.PERSONS_PATH)).GET().build(),
+                        HttpResponse.BodyHandlers.ofString()));
+            }
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (server.getRejectedCount() < 5 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        int okCount = 0;
+        int unavailableCount = 0;
+        for (CompletableFuture<HttpResponse<String>> future : responses) {
+            HttpResponse<String> response = future.get();
+            if (response.statusCode() == 503) {
+                unavailableCount++;
+                assertEquals("1", response.headers().firstValue("Retry-After").orElse(""));
+                assertTrue(response.body().contains(ApiServer.MESSAGE_OVERLOADED));
+            } else {
+                assertEquals(200, response.statusCode());
+                okCount++;
+            }
+        }
+        assertEquals(10, okCount);
+        assertEquals(5, unavailableCount);
+        assertEquals(5, server.getRejectedCount());
+    }
+
+    @Test
+    public void wrongMethod_returnsMethodNotAllowed() throws Exception {
+        assertEquals(405, post(ApiServer.PERSONS_PATH, "").statusCode());
+        assertEquals(405, get(ApiServer.COMMANDS_PATH).statusCode());
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
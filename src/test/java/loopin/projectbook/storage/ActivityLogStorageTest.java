@@ -0,0 +1,94 @@
+package loopin.projectbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import loopin.projectbook.model.ProjectBook;
+import loopin.projectbook.model.person.Name;
+import loopin.projectbook.model.project.ActivityEvent;
+import loopin.projectbook.model.project.ActivityHistory;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+
+public class ActivityLogStorageTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 3, 3, 9, 0);
+    private static final LocalDateTime TUESDAY = MONDAY.plusDays(1);
+
+    @TempDir
+    public Path testFolder;
+
+    private final Project artshow = project("Artshow");
+    private final Project bakesale = project("Bakesale");
+
+    @Test
+    public void read_noLog_returnsEmpty() throws Exception {
+        ActivityLogStorage log = new ActivityLogStorage(testFolder.resolve("activity"));
+        assertTrue(log.read(artshow, 0, 10).isEmpty());
+    }
+
+    @Test
+    public void appendAndRead_acrossDays_latestFirst() throws Exception {
+        ActivityLogStorage log = new ActivityLogStorage(testFolder);
+        ActivityEvent first = new ActivityEvent(0, ActivityEvent.Type.MEMBER_ADDED, new Name("Amy Bee"), null, MONDAY);
+        ActivityEvent second = new ActivityEvent(1, ActivityEvent.Type.REMARK_ADDED, new Name("Amy Bee"),
+                "Bring\ttables \\ chairs\nby noon", MONDAY.plusHours(1));
+        ActivityEvent third = new ActivityEvent(2, ActivityEvent.Type.CUSTOM, null, "Venue booked", TUESDAY);
+        log.append(artshow, List.of(first, second, third));
+        log.append(bakesale, List.of(new ActivityEvent(0, ActivityEvent.Type.CUSTOM, null, "Oven hired", TUESDAY)));
+
+        assertTrue(Files.exists(testFolder.resolve("2025-03-03.log")));
+        assertTrue(Files.exists(testFolder.resolve("2025-03-04.log")));
+        assertEquals(List.of(third, second, first), log.read(artshow, 0, 3));
+        assertEquals(List.of(second), log.read(artshow, 1, 2));
+        assertEquals(1, log.read(bakesale, 0, 3).size());
+    }
+
+    @Test
+    public void read_duplicateAndDamagedLines_skipped() throws Exception {
+        ActivityLogStorage log = new ActivityLogStorage(testFolder);
+        ActivityEvent event = new ActivityEvent(0, ActivityEvent.Type.CUSTOM, null, "Venue booked", MONDAY);
+        log.append(artshow, List.of(event));
+        log.append(artshow, List.of(event));
+        Files.writeString(testFolder.resolve("2025-03-03.log"), artshow.getCreatedAt() + "\tArtshow\tnot a number\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        Files.writeString(testFolder.resolve("notes.txt"), "not a log", StandardCharsets.UTF_8);
+
+        assertEquals(List.of(event), log.read(artshow, 0, 5));
+    }
+
+    @Test
+    public void archive_pushedOutEventsAppendedOnce() throws Exception {
+        ActivityLogStorage log = new ActivityLogStorage(testFolder);
+        ProjectBook projectBook = new ProjectBook();
+        projectBook.addProject(artshow);
+        for (int i = 0; i < 40; i++) {
+            artshow.getHistory().record(ActivityEvent.Type.CUSTOM, null, "Update " + i, MONDAY.plusMinutes(i));
+        }
+
+        log.archive(projectBook);
+        log.archive(projectBook);
+
+        long pushedOut = artshow.getHistory().getOldestKeptSequence();
+        assertEquals(40 - ActivityHistory.DEFAULT_CAPACITY, pushedOut);
+        assertTrue(artshow.getHistory().getUnarchived().isEmpty());
+        List<ActivityEvent> archived = log.read(artshow, 0, pushedOut);
+        assertEquals(pushedOut, archived.size());
+        assertEquals(pushedOut - 1, archived.get(0).getSequence());
+    }
+
+    private static Project project(String name) {
+        return new Project(new ProjectName(name), new Description(name + " project"));
+    }
+}
@@ -0,0 +1,95 @@
+package loopin.projectbook.storage;
+
+import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import loopin.projectbook.commons.util.JsonUtil;
+import loopin.projectbook.model.ModelManager;
+import loopin.projectbook.model.ProjectBookSnapshot;
+import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.event.DomainEvent;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class ChangeCaptureTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ModelManager model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+    private final Person amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com")
+            .withPhone("11111111").withTelegram("amybee").build();
+    private final Person bob = new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com")
+            .withPhone("22222222").withTelegram("bobchoo").build();
+    private ChangeFeedStorage feed;
+    private ChangeCapture capture;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        feed = new ChangeFeedStorage(testFolder.resolve("changes"));
+        capture = new ChangeCapture(feed);
+        model.getEventBus().subscribe(DomainEvent.class, event ->
+                capture.capture(event, model.getProjectBook().getVersion()), Runnable::run);
+        capture.flush(model.snapshot());
+    }
+
+    @Test
+    public void flush_changesCapturedAfterSnapshot_keptForLaterFlush() throws Exception {
+        model.addPerson(amy);
+        ProjectBookSnapshot withAmy = model.snapshot();
+        model.addPerson(bob);
+        ProjectBookSnapshot withBob = model.snapshot();
+
+        long offset = feed.getNextOffset();
+        capture.flush(withAmy);
+        assertEquals(List.of("insert amy@example.com"), describe(feed.read(offset, 100)));
+
+        offset = feed.getNextOffset();
+        capture.flush(withBob);
+        assertEquals(List.of("insert bob@example.com"), describe(feed.read(offset, 100)));
+    }
+
+    @Test
+    public void flush_changesCapturedAfterReset_keptForLaterFlush() throws Exception {
+        model.beginTransaction();
+        model.addPerson(amy);
+        model.commitTransaction();
+        model.undoProjectBook();
+        ProjectBookSnapshot undone = model.snapshot();
+        model.addPerson(bob);
+        ProjectBookSnapshot withBob = model.snapshot();
+
+        long offset = feed.getNextOffset();
+        capture.flush(undone);
+        List<String> reset = describe(feed.read(offset, 100));
+        assertEquals("reset", reset.get(0));
+        assertEquals(undone.getPersonList().size() + 1, reset.size());
+
+        offset = feed.getNextOffset();
+        capture.flush(withBob);
+        assertEquals(List.of("insert bob@example.com"), describe(feed.read(offset, 100)));
+    }
+
+    private static List<String> describe(List<String> changes) {
+        return changes.stream().map(ChangeCaptureTest::describe).collect(Collectors.toList());
+    }
+
+    private static String describe(String change) {
+        try {
+            Map<?, ?> fields = JsonUtil.fromJsonString(change, Map.class);
+            return fields.get("key") == null ? (String) fields.get("op") : fields.get("op") + " " + fields.get("key");
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package loopin.projectbook.storage;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import loopin.projectbook.commons.util.JsonUtil;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+
+public class ChangeFeedStorageTest {
+
+    private static final long SEGMENT_BYTES = 600;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_noFeed_returnsEmpty() throws Exception {
+        ChangeFeedStorage feed = new ChangeFeedStorage(testFolder.resolve("changes"));
+        assertTrue(feed.read(0, 10).isEmpty());
+        assertEquals(0, feed.getNextOffset());
+        assertFalse(Files.exists(feed.getDirectory()));
+    }
+
+    @Test
+    public void appendAndRead_acrossSegments_readsFromOffset() throws Exception {
+        ChangeFeedStorage feed = new ChangeFeedStorage(testFolder, SEGMENT_BYTES, 100);
+        feed.append(changes(0, 10));
+        feed.append(changes(10, 10));
+
+        assertEquals(20, feed.getNextOffset());
+        assertTrue(segmentCount() > 1);
+        assertEquals(List.of(7L, 8L, 9L, 10L, 11L), offsetsOf(feed.read(7, 5)));
+        assertEquals(List.of(18L, 19L), offsetsOf(feed.read(18, 10)));
+        assertTrue(feed.read(20, 10).isEmpty());
+        assertEquals("Project 12", JsonUtil.fromJsonString(feed.read(12, 1).get(0), Map.class).get("key"));
+    }
+
+    @Test
+    public void append_beyondRetention_oldestSegmentsDropped() throws Exception {
+        ChangeFeedStorage feed = new ChangeFeedStorage(testFolder, SEGMENT_BYTES, 2);
+        feed.append(changes(0, 30));
+
+        assertEquals(2, segmentCount());
+        long earliest = feed.getEarliestOffset();
+        assertTrue(earliest > 0);
+        assertEquals(List.of(earliest), offsetsOf(feed.read(0, 1)));
+        assertEquals(30 - earliest, feed.read(0, 100).size());
+    }
+
+    @Test
+    public void reopen_unfinishedChange_cutOffAndOffsetsContinue() throws Exception {
+        new ChangeFeedStorage(testFolder, SEGMENT_BYTES, 100).append(changes(0, 3));
+        Path segment = testFolder.resolve("00000000000000000000.ndjson");
+        Files.writeString(segment, "{\"offset\":3,\"enti", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        ChangeFeedStorage reopened = new ChangeFeedStorage(testFolder, SEGMENT_BYTES, 100);
+        assertEquals(3, reopened.getNextOffset());
+        reopened.append(changes(3, 2));
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), offsetsOf(reopened.read(0, 10)));
+    }
+
+    @Test
+    public void read_negativeOffset_throwsIllegalArgumentException() {
+        ChangeFeedStorage feed = new ChangeFeedStorage(testFolder);
+        assertThrows(IllegalArgumentException.class, () -> feed.read(-1, 10));
+    }
+
+    private static List<JsonAdaptedChange> changes(int first, int count) {
+        List<JsonAdaptedChange> changes = new ArrayList<>();
+        for (int i = first; i < first + count; i++) {
+            Project project = new Project(new ProjectName("Project " + i), new Description("Description " + i));
+            changes.add(JsonAdaptedChange.ofProject(JsonAdaptedChange.OP_INSERT, project));
+        }
+        return changes;
+    }
+
+    private long segmentCount() throws Exception {
+        try (var files = Files.list(testFolder)) {
+            return files.filter(file -> file.toString().endsWith(".ndjson")).count();
+        }
+    }
+
+    private static List<Long> offsetsOf(List<String> lines) throws Exception {
+        List<Long> offsets = new ArrayList<>();
+        for (String line : lines) {
+            offsets.add(((Number) JsonUtil.fromJsonString(line, Map.class).get("offset")).longValue());
+        }
+        return offsets;
+    }
+}
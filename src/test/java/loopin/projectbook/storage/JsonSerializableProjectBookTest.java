@@ -5,12 +5,21 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import loopin.projectbook.commons.exceptions.IllegalValueException;
 import loopin.projectbook.commons.util.JsonUtil;
 import loopin.projectbook.model.ProjectBook;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.ActivityEvent;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.LastUpdate;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.testutil.PersonBuilder;
 import loopin.projectbook.testutil.TypicalPersons;
 
 public class JsonSerializableProjectBookTest {
@@ -44,4 +53,21 @@ public class JsonSerializableProjectBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_projectWithActivity_activityRestored() throws Exception {
+        ProjectBook original = new ProjectBook();
+        Person alice = new PersonBuilder(TypicalPersons.ALICE).build();
+        original.addPerson(alice);
+        Project artshow = new Project(new ProjectName("Artshow"), new Description("Annual art show"),
+                LocalDateTime.of(2025, 1, 1, 9, 0), new LastUpdate("Venue booked", LocalDateTime.of(2025, 1, 2, 9, 0)));
+        artshow.assignPerson(alice);
+        alice.addProject(artshow);
+        original.addProject(artshow);
+        List<ActivityEvent> recent = artshow.getHistory().getRecent();
+
+        Project restored = new JsonSerializableProjectBook(original).toModelType().getProjectList().get(0);
+        assertEquals(recent, restored.getHistory().getRecent());
+        assertEquals(artshow.getLastUpdate(), restored.getLastUpdate());
+    }
+
 }
@@ -0,0 +1,182 @@
+package loopin.projectbook.storage;
+
+import static loopin.projectbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import loopin.projectbook.commons.util.JsonUtil;
+import loopin.projectbook.logic.commands.personcommands.ImportCommand;
+import loopin.projectbook.logic.commands.personcommands.ImportCommand.Row;
+import loopin.projectbook.logic.parser.person.ImportCommandParser;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.project.Description;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectName;
+import loopin.projectbook.storage.ProjectBookExporter.Data;
+import loopin.projectbook.storage.ProjectBookExporter.Format;
+import loopin.projectbook.testutil.PersonBuilder;
+
+public class ProjectBookExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Person amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com")
+            .withPhone("81111111").withTelegram("amy_bee").build();
+    private final Person bob = new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com")
+            .withPhone(null).withTelegram(null).buildTeamMember("Logistics, Finance");
+    private final Person carl = new PersonBuilder().withName("Carl Kurz").withEmail("carl@example.com")
+            .withPhone("83333333").withTelegram(null).buildOrgMember("Example \"Co\"");
+    private final Project artshow = new Project(new ProjectName("Artshow"), new Description("Art show"));
+
+    @BeforeEach
+    public void setUp() {
+        artshow.assignPerson(amy);
+        amy.addProject(artshow);
+        artshow.assignPerson(carl);
+        carl.addProject(artshow);
+    }
+
+    @Test
+    public void export_personsToCsv_canBeImportedAgain() throws Exception {
+        Path file = testFolder.resolve("persons.csv");
+
+        long count = ProjectBookExporter.export(file, Format.CSV, Data.PERSONS, List.of(amy, bob, carl), List.of());
+
+        assertEquals(3, count);
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(List.of("name,email,phone,telegram,role,committee,organisation",
+                "Amy Bee,amy@example.com,81111111,amy_bee,volunteer,,",
+                "Bob Choo,bob@example.com,,,teammember,\"Logistics, Finance\",",
+                "Carl Kurz,carl@example.com,83333333,,orgmember,,\"Example \"\"Co\"\"\""), lines);
+
+        ImportCommand reimported = new ImportCommandParser().parseLines(file.toString(), lines);
+        assertEquals(new ImportCommand(file.toString(), List.of(new Row(2, amy), new Row(3, bob), new Row(4, carl)),
+                Map.of()), reimported);
+    }
+
+    @Test
+    public void export_membershipsToCsv_oneRowPerMember() throws Exception {
+        Path file = testFolder.resolve("memberships.csv");
+
+        long count = ProjectBookExporter.export(file, Format.CSV, Data.MEMBERSHIPS, List.of(), List.of(artshow));
+
+        assertEquals(2, count);
+        assertEquals(List.of("project,name,email", "Artshow,Amy Bee,amy@example.com",
+                "Artshow,Carl Kurz,carl@example.com"), Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void export_toJsonLines_oneObjectPerLine() throws Exception {
+        Path persons = testFolder.resolve("persons.jsonl");
+        Path projects = testFolder.resolve("projects.jsonl");
+
+        ProjectBookExporter.export(persons, Format.JSONL, Data.PERSONS, List.of(amy, bob), List.of());
+        ProjectBookExporter.export(projects, Format.JSONL, Data.PROJECTS, List.of(), List.of(artshow));
+
+        List<String> personLines = Files.readAllLines(persons, StandardCharsets.UTF_8);
+        assertEquals(2, personLines.size());
+        Map<?, ?> first = JsonUtil.fromJsonString(personLines.get(0), Map.class);
+        assertEquals("Amy Bee", first.get("name"));
+        assertEquals(List.of("Artshow"), first.get("projects"));
+        Map<?, ?> second = JsonUtil.fromJsonString(personLines.get(1), Map.class);
+        assertEquals("Logistics, Finance", second.get("committee"));
+        assertTrue(second.containsKey("phone") && second.get("phone") == null);
+
+        List<String> projectLines = Files.readAllLines(projects, StandardCharsets.UTF_8);
+        assertEquals(1, projectLines.size());
+        Map<?, ?> project = JsonUtil.fromJsonString(projectLines.get(0), Map.class);
+        assertEquals("Artshow", project.get("name"));
+        assertEquals(2, project.get("members"));
+    }
+
+    @Test
+    public void export_personsToVcard_oneCardPerPerson() throws Exception {
+        Path file = testFolder.resolve("persons.vcf");
+        Person longName = new PersonBuilder().withName("A".repeat(100)).withEmail("long@example.com")
+                .withPhone(null).withTelegram(null).build();
+
+        ProjectBookExporter.export(file, Format.VCARD, Data.PERSONS, List.of(amy, carl, longName), List.of());
+
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        assertEquals(3, content.split("BEGIN:VCARD", -1).length - 1);
+        assertTrue(content.startsWith("BEGIN:VCARD\r\nVERSION:3.0\r\nFN:Amy Bee\r\n"));
+        assertTrue(content.contains("TEL;TYPE=CELL:81111111\r\n"));
+        assertTrue(content.contains("CATEGORIES:Artshow\r\n"));
+        assertTrue(content.contains("ORG:Example \"Co\"\r\n"));
+        assertTrue(content.contains("FN:" + "A".repeat(72) + "\r\n " + "A".repeat(28) + "\r\n"));
+        for (String line : content.split("\r\n")) {
+            assertTrue(line.length() <= 75);
+        }
+    }
+
+    @Test
+    public void export_projectsToVcard_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ProjectBookExporter.export(
+                testFolder.resolve("projects.vcf"), Format.VCARD, Data.PROJECTS, List.of(), List.of(artshow)));
+    }
+
+    @Test
+    public void export_failsMidway_existingFileUntouched() throws Exception {
+        Path file = testFolder.resolve("persons.csv");
+        Files.writeString(file, "previous export");
+        Iterable<Person> failing = () -> new Iterator<>() {
+            private int remaining = 2;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Person next() {
+                if (remaining-- == 0) {
+                    throw new IllegalStateException("source failed");
+                }
+                return amy;
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () ->
+                ProjectBookExporter.export(file, Format.CSV, Data.PERSONS, failing, List.of()));
+
+        assertEquals("previous export", Files.readString(file));
+        List<Path> files = new ArrayList<>();
+        try (var stream = Files.list(testFolder)) {
+            stream.forEach(files::add);
+        }
+        assertEquals(List.of(file), files);
+    }
+
+    @Test
+    public void export_parentIsAFile_throwsIOException() throws Exception {
+        Path notAFolder = testFolder.resolve("file");
+        Files.writeString(notAFolder, "");
+        assertThrows(IOException.class, () -> ProjectBookExporter.export(notAFolder.resolve("persons.csv"),
+                Format.CSV, Data.PERSONS, List.of(amy), List.of()));
+        assertFalse(Files.isDirectory(notAFolder));
+    }
+
+    @Test
+    public void formatFromFileName() {
+        assertEquals(Format.CSV, Format.fromFileName("out/Persons.CSV").get());
+        assertEquals(Format.VCARD, Format.fromFileName("persons.vcf").get());
+        assertEquals(Format.JSONL, Format.fromFileName("persons.jsonl").get());
+        assertTrue(Format.fromFileName("persons.json").isEmpty());
+        assertTrue(Format.fromFileName("csv").isEmpty());
+    }
+}
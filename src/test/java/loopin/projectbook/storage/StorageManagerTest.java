@@ -4,16 +4,24 @@ import static loopin.projectbook.testutil.TypicalPersons.getTypicalProjectBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import loopin.projectbook.commons.core.GuiSettings;
+import loopin.projectbook.commons.util.JsonUtil;
+import loopin.projectbook.model.ModelManager;
 import loopin.projectbook.model.ProjectBook;
 import loopin.projectbook.model.ReadOnlyProjectBook;
 import loopin.projectbook.model.UserPrefs;
+import loopin.projectbook.model.event.DomainEvent;
+import loopin.projectbook.testutil.PersonBuilder;
 
 public class StorageManagerTest {
 
@@ -60,6 +68,36 @@ public class StorageManagerTest {
         assertEquals(original, new ProjectBook(retrieved));
     }
 
+    @Test
+    public void saveProjectBook_capturedChanges_appendedToFeed() throws Exception {
+        ModelManager model = new ModelManager(getTypicalProjectBook(), new UserPrefs());
+        model.getEventBus().subscribe(DomainEvent.class, event ->
+                storageManager.captureChange(event, model.getProjectBook().getVersion()), Runnable::run);
+        ChangeFeedStorage feed = storageManager.getChangeFeed();
+
+        // the first save writes the whole book
+        model.addPerson(new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com")
+                .withPhone("11111111").withTelegram("amybee").build());
+        storageManager.saveProjectBook(model.getProjectBook());
+        List<String> changes = feed.read(0, 100);
+        assertEquals("reset", opOf(changes.get(0)));
+        assertEquals(model.getProjectBook().getPersonList().size() + 1, changes.size());
+
+        long offset = feed.getNextOffset();
+        model.deletePerson(model.getProjectBook().getPersonList().get(0));
+        storageManager.saveProjectBook(model.getProjectBook());
+        assertEquals(List.of("delete"), feed.read(offset, 100).stream().map(StorageManagerTest::opOf)
+                .collect(Collectors.toList()));
+    }
+
+    private static String opOf(String change) {
+        try {
+            return (String) JsonUtil.fromJsonString(change, Map.class).get("op");
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     @Test
     public void getProjectBookFilePath() {
         assertNotNull(storageManager.getProjectBookFilePath());
@@ -0,0 +1,293 @@
+package loopin.projectbook.testutil;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+import loopin.projectbook.commons.core.GuiSettings;
+import loopin.projectbook.model.Model;
+import loopin.projectbook.model.ProjectBookSnapshot;
+import loopin.projectbook.model.ReadOnlyProjectBook;
+import loopin.projectbook.model.ReadOnlyUserPrefs;
+import loopin.projectbook.model.event.ChangePublisher;
+import loopin.projectbook.model.event.ChangePublisher.OverflowPolicy;
+import loopin.projectbook.model.event.DomainEvent;
+import loopin.projectbook.model.event.EventBus;
+import loopin.projectbook.model.person.Person;
+import loopin.projectbook.model.person.PersonSortKey;
+import loopin.projectbook.model.project.ActivityArchive;
+import loopin.projectbook.model.project.ActivityEvent;
+import loopin.projectbook.model.project.ActivityFeed;
+import loopin.projectbook.model.project.Project;
+import loopin.projectbook.model.project.ProjectSortKey;
+import loopin.projectbook.model.query.Query;
+import loopin.projectbook.model.util.ElementListener;
+import loopin.projectbook.model.view.SavedView;
+
+/**
+ * A default model stub that has all of the methods failing. Stubs in tests extend it and override only the
+ * methods the code under test should call, so that a method added to {@code Model} is stubbed here once.
+ */
+public class ModelStub implements Model {
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Path getProjectBookFilePath() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setProjectBookFilePath(Path projectBookFilePath) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addPersonListener(ElementListener<? super Person> listener) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addProjectListener(ElementListener<? super Project> listener) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> findPersonsByName(String name) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public <E extends DomainEvent> ChangePublisher<E> createChangePublisher(Class<E> type, int bufferCapacity,
+            OverflowPolicy overflowPolicy, Executor executor) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public EventBus getEventBus() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void assignMember(Project project, Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void removeMember(Project project, Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<ActivityFeed.Entry> getRecentActivity(Project project, Predicate<ActivityEvent> filter,
+            int offset, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setActivityArchive(ActivityArchive activityArchive) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<ActivityEvent> getProjectHistory(Project project, int offset, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Project> findProjectsCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Project> findProjectsInactiveSince(LocalDateTime cutoff) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void sortPersonList(PersonSortKey key) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void sortProjectList(ProjectSortKey key) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void saveView(String name, Query query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean deleteView(String name) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<SavedView> getSavedViews() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean showView(String name) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> searchPersonsByName(String query, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setProjectBook(ReadOnlyProjectBook projectBook) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyProjectBook getProjectBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReentrantReadWriteLock getLock() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ProjectBookSnapshot snapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void beginTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoProjectBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoProjectBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoProjectBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoProjectBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setPersonInPlace(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Project> getFilteredProjectList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Project> findProjectByName(String name) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setProject(Project project) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasProject(Project project) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addProject(Project project) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteProject(Project project) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredProjectList(Predicate<Project> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+}